@@ -510,6 +510,22 @@ public interface CqlOperations {
 	 */
 	ResultSet query(Select select);
 
+	/**
+	 * Executes the provided {@link Statement}, for example a {@link com.datastax.driver.core.BoundStatement}, and
+	 * returns the {@link ResultSet}. In contrast to {@link #execute(Statement)}, the {@link ResultSet} is returned to the
+	 * caller so that rows of prepared and bound queries can be read. The statement is executed as-is and never collapsed
+	 * with concurrent identical reads.
+	 * <p>
+	 * This method was added in 1.6; custom {@link CqlOperations} implementations need to implement it, typically by
+	 * executing {@code statement} through their {@link com.datastax.driver.core.Session}.
+	 *
+	 * @param statement The Statement, must not be {@literal null}.
+	 * @return The {@link ResultSet}
+	 * @throws DataAccessException if the statement cannot be executed.
+	 * @since 1.6
+	 */
+	ResultSet query(Statement statement);
+
 	/**
 	 * Executes the provided CQL query with the given {@link QueryOptions} and returns the {@link ResultSet}.
 	 * 
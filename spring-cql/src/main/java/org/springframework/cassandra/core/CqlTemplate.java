@@ -18,6 +18,7 @@ package org.springframework.cassandra.core;
 import static org.springframework.cassandra.core.cql.CqlIdentifier.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -70,6 +72,7 @@ import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -116,6 +119,16 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	};
 
+	private static final RowMapper<Row> ROW_MAPPER = new RowMapper<Row>() {
+
+		@Override
+		public Row mapRow(Row row, int rowNum) {
+			return row;
+		}
+	};
+
+	private RequestCollapser requestCollapser;
+
 	protected String logCql(String cql) {
 		return logCql("executing CQL [{}]", cql);
 	}
@@ -261,6 +274,32 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		setSession(session);
 	}
 
+	/**
+	 * Set the {@link RequestCollapser} to collapse concurrent identical single-result reads, such as
+	 * {@link #queryForObject(String, Class)}, into a single request. Reads are identical if they are issued through the
+	 * same {@link Session} with the same CQL, values and consistency levels. Collapsed reads share the {@link Row} read by
+	 * the first caller while each caller maps the row itself, so mapped results are never shared between callers. Reads
+	 * executed as {@link BoundStatement}s or {@link SimpleStatement}s with values are not collapsed.
+	 * <p>
+	 * Request collapsing is disabled by default. Without a {@link RequestCollapser}, single-result reads execute and map
+	 * their {@link ResultSet} directly.
+	 *
+	 * @param requestCollapser the {@link RequestCollapser} to use, {@literal null} to disable request collapsing.
+	 * @since 1.6
+	 */
+	public void setRequestCollapser(RequestCollapser requestCollapser) {
+		this.requestCollapser = requestCollapser;
+	}
+
+	/**
+	 * @return the {@link RequestCollapser} collapsing concurrent identical reads, may be {@literal null} if request
+	 *         collapsing is disabled.
+	 * @since 1.6
+	 */
+	public RequestCollapser getRequestCollapser() {
+		return requestCollapser;
+	}
+
 	/**
 	 * Executes the given command in a Cassandra {@link Session}.
 	 *
@@ -532,12 +571,14 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public <T> T queryForObject(String cql, Class<T> requiredType) {
-		return processOne(doExecute(cql, null), requiredType);
+		return (requestCollapser != null ? queryForObjectCollapsed(new SimpleStatement(logCql(cql)), requiredType)
+				: processOne(doExecute(cql, null), requiredType));
 	}
 
 	@Override
 	public <T> T queryForObject(String cql, RowMapper<T> rowMapper) {
-		return processOne(doExecute(cql, null), rowMapper);
+		return (requestCollapser != null ? queryForObjectCollapsed(new SimpleStatement(logCql(cql)), rowMapper)
+				: processOne(doExecute(cql, null), rowMapper));
 	}
 
 	@SuppressWarnings("unused")
@@ -567,6 +608,45 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		});
 	}
 
+	/**
+	 * Execute {@code statement} and extract a single {@link Row} with {@code rowExtractor}. Concurrent identical reads
+	 * are collapsed into a single request if a {@link RequestCollapser} is set. The returned row may be shared with
+	 * concurrent callers and must be mapped by each caller.
+	 *
+	 * @param statement the query to execute.
+	 * @param rowExtractor extracts the row, must not retain the {@link ResultSet}.
+	 * @return the extracted row, possibly shared with concurrent callers.
+	 * @see #setRequestCollapser(RequestCollapser)
+	 * @since 1.6
+	 */
+	protected Row doQueryCollapsed(final Statement statement, final ResultSetExtractor<Row> rowExtractor) {
+
+		RequestCollapser requestCollapser = this.requestCollapser;
+
+		if (requestCollapser == null || !isCollapsible(statement)) {
+			return rowExtractor.extractData(doExecute(statement));
+		}
+
+		List<Object> key = Arrays.<Object> asList(getSession(), statement.toString(), statement.getConsistencyLevel(),
+				statement.getSerialConsistencyLevel());
+
+		return requestCollapser.execute(key, new Callable<Row>() {
+
+			@Override
+			public Row call() {
+				return rowExtractor.extractData(doExecute(statement));
+			}
+		});
+	}
+
+	/**
+	 * Built statements render their values into {@link Statement#toString()}, simple statements only without values.
+	 */
+	private static boolean isCollapsible(Statement statement) {
+		return statement instanceof BuiltStatement
+				|| (statement instanceof SimpleStatement && !((SimpleStatement) statement).hasValues());
+	}
+
 	protected ResultSetFuture doExecuteAsync(final Statement statement) {
 
 		return doExecute(new SessionCallback<ResultSetFuture>() {
@@ -1486,6 +1566,14 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return query(select, RESULT_SET_RETURNING_EXTRACTOR);
 	}
 
+	@Override
+	public ResultSet query(Statement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		return doExecute(statement);
+	}
+
 	@Override
 	public <T> T query(Select select, ResultSetExtractor<T> resultSetExtractor) {
 
@@ -1506,12 +1594,53 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public <T> T queryForObject(Select select, RowMapper<T> rowMapper) {
-		return processOne(doExecute(select), rowMapper);
+		return (requestCollapser != null ? queryForObjectCollapsed(select, rowMapper)
+				: processOne(doExecute(select), rowMapper));
 	}
 
 	@Override
 	public <T> T queryForObject(Select select, Class<T> requiredType) {
-		return processOne(doExecute(select), requiredType);
+		return (requestCollapser != null ? queryForObjectCollapsed(select, requiredType)
+				: processOne(doExecute(select), requiredType));
+	}
+
+	/**
+	 * Query a single object reading the {@link Row} through {@link #doQueryCollapsed(Statement, ResultSetExtractor)} and
+	 * mapping the possibly shared row for this caller.
+	 */
+	private <T> T queryForObjectCollapsed(Statement statement, RowMapper<T> rowMapper) {
+
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		Row row = queryForRowCollapsed(statement);
+
+		try {
+			return rowMapper.mapRow(row, 0);
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	private <T> T queryForObjectCollapsed(Statement statement, Class<T> requiredType) {
+
+		Row row = queryForRowCollapsed(statement);
+
+		try {
+			return requiredType.cast(firstColumnToObject(row));
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	private Row queryForRowCollapsed(Statement statement) {
+
+		return doQueryCollapsed(statement, new ResultSetExtractor<Row>() {
+
+			@Override
+			public Row extractData(ResultSet resultSet) {
+				return processOne(resultSet, ROW_MAPPER);
+			}
+		});
 	}
 
 	@Override
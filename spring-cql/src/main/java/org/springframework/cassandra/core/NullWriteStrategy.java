@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+/**
+ * Enum for the handling of {@literal null} values when inserting rows. Writing {@literal null} creates a cell tombstone
+ * for each {@literal null} column.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public enum NullWriteStrategy {
+
+	/**
+	 * Write {@literal null} values. Each {@literal null} column results in a tombstone.
+	 */
+	WRITE_NULL,
+
+	/**
+	 * Omit columns with {@literal null} values from the statement.
+	 */
+	SKIP,
+
+	/**
+	 * Leave bind variables of {@literal null} values unset. Requires prepared statements and native protocol version 4 or
+	 * higher. Statements that are not prepared omit columns with {@literal null} values as with {@link #SKIP}.
+	 */
+	UNSET
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Collapses concurrent identical reads into a single request. The first caller of {@link #execute(Object, Callable)}
+ * for a key runs the request; callers arriving with the same key while the request is in flight wait for and share
+ * its result or exception instead of issuing their own request. The request is forgotten as soon as it completes, so
+ * results are never served from a cache: a caller arriving after completion issues a new request.
+ * <p>
+ * Followers receive the same result instance as the leader, so results must not be modified by callers.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CqlTemplate#setRequestCollapser(RequestCollapser)
+ */
+public class RequestCollapser {
+
+	private final ConcurrentMap<Object, Future<?>> inFlight = new ConcurrentHashMap<Object, Future<?>>();
+	private final AtomicLong executedCount = new AtomicLong();
+	private final AtomicLong collapsedCount = new AtomicLong();
+
+	/**
+	 * Run {@code request} unless a request with an equal {@code key} is in flight, in which case its result is
+	 * returned.
+	 *
+	 * @param key the key identifying identical requests, must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return the result of {@code request} or of the in-flight request.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(Object key, Callable<T> request) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(request, "Request must not be null");
+
+		FutureTask<T> task = new FutureTask<T>(request);
+		Future<?> leader = inFlight.putIfAbsent(key, task);
+
+		if (leader != null) {
+
+			collapsedCount.incrementAndGet();
+
+			return (T) getUninterruptibly(leader);
+		}
+
+		executedCount.incrementAndGet();
+
+		try {
+			task.run();
+		} finally {
+			inFlight.remove(key, task);
+		}
+
+		return getUninterruptibly(task);
+	}
+
+	/**
+	 * @return the number of requests that were executed.
+	 */
+	public long getExecutedCount() {
+		return executedCount.get();
+	}
+
+	/**
+	 * @return the number of requests that shared the result of an in-flight request instead of being executed.
+	 */
+	public long getCollapsedCount() {
+		return collapsedCount.get();
+	}
+
+	private static <T> T getUninterruptibly(Future<T> future) {
+
+		boolean interrupted = false;
+
+		try {
+			while (true) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -29,6 +29,8 @@ public class WriteOptions extends QueryOptions {
 
 	private Integer ttl;
 
+	private NullWriteStrategy nullWriteStrategy;
+
 	/**
 	 * Creates new {@link WriteOptions}.
 	 */
@@ -82,6 +84,25 @@ public class WriteOptions extends QueryOptions {
 		this.ttl = ttl;
 	}
 
+	/**
+	 * @return the {@link NullWriteStrategy}, may be {@literal null} to use the strategy of the written entity.
+	 * @since 1.6
+	 */
+	public NullWriteStrategy getNullWriteStrategy() {
+		return nullWriteStrategy;
+	}
+
+	/**
+	 * Sets the {@link NullWriteStrategy} for write operations.
+	 *
+	 * @param nullWriteStrategy the {@link NullWriteStrategy}, may be {@literal null} to use the strategy of the written
+	 *          entity.
+	 * @since 1.6
+	 */
+	public void setNullWriteStrategy(NullWriteStrategy nullWriteStrategy) {
+		this.nullWriteStrategy = nullWriteStrategy;
+	}
+
 	/**
 	 * Builder for {@link QueryOptions}.
 	 *
@@ -92,6 +113,8 @@ public class WriteOptions extends QueryOptions {
 
 		private Integer ttl;
 
+		private NullWriteStrategy nullWriteStrategy;
+
 		private WriteOptionsBuilder() {}
 
 		/*
@@ -177,6 +200,18 @@ public class WriteOptions extends QueryOptions {
 			return this;
 		}
 
+		/**
+		 * Sets the {@link NullWriteStrategy} for write operations.
+		 *
+		 * @param nullWriteStrategy the {@link NullWriteStrategy}.
+		 * @return {@code this} {@link WriteOptionsBuilder}
+		 * @since 1.6
+		 */
+		public WriteOptionsBuilder nullWriteStrategy(NullWriteStrategy nullWriteStrategy) {
+			this.nullWriteStrategy = nullWriteStrategy;
+			return this;
+		}
+
 		/**
 		 * Builds a new {@link WriteOptions} with the configured values.
 		 *
@@ -187,6 +222,7 @@ public class WriteOptions extends QueryOptions {
 			WriteOptions queryOptions = applyOptions(new WriteOptions());
 
 			queryOptions.setTtl(ttl);
+			queryOptions.setNullWriteStrategy(nullWriteStrategy);
 
 			return queryOptions;
 		}
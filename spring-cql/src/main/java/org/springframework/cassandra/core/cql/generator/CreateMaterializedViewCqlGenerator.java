@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.cql.generator;
+
+import static org.springframework.cassandra.core.cql.CqlStringUtils.*;
+
+import java.util.List;
+
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
+import org.springframework.util.Assert;
+
+/**
+ * CQL generator for generating a <code>CREATE MATERIALIZED VIEW</code> statement.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public class CreateMaterializedViewCqlGenerator extends TableNameCqlGenerator<CreateMaterializedViewSpecification> {
+
+	public static String toCql(CreateMaterializedViewSpecification specification) {
+		return new CreateMaterializedViewCqlGenerator(specification).toCql();
+	}
+
+	public CreateMaterializedViewCqlGenerator(CreateMaterializedViewSpecification specification) {
+		super(specification);
+	}
+
+	@Override
+	public StringBuilder toCql(StringBuilder cql) {
+
+		Assert.notNull(spec().getName(), "View name must not be null");
+		Assert.notNull(spec().getBaseTableName(), "Base table name must not be null");
+		Assert.notEmpty(spec().getPartitionKeyColumns(), "View must declare at least one partition key column");
+
+		cql = noNull(cql);
+
+		cql.append("CREATE MATERIALIZED VIEW ").append(spec().getIfNotExists() ? "IF NOT EXISTS " : "")
+				.append(spec().getName()).append(" AS SELECT ");
+
+		if (spec().getColumns().isEmpty()) {
+			cql.append("*");
+		} else {
+			appendColumnNames(cql, spec().getColumns());
+		}
+
+		cql.append(" FROM ").append(spec().getBaseTableName()).append(" WHERE ");
+
+		boolean first = true;
+		for (CqlIdentifier column : spec().getPrimaryKeyColumns()) {
+
+			if (first) {
+				first = false;
+			} else {
+				cql.append(" AND ");
+			}
+
+			cql.append(column).append(" IS NOT NULL");
+		}
+
+		cql.append(" PRIMARY KEY (");
+
+		List<CqlIdentifier> partitionKeys = spec().getPartitionKeyColumns();
+
+		if (partitionKeys.size() > 1) {
+			cql.append("(");
+		}
+
+		appendColumnNames(cql, partitionKeys);
+
+		if (partitionKeys.size() > 1) {
+			cql.append(")");
+		}
+
+		if (!spec().getClusteredKeyColumns().isEmpty()) {
+			cql.append(", ");
+			appendColumnNames(cql, spec().getClusteredKeyColumns());
+		}
+
+		cql.append(")");
+
+		StringBuilder ordering = createOrderingClause();
+
+		if (ordering != null) {
+			cql.append(" WITH ").append(ordering);
+		}
+
+		cql.append(";");
+
+		return cql;
+	}
+
+	private StringBuilder createOrderingClause() {
+
+		StringBuilder ordering = null;
+
+		for (CqlIdentifier column : spec().getClusteredKeyColumns()) {
+
+			Ordering columnOrdering = spec().getOrdering(column);
+
+			if (columnOrdering == null) {
+				continue;
+			}
+
+			if (ordering == null) {
+				ordering = new StringBuilder().append("CLUSTERING ORDER BY (");
+			} else {
+				ordering.append(", ");
+			}
+
+			ordering.append(column).append(" ").append(columnOrdering.cql());
+		}
+
+		if (ordering != null) {
+			ordering.append(")");
+		}
+
+		return ordering;
+	}
+
+	private static void appendColumnNames(StringBuilder cql, List<CqlIdentifier> columns) {
+
+		boolean first = true;
+		for (CqlIdentifier column : columns) {
+
+			if (first) {
+				first = false;
+			} else {
+				cql.append(", ");
+			}
+
+			cql.append(column);
+		}
+	}
+}
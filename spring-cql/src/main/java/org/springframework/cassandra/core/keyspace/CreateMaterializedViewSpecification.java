@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.keyspace;
+
+import static org.springframework.cassandra.core.cql.CqlIdentifier.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Builder class to construct a <code>CREATE MATERIALIZED VIEW</code> specification. The view selects all columns of
+ * the base table unless columns are specified. Each primary key column of the view is restricted with
+ * {@code IS NOT NULL}, as required by Cassandra.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public class CreateMaterializedViewSpecification extends TableNameSpecification<CreateMaterializedViewSpecification> {
+
+	/**
+	 * Entry point into the {@link CreateMaterializedViewSpecification}'s fluent API to create a materialized view.
+	 * Convenient if imported statically.
+	 */
+	public static CreateMaterializedViewSpecification createMaterializedView() {
+		return new CreateMaterializedViewSpecification();
+	}
+
+	/**
+	 * Entry point into the {@link CreateMaterializedViewSpecification}'s fluent API to create a materialized view.
+	 * Convenient if imported statically.
+	 */
+	public static CreateMaterializedViewSpecification createMaterializedView(CqlIdentifier name) {
+		return new CreateMaterializedViewSpecification().name(name);
+	}
+
+	/**
+	 * Entry point into the {@link CreateMaterializedViewSpecification}'s fluent API to create a materialized view.
+	 * Convenient if imported statically.
+	 */
+	public static CreateMaterializedViewSpecification createMaterializedView(String name) {
+		return new CreateMaterializedViewSpecification().name(name);
+	}
+
+	private boolean ifNotExists = false;
+	private CqlIdentifier baseTableName;
+	private final List<CqlIdentifier> columns = new ArrayList<CqlIdentifier>();
+	private final List<CqlIdentifier> partitionKeyColumns = new ArrayList<CqlIdentifier>();
+	private final List<CqlIdentifier> clusteredKeyColumns = new ArrayList<CqlIdentifier>();
+	private final Map<CqlIdentifier, Ordering> orderings = new HashMap<CqlIdentifier, Ordering>();
+
+	/**
+	 * Causes the inclusion of an <code>IF NOT EXISTS</code> clause.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification ifNotExists() {
+		return ifNotExists(true);
+	}
+
+	/**
+	 * Toggles the inclusion of an <code>IF NOT EXISTS</code> clause.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification ifNotExists(boolean ifNotExists) {
+		this.ifNotExists = ifNotExists;
+		return this;
+	}
+
+	public boolean getIfNotExists() {
+		return ifNotExists;
+	}
+
+	/**
+	 * Sets the name of the base table.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification baseTable(String baseTableName) {
+		return baseTable(cqlId(baseTableName));
+	}
+
+	public CreateMaterializedViewSpecification baseTable(CqlIdentifier baseTableName) {
+
+		Assert.notNull(baseTableName, "CqlIdentifier must not be null");
+
+		this.baseTableName = baseTableName;
+		return this;
+	}
+
+	public CqlIdentifier getBaseTableName() {
+		return baseTableName;
+	}
+
+	/**
+	 * Adds a column to select from the base table. All columns are selected if no column is added.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification column(String name) {
+		return column(cqlId(name));
+	}
+
+	public CreateMaterializedViewSpecification column(CqlIdentifier name) {
+
+		Assert.notNull(name, "CqlIdentifier must not be null");
+
+		columns.add(name);
+		return this;
+	}
+
+	/**
+	 * Adds a partition key column of the view.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification partitionKeyColumn(String name) {
+		return partitionKeyColumn(cqlId(name));
+	}
+
+	public CreateMaterializedViewSpecification partitionKeyColumn(CqlIdentifier name) {
+
+		Assert.notNull(name, "CqlIdentifier must not be null");
+
+		partitionKeyColumns.add(name);
+		return this;
+	}
+
+	/**
+	 * Adds a clustering column of the view using the default ordering.
+	 *
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification clusteredKeyColumn(String name) {
+		return clusteredKeyColumn(cqlId(name), null);
+	}
+
+	public CreateMaterializedViewSpecification clusteredKeyColumn(CqlIdentifier name) {
+		return clusteredKeyColumn(name, null);
+	}
+
+	/**
+	 * Adds a clustering column of the view using the given {@link Ordering}.
+	 *
+	 * @param ordering may be {@literal null} to use the default ordering.
+	 * @return this
+	 */
+	public CreateMaterializedViewSpecification clusteredKeyColumn(String name, Ordering ordering) {
+		return clusteredKeyColumn(cqlId(name), ordering);
+	}
+
+	public CreateMaterializedViewSpecification clusteredKeyColumn(CqlIdentifier name, Ordering ordering) {
+
+		Assert.notNull(name, "CqlIdentifier must not be null");
+
+		clusteredKeyColumns.add(name);
+
+		if (ordering != null) {
+			orderings.put(name, ordering);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the columns selected from the base table. An empty list selects all columns.
+	 */
+	public List<CqlIdentifier> getColumns() {
+		return Collections.unmodifiableList(columns);
+	}
+
+	public List<CqlIdentifier> getPartitionKeyColumns() {
+		return Collections.unmodifiableList(partitionKeyColumns);
+	}
+
+	public List<CqlIdentifier> getClusteredKeyColumns() {
+		return Collections.unmodifiableList(clusteredKeyColumns);
+	}
+
+	/**
+	 * Returns the partition key columns followed by the clustering columns.
+	 */
+	public List<CqlIdentifier> getPrimaryKeyColumns() {
+
+		List<CqlIdentifier> primaryKeyColumns = new ArrayList<CqlIdentifier>(partitionKeyColumns);
+		primaryKeyColumns.addAll(clusteredKeyColumns);
+
+		return Collections.unmodifiableList(primaryKeyColumns);
+	}
+
+	/**
+	 * Returns the {@link Ordering} of the given clustering column or {@literal null} to use the default ordering.
+	 */
+	public Ordering getOrdering(CqlIdentifier clusteredKeyColumn) {
+		return orderings.get(clusteredKeyColumn);
+	}
+}
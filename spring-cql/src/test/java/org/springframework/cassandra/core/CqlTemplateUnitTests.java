@@ -19,6 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
@@ -28,7 +32,9 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.cassandra.support.CassandraExceptionTranslator;
 import org.springframework.cassandra.support.exception.CassandraReadTimeoutException;
 import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
@@ -495,4 +501,98 @@ public class CqlTemplateUnitTests {
 		verify(mockUpdate).using(Mockito.any(Using.class));
 		verify(mockUpdate).disableTracing();
 	}
+
+	@Test
+	public void queryForObjectShouldNotCollapseReadsByDefault() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		Row mockRow = mock(Row.class);
+		RowMapper<Row> rowMapper = new RowMapper<Row>() {
+
+			@Override
+			public Row mapRow(Row row, int rowNum) {
+				return row;
+			}
+		};
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.one()).thenReturn(mockRow);
+		when(mockResultSet.isExhausted()).thenReturn(true);
+
+		assertThat(template.getRequestCollapser()).isNull();
+		assertThat(template.queryForObject("SELECT name FROM users WHERE id = 1", rowMapper)).isSameAs(mockRow);
+		assertThat(template.queryForObject("SELECT name FROM users WHERE id = 1", rowMapper)).isSameAs(mockRow);
+
+		verify(mockSession, times(2)).execute(any(Statement.class));
+	}
+
+	@Test
+	public void queryForObjectShouldShareRowOfInFlightIdenticalReadAndMapItPerCaller() throws Exception {
+
+		final RequestCollapser requestCollapser = new RequestCollapser();
+		final ResultSet mockResultSet = mock(ResultSet.class);
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final Future<?>[] follower = new Future<?>[1];
+		final Row mockRow = mock(Row.class);
+		final RowMapper<String> rowMapper = new RowMapper<String>() {
+
+			@Override
+			public String mapRow(Row row, int rowNum) {
+				return (row == mockRow ? "walter" : null);
+			}
+		};
+		final RowMapper<String> followerRowMapper = new RowMapper<String>() {
+
+			@Override
+			public String mapRow(Row row, int rowNum) {
+				return (row == mockRow ? "skyler" : null);
+			}
+		};
+
+		template.setRequestCollapser(requestCollapser);
+
+		when(mockResultSet.one()).thenReturn(mockRow);
+		when(mockResultSet.isExhausted()).thenReturn(true);
+		when(mockSession.execute(any(Statement.class))).thenAnswer(new Answer<ResultSet>() {
+
+			@Override
+			public ResultSet answer(InvocationOnMock invocation) throws Throwable {
+
+				if (follower[0] == null) {
+
+					follower[0] = executor.submit(new Callable<String>() {
+
+						@Override
+						public String call() throws Exception {
+							return template.queryForObject("SELECT name FROM users WHERE id = 1", followerRowMapper);
+						}
+					});
+
+					long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+					while (requestCollapser.getCollapsedCount() == 0 && System.currentTimeMillis() < deadline) {
+						Thread.sleep(1);
+					}
+				}
+
+				return mockResultSet;
+			}
+		});
+
+		try {
+			assertThat(template.queryForObject("SELECT name FROM users WHERE id = 1", rowMapper)).isEqualTo("walter");
+			assertThat(follower[0].get(10, TimeUnit.SECONDS)).isEqualTo("skyler");
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(requestCollapser.getExecutedCount()).isEqualTo(1);
+		assertThat(requestCollapser.getCollapsedCount()).isEqualTo(1);
+		verify(mockSession, times(1)).execute(any(Statement.class));
+
+		template.queryForObject("SELECT name FROM users WHERE id = 1", rowMapper);
+
+		assertThat(requestCollapser.getExecutedCount()).isEqualTo(2);
+		verify(mockSession, times(2)).execute(any(Statement.class));
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RequestCollapser}.
+ *
+ * @author agent
+ */
+public class RequestCollapserUnitTests {
+
+	private final RequestCollapser requestCollapser = new RequestCollapser();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shouldShareResultOfInFlightRequest() throws Exception {
+
+		final AtomicInteger executions = new AtomicInteger();
+		final Object result = new Object();
+		final Future<?>[] follower = new Future<?>[1];
+
+		Object leaderResult = requestCollapser.execute("key", new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+
+				executions.incrementAndGet();
+
+				follower[0] = executeInFollower("key", executions);
+				awaitCollapsed(1);
+
+				return result;
+			}
+		});
+
+		assertThat(leaderResult).isSameAs(result);
+		assertThat(follower[0].get(10, TimeUnit.SECONDS)).isSameAs(result);
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(requestCollapser.getExecutedCount()).isEqualTo(1);
+		assertThat(requestCollapser.getCollapsedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldShareExceptionOfInFlightRequest() throws Exception {
+
+		final IllegalStateException failure = new IllegalStateException("failed");
+		final Future<?>[] follower = new Future<?>[1];
+
+		try {
+			requestCollapser.execute("key", new Callable<Object>() {
+
+				@Override
+				public Object call() throws Exception {
+
+					follower[0] = executeInFollower("key", new AtomicInteger());
+					awaitCollapsed(1);
+
+					throw failure;
+				}
+			});
+
+			fail("Missing IllegalStateException");
+		} catch (IllegalStateException e) {
+			assertThat(e).isSameAs(failure);
+		}
+
+		try {
+			follower[0].get(10, TimeUnit.SECONDS);
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isSameAs(failure);
+		}
+	}
+
+	@Test
+	public void shouldNotCollapseDifferentKeys() throws Exception {
+
+		final AtomicInteger executions = new AtomicInteger();
+
+		requestCollapser.execute("key", new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+
+				executions.incrementAndGet();
+
+				return executeInFollower("other", executions).get(10, TimeUnit.SECONDS);
+			}
+		});
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(requestCollapser.getCollapsedCount()).isZero();
+	}
+
+	@Test
+	public void shouldExecuteRequestAgainOnceCompleted() {
+
+		AtomicInteger executions = new AtomicInteger();
+
+		requestCollapser.execute("key", counting(executions));
+		requestCollapser.execute("key", counting(executions));
+
+		assertThat(executions.get()).isEqualTo(2);
+		assertThat(requestCollapser.getExecutedCount()).isEqualTo(2);
+		assertThat(requestCollapser.getCollapsedCount()).isZero();
+	}
+
+	private Future<Object> executeInFollower(final String key, final AtomicInteger executions) {
+
+		return executor.submit(new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				return requestCollapser.execute(key, counting(executions));
+			}
+		});
+	}
+
+	private void awaitCollapsed(long count) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+		while (requestCollapser.getCollapsedCount() < count) {
+
+			assertThat(System.currentTimeMillis()).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+	}
+
+	private static Callable<Object> counting(final AtomicInteger executions) {
+
+		return new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				return executions.incrementAndGet();
+			}
+		};
+	}
+}
@@ -51,6 +51,15 @@ public class WriteOptionsUnitTests {
 		assertThat(writeOptions.getTracing()).isTrue();
 	}
 
+	@Test
+	public void buildWriteOptionsWithNullWriteStrategy() {
+
+		WriteOptions writeOptions = WriteOptions.builder().nullWriteStrategy(NullWriteStrategy.UNSET).build();
+
+		assertThat(writeOptions.getNullWriteStrategy()).isEqualTo(NullWriteStrategy.UNSET);
+		assertThat(new WriteOptions().getNullWriteStrategy()).isNull();
+	}
+
 	@Test // DATACASS-202
 	public void buildReadTimeoutOptionsWriteOptions() {
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.cql.generator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification.*;
+
+import org.junit.Test;
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
+
+/**
+ * Unit tests for {@link CreateMaterializedViewCqlGenerator}.
+ *
+ * @author agent
+ */
+public class CreateMaterializedViewCqlGeneratorUnitTests {
+
+	@Test
+	public void shouldCreateView() {
+
+		CreateMaterializedViewSpecification specification = createMaterializedView("user_by_email").baseTable("person")
+				.partitionKeyColumn("email").clusteredKeyColumn("id");
+
+		assertThat(CreateMaterializedViewCqlGenerator.toCql(specification))
+				.isEqualTo("CREATE MATERIALIZED VIEW user_by_email AS SELECT * FROM person "
+						+ "WHERE email IS NOT NULL AND id IS NOT NULL PRIMARY KEY (email, id);");
+	}
+
+	@Test
+	public void shouldCreateViewWithColumnsCompositePartitionKeyAndOrdering() {
+
+		CreateMaterializedViewSpecification specification = createMaterializedView("user_by_location").ifNotExists()
+				.baseTable("person").column("id").column("country").column("city").partitionKeyColumn("country")
+				.partitionKeyColumn("city").clusteredKeyColumn("id", Ordering.DESCENDING);
+
+		assertThat(CreateMaterializedViewCqlGenerator.toCql(specification))
+				.isEqualTo("CREATE MATERIALIZED VIEW IF NOT EXISTS user_by_location AS SELECT id, country, city FROM person "
+						+ "WHERE country IS NOT NULL AND city IS NOT NULL AND id IS NOT NULL "
+						+ "PRIMARY KEY ((country, city), id) WITH CLUSTERING ORDER BY (id DESC);");
+	}
+}
@@ -59,6 +59,9 @@ public class CassandraEntityClassScanner {
 	protected Set<Class<?>> entityBasePackageClasses = new HashSet<Class<?>>();
 	protected ClassLoader beanClassLoader;
 
+	private CassandraEntityIndex entityIndex;
+	private boolean entityIndexLoaded;
+
 	public CassandraEntityClassScanner() {}
 
 	public CassandraEntityClassScanner(Class<?>... entityBasePackageClasses) {
@@ -100,10 +103,13 @@ public class CassandraEntityClassScanner {
 
 	public void setBeanClassLoader(ClassLoader beanClassLoader) {
 		this.beanClassLoader = beanClassLoader;
+		this.entityIndexLoaded = false;
 	}
 
 	/**
-	 * Scans the mapping base package for entity classes annotated with {@link Table} or {@link Persistent}.
+	 * Scans the mapping base package for entity classes annotated with {@link Table} or {@link Persistent}. Entity
+	 * classes are obtained from the {@link CassandraEntityIndex} instead of scanning the class path if an index is
+	 * present.
 	 * 
 	 * @see #getEntityBasePackages()
 	 * @return <code>Set&lt;Class&lt;?&gt;&gt;</code> representing the annotated entity classes found.
@@ -127,6 +133,16 @@ public class CassandraEntityClassScanner {
 	protected Set<Class<?>> scanBasePackageForEntities(String basePackage) throws ClassNotFoundException {
 
 		HashSet<Class<?>> classes = new HashSet<Class<?>>();
+		CassandraEntityIndex entityIndex = getEntityIndex();
+
+		if (StringUtils.hasText(basePackage) && entityIndex != null) {
+
+			for (String className : entityIndex.getCandidateTypes(basePackage, getEntityAnnotationNames())) {
+				classes.add(ClassUtils.forName(className, beanClassLoader));
+			}
+
+			return classes;
+		}
 
 		if (StringUtils.hasText(basePackage)) {
 			ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
@@ -143,6 +159,27 @@ public class CassandraEntityClassScanner {
 		return classes;
 	}
 
+	private CassandraEntityIndex getEntityIndex() {
+
+		if (!entityIndexLoaded) {
+			entityIndex = CassandraEntityIndex.load(beanClassLoader);
+			entityIndexLoaded = true;
+		}
+
+		return entityIndex;
+	}
+
+	private Set<String> getEntityAnnotationNames() {
+
+		Set<String> annotationNames = new HashSet<String>();
+
+		for (Class<? extends Annotation> annotationType : getEntityAnnotations()) {
+			annotationNames.add(annotationType.getName());
+		}
+
+		return annotationNames;
+	}
+
 	@SuppressWarnings("unchecked")
 	public Class<? extends Annotation>[] getEntityAnnotations() {
 		return new Class[] { Table.class, Persistent.class, PrimaryKeyClass.class };
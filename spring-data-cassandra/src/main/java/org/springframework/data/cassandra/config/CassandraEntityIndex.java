@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of Cassandra entity types written at compile time by {@link CassandraEntityIndexProcessor}. The index maps the
+ * fully qualified name of each indexed type to the comma-separated names of its mapping annotations and is stored at
+ * {@value #INDEX_LOCATION}. Indexes of all class path entries are merged.
+ * <p>
+ * {@link CassandraEntityClassScanner} uses the index instead of scanning the class path if an index is present. Set
+ * the {@value #IGNORE_INDEX} system or {@link SpringProperties} property to {@literal true} to ignore the index, e.g.
+ * if only some class path entries provide an index.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public class CassandraEntityIndex {
+
+	/**
+	 * Location of the entity index.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-data-cassandra.entities";
+
+	/**
+	 * Property to ignore the entity index.
+	 */
+	public static final String IGNORE_INDEX = "spring.data.cassandra.index.ignore";
+
+	private final Properties index;
+
+	/**
+	 * Creates a new {@link CassandraEntityIndex} from the given index {@link Properties}.
+	 *
+	 * @param index must not be {@literal null}.
+	 */
+	public CassandraEntityIndex(Properties index) {
+
+		Assert.notNull(index, "Index properties must not be null");
+
+		this.index = index;
+	}
+
+	/**
+	 * Load the {@link CassandraEntityIndex} from all {@value #INDEX_LOCATION} resources visible to {@code classLoader}.
+	 *
+	 * @param classLoader may be {@literal null} to use the default class loader.
+	 * @return the {@link CassandraEntityIndex} or {@literal null} if no index is present or the index is ignored.
+	 * @throws IllegalStateException if an index cannot be read.
+	 */
+	public static CassandraEntityIndex load(ClassLoader classLoader) {
+
+		if (SpringProperties.getFlag(IGNORE_INDEX)) {
+			return null;
+		}
+
+		ClassLoader classLoaderToUse = (classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader());
+
+		try {
+
+			Enumeration<URL> urls = classLoaderToUse.getResources(INDEX_LOCATION);
+
+			if (!urls.hasMoreElements()) {
+				return null;
+			}
+
+			Properties index = new Properties();
+
+			while (urls.hasMoreElements()) {
+				merge(index, PropertiesLoaderUtils.loadProperties(new UrlResource(urls.nextElement())));
+			}
+
+			return new CassandraEntityIndex(index);
+		} catch (IOException e) {
+			throw new IllegalStateException(String.format("Cannot load entity index from [%s]", INDEX_LOCATION), e);
+		}
+	}
+
+	private static void merge(Properties index, Properties source) {
+
+		for (String type : source.stringPropertyNames()) {
+
+			String annotations = index.getProperty(type);
+			String additional = source.getProperty(type);
+
+			index.setProperty(type, annotations != null ? annotations + "," + additional : additional);
+		}
+	}
+
+	/**
+	 * Return the names of indexed types residing in {@code basePackage} or one of its sub-packages that are annotated
+	 * with at least one of the given annotations.
+	 *
+	 * @param basePackage must not be {@literal null}.
+	 * @param annotationTypes must not be {@literal null}.
+	 * @return the matching type names.
+	 */
+	public Set<String> getCandidateTypes(String basePackage, Collection<String> annotationTypes) {
+
+		Assert.notNull(basePackage, "Base package must not be null");
+		Assert.notNull(annotationTypes, "Annotation types must not be null");
+
+		Set<String> candidates = new HashSet<String>();
+
+		for (String type : index.stringPropertyNames()) {
+
+			if (!type.startsWith(basePackage + ".")) {
+				continue;
+			}
+
+			String[] annotations = StringUtils
+					.trimArrayElements(StringUtils.commaDelimitedListToStringArray(index.getProperty(type)));
+
+			if (containsAny(annotations, annotationTypes)) {
+				candidates.add(type);
+			}
+		}
+
+		return candidates;
+	}
+
+	private static boolean containsAny(String[] annotations, Collection<String> annotationTypes) {
+
+		for (String annotation : annotations) {
+			if (annotationTypes.contains(annotation)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the {@link CassandraEntityIndex} of the compiled sources. Types annotated with
+ * {@code @Table}, {@code @UserDefinedType}, {@code @PrimaryKeyClass} or {@code @Persistent}, either directly, through a
+ * composed annotation or inherited from a superclass, are indexed. Like class path scanning, only concrete top-level
+ * and static nested classes are considered.
+ * <p>
+ * The processor is not registered as a service to avoid running on every compilation against this module. Enable it
+ * explicitly, e.g. with {@code javac -processor org.springframework.data.cassandra.config.CassandraEntityIndexProcessor}
+ * or the {@code annotationProcessors} setting of the Maven compiler plugin. The index describes the types of a single
+ * compilation; incremental compilation of a subset of sources requires a full rebuild to refresh the index.
+ *
+ * @author agent
+ * @since 1.6
+ */
+@SupportedAnnotationTypes("*")
+public class CassandraEntityIndexProcessor extends AbstractProcessor {
+
+	static final List<String> INDEXED_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+			"org.springframework.data.cassandra.mapping.Table", "org.springframework.data.cassandra.mapping.UserDefinedType",
+			"org.springframework.data.cassandra.mapping.PrimaryKeyClass", "org.springframework.data.annotation.Persistent"));
+
+	/**
+	 * Indexed annotations declared {@link java.lang.annotation.Inherited @Inherited}.
+	 */
+	static final List<String> INHERITED_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+			"org.springframework.data.cassandra.mapping.Table", "org.springframework.data.cassandra.mapping.UserDefinedType",
+			"org.springframework.data.cassandra.mapping.PrimaryKeyClass"));
+
+	private final Map<String, Set<String>> index = new TreeMap<String, Set<String>>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		for (Element element : roundEnv.getRootElements()) {
+			collect(element);
+		}
+
+		if (roundEnv.processingOver() && !index.isEmpty()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	private void collect(Element element) {
+
+		if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+			return;
+		}
+
+		TypeElement typeElement = (TypeElement) element;
+
+		if (isCandidate(typeElement)) {
+
+			Set<String> annotations = getIndexedAnnotations(typeElement);
+			TypeMirror superclass = typeElement.getSuperclass();
+
+			while (superclass.getKind() == TypeKind.DECLARED) {
+
+				TypeElement superclassElement = (TypeElement) ((DeclaredType) superclass).asElement();
+				Set<String> inherited = getIndexedAnnotations(superclassElement);
+
+				inherited.retainAll(INHERITED_ANNOTATIONS);
+				annotations.addAll(inherited);
+
+				superclass = superclassElement.getSuperclass();
+			}
+
+			if (!annotations.isEmpty()) {
+				index.put(processingEnv.getElementUtils().getBinaryName(typeElement).toString(), annotations);
+			}
+		}
+
+		for (Element enclosed : typeElement.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	/**
+	 * Apply the candidate filter of class path scanning: concrete classes that are either top-level or static nested
+	 * classes.
+	 */
+	private static boolean isCandidate(TypeElement typeElement) {
+
+		if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		NestingKind nestingKind = typeElement.getNestingKind();
+
+		return nestingKind == NestingKind.TOP_LEVEL
+				|| (nestingKind == NestingKind.MEMBER && typeElement.getModifiers().contains(Modifier.STATIC));
+	}
+
+	private static Set<String> getIndexedAnnotations(TypeElement typeElement) {
+
+		Set<String> annotations = new LinkedHashSet<String>();
+
+		for (AnnotationMirror annotation : typeElement.getAnnotationMirrors()) {
+			collectIndexedAnnotations((TypeElement) annotation.getAnnotationType().asElement(), annotations,
+					new HashSet<String>());
+		}
+
+		return annotations;
+	}
+
+	private static void collectIndexedAnnotations(TypeElement annotationType, Set<String> annotations,
+			Set<String> visited) {
+
+		String annotationName = annotationType.getQualifiedName().toString();
+
+		if (!visited.add(annotationName)) {
+			return;
+		}
+
+		if (INDEXED_ANNOTATIONS.contains(annotationName)) {
+			annotations.add(annotationName);
+			return;
+		}
+
+		if (annotationName.startsWith("java.lang.annotation.")) {
+			return;
+		}
+
+		for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+			collectIndexedAnnotations((TypeElement) metaAnnotation.getAnnotationType().asElement(), annotations, visited);
+		}
+	}
+
+	private void writeIndex() {
+
+		Properties properties = new Properties();
+
+		for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+			properties.setProperty(entry.getKey(), toCommaDelimitedString(entry.getValue()));
+		}
+
+		OutputStream outputStream = null;
+
+		try {
+
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					CassandraEntityIndex.INDEX_LOCATION);
+			outputStream = resource.openOutputStream();
+			properties.store(outputStream, null);
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Cannot write entity index [%s]: %s", CassandraEntityIndex.INDEX_LOCATION, e.getMessage()));
+		} finally {
+			if (outputStream != null) {
+				try {
+					outputStream.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private static String toCommaDelimitedString(Set<String> values) {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (String value : values) {
+
+			if (builder.length() > 0) {
+				builder.append(',');
+			}
+
+			builder.append(value);
+		}
+
+		return builder.toString();
+	}
+}
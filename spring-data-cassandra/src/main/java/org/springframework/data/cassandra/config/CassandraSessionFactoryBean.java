@@ -15,6 +15,8 @@
  */
 package org.springframework.data.cassandra.config;
 
+import java.util.List;
+
 import org.springframework.cassandra.config.CassandraCqlSessionFactoryBean;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.CassandraAdminOperations;
@@ -47,6 +49,8 @@ public class CassandraSessionFactoryBean extends CassandraCqlSessionFactoryBean
 
 	private SchemaAction schemaAction = SchemaAction.NONE;
 
+	private boolean schemaDryRun;
+
 	/**
 	 * Set the {@link CassandraConverter} to use. Schema actions will derive table and user type information from the
 	 * {@link CassandraMappingContext} inside {@code converter}.
@@ -92,6 +96,25 @@ public class CassandraSessionFactoryBean extends CassandraCqlSessionFactoryBean
 		return schemaAction;
 	}
 
+	/**
+	 * Enable or disable the schema dry run. In dry run mode, the CQL to create missing user types and tables is logged
+	 * instead of performing the {@link SchemaAction}.
+	 *
+	 * @param schemaDryRun {@literal true} to log planned schema changes without applying them.
+	 * @since 1.6
+	 */
+	public void setSchemaDryRun(boolean schemaDryRun) {
+		this.schemaDryRun = schemaDryRun;
+	}
+
+	/**
+	 * @return {@literal true} if schema changes are logged without applying them.
+	 * @since 1.6
+	 */
+	public boolean isSchemaDryRun() {
+		return schemaDryRun;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.cassandra.config.CassandraCqlSessionFactoryBean#afterPropertiesSet()
 	 */
@@ -154,6 +177,26 @@ public class CassandraSessionFactoryBean extends CassandraCqlSessionFactoryBean
 		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(
 				getMappingContext(), getCassandraAdminOperations());
 
+		if (schemaDryRun) {
+
+			for (List<String> level : schemaCreator.planSchema(ifNotExists)) {
+				for (String cql : level) {
+					logger.info("Schema dry run: {}", cql);
+				}
+			}
+
+			if (drop) {
+				logger.info("Schema dry run: dropping tables and user types is not planned");
+			}
+
+			return;
+		}
+
+		if (ifNotExists && !drop) {
+			schemaCreator.createSchema(true);
+			return;
+		}
+
 		if (drop) {
 
 			CassandraPersistentEntitySchemaDropper schemaDropper = new CassandraPersistentEntitySchemaDropper(
@@ -165,6 +208,7 @@ public class CassandraSessionFactoryBean extends CassandraCqlSessionFactoryBean
 
 		schemaCreator.createUserTypes(ifNotExists);
 		schemaCreator.createTables(ifNotExists);
+		schemaCreator.createMaterializedViews(ifNotExists);
 	}
 
 	/**
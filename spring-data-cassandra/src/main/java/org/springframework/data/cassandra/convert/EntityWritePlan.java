@@ -0,0 +1,346 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cassandra.core.NullWriteStrategy;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.LazyValue;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Precompiled write plan for a {@link CassandraPersistentEntity}. A plan resolves the column layout and the value
+ * conversion of each persistent property once so that writing an entity boils down to reading property values and
+ * applying the resolved {@link ValueWriter}s. Composite primary keys are flattened into their individual columns.
+ * <p>
+ * Values are produced positionally in the order of {@link #getColumnNames()} and are ready to be passed to the driver
+ * either as {@code Object[]} or bound to a {@link PreparedStatement} that declares its bind markers in the same order.
+ * Plans are immutable and thread-safe.
+ *
+ * @author agent
+ * @since 1.6
+ * @see MappingCassandraConverter#getWritePlan(CassandraPersistentEntity)
+ */
+public class EntityWritePlan {
+
+	private final CassandraPersistentEntity<?> entity;
+	private final PlannedProperty[] properties;
+	private final List<CqlIdentifier> columnNames;
+	private final boolean[] primaryKeyColumns;
+	private final ValueWriter[] columnWriters;
+	private final boolean[] lazyColumns;
+
+	EntityWritePlan(CassandraPersistentEntity<?> entity, List<PlannedProperty> properties) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(properties, "PlannedProperties must not be null");
+
+		this.entity = entity;
+		this.properties = properties.toArray(new PlannedProperty[properties.size()]);
+
+		List<CqlIdentifier> columnNames = new ArrayList<CqlIdentifier>();
+		List<PlannedProperty> columns = new ArrayList<PlannedProperty>();
+
+		collectColumns(this.properties, columns);
+
+		this.primaryKeyColumns = new boolean[columns.size()];
+		this.columnWriters = new ValueWriter[columns.size()];
+		this.lazyColumns = new boolean[columns.size()];
+
+		for (int index = 0; index < columns.size(); index++) {
+
+			PlannedProperty column = columns.get(index);
+
+			columnNames.add(column.columnName);
+			this.primaryKeyColumns[index] = column.primaryKey;
+			this.columnWriters[index] = column.writer;
+			this.lazyColumns[index] = column.property.isLazyValue();
+		}
+
+		this.columnNames = Collections.unmodifiableList(columnNames);
+	}
+
+	private static void collectColumns(PlannedProperty[] properties, List<PlannedProperty> columns) {
+
+		for (PlannedProperty property : properties) {
+			if (property.keyPlan != null) {
+				collectColumns(property.keyPlan.properties, columns);
+			} else {
+				columns.add(property);
+			}
+		}
+	}
+
+	/**
+	 * @return the {@link CassandraPersistentEntity} this plan was created for.
+	 */
+	public CassandraPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns the column names in the order in which values are produced by {@link #getValues(Object)}.
+	 *
+	 * @return an unmodifiable {@link List} of column names.
+	 */
+	public List<CqlIdentifier> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * @return the number of columns written by this plan.
+	 */
+	public int getColumnCount() {
+		return columnNames.size();
+	}
+
+	/**
+	 * Returns whether the column at {@code index} is part of the primary key.
+	 *
+	 * @param index column index.
+	 * @return {@literal true} if the column at {@code index} is part of the primary key.
+	 */
+	public boolean isPrimaryKeyColumn(int index) {
+		return primaryKeyColumns[index];
+	}
+
+	/**
+	 * Returns whether the column at {@code index} is mapped to a {@link LazyValue} property.
+	 *
+	 * @param index column index.
+	 * @return {@literal true} if the column at {@code index} is mapped to a {@link LazyValue} property.
+	 */
+	public boolean isLazyColumn(int index) {
+		return lazyColumns[index];
+	}
+
+	/**
+	 * Extract and convert the column values of {@code source}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the driver-ready column values in the order of {@link #getColumnNames()}.
+	 */
+	public Object[] getValues(Object source) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.isTrue(ClassUtils.isAssignableValue(entity.getType(), source),
+				String.format("Given instance of type [%s] is not of compatible expected type [%s]",
+						source.getClass().getName(), entity.getType().getName()));
+
+		return getValues(source, true);
+	}
+
+	/**
+	 * Extract the column values of {@code source} without resolving {@link LazyValue} properties. Columns mapped to a
+	 * {@link LazyValue} hold the {@link LazyValue} itself and can be converted with
+	 * {@link #getLazyColumnValue(int, Object)} once required.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the column values in the order of {@link #getColumnNames()}.
+	 */
+	public Object[] getUnresolvedValues(Object source) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.isTrue(ClassUtils.isAssignableValue(entity.getType(), source),
+				String.format("Given instance of type [%s] is not of compatible expected type [%s]",
+						source.getClass().getName(), entity.getType().getName()));
+
+		return getValues(source, false);
+	}
+
+	/**
+	 * Resolve and convert the {@link LazyValue} of a column obtained through {@link #getUnresolvedValues(Object)}.
+	 *
+	 * @param index column index.
+	 * @param value the {@link LazyValue}, may be {@literal null}.
+	 * @return the driver-ready column value.
+	 */
+	public Object getLazyColumnValue(int index, Object value) {
+
+		Assert.isTrue(lazyColumns[index], String.format("Column [%s] is not a LazyValue column", columnNames.get(index)));
+
+		return (value != null ? columnWriters[index].write(value) : null);
+	}
+
+	private Object[] getValues(Object source, boolean resolveLazyValues) {
+
+		Object[] values = new Object[columnNames.size()];
+
+		writeValues(source, values, 0, resolveLazyValues);
+
+		return values;
+	}
+
+	/**
+	 * Bind the column values of {@code source} to the given {@link PreparedStatement}. The statement must declare its
+	 * bind markers in the order of {@link #getColumnNames()}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	public BoundStatement bind(PreparedStatement statement, Object source) {
+
+		Assert.notNull(statement, "PreparedStatement must not be null");
+
+		return statement.bind(getValues(source));
+	}
+
+	/**
+	 * Bind the column values of {@code source} to the given {@link PreparedStatement} applying
+	 * {@link NullWriteStrategy}. With {@link NullWriteStrategy#SKIP} or {@link NullWriteStrategy#UNSET}, bind variables
+	 * of {@literal null} values are left unset which requires native protocol version 4 or higher. The statement must
+	 * declare its bind markers in the order of {@link #getColumnNames()}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param nullWriteStrategy the {@link NullWriteStrategy}, may be {@literal null} to write {@literal null} values.
+	 * @return the {@link BoundStatement}.
+	 * @since 1.6
+	 */
+	public BoundStatement bind(PreparedStatement statement, Object source, NullWriteStrategy nullWriteStrategy) {
+
+		if (nullWriteStrategy == null || nullWriteStrategy == NullWriteStrategy.WRITE_NULL) {
+			return bind(statement, source);
+		}
+
+		Assert.notNull(statement, "PreparedStatement must not be null");
+
+		Object[] values = getValues(source);
+		BitSet columns = new BitSet(values.length);
+
+		for (int index = 0; index < values.length; index++) {
+			if (values[index] != null) {
+				columns.set(index);
+			}
+		}
+
+		return bind(statement, values, columns);
+	}
+
+	/**
+	 * Bind the given driver-ready column {@code values} of the selected {@code columns} to the given
+	 * {@link PreparedStatement}. Bind variables of columns that are not selected are left unset which requires native
+	 * protocol version 4 or higher. The statement must declare its bind markers in the order of {@link #getColumnNames()}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param values column values in the order of {@link #getColumnNames()}, must not be {@literal null}.
+	 * @param columns indexes of the columns to bind, must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @since 1.6
+	 */
+	public BoundStatement bind(PreparedStatement statement, Object[] values, BitSet columns) {
+
+		Assert.notNull(statement, "PreparedStatement must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.notNull(columns, "Columns must not be null");
+
+		BoundStatement boundStatement = statement.bind();
+		CodecRegistry codecRegistry = statement.getCodecRegistry();
+		ColumnDefinitions variables = statement.getVariables();
+
+		for (int index = columns.nextSetBit(0); index >= 0; index = columns.nextSetBit(index + 1)) {
+
+			if (values[index] == null) {
+				boundStatement.setToNull(index);
+			} else {
+				TypeCodec<Object> codec = codecRegistry.codecFor(variables.getType(index), values[index]);
+				boundStatement.set(index, values[index], codec);
+			}
+		}
+
+		return boundStatement;
+	}
+
+	private int writeValues(Object source, Object[] values, int offset, boolean resolveLazyValues) {
+
+		PersistentPropertyAccessor accessor = (source != null ? entity.getPropertyAccessor(source) : null);
+
+		int index = offset;
+
+		for (PlannedProperty property : properties) {
+
+			Object value = (accessor != null ? accessor.getProperty(property.property) : null);
+
+			if (property.keyPlan != null) {
+				index = property.keyPlan.writeValues(value, values, index, resolveLazyValues);
+			} else if (!resolveLazyValues && property.property.isLazyValue()) {
+				values[index++] = value;
+			} else {
+				values[index++] = (value != null ? property.writer.write(value) : null);
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Strategy to convert a non-{@literal null} property value into its driver-ready representation.
+	 */
+	interface ValueWriter {
+
+		/**
+		 * @param value the property value, never {@literal null}.
+		 * @return the converted value.
+		 */
+		Object write(Object value);
+	}
+
+	/**
+	 * A {@link CassandraPersistentProperty} along with its resolved {@link ValueWriter} or, for composite primary keys,
+	 * the nested {@link EntityWritePlan} of the key class.
+	 */
+	static class PlannedProperty {
+
+		final CassandraPersistentProperty property;
+		final CqlIdentifier columnName;
+		final boolean primaryKey;
+		final ValueWriter writer;
+		final EntityWritePlan keyPlan;
+
+		private PlannedProperty(CassandraPersistentProperty property, boolean primaryKey, ValueWriter writer,
+				EntityWritePlan keyPlan) {
+
+			this.property = property;
+			this.columnName = (keyPlan == null ? property.getColumnName() : null);
+			this.primaryKey = primaryKey;
+			this.writer = writer;
+			this.keyPlan = keyPlan;
+		}
+
+		static PlannedProperty column(CassandraPersistentProperty property, boolean primaryKey, ValueWriter writer) {
+			return new PlannedProperty(property, primaryKey, writer, null);
+		}
+
+		static PlannedProperty compositeKey(CassandraPersistentProperty property, EntityWritePlan keyPlan) {
+			return new PlannedProperty(property, true, null, keyPlan);
+		}
+	}
+}
@@ -18,12 +18,17 @@ package org.springframework.data.cassandra.convert;
 import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.datastax.driver.core.CodecRegistry;
-import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
@@ -39,16 +44,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.cassandra.core.NullWriteStrategy;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.EntityWritePlan.PlannedProperty;
+import org.springframework.data.cassandra.convert.EntityWritePlan.ValueWriter;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.CassandraPersistentPropertyMetadata;
 import org.springframework.data.cassandra.mapping.CassandraType;
+import org.springframework.data.cassandra.mapping.LazyValue;
 import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.repository.MapIdentifiable;
 import org.springframework.data.convert.EntityInstantiator;
@@ -65,6 +76,7 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * {@link CassandraConverter} that uses a {@link MappingContext} to do sophisticated mapping of domain objects to
@@ -91,8 +103,19 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected ClassLoader beanClassLoader;
 	protected SpELContext spELContext;
 
+	private final Map<CassandraPersistentEntity<?>, EntityWritePlan> writePlans =
+			new ConcurrentHashMap<CassandraPersistentEntity<?>, EntityWritePlan>();
+
+	private final Set<Class<?>> userTypeCodecTypes =
+			Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
+
+	private volatile CodecRegistry userTypeCodecRegistry;
+
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
+	private final boolean insertWrapperOverridden = isOverridden("writeInsertFromWrapper", Insert.class);
+	private final boolean updateWrapperOverridden = isOverridden("writeUpdateFromWrapper", Update.class);
+
 	/**
 	 * Creates a new {@link MappingCassandraConverter} with a {@link BasicCassandraMappingContext}.
 	 */
@@ -178,6 +201,18 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(
 				udtValue, CodecRegistry.DEFAULT_INSTANCE, expressionEvaluator);
 
+		return readEntity(entity, valueProvider);
+	}
+
+	/**
+	 * Create and populate an instance of {@code entity} from the given {@link CassandraValueProvider}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param valueProvider must not be {@literal null}.
+	 * @return the entity instance.
+	 */
+	<S> S readEntity(CassandraPersistentEntity<S> entity, CassandraValueProvider valueProvider) {
+
 		CassandraPersistentEntityParameterValueProvider parameterProvider =
 				new CassandraPersistentEntityParameterValueProvider(entity, valueProvider, null);
 
@@ -301,6 +336,29 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	@Override
 	public void write(Object source, Object sink, CassandraPersistentEntity<?> entity) {
+		write(source, sink, entity, null);
+	}
+
+	/**
+	 * Write {@code source} to {@code sink} applying the given {@link NullWriteStrategy} to {@link Insert} sinks.
+	 *
+	 * @param source the source object, may be {@literal null}.
+	 * @param sink the write target.
+	 * @param nullWriteStrategy the {@link NullWriteStrategy}, may be {@literal null} to use the strategy of the entity.
+	 * @since 1.6
+	 */
+	public void write(Object source, Object sink, NullWriteStrategy nullWriteStrategy) {
+
+		if (source != null) {
+			Class<?> beanClassLoaderClass = transformClassToBeanClassLoaderClass(source.getClass());
+			CassandraPersistentEntity<?> entity = getMappingContext().getPersistentEntity(beanClassLoaderClass);
+
+			write(source, sink, entity, nullWriteStrategy);
+		}
+	}
+
+	private void write(Object source, Object sink, CassandraPersistentEntity<?> entity,
+			NullWriteStrategy nullWriteStrategy) {
 
 		if (source == null) {
 			return;
@@ -311,7 +369,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		}
 
 		if (sink instanceof Insert) {
-			writeInsertFromObject(source, (Insert) sink, entity);
+			writeInsertFromObject(source, (Insert) sink, entity,
+					nullWriteStrategy != null ? nullWriteStrategy : entity.getNullWriteStrategy());
 		} else if (sink instanceof Update) {
 			writeUpdateFromObject(source, (Update) sink, entity);
 		} else if (sink instanceof Select.Where) {
@@ -326,71 +385,106 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	protected void writeInsertFromObject(final Object object, final Insert insert, CassandraPersistentEntity<?> entity) {
-		writeInsertFromWrapper(getConvertingAccessor(object, entity), insert, entity);
+		writeInsertFromObject(object, insert, entity, entity.getNullWriteStrategy());
 	}
 
-	protected void writeInsertFromWrapper(final ConvertingPropertyAccessor accessor, final Insert insert,
-			CassandraPersistentEntity<?> entity) {
-
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
-
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+	/**
+	 * Write the column values of {@code object} to {@link Insert}. {@literal null} values of columns that are not part of
+	 * the primary key are omitted unless {@code nullWriteStrategy} is {@link NullWriteStrategy#WRITE_NULL}.
+	 *
+	 * @since 1.6
+	 */
+	protected void writeInsertFromObject(Object object, Insert insert, CassandraPersistentEntity<?> entity,
+			NullWriteStrategy nullWriteStrategy) {
 
-				Object value = getWriteValue(property, accessor);
+		if (insertWrapperOverridden) {
+			writeInsertFromWrapper(getConvertingAccessor(object, entity), insert, entity);
+		} else {
+			writeInsert(object, insert, entity, nullWriteStrategy);
+		}
+	}
 
-				if (log.isDebugEnabled()) {
-					log.debug("doWithProperties Property.type {}, Property.value {}",
-							property.getType().getName(), value);
-				}
+	private void writeInsert(Object object, Insert insert, CassandraPersistentEntity<?> entity,
+			NullWriteStrategy nullWriteStrategy) {
 
-				if (property.isCompositePrimaryKey()) {
-					if (log.isDebugEnabled()) {
-						log.debug("Property is a compositeKey");
-					}
+		EntityWritePlan writePlan = getWritePlan(entity);
+		List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+		Object[] values = writePlan.getValues(object);
+		boolean writeNulls = (nullWriteStrategy == null || nullWriteStrategy == NullWriteStrategy.WRITE_NULL);
 
-					writeInsertFromWrapper(getConvertingAccessor(value, property.getCompositePrimaryKeyEntity()),
-							insert, property.getCompositePrimaryKeyEntity());
+		for (int index = 0; index < values.length; index++) {
 
-					return;
-				}
+			if (values[index] == null && !writeNulls && !writePlan.isPrimaryKeyColumn(index)) {
+				continue;
+			}
 
-				if (log.isDebugEnabled()) {
-					log.debug("Adding insert.value [{}] - [{}]", property.getColumnName().toCql(), value);
-				}
+			insert.value(columnNames.get(index).toCql(), values[index]);
+		}
+	}
 
-				insert.value(property.getColumnName().toCql(), value);
-			}
-		});
+	/**
+	 * Write the properties of the bean held by {@code accessor} to {@link Insert}.
+	 *
+	 * @deprecated since 1.6, inserts are written through the {@link EntityWritePlan} of the entity. {@link #write(Object,
+	 *             Object)} still calls this method if a subclass overrides it, in which case the {@link NullWriteStrategy}
+	 *             given to {@link #write(Object, Object, NullWriteStrategy)} is not applied. Override
+	 *             {@link #writeInsertFromObject(Object, Insert, CassandraPersistentEntity, NullWriteStrategy)} instead.
+	 */
+	@Deprecated
+	protected void writeInsertFromWrapper(ConvertingPropertyAccessor accessor, Insert insert,
+			CassandraPersistentEntity<?> entity) {
+		writeInsert(accessor.getBean(), insert, entity, entity.getNullWriteStrategy());
 	}
 
 	protected void writeUpdateFromObject(final Object object, final Update update, CassandraPersistentEntity<?> entity) {
-		writeUpdateFromWrapper(getConvertingAccessor(object, entity), update, entity);
-	}
 
-	protected void writeUpdateFromWrapper(final ConvertingPropertyAccessor accessor, final Update update,
-			final CassandraPersistentEntity<?> entity) {
+		if (updateWrapperOverridden) {
+			writeUpdateFromWrapper(getConvertingAccessor(object, entity), update, entity);
+		} else {
+			writeUpdate(object, update, entity);
+		}
+	}
 
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+	private void writeUpdate(Object object, Update update, CassandraPersistentEntity<?> entity) {
 
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+		EntityWritePlan writePlan = getWritePlan(entity);
+		List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+		Object[] values = writePlan.getValues(object);
 
-				Object value = getWriteValue(property, accessor);
+		for (int index = 0; index < values.length; index++) {
 
-				if (property.isCompositePrimaryKey()) {
-					CassandraPersistentEntity<?> keyEntity = property.getCompositePrimaryKeyEntity();
-					writeUpdateFromWrapper(getConvertingAccessor(value, keyEntity), update, keyEntity);
-					return;
-				}
+			String columnName = columnNames.get(index).toCql();
 
-				if (isPrimaryKeyPart(property)) {
-					update.where(QueryBuilder.eq(property.getColumnName().toCql(), value));
-				} else {
-					update.with(QueryBuilder.set(property.getColumnName().toCql(), value));
-				}
+			if (writePlan.isPrimaryKeyColumn(index)) {
+				update.where(QueryBuilder.eq(columnName, values[index]));
+			} else {
+				update.with(QueryBuilder.set(columnName, values[index]));
 			}
-		});
+		}
+	}
+
+	/**
+	 * Write the properties of the bean held by {@code accessor} to {@link Update}.
+	 *
+	 * @deprecated since 1.6, updates are written through the {@link EntityWritePlan} of the entity. {@link #write(Object,
+	 *             Object)} still calls this method if a subclass overrides it. Override
+	 *             {@link #writeUpdateFromObject(Object, Update, CassandraPersistentEntity)} instead.
+	 */
+	@Deprecated
+	protected void writeUpdateFromWrapper(ConvertingPropertyAccessor accessor, Update update,
+			CassandraPersistentEntity<?> entity) {
+		writeUpdate(accessor.getBean(), update, entity);
+	}
+
+	/**
+	 * Returns whether a subclass overrides the deprecated wrapper-based writer {@code methodName} for {@code sinkType}.
+	 */
+	private boolean isOverridden(String methodName, Class<?> sinkType) {
+
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, ConvertingPropertyAccessor.class, sinkType,
+				CassandraPersistentEntity.class);
+
+		return (method != null && method.getDeclaringClass() != MappingCassandraConverter.class);
 	}
 
 	protected void writeSelectWhereFromObject(final Object object, final Select.Where where,
@@ -432,10 +526,14 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 					log.debug("Adding udt.value [{}] - [{}]", property.getColumnName().toCql(), value);
 				}
 
-				TypeCodec<Object> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(
-						getMappingContext().getDataType(property));
+				String name = property.getColumnName().toCql();
 
-				udtValue.set(property.getColumnName().toCql(), value, typeCodec);
+				// values of user types with a registered codec are not converted to UDTValue
+				CodecRegistry codecRegistry = userTypeCodecRegistry;
+				TypeCodec<Object> codec = (value != null && codecRegistry != null
+						? codecRegistry.codecFor(udtValue.getType().getFieldType(name), value) : getCodec(property));
+
+				udtValue.set(name, value, codec);
 			}
 		});
 	}
@@ -595,6 +693,201 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return mappingContext;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.cassandra.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+		writePlans.clear();
+	}
+
+	/**
+	 * Generate a {@link MappingUserTypeCodec} for each mapped user-defined type and register it with the given
+	 * {@link CodecRegistry}. Values of registered user types are passed to the driver as entity instances and serialized
+	 * directly by their codec instead of being converted to {@link UDTValue}, and the driver returns entity instances
+	 * when reading columns of these types.
+	 * <p>
+	 * Statements written by this converter must be executed with a session using {@code codecRegistry} once codecs are
+	 * registered. Codecs can be registered with a single {@link CodecRegistry} per converter, and not with the JVM-wide
+	 * {@link CodecRegistry#DEFAULT_INSTANCE} as the codecs would then apply to every session of the JVM. Configure a
+	 * dedicated {@link CodecRegistry} on the {@link com.datastax.driver.core.Cluster} instead. User types with properties
+	 * using SpEL expressions keep the {@link UDTValue} mapping.
+	 *
+	 * @param codecRegistry must not be {@literal null} or {@link CodecRegistry#DEFAULT_INSTANCE}.
+	 * @throws IllegalStateException if codecs were already registered with a different {@link CodecRegistry}.
+	 * @since 1.6
+	 */
+	public void registerUserTypeCodecs(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+		Assert.isTrue(codecRegistry != CodecRegistry.DEFAULT_INSTANCE,
+				"User type codecs must not be registered with CodecRegistry.DEFAULT_INSTANCE; configure a dedicated CodecRegistry on the Cluster");
+		Assert.state(userTypeCodecRegistry == null || userTypeCodecRegistry == codecRegistry,
+				"User type codecs are already registered with a different CodecRegistry");
+
+		this.userTypeCodecRegistry = codecRegistry;
+
+		for (CassandraPersistentEntity<?> entity : mappingContext.getUserDefinedTypeEntities()) {
+
+			if (!userTypeCodecTypes.contains(entity.getType()) && !hasSpelExpressions(entity)) {
+				codecRegistry.register(createUserTypeCodec(entity, codecRegistry));
+				userTypeCodecTypes.add(entity.getType());
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link CodecRegistry} user type codecs were registered with. Values of these user types are written
+	 * as entities and can only be serialized by sessions using this {@link CodecRegistry}.
+	 *
+	 * @return the {@link CodecRegistry} or {@literal null} if no user type codecs were registered.
+	 * @since 1.6
+	 * @see #registerUserTypeCodecs(CodecRegistry)
+	 */
+	public CodecRegistry getUserTypeCodecRegistry() {
+		return userTypeCodecRegistry;
+	}
+
+	private <T> MappingUserTypeCodec<T> createUserTypeCodec(CassandraPersistentEntity<T> entity,
+			CodecRegistry codecRegistry) {
+		return new MappingUserTypeCodec<T>(entity, this, codecRegistry);
+	}
+
+	private static boolean hasSpelExpressions(CassandraPersistentEntity<?> entity) {
+
+		final AtomicBoolean spelExpressions = new AtomicBoolean();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+				if (property.getSpelExpression() != null) {
+					spelExpressions.set(true);
+				}
+			}
+		});
+
+		return spelExpressions.get();
+	}
+
+	/**
+	 * Returns the {@link EntityWritePlan} for the given {@link CassandraPersistentEntity}. Write plans are created once
+	 * per entity and cached for subsequent writes.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link EntityWritePlan} for {@code entity}.
+	 * @since 1.6
+	 */
+	public EntityWritePlan getWritePlan(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		EntityWritePlan writePlan = writePlans.get(entity);
+
+		if (writePlan == null) {
+			writePlan = createWritePlan(entity);
+			writePlans.put(entity, writePlan);
+		}
+
+		return writePlan;
+	}
+
+	private EntityWritePlan createWritePlan(CassandraPersistentEntity<?> entity) {
+
+		final List<PlannedProperty> properties = new ArrayList<PlannedProperty>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+					properties.add(PlannedProperty.compositeKey(property,
+							createWritePlan(property.getCompositePrimaryKeyEntity())));
+				} else {
+					properties.add(PlannedProperty.column(property, isPrimaryKeyPart(property), createValueWriter(property)));
+				}
+			}
+		});
+
+		return new EntityWritePlan(entity, properties);
+	}
+
+	/**
+	 * Resolve the conversion for {@code property} once. Simple values of the expected type are passed through and enums
+	 * are written by name without consulting {@link CustomConversions}. Any other value falls back to
+	 * {@link #getWriteValue(Object, TypeInformation)}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the {@link ValueWriter} for {@code property}.
+	 */
+	private ValueWriter createValueWriter(CassandraPersistentProperty property) {
+
+		if (property.isLazyValue()) {
+
+			final TypeInformation<?> lazyValueType = property.getLazyValueType();
+
+			return new ValueWriter() {
+
+				@Override
+				public Object write(Object value) {
+					return getWriteValue(((LazyValue<?>) value).get(), lazyValueType);
+				}
+			};
+		}
+
+		final Class<?> targetType = getTargetType(property);
+		final Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(targetType);
+		final TypeInformation<?> typeInformation = property.getTypeInformation();
+
+		boolean simpleType = getCustomConversions().isSimpleType(valueType)
+				&& !getCustomConversions().hasCustomWriteTarget(valueType, property.getType());
+
+		if (simpleType && valueType.isEnum() && valueType.equals(property.getType())) {
+
+			return new ValueWriter() {
+
+				@Override
+				public Object write(Object value) {
+
+					Object converted = convertToTargetType(value, valueType, targetType);
+
+					return (valueType.isInstance(converted) ? ((Enum<?>) converted).name()
+							: getWriteValue(converted, typeInformation));
+				}
+			};
+		}
+
+		if (simpleType && !valueType.isEnum()) {
+
+			return new ValueWriter() {
+
+				@Override
+				public Object write(Object value) {
+
+					Object converted = convertToTargetType(value, valueType, targetType);
+
+					return (converted != null && converted.getClass() == valueType ? converted
+							: getWriteValue(converted, typeInformation));
+				}
+			};
+		}
+
+		return new ValueWriter() {
+
+			@Override
+			public Object write(Object value) {
+				return getWriteValue(convertToTargetType(value, valueType, targetType), typeInformation);
+			}
+		};
+	}
+
+	private Object convertToTargetType(Object value, Class<?> valueType, Class<?> targetType) {
+		return (valueType.isInstance(value) ? value : getConversionService().convert(value, targetType));
+	}
+
 	/**
 	 * Creates a new {@link ConvertingPropertyAccessor} for the given source and entity.
 	 *
@@ -641,15 +934,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	private Class<?> getPropertyTargetType(CassandraPersistentProperty property) {
 
-		DataType dataType = getMappingContext().getDataType(property);
+		CassandraPersistentPropertyMetadata metadata = getMappingContext().getPropertyMetadata(property);
 
-		if (dataType instanceof UserType) {
+		if (metadata.getDataType() instanceof UserType) {
 			return property.getType();
 		}
 
-		TypeCodec<Object> codec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getMappingContext().getDataType(property));
-
-		return codec.getJavaType().getRawType();
+		return metadata.getCodec().getJavaType().getRawType();
 	}
 
 	/**
@@ -662,6 +953,14 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 */
 	@SuppressWarnings("unchecked")
 	private Object getWriteValue(CassandraPersistentProperty property, ConvertingPropertyAccessor accessor) {
+
+		if (property.isLazyValue()) {
+
+			LazyValue<?> value = (LazyValue<?>) accessor.getProperty(property);
+
+			return getWriteValue(value != null ? value.get() : null, property.getLazyValueType());
+		}
+
 		return getWriteValue(accessor.getProperty(property, getTargetType(property)), property.getTypeInformation());
 	}
 
@@ -708,6 +1007,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		if (persistentEntity != null && persistentEntity.isUserDefinedType()) {
 
+			if (userTypeCodecTypes.contains(persistentEntity.getType())) {
+				return value;
+			}
+
 			UDTValue udtValue = persistentEntity.getUserType().newValue();
 
 			write(value, udtValue, persistentEntity);
@@ -781,24 +1084,67 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 * @param property the property.
 	 * @return the return value, may be {@literal null}.
 	 */
-	@SuppressWarnings("unchecked")
 	private Object getReadValue(PropertyValueProvider<CassandraPersistentProperty> row,
 			CassandraPersistentProperty property) {
 
-		Object obj = row.getPropertyValue(property);
+		if (property.isLazyValue()) {
+			return getLazyReadValue(row, property);
+		}
+
+		return getReadValue(row.getPropertyValue(property), property.getTypeInformation());
+	}
+
+	/**
+	 * Create a {@link LazyValue} for {@code property}. Values read from a {@link Row} retain the row and decode the
+	 * column on first access. Other values are decoded eagerly.
+	 */
+	private LazyValue<Object> getLazyReadValue(PropertyValueProvider<CassandraPersistentProperty> valueProvider,
+			CassandraPersistentProperty property) {
+
+		final TypeInformation<?> valueType = property.getLazyValueType();
+
+		if (valueProvider instanceof CassandraRowValueProvider && property.getSpelExpression() == null) {
+
+			final Row row = ((CassandraRowValueProvider) valueProvider).getRow();
+			final int index = row.getColumnDefinitions().getIndexOf(property.getColumnName().toCql());
+
+			if (index != -1) {
+
+				if (row.isNull(index)) {
+					return LazyValue.empty();
+				}
+
+				return LazyValue.lazy(new LazyValue.Resolver<Object>() {
+
+					@Override
+					public Object resolve() {
+						return getReadValue(new ColumnReader(row).get(index), valueType);
+					}
+				});
+			}
+		}
+
+		return LazyValue.of(getReadValue(valueProvider.getPropertyValue(property), valueType));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object getReadValue(Object obj, TypeInformation<?> typeInformation) {
+
+		Class<?> type = typeInformation.getType();
+		Class<?> actualType = typeInformation.getActualType().getType();
 
 		if (obj != null) {
 
-			if (conversions.hasCustomWriteTarget(property.getActualType()) && property.isCollectionLike()) {
+			if (conversions.hasCustomWriteTarget(actualType) && typeInformation.isCollectionLike()) {
 
-				if (Collection.class.isAssignableFrom(property.getType()) && obj instanceof Collection) {
+				if (Collection.class.isAssignableFrom(type) && obj instanceof Collection) {
 
 					Collection<Object> original = (Collection<Object>) obj;
 
-					Collection<Object> converted = CollectionFactory.createCollection(property.getType(), original.size());
+					Collection<Object> converted = CollectionFactory.createCollection(type, original.size());
 
 					for (Object element : original) {
-						converted.add(getConversionService().convert(element, property.getActualType()));
+						converted.add(getConversionService().convert(element, actualType));
 					}
 
 					return converted;
@@ -806,18 +1152,20 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			}
 		}
 
-		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(property.getActualType());
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(actualType);
 
 		if (persistentEntity != null && persistentEntity.isUserDefinedType()) {
 
-			if (property.isCollectionLike() && obj instanceof Collection) {
+			if (typeInformation.isCollectionLike() && obj instanceof Collection) {
 				Collection<Object> original = (Collection<Object>) obj;
 
-				Collection<Object> converted = CollectionFactory.createCollection(property.getType(), original.size());
+				Collection<Object> converted = CollectionFactory.createCollection(type, original.size());
 
 				for (Object element : original) {
 					if (element instanceof UDTValue) {
 						converted.add(readEntityFromUdt(persistentEntity, (UDTValue) element));
+					} else if (persistentEntity.getType().isInstance(element)) {
+						converted.add(element);
 					}
 				}
 
@@ -831,6 +1179,6 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	private TypeCodec<Object> getCodec(CassandraPersistentProperty property) {
-		return CodecRegistry.DEFAULT_INSTANCE.codecFor(mappingContext.getDataType(property));
+		return mappingContext.getPropertyMetadata(property).getCodec();
 	}
 }
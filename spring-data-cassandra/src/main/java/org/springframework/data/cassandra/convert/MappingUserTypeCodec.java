@@ -0,0 +1,297 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+/**
+ * {@link TypeCodec} for a mapped {@link org.springframework.data.cassandra.mapping.UserDefinedType} entity. Fields are
+ * serialized directly from the entity to the wire format of the {@link UserType} and deserialized into a new entity
+ * instance without creating an intermediate {@link com.datastax.driver.core.UDTValue}. Field values are converted with
+ * the {@link EntityWritePlan} of the entity and read through {@link MappingCassandraConverter}, so custom conversions
+ * apply as with {@link com.datastax.driver.core.UDTValue} mapping.
+ * <p>
+ * Field codecs are obtained from the {@link CodecRegistry} the codec is registered with, so nested user types and
+ * collections of user types use their registered {@link MappingUserTypeCodec} as well.
+ *
+ * @author agent
+ * @since 1.6
+ * @see MappingCassandraConverter#registerUserTypeCodecs(CodecRegistry)
+ */
+public class MappingUserTypeCodec<T> extends TypeCodec<T> {
+
+	private final CassandraPersistentEntity<T> entity;
+	private final MappingCassandraConverter converter;
+	private final CodecRegistry codecRegistry;
+	private final UserType userType;
+	private final String[] fieldNames;
+	private final DataType[] fieldTypes;
+	private final int[] columnIndexes;
+	private final Map<CassandraPersistentProperty, Integer> fieldIndexes =
+			new IdentityHashMap<CassandraPersistentProperty, Integer>();
+
+	/**
+	 * Creates a new {@link MappingUserTypeCodec} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	public MappingUserTypeCodec(CassandraPersistentEntity<T> entity, MappingCassandraConverter converter,
+			CodecRegistry codecRegistry) {
+
+		super(entity.getUserType(), entity.getType());
+
+		Assert.notNull(converter, "MappingCassandraConverter must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.entity = entity;
+		this.converter = converter;
+		this.codecRegistry = codecRegistry;
+		this.userType = entity.getUserType();
+		this.fieldNames = new String[userType.size()];
+		this.fieldTypes = new DataType[userType.size()];
+		this.columnIndexes = new int[userType.size()];
+
+		List<CqlIdentifier> columnNames = converter.getWritePlan(entity).getColumnNames();
+		int index = 0;
+
+		for (UserType.Field field : userType) {
+
+			fieldNames[index] = Metadata.quoteIfNecessary(field.getName());
+			fieldTypes[index] = field.getType();
+			columnIndexes[index] = indexOf(columnNames, fieldNames[index]);
+			index++;
+		}
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				int fieldIndex = indexOf(fieldNames, property.getColumnName().toCql());
+
+				if (fieldIndex != -1) {
+					fieldIndexes.put(property, fieldIndex);
+				}
+			}
+		});
+	}
+
+	private static int indexOf(List<CqlIdentifier> columnNames, String fieldName) {
+
+		for (int index = 0; index < columnNames.size(); index++) {
+			if (columnNames.get(index).toCql().equals(fieldName)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int indexOf(String[] fieldNames, String fieldName) {
+
+		for (int index = 0; index < fieldNames.length; index++) {
+			if (fieldNames[index].equals(fieldName)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.driver.core.TypeCodec#serialize(java.lang.Object, com.datastax.driver.core.ProtocolVersion)
+	 */
+	@Override
+	public ByteBuffer serialize(T value, ProtocolVersion protocolVersion) throws InvalidTypeException {
+
+		if (value == null) {
+			return null;
+		}
+
+		Object[] values = converter.getWritePlan(entity).getValues(value);
+		ByteBuffer[] elements = new ByteBuffer[fieldTypes.length];
+		int size = 0;
+
+		for (int index = 0; index < fieldTypes.length; index++) {
+
+			Object fieldValue = (columnIndexes[index] != -1 ? values[columnIndexes[index]] : null);
+
+			if (fieldValue != null) {
+				elements[index] = codecRegistry.codecFor(fieldTypes[index], fieldValue).serialize(fieldValue, protocolVersion);
+			}
+
+			size += 4 + (elements[index] != null ? elements[index].remaining() : 0);
+		}
+
+		ByteBuffer result = ByteBuffer.allocate(size);
+
+		for (ByteBuffer element : elements) {
+
+			if (element == null) {
+				result.putInt(-1);
+			} else {
+				result.putInt(element.remaining());
+				result.put(element.duplicate());
+			}
+		}
+
+		result.flip();
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.driver.core.TypeCodec#deserialize(java.nio.ByteBuffer, com.datastax.driver.core.ProtocolVersion)
+	 */
+	@Override
+	public T deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) throws InvalidTypeException {
+
+		if (bytes == null || bytes.remaining() == 0) {
+			return null;
+		}
+
+		ByteBuffer input = bytes.duplicate();
+		FieldValueProvider values = new FieldValueProvider(fieldIndexes, new Object[fieldTypes.length]);
+
+		for (int index = 0; index < fieldTypes.length && input.hasRemaining(); index++) {
+
+			int length = input.getInt();
+			values.fieldCount++;
+
+			if (length < 0) {
+				continue;
+			}
+
+			if (length > input.remaining()) {
+				throw new InvalidTypeException(
+						String.format("Invalid serialized value for field [%s] of [%s]", fieldNames[index], userType));
+			}
+
+			ByteBuffer element = input.slice();
+			element.limit(length);
+			input.position(input.position() + length);
+
+			values.values[index] = codecRegistry.codecFor(fieldTypes[index]).deserialize(element, protocolVersion);
+		}
+
+		return converter.readEntity(entity, values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.driver.core.TypeCodec#parse(java.lang.String)
+	 */
+	@Override
+	public T parse(String value) throws InvalidTypeException {
+
+		if (value == null || value.isEmpty() || value.equalsIgnoreCase("NULL")) {
+			return null;
+		}
+
+		return converter.readEntityFromUdt(entity, TypeCodec.userType(userType).parse(value));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.driver.core.TypeCodec#format(java.lang.Object)
+	 */
+	@Override
+	public String format(T value) throws InvalidTypeException {
+
+		if (value == null) {
+			return "NULL";
+		}
+
+		Object[] values = converter.getWritePlan(entity).getValues(value);
+		StringBuilder builder = new StringBuilder("{");
+
+		for (int index = 0; index < fieldTypes.length; index++) {
+
+			Object fieldValue = (columnIndexes[index] != -1 ? values[columnIndexes[index]] : null);
+
+			if (index > 0) {
+				builder.append(',');
+			}
+
+			builder.append(fieldNames[index]).append(':');
+			builder.append(fieldValue != null ? codecRegistry.codecFor(fieldTypes[index], fieldValue).format(fieldValue)
+					: "NULL");
+		}
+
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * {@link CassandraValueProvider} for deserialized field values indexed by their field position.
+	 */
+	private static class FieldValueProvider implements CassandraValueProvider {
+
+		private final Map<CassandraPersistentProperty, Integer> fieldIndexes;
+		private final Object[] values;
+		private int fieldCount;
+
+		FieldValueProvider(Map<CassandraPersistentProperty, Integer> fieldIndexes, Object[] values) {
+			this.fieldIndexes = fieldIndexes;
+			this.values = values;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <V> V getPropertyValue(CassandraPersistentProperty property) {
+
+			Integer index = fieldIndexes.get(property);
+
+			return (V) (index != null ? values[index] : null);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.convert.CassandraValueProvider#hasProperty(org.springframework.data.cassandra.mapping.CassandraPersistentProperty)
+		 */
+		@Override
+		public boolean hasProperty(CassandraPersistentProperty property) {
+
+			Integer index = fieldIndexes.get(property);
+
+			return (index != null && index < fieldCount);
+		}
+	}
+}
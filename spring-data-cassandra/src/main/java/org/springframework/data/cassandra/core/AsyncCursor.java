@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cassandra.core.RowCallback;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+
+/**
+ * Demand-driven cursor over the pages of an asynchronously executed query. A cursor holds the converted entities of a
+ * single page. The next page is requested from Cassandra only when {@link #fetchNext()} is called, so consumers
+ * control the rate at which pages are fetched and no thread blocks while a page is in flight. The page size is the
+ * fetch size of the query.
+ * <p>
+ * Cursors are not a reactive API: they do not implement Reactive Streams and apply no back-pressure below the page
+ * level, as each page is fetched and converted as a whole. Entities of a page are converted before the returned
+ * {@link ListenableFuture} completes. {@link #fetchNext()} may be called at most once per cursor since all cursors of a
+ * query share the underlying {@link ResultSet}.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraOperations#selectAsynchronously(String, Class)
+ */
+public class AsyncCursor<T> {
+
+	private final ResultSet resultSet;
+	private final RowCallback<T> rowCallback;
+	private final Executor executor;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final List<T> content;
+	private final AtomicBoolean fetched = new AtomicBoolean();
+
+	private AsyncCursor(ResultSet resultSet, RowCallback<T> rowCallback, Executor executor,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		this.resultSet = resultSet;
+		this.rowCallback = rowCallback;
+		this.executor = executor;
+		this.exceptionTranslator = exceptionTranslator;
+		this.content = Collections.unmodifiableList(readAvailableRows(resultSet, rowCallback));
+	}
+
+	/**
+	 * Create a {@link ListenableFuture} completing with the first {@link AsyncCursor} of {@code resultSetFuture}. Rows
+	 * are converted on {@code executor}.
+	 */
+	static <T> ListenableFuture<AsyncCursor<T>> create(
+			com.google.common.util.concurrent.ListenableFuture<ResultSet> resultSetFuture, final RowCallback<T> rowCallback,
+			final Executor executor, final PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(resultSetFuture, "ResultSetFuture must not be null");
+		Assert.notNull(rowCallback, "RowCallback must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+		final SettableListenableFuture<AsyncCursor<T>> cursor = new SettableListenableFuture<AsyncCursor<T>>();
+
+		Futures.addCallback(resultSetFuture, new FutureCallback<ResultSet>() {
+
+			@Override
+			public void onSuccess(ResultSet resultSet) {
+
+				try {
+					cursor.set(new AsyncCursor<T>(resultSet, rowCallback, executor, exceptionTranslator));
+				} catch (RuntimeException e) {
+					cursor.setException(translateExceptionIfPossible(e, exceptionTranslator));
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable throwable) {
+				cursor.setException(translateExceptionIfPossible(throwable, exceptionTranslator));
+			}
+		}, executor);
+
+		return cursor;
+	}
+
+	/**
+	 * @return the entities of this page, never {@literal null}.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return {@literal true} if the query has further pages to fetch.
+	 */
+	public boolean hasMore() {
+		return !resultSet.isFullyFetched();
+	}
+
+	/**
+	 * @return the {@link PagingState} to resume the query after this page, may be {@literal null} if this is the last
+	 *         page.
+	 */
+	public PagingState getPagingState() {
+		return resultSet.getExecutionInfo().getPagingState();
+	}
+
+	/**
+	 * Fetch the next page of the query without blocking.
+	 *
+	 * @return a {@link ListenableFuture} completing with the {@link AsyncCursor} of the next page.
+	 * @throws IllegalStateException if the query has no more pages or the next page was already requested.
+	 */
+	public ListenableFuture<AsyncCursor<T>> fetchNext() {
+
+		Assert.state(hasMore(), "Query has no more pages");
+		Assert.state(fetched.compareAndSet(false, true), "Next page was already requested");
+
+		return create(resultSet.fetchMoreResults(), rowCallback, executor, exceptionTranslator);
+	}
+
+	private static <T> List<T> readAvailableRows(ResultSet resultSet, RowCallback<T> rowCallback) {
+
+		int available = resultSet.getAvailableWithoutFetching();
+		List<T> content = new ArrayList<T>(available);
+
+		for (int index = 0; index < available; index++) {
+			content.add(rowCallback.doWith(resultSet.one()));
+		}
+
+		return content;
+	}
+
+	private static Throwable translateExceptionIfPossible(Throwable throwable,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		if (throwable instanceof RuntimeException) {
+
+			DataAccessException translated = exceptionTranslator
+					.translateExceptionIfPossible((RuntimeException) throwable);
+			return (translated != null ? translated : throwable);
+		}
+
+		return throwable;
+	}
+}
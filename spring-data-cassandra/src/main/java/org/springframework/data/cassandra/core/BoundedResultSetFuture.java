@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link ResultSetFuture} executing {@link Statement}s with at most {@code concurrency} statements in flight. The next
+ * statement is executed as soon as an in-flight statement completes. The future completes with the {@link ResultSet} of
+ * the first statement once all statements have completed or with the first failure, after which no further statements
+ * are executed. Cancelling the future cancels all in-flight statements.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class BoundedResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+	private final Object monitor = new Object();
+	private final Iterator<Statement> statements;
+	private final StatementExecutor executor;
+	private final Set<ResultSetFuture> inFlight = new LinkedHashSet<ResultSetFuture>();
+
+	private int executed;
+	private int pending;
+	private ResultSet first;
+
+	BoundedResultSetFuture(List<? extends Statement> statements, int concurrency, StatementExecutor executor) {
+
+		Assert.notEmpty(statements, "Statements must not be empty");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+		Assert.notNull(executor, "StatementExecutor must not be null");
+
+		this.statements = new ArrayList<Statement>(statements).iterator();
+		this.executor = executor;
+
+		for (int slot = 0; slot < concurrency; slot++) {
+			if (!executeNext()) {
+				break;
+			}
+		}
+	}
+
+	private boolean executeNext() {
+
+		Statement statement;
+		final int position;
+
+		synchronized (monitor) {
+
+			if (isDone() || !statements.hasNext()) {
+				return false;
+			}
+
+			statement = statements.next();
+			position = executed++;
+			pending++;
+		}
+
+		final ResultSetFuture future;
+
+		try {
+			future = executor.executeAsync(statement);
+		} catch (RuntimeException e) {
+			setException(e);
+			return false;
+		}
+
+		synchronized (monitor) {
+			inFlight.add(future);
+		}
+
+		Futures.addCallback(future, new FutureCallback<ResultSet>() {
+
+			@Override
+			public void onSuccess(ResultSet resultSet) {
+
+				boolean complete;
+
+				synchronized (monitor) {
+
+					inFlight.remove(future);
+
+					if (position == 0) {
+						first = resultSet;
+					}
+
+					complete = (--pending == 0 && !statements.hasNext());
+				}
+
+				if (complete) {
+					set(first);
+				} else {
+					executeNext();
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable throwable) {
+
+				synchronized (monitor) {
+					inFlight.remove(future);
+				}
+
+				if (setException(throwable)) {
+					cancelInFlight(false);
+				}
+			}
+		});
+
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.ResultSetFuture#getUninterruptibly()
+	 */
+	@Override
+	public ResultSet getUninterruptibly() {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(this);
+		} catch (ExecutionException e) {
+			throw CompositeResultSetFuture.propagateCause(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.ResultSetFuture#getUninterruptibly(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+		} catch (ExecutionException e) {
+			throw CompositeResultSetFuture.propagateCause(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see com.google.common.util.concurrent.AbstractFuture#cancel(boolean)
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+
+		if (!super.cancel(mayInterruptIfRunning)) {
+			return false;
+		}
+
+		cancelInFlight(mayInterruptIfRunning);
+
+		return true;
+	}
+
+	private void cancelInFlight(boolean mayInterruptIfRunning) {
+
+		List<ResultSetFuture> futures;
+
+		synchronized (monitor) {
+			futures = new ArrayList<ResultSetFuture>(inFlight);
+		}
+
+		for (ResultSetFuture future : futures) {
+			future.cancel(mayInterruptIfRunning);
+		}
+	}
+
+	/**
+	 * Strategy to execute a {@link Statement} asynchronously.
+	 */
+	interface StatementExecutor {
+
+		/**
+		 * @param statement the {@link Statement} to execute, never {@literal null}.
+		 * @return the {@link ResultSetFuture} of the execution.
+		 */
+		ResultSetFuture executeAsync(Statement statement);
+	}
+}
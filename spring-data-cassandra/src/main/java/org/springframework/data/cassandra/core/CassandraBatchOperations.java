@@ -23,7 +23,8 @@ package org.springframework.data.cassandra.core;
  * Batches are atomic by default. In the context of a Cassandra batch operation, atomic means that if any of the batch
  * succeeds, all of it will. Statement order does not matter within a batch. {@link CassandraBatchOperations} applies
  * all rows using the same {@link #withTimestamp(long) timestamp} if supplied, otherwise Cassandra will generate a
- * timestamp.
+ * timestamp. Entities declaring {@link org.springframework.data.cassandra.mapping.QueryTable query tables} are
+ * written to and deleted from their query tables within the same batch.
  * <p>
  * Multi partition batches should only be used to achieve atomicity for a few writes on different tables. Apart from
  * this they should be avoided because they’re too expensive. Single partition batches can be used to get atomicity and
@@ -42,7 +43,7 @@ public interface CassandraBatchOperations {
 	void execute();
 
 	/**
-	 * Apply a given {@code timestamp} to the whole batch.
+	 * Apply a given {@code timestamp} to the whole batch. Requires native protocol version 3 or higher.
 	 *
 	 * @param timestamp the timestamp to apply.
 	 * @return {@code this} {@link CassandraBatchOperations}.
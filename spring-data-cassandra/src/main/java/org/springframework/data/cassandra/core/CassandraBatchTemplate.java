@@ -15,17 +15,20 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.util.Assert;
 
-import com.datastax.driver.core.querybuilder.Batch;
-import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.BatchStatement;
 
 /**
- * Default implementation for {@link CassandraBatchOperations}.
+ * Default implementation for {@link CassandraBatchOperations}. Rows of
+ * {@link org.springframework.data.cassandra.mapping.QueryTable query tables} are written and deleted within the same
+ * batch as their entity.
  *
  * @author Mark Paluch
  * @author John Blum
@@ -37,7 +40,10 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private AtomicBoolean executed = new AtomicBoolean();
 
-	private final Batch batch;
+	private final BatchStatement batch;
+
+	private final List<Object> writtenEntities = new ArrayList<Object>();
+	private final List<Object> presentEntities = new ArrayList<Object>();
 
 	private final CassandraTemplate cassandraTemplate;
 
@@ -46,7 +52,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		Assert.notNull(cassandraTemplate, "CassandraTemplate must not be null");
 
 		this.cassandraTemplate = cassandraTemplate;
-		this.batch = QueryBuilder.batch();
+		this.batch = new BatchStatement(BatchStatement.Type.LOGGED);
 	}
 
 	/*
@@ -58,6 +64,15 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		if (executed.compareAndSet(false, true)) {
 			cassandraTemplate.execute(batch);
+
+			for (Object entity : presentEntities) {
+				cassandraTemplate.recordPresentKey(entity);
+			}
+
+			for (Object entity : writtenEntities) {
+				cassandraTemplate.evictCachedEntity(entity);
+			}
+
 			return;
 		}
 
@@ -73,7 +88,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		assertNotExecuted();
 
-		batch.using(QueryBuilder.timestamp(timestamp));
+		batch.setDefaultTimestamp(timestamp);
 
 		return this;
 	}
@@ -98,7 +113,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
+			cassandraTemplate.recordPresentKey(entity);
+			cassandraTemplate.evictCachedEntity(entity);
+			writtenEntities.add(entity);
+			presentEntities.add(entity);
 			batch.add(cassandraTemplate.createInsertQuery(entity, null));
+			batch.addAll(cassandraTemplate.createBatchQueryTableWrites(entity, null, true));
 		}
 
 		return this;
@@ -124,7 +144,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
+			cassandraTemplate.recordPresentKey(entity);
+			cassandraTemplate.evictCachedEntity(entity);
+			writtenEntities.add(entity);
+			presentEntities.add(entity);
 			batch.add(cassandraTemplate.createUpdateQuery(entity, null));
+			batch.addAll(cassandraTemplate.createBatchQueryTableWrites(entity, null, false));
 		}
 
 		return this;
@@ -150,7 +175,10 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
+			cassandraTemplate.evictCachedEntity(entity);
+			writtenEntities.add(entity);
 			batch.add(cassandraTemplate.createDeleteQuery(entity, null));
+			batch.addAll(cassandraTemplate.createBatchQueryTableDeletes(entity, null));
 		}
 
 		return this;
@@ -25,7 +25,12 @@ import org.springframework.cassandra.core.QueryOptions;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.concurrent.ListenableFuture;
 
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -77,6 +82,75 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> Iterator<T> stream(String query, Class<T> entityClass);
 
+	/**
+	 * Executes the given {@link Statement} and returns an {@link Iterator} over the converted rows. Further pages are
+	 * fetched while iterating.
+	 *
+	 * @param statement query to execute. Must not be {@literal null}.
+	 * @param entityClass Class type of the elements in the {@link Iterator} stream. Must not be {@literal null}.
+	 * @return an {@link Iterator} (stream) over the elements in the query result set.
+	 * @since 1.6
+	 */
+	<T> Iterator<T> stream(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Executes the given select {@code cql} and returns the {@link Slice} of results requested by {@code pageable}. The
+	 * page size is used as fetch size, so a single page is read from Cassandra. The {@link Pageable} of the returned
+	 * {@link Slice} is a {@link CassandraPageRequest} holding the paging state to resume the query with
+	 * {@link Slice#nextPageable()}. Cassandra does not support offsets, so {@link Pageable}s requesting a page other than
+	 * the first one without a paging state are rejected.
+	 *
+	 * @param cql query to execute. Must not be empty or {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link Slice} of converted results.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if {@code pageable} requests a page other than
+	 *           the first one without a paging state.
+	 * @since 1.6
+	 */
+	<T> Slice<T> slice(String cql, Pageable pageable, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Statement} and returns the {@link Slice} of results requested by {@code pageable}. The
+	 * fetch size and paging state of {@code statement} are set from {@code pageable} while the query executes and reset
+	 * afterwards: the fetch size is restored and the paging state is cleared. {@code statement} must therefore not carry
+	 * a paging state of its own and must not be executed concurrently.
+	 *
+	 * @param statement query to execute. Must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link Slice} of converted results.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if {@code pageable} requests a page other than
+	 *           the first one without a paging state.
+	 * @since 1.6
+	 * @see #slice(String, Pageable, Class)
+	 */
+	<T> Slice<T> slice(Statement statement, Pageable pageable, Class<T> entityClass);
+
+	/**
+	 * Executes the given select {@code cql} asynchronously and returns a {@link AsyncCursor} over the first page of
+	 * results. Further pages are fetched on demand through {@link AsyncCursor#fetchNext()}, so no thread is blocked
+	 * while pages are in flight.
+	 *
+	 * @param cql query to execute. Must not be empty or {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the {@link AsyncCursor} of the first page.
+	 * @since 1.6
+	 */
+	<T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(String cql, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Select} asynchronously and returns a {@link AsyncCursor} over the first page of results.
+	 * The page size is the fetch size of the {@link Select}.
+	 *
+	 * @param select query to execute. Must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the {@link AsyncCursor} of the first page.
+	 * @since 1.6
+	 * @see #selectAsynchronously(String, Class)
+	 */
+	<T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(Select select, Class<T> entityClass);
+
 	/**
 	 * Execute query and convert ResultSet to the list of entities.
 	 *
@@ -96,7 +170,36 @@ public interface CassandraOperations extends CqlOperations {
 	<T> List<T> select(Select select, Class<T> entityClass);
 
 	/**
-	 * Select objects for the given {@code entityClass} and {@code ids}.
+	 * Execute the {@link Statement}, for example a {@link com.datastax.driver.core.BoundStatement}, and convert the
+	 * results to the list of entities.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results
+	 * @since 1.6
+	 */
+	<T> List<T> select(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Select the columns required by {@code projectionType} from the table of {@code entityClass} and convert the rows
+	 * to the projection. DTO projections are read directly from the selected columns, closed interface projections are
+	 * backed by the partially read entity.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param projectionType The projection type (interface or DTO) must not be {@literal null}.
+	 * @param clauses optional {@code WHERE} clauses.
+	 * @return the converted results
+	 * @since 1.6
+	 * @see ProjectionColumns
+	 */
+	<T> List<T> select(Class<?> entityClass, Class<T> projectionType, Clause... clauses);
+
+	/**
+	 * Select objects for the given {@code entityClass} and {@code ids}. Each id is read with a prepared single-partition
+	 * query instead of a single {@code IN} query, so reads are routed to replicas owning the partition by a token-aware
+	 * load balancing policy and are not gathered by a single coordinator. Ids may be simple ids, instances of a
+	 * composite primary key class or {@link org.springframework.data.cassandra.repository.MapId}s providing all primary
+	 * key columns. Duplicate ids are read once; the first occurrence determines the position of the result.
 	 *
 	 * @param entityClass The entity type must not be {@literal null}.
 	 * @param ids must not be {@literal null}.
@@ -121,6 +224,17 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> T selectOneById(Class<T> entityClass, Object id);
 
+	/**
+	 * Execute the Select by {@code id} for the given {@code entityClass} asynchronously. Applies the same time bucket
+	 * resolution and entity cache as {@link #selectOneById(Class, Object)}.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the converted object or {@literal null}.
+	 * @since 1.6
+	 */
+	<T> ListenableFuture<T> selectOneByIdAsynchronously(Class<T> entityClass, Object id);
+
 	/**
 	 * Execute CQL and convert ResultSet to the entity
 	 *
@@ -139,6 +253,17 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> T selectOne(Select select, Class<T> entityClass);
 
+	/**
+	 * Execute the {@link Statement}, for example a {@link com.datastax.driver.core.BoundStatement}, and convert the
+	 * result to the entity.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @since 1.6
+	 */
+	<T> T selectOne(Statement statement, Class<T> entityClass);
+
 	/**
 	 * Executes the {@link Select} query asynchronously.
 	 *
@@ -475,13 +600,37 @@ public interface CassandraOperations extends CqlOperations {
 	<T> Cancellable updateAsynchronously(List<T> entities, WriteListener<T> listener, WriteOptions options);
 
 	/**
-	 * Remove the given object from the table by id.
+	 * Remove the given object from the table by id. Rows of {@link org.springframework.data.cassandra.mapping.QueryTable
+	 * query tables} are deleted as well; the entity is read first to determine their keys.
 	 *
 	 * @param entityClass The entity type must not be {@literal null}.
 	 * @param id must not be {@literal null}.
 	 */
 	void deleteById(Class<?> entityClass, Object id);
 
+	/**
+	 * Remove the given object from the table by id asynchronously. Applies the same time bucket resolution, query table
+	 * maintenance and entity cache eviction as {@link #deleteById(Class, Object)}.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing once the row is deleted.
+	 * @since 1.6
+	 */
+	ListenableFuture<Void> deleteByIdAsynchronously(Class<?> entityClass, Object id);
+
+	/**
+	 * Returns whether rows of {@code entityClass} must be deleted entity by entity through {@link #delete(Object)}
+	 * instead of by statements deleting rows directly. Deleting entities declaring query tables deletes their query table
+	 * rows and deleting entities with an entity cache enabled evicts them from the cache; statements deleting rows
+	 * directly do neither.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return {@literal true} if rows of {@code entityClass} must be deleted entity by entity.
+	 * @since 1.6
+	 */
+	boolean isEntityDeleteRequired(Class<?> entityClass);
+
 	/**
 	 * Remove the given object from the table by id.
 	 *
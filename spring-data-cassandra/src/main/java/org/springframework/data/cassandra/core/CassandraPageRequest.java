@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * {@link PageRequest} carrying the Cassandra {@link PagingState} to resume a query. Cassandra does not support
+ * offsets, so pages other than the first one can only be requested with a {@link PagingState}.
+ * {@link CassandraPageRequest}s returned with a {@link org.springframework.data.domain.Slice} hold the
+ * {@link PagingState} after that slice; {@link #next()} resumes the query from there at the cost of a single page.
+ * Use {@link PagingState#toString()} and {@link PagingState#fromString(String)} to round-trip the paging state through
+ * web requests.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraOperations#slice(String, Pageable, Class)
+ */
+public class CassandraPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final PagingState pagingState;
+	private final boolean nextAllowed;
+
+	private CassandraPageRequest(int page, int size, Sort sort, PagingState pagingState, boolean nextAllowed) {
+
+		super(page, size, sort);
+
+		this.pagingState = pagingState;
+		this.nextAllowed = nextAllowed;
+	}
+
+	/**
+	 * Create a new unsorted {@link CassandraPageRequest} for the first page.
+	 *
+	 * @param size the size of the page to be returned.
+	 */
+	public static CassandraPageRequest first(int size) {
+		return new CassandraPageRequest(0, size, null, null, true);
+	}
+
+	/**
+	 * Create a new {@link CassandraPageRequest} for the first page.
+	 *
+	 * @param size the size of the page to be returned.
+	 * @param sort can be {@literal null}.
+	 */
+	public static CassandraPageRequest first(int size, Sort sort) {
+		return new CassandraPageRequest(0, size, sort, null, true);
+	}
+
+	/**
+	 * Create a new {@link CassandraPageRequest} resuming a query at {@code pagingState}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @param pagingState the {@link PagingState} to resume the query, may be {@literal null} to start at the first
+	 *          page.
+	 * @param nextAllowed whether a further page exists.
+	 */
+	public static CassandraPageRequest of(Pageable pageable, PagingState pagingState, boolean nextAllowed) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		return new CassandraPageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(),
+				pagingState, nextAllowed);
+	}
+
+	/**
+	 * @return the {@link PagingState} to resume the query, may be {@literal null} to start at the first page.
+	 */
+	public PagingState getPagingState() {
+		return pagingState;
+	}
+
+	/**
+	 * @return {@literal true} if a further page exists.
+	 */
+	public boolean hasNext() {
+		return nextAllowed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public Pageable next() {
+
+		Assert.state(nextAllowed, "Cannot create a Pageable for the next page since this is the last page");
+
+		return new CassandraPageRequest(getPageNumber() + 1, getPageSize(), getSort(), pagingState, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CassandraPageRequest) || !super.equals(obj)) {
+			return false;
+		}
+
+		CassandraPageRequest that = (CassandraPageRequest) obj;
+
+		return nextAllowed == that.nextAllowed && ObjectUtils.nullSafeEquals(pagingState, that.pagingState);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + ObjectUtils.nullSafeHashCode(pagingState);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Cassandra page request [number: %d, size %d, sort: %s, paging state: %s]", getPageNumber(),
+				getPageSize(), getSort(), pagingState);
+	}
+}
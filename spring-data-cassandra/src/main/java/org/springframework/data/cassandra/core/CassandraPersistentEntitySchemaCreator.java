@@ -25,20 +25,35 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.cql.generator.CreateMaterializedViewCqlGenerator;
 import org.springframework.cassandra.core.cql.generator.CreateTableCqlGenerator;
 import org.springframework.cassandra.core.cql.generator.CreateUserTypeCqlGenerator;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
 import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.cassandra.core.keyspace.CreateUserTypeSpecification;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.CassandraType;
 import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.exceptions.DriverException;
 
 /**
  * Schema creation support for Cassandra based on {@link CassandraMappingContext} and {@link CassandraPersistentEntity}.
- * This class generates CQL to create user types (UDT) and tables.
+ * This class generates CQL to create user types (UDT), tables and materialized views.
  *
  * @author Mark Paluch
  * @since 1.5
@@ -48,6 +63,12 @@ import org.springframework.util.Assert;
  */
 public class CassandraPersistentEntitySchemaCreator {
 
+	private static final Logger LOG = LoggerFactory.getLogger(CassandraPersistentEntitySchemaCreator.class);
+
+	private static final long SCHEMA_AGREEMENT_POLL_INTERVAL_MILLIS = 200;
+
+	private static final CassandraExceptionTranslator EXCEPTION_TRANSLATOR = new CassandraExceptionTranslator();
+
 	private final CassandraAdminOperations cassandraAdminOperations;
 	private final CassandraMappingContext mappingContext;
 
@@ -83,7 +104,8 @@ public class CassandraPersistentEntitySchemaCreator {
 	}
 
 	/**
-	 * Create {@link List} of {@link CreateTableSpecification}.
+	 * Create {@link List} of {@link CreateTableSpecification} including the
+	 * {@link org.springframework.data.cassandra.mapping.QueryTable query tables} declared by table entities.
 	 *
 	 * @param ifNotExists {@literal true} to create tables using {@code IF NOT EXISTS}.
 	 * @return {@link List} of {@link CreateTableSpecification}.
@@ -97,6 +119,44 @@ public class CassandraPersistentEntitySchemaCreator {
 
 		for (CassandraPersistentEntity<?> entity : entities) {
 			specifications.add(mappingContext.getCreateTableSpecificationFor(entity).ifNotExists(ifNotExists));
+
+			for (CreateTableSpecification specification : mappingContext.getCreateQueryTableSpecificationsFor(entity)) {
+				specifications.add(specification.ifNotExists(ifNotExists));
+			}
+		}
+
+		return specifications;
+	}
+
+	/**
+	 * Create materialized views declared by table entities known to {@link CassandraMappingContext}. Views must be
+	 * created after their base tables.
+	 *
+	 * @param ifNotExists {@literal true} to create views using {@code IF NOT EXISTS}.
+	 * @see org.springframework.data.cassandra.mapping.MaterializedView
+	 */
+	public void createMaterializedViews(boolean ifNotExists) {
+
+		for (CreateMaterializedViewSpecification specification : createMaterializedViewSpecifications(ifNotExists)) {
+			cassandraAdminOperations.execute(CreateMaterializedViewCqlGenerator.toCql(specification));
+		}
+	}
+
+	/**
+	 * Create {@link List} of {@link CreateMaterializedViewSpecification}.
+	 *
+	 * @param ifNotExists {@literal true} to create views using {@code IF NOT EXISTS}.
+	 * @return {@link List} of {@link CreateMaterializedViewSpecification}.
+	 */
+	protected List<CreateMaterializedViewSpecification> createMaterializedViewSpecifications(boolean ifNotExists) {
+
+		List<CreateMaterializedViewSpecification> specifications = new ArrayList<CreateMaterializedViewSpecification>();
+
+		for (CassandraPersistentEntity<?> entity : mappingContext.getTableEntities()) {
+			for (CreateMaterializedViewSpecification specification : mappingContext
+					.getCreateMaterializedViewSpecificationsFor(entity)) {
+				specifications.add(specification.ifNotExists(ifNotExists));
+			}
 		}
 
 		return specifications;
@@ -158,6 +218,463 @@ public class CassandraPersistentEntitySchemaCreator {
 		return specifications;
 	}
 
+	/**
+	 * Plan the creation of user types, tables, query tables and materialized views known to
+	 * {@link CassandraMappingContext} that do not exist in the current keyspace. DDL statements are grouped by dependency
+	 * level: each level contains statements that depend only on schema elements of previous levels or existing schema
+	 * elements. User types precede the tables using them, query tables and materialized views follow in a final level.
+	 * Nothing is executed, so the plan can be used as dry run. Statements referencing user types that are created in a
+	 * previous level refer to these user types by name.
+	 *
+	 * @param ifNotExists {@literal true} to create types and tables using {@code IF NOT EXISTS}.
+	 * @return {@link List} of dependency levels, each a {@link List} of CQL statements.
+	 */
+	public List<List<String>> planSchema(boolean ifNotExists) {
+
+		List<List<String>> plan = new ArrayList<List<String>>();
+
+		for (List<CassandraPersistentEntity<?>> level : getMissingEntities()) {
+
+			List<String> statements = new ArrayList<String>(level.size());
+
+			for (CassandraPersistentEntity<?> entity : level) {
+				try {
+					statements.add(toCql(entity, ifNotExists));
+				} catch (MappingException e) {
+					statements.add(toPlannedCql(entity, ifNotExists));
+				}
+			}
+
+			plan.add(statements);
+		}
+
+		List<String> derived = getMissingDerivedTables(ifNotExists, true);
+
+		if (!derived.isEmpty()) {
+			plan.add(derived);
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Create user types, tables, query tables and materialized views known to {@link CassandraMappingContext} that do not
+	 * exist in the current keyspace.
+	 * Statements of a dependency level are executed concurrently and each level awaits schema agreement once before the
+	 * next level is rendered and executed.
+	 *
+	 * @param ifNotExists {@literal true} to create types and tables using {@code IF NOT EXISTS}.
+	 * @return the executed CQL statements.
+	 * @see #planSchema(boolean)
+	 */
+	public List<String> createSchema(boolean ifNotExists) {
+
+		List<String> executed = new ArrayList<String>();
+
+		for (List<CassandraPersistentEntity<?>> level : getMissingEntities()) {
+
+			List<String> statements = new ArrayList<String>(level.size());
+
+			for (CassandraPersistentEntity<?> entity : level) {
+				statements.add(toCql(entity, ifNotExists));
+			}
+
+			executeLevel(statements);
+			executed.addAll(statements);
+		}
+
+		List<String> derived = getMissingDerivedTables(ifNotExists, false);
+
+		if (!derived.isEmpty()) {
+			executeLevel(derived);
+			executed.addAll(derived);
+		}
+
+		return executed;
+	}
+
+	private void executeLevel(List<String> statements) {
+
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(statements.size());
+
+		for (String cql : statements) {
+			futures.add(cassandraAdminOperations.executeAsynchronously(cql));
+		}
+
+		for (ResultSetFuture future : futures) {
+			try {
+				future.getUninterruptibly();
+			} catch (DriverException e) {
+
+				DataAccessException translated = EXCEPTION_TRANSLATOR.translateExceptionIfPossible(e);
+				throw (translated != null ? translated : e);
+			}
+		}
+
+		awaitSchemaAgreement();
+	}
+
+	/**
+	 * Render query tables and materialized views that do not exist in the current keyspace. Query tables using user
+	 * types that do not exist yet refer to these user types by name when planning.
+	 */
+	private List<String> getMissingDerivedTables(boolean ifNotExists, boolean plan) {
+
+		KeyspaceMetadata keyspaceMetadata = cassandraAdminOperations.getKeyspaceMetadata();
+		List<String> statements = new ArrayList<String>();
+
+		for (CassandraPersistentEntity<?> entity : mappingContext.getTableEntities()) {
+			try {
+				for (CreateTableSpecification specification : mappingContext.getCreateQueryTableSpecificationsFor(entity)) {
+					if (keyspaceMetadata == null || keyspaceMetadata.getTable(specification.getName().toCql()) == null) {
+						statements.add(CreateTableCqlGenerator.toCql(specification.ifNotExists(ifNotExists)));
+					}
+				}
+			} catch (MappingException e) {
+
+				if (!plan) {
+					throw e;
+				}
+
+				for (CreateTableSpecification specification : mappingContext.getCreateQueryTableSpecificationsFor(entity,
+						planTableSpecification(entity))) {
+					if (keyspaceMetadata == null || keyspaceMetadata.getTable(specification.getName().toCql()) == null) {
+						statements.add(CreateTableCqlGenerator.toCql(specification.ifNotExists(ifNotExists)));
+					}
+				}
+			}
+		}
+
+		for (CreateMaterializedViewSpecification specification : createMaterializedViewSpecifications(ifNotExists)) {
+			if (keyspaceMetadata == null || keyspaceMetadata.getMaterializedView(specification.getName().toCql()) == null) {
+				statements.add(CreateMaterializedViewCqlGenerator.toCql(specification));
+			}
+		}
+
+		return statements;
+	}
+
+	private String toCql(CassandraPersistentEntity<?> entity, boolean ifNotExists) {
+
+		if (entity.isUserDefinedType()) {
+			return CreateUserTypeCqlGenerator
+					.toCql(mappingContext.getCreateUserTypeSpecificationFor(entity).ifNotExists(ifNotExists));
+		}
+
+		return CreateTableCqlGenerator.toCql(mappingContext.getCreateTableSpecificationFor(entity).ifNotExists(ifNotExists));
+	}
+
+	/**
+	 * Render the CQL for {@code entity} referring to user types that do not exist yet by name.
+	 */
+	private String toPlannedCql(CassandraPersistentEntity<?> entity, boolean ifNotExists) {
+
+		if (entity.isUserDefinedType()) {
+			return CreateUserTypeCqlGenerator.toCql(planUserTypeSpecification(entity).ifNotExists(ifNotExists));
+		}
+
+		return CreateTableCqlGenerator.toCql(planTableSpecification(entity).ifNotExists(ifNotExists));
+	}
+
+	private CreateUserTypeSpecification planUserTypeSpecification(CassandraPersistentEntity<?> entity) {
+
+		final CreateUserTypeSpecification specification = CreateUserTypeSpecification.createType(entity.getTableName());
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+				specification.field(property.getColumnName(), getPlannedDataType(property));
+			}
+		});
+
+		return specification;
+	}
+
+	/**
+	 * Plan the {@link CreateTableSpecification} of {@code entity} following
+	 * {@link CassandraMappingContext#getCreateTableSpecificationFor(CassandraPersistentEntity)}.
+	 */
+	private CreateTableSpecification planTableSpecification(CassandraPersistentEntity<?> entity) {
+
+		final CreateTableSpecification specification = CreateTableSpecification.createTable(entity.getTableName());
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+
+					mappingContext.getPersistentEntity(property.getRawType())
+							.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+								@Override
+								public void doWithPersistentProperty(CassandraPersistentProperty primaryKeyProperty) {
+									addColumn(specification, primaryKeyProperty);
+								}
+							});
+				} else {
+					addColumn(specification, property);
+				}
+			}
+		});
+
+		return specification;
+	}
+
+	private void addColumn(CreateTableSpecification specification, CassandraPersistentProperty property) {
+
+		DataType dataType = getPlannedDataType(property);
+
+		if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+			specification.partitionKeyColumn(property.getColumnName(), dataType);
+		} else if (property.isClusterKeyColumn()) {
+			specification.clusteredKeyColumn(property.getColumnName(), dataType, property.getPrimaryKeyOrdering());
+		} else {
+			specification.column(property.getColumnName(), dataType);
+		}
+	}
+
+	/**
+	 * Resolve the {@link DataType} of {@code property} or a {@link UserTypeReference} if the property refers to a user
+	 * type that does not exist yet.
+	 */
+	private DataType getPlannedDataType(CassandraPersistentProperty property) {
+
+		try {
+			return mappingContext.getDataType(property);
+		} catch (MappingException e) {
+
+			DataType reference = getUserTypeReference(property);
+
+			if (reference == null) {
+				throw e;
+			}
+
+			return reference;
+		}
+	}
+
+	private DataType getUserTypeReference(CassandraPersistentProperty property) {
+
+		CassandraType cassandraType = property.findAnnotation(CassandraType.class);
+
+		if (cassandraType != null) {
+
+			if (!StringUtils.hasText(cassandraType.userTypeName())) {
+				return null;
+			}
+
+			DataType reference = new UserTypeReference(CqlIdentifier.cqlId(cassandraType.userTypeName()));
+
+			switch (cassandraType.type()) {
+				case LIST:
+					return DataType.list(reference);
+				case SET:
+					return DataType.set(reference);
+				case UDT:
+					return reference;
+				default:
+					return null;
+			}
+		}
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(property);
+
+		if (persistentEntity == null || !persistentEntity.isUserDefinedType()) {
+			return null;
+		}
+
+		DataType reference = new UserTypeReference(persistentEntity.getTableName());
+
+		if (property.isCollectionLike()) {
+			return (Set.class.isAssignableFrom(property.getType()) ? DataType.set(reference) : DataType.list(reference));
+		}
+
+		if (property.isMap()) {
+			return DataType.map(mappingContext.getDataType(property.getComponentType()), reference);
+		}
+
+		return reference;
+	}
+
+	/**
+	 * Determine user types and tables that do not exist in the current keyspace grouped by dependency level. User types
+	 * are ordered by the depth of their user type references, tables follow in a single level.
+	 */
+	private List<List<CassandraPersistentEntity<?>>> getMissingEntities() {
+
+		KeyspaceMetadata keyspaceMetadata = cassandraAdminOperations.getKeyspaceMetadata();
+		List<List<CassandraPersistentEntity<?>>> levels = new ArrayList<List<CassandraPersistentEntity<?>>>();
+		Map<CqlIdentifier, Integer> userTypeLevels = new HashMap<CqlIdentifier, Integer>();
+
+		for (CassandraPersistentEntity<?> entity : mappingContext.getUserDefinedTypeEntities()) {
+
+			int level = getUserTypeLevel(entity, userTypeLevels, new HashSet<CqlIdentifier>());
+
+			if (keyspaceMetadata == null || keyspaceMetadata.getUserType(entity.getTableName().toCql()) == null) {
+				getLevel(levels, level).add(entity);
+			}
+		}
+
+		List<CassandraPersistentEntity<?>> tables = new ArrayList<CassandraPersistentEntity<?>>();
+
+		for (CassandraPersistentEntity<?> entity : mappingContext.getTableEntities()) {
+			if (keyspaceMetadata == null || keyspaceMetadata.getTable(entity.getTableName().toCql()) == null) {
+				tables.add(entity);
+			}
+		}
+
+		levels.add(tables);
+
+		List<List<CassandraPersistentEntity<?>>> missing = new ArrayList<List<CassandraPersistentEntity<?>>>();
+
+		for (List<CassandraPersistentEntity<?>> level : levels) {
+			if (!level.isEmpty()) {
+				missing.add(level);
+			}
+		}
+
+		return missing;
+	}
+
+	private static List<CassandraPersistentEntity<?>> getLevel(List<List<CassandraPersistentEntity<?>>> levels,
+			int level) {
+
+		while (levels.size() <= level) {
+			levels.add(new ArrayList<CassandraPersistentEntity<?>>());
+		}
+
+		return levels.get(level);
+	}
+
+	/**
+	 * Determine the dependency level of a user type: {@literal 0} for user types without user type fields, otherwise
+	 * one more than the highest level of the user types it references.
+	 */
+	private int getUserTypeLevel(CassandraPersistentEntity<?> entity, final Map<CqlIdentifier, Integer> levels,
+			final Set<CqlIdentifier> visiting) {
+
+		Integer level = levels.get(entity.getTableName());
+
+		if (level != null) {
+			return level;
+		}
+
+		if (!visiting.add(entity.getTableName())) {
+			return 0;
+		}
+
+		final int[] maxDependencyLevel = { -1 };
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty persistentProperty) {
+
+				CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(persistentProperty);
+
+				if (persistentEntity != null && persistentEntity.isUserDefinedType()) {
+					maxDependencyLevel[0] = Math.max(maxDependencyLevel[0],
+							getUserTypeLevel(persistentEntity, levels, visiting));
+				}
+			}
+		});
+
+		levels.put(entity.getTableName(), maxDependencyLevel[0] + 1);
+
+		return maxDependencyLevel[0] + 1;
+	}
+
+	private void awaitSchemaAgreement() {
+
+		Cluster cluster = cassandraAdminOperations.getSession().getCluster();
+
+		if (cluster.getMetadata().checkSchemaAgreement()) {
+			return;
+		}
+
+		long timeout = System.currentTimeMillis()
+				+ Math.max(cluster.getConfiguration().getProtocolOptions().getMaxSchemaAgreementWaitSeconds(), 1) * 1000L;
+
+		while (System.currentTimeMillis() < timeout) {
+
+			try {
+				Thread.sleep(SCHEMA_AGREEMENT_POLL_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			if (cluster.getMetadata().checkSchemaAgreement()) {
+				return;
+			}
+		}
+
+		LOG.warn("No schema agreement reached after creating schema elements; continuing");
+	}
+
+	/**
+	 * Reference to a user type that is not yet present in the keyspace, rendered by its name.
+	 */
+	static class UserTypeReference extends DataType {
+
+		private final CqlIdentifier typeName;
+
+		UserTypeReference(CqlIdentifier typeName) {
+
+			super(Name.UDT);
+
+			this.typeName = typeName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.driver.core.DataType#isFrozen()
+		 */
+		@Override
+		public boolean isFrozen() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.driver.core.DataType#asFunctionParameterString()
+		 */
+		@Override
+		public String asFunctionParameterString() {
+			return typeName.toCql();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof UserTypeReference && typeName.equals(((UserTypeReference) obj).typeName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return typeName.hashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return typeName.toCql();
+		}
+	}
+
 	private void visitUserTypes(CassandraPersistentEntity<?> entity, final Set<CqlIdentifier> seen) {
 
 		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
@@ -25,6 +25,7 @@ import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.MaterializedViewMetadata;
 import com.datastax.driver.core.TableMetadata;
 import com.datastax.driver.core.UserType;
 
@@ -61,7 +62,7 @@ public class CassandraPersistentEntitySchemaDropper {
 	}
 
 	/**
-	 * Drop tables that exist in the keyspace.
+	 * Drop tables that exist in the keyspace. Materialized views of a table are dropped before the table.
 	 *
 	 * @param dropUnused {@literal true} to drop unused tables. Table usage is determined by existing table mappings.
 	 */
@@ -71,6 +72,11 @@ public class CassandraPersistentEntitySchemaDropper {
 
 		for (TableMetadata table : keyspaceMetadata.getTables()) {
 			if (dropUnused || mappingContext.usesTable(table)) {
+
+				for (MaterializedViewMetadata view : table.getViews()) {
+					cassandraAdminOperations.execute("DROP MATERIALIZED VIEW " + CqlIdentifier.cqlId(view.getName()).toCql());
+				}
+
 				cassandraAdminOperations.dropTable(CqlIdentifier.cqlId(table.getName()));
 			}
 		}
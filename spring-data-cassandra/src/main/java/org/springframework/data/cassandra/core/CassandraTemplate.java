@@ -16,16 +16,31 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.cassandra.core.AsynchronousQueryListener;
+import org.springframework.cassandra.core.CachedPreparedStatementCreator;
 import org.springframework.cassandra.core.Cancellable;
 import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.NullWriteStrategy;
 import org.springframework.cassandra.core.QueryForObjectListener;
 import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.ResultSetExtractor;
 import org.springframework.cassandra.core.RowCallback;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
@@ -35,20 +50,38 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.EntityWritePlan;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.data.cassandra.repository.MapIdentifiable;
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.util.Assert;
-
+import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
@@ -57,6 +90,8 @@ import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 
 /**
  * The CassandraTemplate is a convenient API for all Cassandra operations using POJOs with their Spring Data Cassandra
@@ -73,9 +108,60 @@ import com.datastax.driver.core.querybuilder.Update;
  */
 public class CassandraTemplate extends CqlTemplate implements CassandraOperations {
 
+	/**
+	 * Default number of rows converted on the calling thread before conversion is distributed.
+	 */
+	public static final int DEFAULT_PARALLEL_CONVERSION_THRESHOLD = 1000;
+
+	/**
+	 * Default number of single-partition reads in flight when selecting entities by their ids.
+	 */
+	public static final int DEFAULT_MULTI_GET_CONCURRENCY = 32;
+
+	/**
+	 * Default number of writes in flight when writing multiple entities declaring query tables.
+	 */
+	public static final int DEFAULT_WRITE_CONCURRENCY = 32;
+
+	private static final Cancellable NO_OP_CANCELLABLE = new Cancellable() {
+
+		@Override
+		public void cancel() {}
+	};
+
+	private static final RowCallback<Row> ROW_CALLBACK = new RowCallback<Row>() {
+
+		@Override
+		public Row doWith(Row row) {
+			return row;
+		}
+	};
+
 	protected CassandraConverter cassandraConverter;
 	protected CassandraMappingContext mappingContext;
 
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+	private final Map<List<Class<?>>, ProjectionColumns> projections = new ConcurrentHashMap<List<Class<?>>, ProjectionColumns>();
+	private final Map<List<Object>, String> partialUpdates = new ConcurrentHashMap<List<Object>, String>();
+	private final Map<List<Object>, String> preparedInserts = new ConcurrentHashMap<List<Object>, String>();
+	private final Map<List<Object>, String> selectsByPrimaryKey = new ConcurrentHashMap<List<Object>, String>();
+	private final Map<List<Object>, String> existsByPrimaryKey = new ConcurrentHashMap<List<Object>, String>();
+
+	private final TimeBucketResolver timeBuckets = new TimeBucketResolver(this);
+	private final ExistenceFilters existenceFilters = new ExistenceFilters(this);
+	private final EntityCaches entityCaches = new EntityCaches(this);
+	private final QueryTableWriter queryTableWriter = new QueryTableWriter(this);
+	private final ResultSetConverter resultSetConverter = new ResultSetConverter(this);
+	private final PagedQueryExecutor pagedQueryExecutor = new PagedQueryExecutor(this);
+
+	private volatile Boolean preparedUnsetInsertSupported;
+
+	private boolean changeTracking;
+	private volatile EntityChangeTracker changeTracker;
+
+	private int multiGetConcurrency = DEFAULT_MULTI_GET_CONCURRENCY;
+	private boolean preserveMultiGetOrder = true;
+
 	/**
 	 * Default constructor used to wire in the required components later.
 	 */
@@ -105,6 +191,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	public CassandraTemplate(Session session, CassandraConverter converter) {
 		setSession(session);
 		setConverter(resolveConverter(converter));
+		assertUserTypeCodecRegistry();
 	}
 
 	private static CassandraConverter resolveConverter(CassandraConverter cassandraConverter) {
@@ -131,6 +218,348 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		this.cassandraConverter = cassandraConverter;
 		this.mappingContext = cassandraConverter.getMappingContext();
+		this.projections.clear();
+		this.partialUpdates.clear();
+		this.preparedInserts.clear();
+		this.queryTableWriter.clear();
+		this.selectsByPrimaryKey.clear();
+		this.existsByPrimaryKey.clear();
+		this.entityCaches.clear();
+		this.preparedUnsetInsertSupported = null;
+		this.changeTracker = createChangeTracker();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cassandra.support.CassandraAccessor#setSession(com.datastax.driver.core.Session)
+	 */
+	@Override
+	public void setSession(Session session) {
+
+		super.setSession(session);
+		this.preparedUnsetInsertSupported = null;
+	}
+
+	/**
+	 * Enable or disable change tracking. With change tracking enabled, entities read through this template are
+	 * snapshotted and {@link #update(Object)} writes only the columns modified since the entity was read or last
+	 * updated. Updates of entities without modifications are skipped. Entities that are not tracked are updated with all
+	 * columns. Change tracking requires a {@link MappingCassandraConverter}.
+	 *
+	 * @param changeTracking {@literal true} to enable change tracking.
+	 * @since 1.6
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+
+		this.changeTracking = changeTracking;
+		this.changeTracker = createChangeTracker();
+	}
+
+	/**
+	 * @return {@literal true} if change tracking is enabled.
+	 * @since 1.6
+	 */
+	public boolean isChangeTracking() {
+		return changeTracking;
+	}
+
+	/**
+	 * @return the {@link EntityChangeTracker} if change tracking is enabled, otherwise {@literal null}.
+	 * @since 1.6
+	 */
+	public EntityChangeTracker getChangeTracker() {
+		return changeTracker;
+	}
+
+	/**
+	 * Register a generated {@link com.datastax.driver.core.TypeCodec} for each mapped user-defined type with the
+	 * {@link CodecRegistry} of the session. User-defined type values are then serialized
+	 * directly from and to their entity without an intermediate {@link com.datastax.driver.core.UDTValue}. Requires a
+	 * {@link MappingCassandraConverter} and a {@link Cluster} configured with a dedicated {@link CodecRegistry}; the
+	 * JVM-wide {@link CodecRegistry#DEFAULT_INSTANCE} is rejected. Templates sharing the converter must use sessions with
+	 * the same {@link CodecRegistry}.
+	 *
+	 * @since 1.6
+	 * @see MappingCassandraConverter#registerUserTypeCodecs(CodecRegistry)
+	 */
+	public void registerUserTypeCodecs() {
+
+		Assert.isInstanceOf(MappingCassandraConverter.class, cassandraConverter,
+				"Registering user type codecs requires a MappingCassandraConverter");
+
+		((MappingCassandraConverter) cassandraConverter)
+				.registerUserTypeCodecs(getSession().getCluster().getConfiguration().getCodecRegistry());
+	}
+
+	/**
+	 * Ensure that user type values the converter passes on as entities can be serialized by the session, which requires
+	 * the session to use the {@link CodecRegistry} the user type codecs were registered with.
+	 */
+	private void assertUserTypeCodecRegistry() {
+
+		if (!(cassandraConverter instanceof MappingCassandraConverter)) {
+			return;
+		}
+
+		CodecRegistry codecRegistry = ((MappingCassandraConverter) cassandraConverter)
+				.getUserTypeCodecRegistry();
+
+		Assert.state(codecRegistry == null
+				|| codecRegistry == getSession().getCluster().getConfiguration().getCodecRegistry(),
+				"CassandraConverter registered user type codecs with a CodecRegistry not used by the Session");
+	}
+
+	/**
+	 * Set the {@link Executor} used to convert rows of large result sets into entities. Without an {@link Executor}
+	 * (the default), rows are converted on the calling thread. With an {@link Executor}, the first
+	 * {@link #setParallelConversionThreshold(int) threshold} rows of a result set are converted on the calling thread
+	 * and remaining rows are converted in chunks on the {@link Executor} while the calling thread fetches further pages.
+	 * Results retain the order of the rows. Chunks the {@link Executor} has not started yet when their result is
+	 * required are converted on the calling thread, so selecting from a task running on the same bounded
+	 * {@link Executor} cannot deadlock. {@link java.util.concurrent.ForkJoinPool#commonPool()} is a suitable
+	 * {@link Executor} for most applications.
+	 *
+	 * @param conversionExecutor the {@link Executor}, may be {@literal null} to convert rows on the calling thread.
+	 * @since 1.6
+	 */
+	public void setConversionExecutor(Executor conversionExecutor) {
+		this.resultSetConverter.setExecutor(conversionExecutor);
+	}
+
+	/**
+	 * @return the {@link Executor} used to convert rows of large result sets, may be {@literal null}.
+	 * @since 1.6
+	 */
+	public Executor getConversionExecutor() {
+		return resultSetConverter.getExecutor();
+	}
+
+	/**
+	 * Set the number of rows converted on the calling thread before conversion of a result set is distributed across
+	 * the {@link #setConversionExecutor(Executor) conversion executor}. Defaults to
+	 * {@value #DEFAULT_PARALLEL_CONVERSION_THRESHOLD}.
+	 *
+	 * @param parallelConversionThreshold must not be negative.
+	 * @since 1.6
+	 */
+	public void setParallelConversionThreshold(int parallelConversionThreshold) {
+
+		Assert.isTrue(parallelConversionThreshold >= 0, "Parallel conversion threshold must not be negative");
+
+		this.resultSetConverter.setParallelConversionThreshold(parallelConversionThreshold);
+	}
+
+	/**
+	 * @return the number of rows converted on the calling thread before conversion is distributed.
+	 * @since 1.6
+	 */
+	public int getParallelConversionThreshold() {
+		return resultSetConverter.getParallelConversionThreshold();
+	}
+
+	/**
+	 * Set the {@link QueryTableWriteStrategy} used to write entities declaring
+	 * {@link org.springframework.data.cassandra.mapping.QueryTable query tables}. Defaults to
+	 * {@link QueryTableWriteStrategy#LOGGED_BATCH}.
+	 * <p>
+	 * Query table rows whose key columns were modified are deleted along with writing the row under its new key. The
+	 * previous key is taken from the snapshot of tracked entities. Previous keys of untracked entities are only known if
+	 * {@link #setReadQueryTableKeysBeforeUpdate(boolean) reading query table keys before updates} is enabled.
+	 *
+	 * @param queryTableWriteStrategy must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void setQueryTableWriteStrategy(QueryTableWriteStrategy queryTableWriteStrategy) {
+
+		Assert.notNull(queryTableWriteStrategy, "QueryTableWriteStrategy must not be null");
+
+		this.queryTableWriter.setWriteStrategy(queryTableWriteStrategy);
+	}
+
+	/**
+	 * @return the {@link QueryTableWriteStrategy}.
+	 * @since 1.6
+	 */
+	public QueryTableWriteStrategy getQueryTableWriteStrategy() {
+		return queryTableWriter.getWriteStrategy();
+	}
+
+	/**
+	 * Enable or disable reading the stored query table key columns of untracked entities before updating them. Query
+	 * table rows keyed by a modified key are only deleted if the previous key is known, which requires either
+	 * {@link #setChangeTracking(boolean) change tracking} or this read. The read is not isolated from concurrent writes
+	 * and adds a round trip to each update of an entity whose query table keys contain columns outside of its primary
+	 * key. Disabled by default, leaving query table rows keyed by a previous key of untracked entities in place.
+	 *
+	 * @param readQueryTableKeysBeforeUpdate {@literal true} to read stored query table keys before updates.
+	 * @since 1.6
+	 */
+	public void setReadQueryTableKeysBeforeUpdate(boolean readQueryTableKeysBeforeUpdate) {
+		this.queryTableWriter.setReadKeysBeforeUpdate(readQueryTableKeysBeforeUpdate);
+	}
+
+	/**
+	 * @return {@literal true} if stored query table keys of untracked entities are read before updates.
+	 * @since 1.6
+	 */
+	public boolean isReadQueryTableKeysBeforeUpdate() {
+		return queryTableWriter.isReadKeysBeforeUpdate();
+	}
+
+	/**
+	 * Set the maximum number of single-partition reads in flight when {@link #selectBySimpleIds(Class, Iterable)
+	 * selecting entities by their ids}. Defaults to {@value #DEFAULT_MULTI_GET_CONCURRENCY}.
+	 *
+	 * @param multiGetConcurrency must be greater than zero.
+	 * @since 1.6
+	 */
+	public void setMultiGetConcurrency(int multiGetConcurrency) {
+
+		Assert.isTrue(multiGetConcurrency > 0, "Multi-get concurrency must be greater than zero");
+
+		this.multiGetConcurrency = multiGetConcurrency;
+	}
+
+	/**
+	 * @return the maximum number of single-partition reads in flight when selecting entities by their ids.
+	 * @since 1.6
+	 */
+	public int getMultiGetConcurrency() {
+		return multiGetConcurrency;
+	}
+
+	/**
+	 * Set the maximum number of writes in flight when inserting, updating or deleting multiple entities declaring
+	 * {@link org.springframework.data.cassandra.mapping.QueryTable query tables}. Defaults to
+	 * {@value #DEFAULT_WRITE_CONCURRENCY}.
+	 *
+	 * @param writeConcurrency must be greater than zero.
+	 * @since 1.6
+	 */
+	public void setWriteConcurrency(int writeConcurrency) {
+
+		Assert.isTrue(writeConcurrency > 0, "Write concurrency must be greater than zero");
+
+		this.queryTableWriter.setWriteConcurrency(writeConcurrency);
+	}
+
+	/**
+	 * @return the maximum number of writes in flight when writing multiple entities declaring query tables.
+	 * @since 1.6
+	 */
+	public int getWriteConcurrency() {
+		return queryTableWriter.getWriteConcurrency();
+	}
+
+	/**
+	 * Configure whether {@link #selectBySimpleIds(Class, Iterable)} returns entities in the order of the given ids
+	 * (default). Disabling order preservation returns entities in the order their reads complete.
+	 *
+	 * @param preserveMultiGetOrder {@literal true} to return entities in the order of the given ids.
+	 * @since 1.6
+	 */
+	public void setPreserveMultiGetOrder(boolean preserveMultiGetOrder) {
+		this.preserveMultiGetOrder = preserveMultiGetOrder;
+	}
+
+	/**
+	 * @return {@literal true} if entities selected by their ids are returned in the order of the given ids.
+	 * @since 1.6
+	 */
+	public boolean isPreserveMultiGetOrder() {
+		return preserveMultiGetOrder;
+	}
+
+	/**
+	 * Enable a client-side Bloom filter of the primary keys present in the table of {@code entityClass} and build it
+	 * with {@link #rebuildExistenceFilter(Class) a token-range scan}. {@link #exists(Class, Object)} answers lookups of
+	 * keys the filter does not contain without querying Cassandra. Entities written through this template are recorded
+	 * in the filter before the write is executed and again once it completed, so writes in flight while the filter is
+	 * built or rebuilt are not lost.
+	 * <p>
+	 * The filter only reports absent keys correctly if all rows of the table are written through this template
+	 * instance. Rebuild the filter periodically if other clients or CQL statements write to the table. Deleted keys are
+	 * reported as possibly present, so they are looked up, until the filter is rebuilt.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param expectedKeys the number of keys expected in the table, must be greater than zero.
+	 * @param falsePositiveProbability the probability of looking up an absent key, must be between {@literal 0} and
+	 *          {@literal 1}, exclusive.
+	 * @since 1.6
+	 */
+	public void enableExistenceFilter(Class<?> entityClass, int expectedKeys, double falsePositiveProbability) {
+		existenceFilters.enable(getPersistentEntity(entityClass), expectedKeys, falsePositiveProbability);
+	}
+
+	/**
+	 * Disable the existence filter of {@code entityClass}.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void disableExistenceFilter(Class<?> entityClass) {
+		existenceFilters.disable(getPersistentEntity(entityClass));
+	}
+
+	/**
+	 * Rebuild the existence filter of {@code entityClass} by scanning the primary keys of its table token range by
+	 * token range. Entities written while the filter is rebuilt are recorded in the rebuilt filter as well. The current
+	 * filter is used until the scan completes and is kept if the scan fails.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @throws IllegalStateException if no existence filter is enabled for {@code entityClass}.
+	 * @since 1.6
+	 */
+	public void rebuildExistenceFilter(Class<?> entityClass) {
+		existenceFilters.rebuild(getPersistentEntity(entityClass));
+	}
+
+	/**
+	 * Enable caching the rows of {@code entityClass} read by {@link #selectOneById(Class, Object)} keyed by their
+	 * primary key. Entities written or deleted through this template or its {@link #batchOps() batches} are evicted
+	 * before the write is executed and again once the write completed. Truncating the table
+	 * evicts all cached entities. Enabling the cache again replaces the cache and its statistics.
+	 * <p>
+	 * Each lookup answered from the cache maps a new entity instance from the cached row, so returned entities may be
+	 * modified without affecting other callers. Rows written by other clients or by CQL statements are not evicted, and
+	 * a read running concurrently to a write may cache the previous state of the entity; choose {@code timeToLive} to
+	 * bound how long such entities are returned. Derived delete queries of repositories read and delete matching
+	 * entities one by one while the cache is enabled.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param maximumSize the maximum number of cached entities, must be greater than zero.
+	 * @param timeToLive the time after which a cached entity is evicted, zero to evict entities by size only.
+	 * @param timeUnit must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void enableEntityCache(Class<?> entityClass, long maximumSize, long timeToLive, TimeUnit timeUnit) {
+		entityCaches.enable(getPersistentEntity(entityClass), maximumSize, timeToLive, timeUnit);
+	}
+
+	/**
+	 * Disable the entity cache of {@code entityClass} and discard all cached entities.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void disableEntityCache(Class<?> entityClass) {
+		entityCaches.disable(getPersistentEntity(entityClass));
+	}
+
+	/**
+	 * @param entityClass must not be {@literal null}.
+	 * @return the {@link EntityCacheStatistics} of the entity cache of {@code entityClass}.
+	 * @throws IllegalStateException if no entity cache is enabled for {@code entityClass}.
+	 * @since 1.6
+	 */
+	public EntityCacheStatistics getEntityCacheStatistics(Class<?> entityClass) {
+		return entityCaches.getStatistics(getPersistentEntity(entityClass));
+	}
+
+	private EntityChangeTracker createChangeTracker() {
+
+		return (changeTracking && cassandraConverter instanceof MappingCassandraConverter
+				? new EntityChangeTracker((MappingCassandraConverter) cassandraConverter) : null);
 	}
 
 	/* (non-Javadoc)
@@ -168,8 +597,17 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(cassandraConverter, "CassandraConverter must not be null");
 		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
+
+		assertUserTypeCodecRegistry();
 	}
 
+	/**
+	 * Checks whether a row with the given {@code id} exists by selecting a single primary key column of the row with a
+	 * prepared statement. Ids the {@link #enableExistenceFilter(Class, int, double) existence filter} of
+	 * {@code entityClass} reports as absent are not looked up.
+	 *
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#exists(java.lang.Class, java.lang.Object)
+	 */
 	@Override
 	public boolean exists(Class<?> entityClass, Object id) {
 
@@ -177,13 +615,19 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.notNull(id, "Id must not be null");
 
 		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
-		Select select = QueryBuilder.select().countAll().from(entity.getTableName().toCql());
+		List<CassandraPersistentProperty> keyProperties = getPrimaryKeyProperties(entity);
 
-		cassandraConverter.write(id, select.where(), entity);
+		id = timeBuckets.withTimeBucket(entity, id);
+
+		Object[] key = getPrimaryKeyValues(entity, keyProperties, id);
 
-		Long count = queryForObject(select, Long.class);
+		if (!existenceFilters.mightContain(entity, key)) {
+			return false;
+		}
+
+		PreparedStatement preparedStatement = prepare(getExistsByPrimaryKeyCql(entity, keyProperties));
 
-		return count != 0;
+		return doExecute(preparedStatement.bind(key)).one() != null;
 	}
 
 	@Override
@@ -208,11 +652,133 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.notNull(id, "Id must not be null");
 
 		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+
+		id = timeBuckets.withTimeBucket(entity, id);
+
+		if (hasQueryTables(entity.getType())) {
+
+			Object stored = selectOneById(entity, entityClass, id);
+
+			if (stored != null) {
+				doDelete(stored, null);
+			}
+
+			return;
+		}
+
+		entityCaches.evictId(entity, id);
+		execute(createDeleteByIdQuery(entity, id));
+		entityCaches.evictId(entity, id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#deleteByIdAsynchronously(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public ListenableFuture<Void> deleteByIdAsynchronously(Class<?> entityClass, Object id) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+
+		id = timeBuckets.withTimeBucket(entity, id);
+
+		return doDeleteByIdAsync(entity, entityClass, id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#isEntityDeleteRequired(java.lang.Class)
+	 */
+	@Override
+	public boolean isEntityDeleteRequired(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+
+		return hasQueryTables(entity.getType()) || entityCaches.get(entity) != null;
+	}
+
+	private <T> ListenableFuture<Void> doDeleteByIdAsync(final CassandraPersistentEntity<?> entity,
+			Class<T> entityClass, final Object id) {
+
+		final SettableListenableFuture<Void> future = new SettableListenableFuture<Void>();
+
+		if (hasQueryTables(entity.getType())) {
+
+			doSelectOneAsync(createSelectByIdQuery(entity, id), entityClass, new QueryForObjectListener<T>() {
+
+				@Override
+				public void onQueryComplete(T stored) {
+
+					if (stored == null) {
+						future.set(null);
+						return;
+					}
+
+					doDeleteAsync(stored, new DeletionListener<T>() {
+
+						@Override
+						public void onDeletionComplete(Collection<T> entities) {
+							future.set(null);
+						}
+
+						@Override
+						public void onException(Exception x) {
+							future.setException(x);
+						}
+					}, null);
+				}
+
+				@Override
+				public void onException(Exception x) {
+					future.setException(x);
+				}
+			}, null);
+
+			return future;
+		}
+
+		entityCaches.evictId(entity, id);
+
+		executeAsynchronously(createDeleteByIdQuery(entity, id), new AsynchronousQueryListener() {
+
+			@Override
+			public void onQueryComplete(ResultSetFuture resultSetFuture) {
+
+				try {
+					resultSetFuture.getUninterruptibly();
+					entityCaches.evictId(entity, id);
+					future.set(null);
+				} catch (Exception x) {
+					entityCaches.evictId(entity, id);
+					future.setException(translateExceptionIfPossible(x));
+				}
+			}
+		});
+
+		return future;
+	}
+
+	private Delete createDeleteByIdQuery(CassandraPersistentEntity<?> entity, Object id) {
+
 		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
 
 		cassandraConverter.write(id, delete.where(), entity);
 
-		execute(delete);
+		return delete;
+	}
+
+	private Select createSelectByIdQuery(CassandraPersistentEntity<?> entity, Object id) {
+
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		cassandraConverter.write(id, select.where(), entity);
+
+		return select;
 	}
 
 	@Override
@@ -373,7 +939,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.hasText(cql, "CQL must not be empty");
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return select(cql, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		return select(cql, getRowCallback(entityClass));
 	}
 
 	@Override
@@ -382,31 +948,339 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.notNull(select, "Select must not be null");
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return select(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		return select(select, getRowCallback(entityClass));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
 	@Override
-	public <T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids) {
+	public <T> List<T> select(Statement statement, Class<T> entityClass) {
 
+		Assert.notNull(statement, "Statement must not be null");
 		Assert.notNull(entityClass, "EntityClass must not be null");
-		Assert.notNull(ids, "Ids must not be null");
 
-		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		return resultSetConverter.convert(doExecute(statement), getRowCallback(entityClass));
+	}
 
-		if (entity.getIdProperty() == null || entity.getIdProperty().isCompositePrimaryKey()) {
-			String typeName = (entity.getIdProperty() == null ? "Unknown"
-				: entity.getIdProperty().getCompositePrimaryKeyEntity().getType().getName());
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> select(Class<?> entityClass, Class<T> projectionType, Clause... clauses) {
 
-			throw new IllegalArgumentException(String.format(
-				"Entity class [%s] uses a composite primary key class [%s] which this method can't support",
-					entityClass.getName(), typeName));
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(projectionType, "Projection type must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		ProjectionColumns projection = getProjectionColumns(entity, projectionType);
+
+		Select select = projection.select(entity.getTableName());
+
+		if (clauses != null) {
+			for (Clause clause : clauses) {
+				select.where(clause);
+			}
 		}
 
-		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+		if (projection.isDirectMapping()) {
+			return select(select, projectionType);
+		}
+
+		List<?> entities = (projection.isPruned()
+				? select(select, new CassandraConverterRowCallback<Object>(cassandraConverter, (Class<Object>) entityClass))
+				: select(select, entityClass));
+
+		if (projectionType.isAssignableFrom(entityClass)) {
+			return (List<T>) entities;
+		}
+
+		if (!projectionType.isInterface()) {
+			throw new InvalidDataAccessApiUsageException(String.format("Cannot project entity [%s] onto [%s]",
+					entityClass.getName(), projectionType.getName()));
+		}
 
-		select.where(QueryBuilder.in(entity.getIdProperty().getColumnName().toCql(), CollectionUtils.toArray(ids)));
+		List<T> result = new ArrayList<T>(entities.size());
 
-		return select(select, entityClass);
+		for (Object element : entities) {
+			result.add(projectionFactory.createProjection(projectionType, element));
+		}
+
+		return result;
+	}
+
+	private ProjectionColumns getProjectionColumns(CassandraPersistentEntity<?> entity, Class<?> projectionType) {
+
+		List<Class<?>> cacheKey = Arrays.<Class<?>> asList(entity.getType(), projectionType);
+		ProjectionColumns projection = projections.get(cacheKey);
+
+		if (projection == null) {
+			projection = ProjectionColumns.create(mappingContext, entity, projectionType);
+			projections.put(cacheKey, projection);
+		}
+
+		return projection;
+	}
+
+	@Override
+	public <T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(ids, "Ids must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		List<CassandraPersistentProperty> keyProperties = getPrimaryKeyProperties(entity);
+		Set<List<Object>> distinctKeys = new LinkedHashSet<List<Object>>();
+
+		for (Object id : ids) {
+			distinctKeys.add(Arrays.asList(
+					getPrimaryKeyValues(entity, keyProperties, timeBuckets.withTimeBucket(entity, id))));
+		}
+
+		if (distinctKeys.isEmpty()) {
+			return new ArrayList<T>();
+		}
+
+		List<Object[]> keys = new ArrayList<Object[]>(distinctKeys.size());
+
+		for (List<Object> key : distinctKeys) {
+			keys.add(key.toArray());
+		}
+
+		PreparedStatement preparedStatement = prepare(getSelectByPrimaryKeyCql(entity, keyProperties));
+
+		return selectByPrimaryKeys(preparedStatement, keys, getRowCallback(entityClass));
+	}
+
+	/**
+	 * Return the properties mapped to the primary key columns of {@code entity} in declaration order.
+	 */
+	List<CassandraPersistentProperty> getPrimaryKeyProperties(CassandraPersistentEntity<?> entity) {
+
+		CassandraPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty != null && idProperty.isCompositePrimaryKey()) {
+			return idProperty.getCompositePrimaryKeyProperties();
+		}
+
+		final List<CassandraPersistentProperty> keyProperties = new ArrayList<CassandraPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isIdProperty() || property.isPrimaryKeyColumn()) {
+					keyProperties.add(property);
+				}
+			}
+		});
+
+		if (keyProperties.isEmpty()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Entity class [%s] declares no primary key", entity.getType().getName()));
+		}
+
+		return keyProperties;
+	}
+
+	/**
+	 * Extract the values of {@code keyProperties} from {@code id}. The id is either a {@link MapId}, an instance of the
+	 * composite primary key class or a simple id of an entity with a single primary key column.
+	 */
+	Object[] getPrimaryKeyValues(CassandraPersistentEntity<?> entity,
+			List<CassandraPersistentProperty> keyProperties, Object id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		Object source = (id instanceof MapIdentifiable ? ((MapIdentifiable) id).getMapId() : id);
+		CassandraPersistentProperty idProperty = entity.getIdProperty();
+		Object[] values = new Object[keyProperties.size()];
+
+		if (source instanceof MapId) {
+
+			MapId mapId = (MapId) source;
+
+			for (String name : mapId.keySet()) {
+
+				if (!containsProperty(keyProperties, name)) {
+					throw new InvalidDataAccessApiUsageException(String.format(
+							"MapId contains references [%s] that is not a primary key property of [%s]", name, entity.getName()));
+				}
+			}
+
+			for (int index = 0; index < values.length; index++) {
+				values[index] = mapId.get(keyProperties.get(index).getName());
+			}
+		} else if (idProperty != null && idProperty.isCompositePrimaryKey()) {
+
+			if (!ClassUtils.isAssignableValue(idProperty.getType(), source)) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Cannot use [%s] as composite Id for [%s]", source, entity.getName()));
+			}
+
+			PersistentPropertyAccessor accessor = idProperty.getCompositePrimaryKeyEntity().getPropertyAccessor(source);
+
+			for (int index = 0; index < values.length; index++) {
+				values[index] = accessor.getProperty(keyProperties.get(index));
+			}
+		} else if (values.length == 1) {
+			values[0] = source;
+		} else {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Cannot use [%s] as Id for [%s] with a primary key of multiple columns; use a MapId instead", source,
+					entity.getName()));
+		}
+
+		for (int index = 0; index < values.length; index++) {
+
+			CassandraPersistentProperty property = keyProperties.get(index);
+
+			if (values[index] == null) {
+				throw new InvalidDataAccessApiUsageException(String.format("Id [%s] contains no value for primary key [%s] of [%s]",
+						id, property.getName(), entity.getName()));
+			}
+
+			values[index] = cassandraConverter.convertToCassandraColumn(values[index], property.getTypeInformation());
+		}
+
+		return values;
+	}
+
+	private static boolean containsProperty(List<CassandraPersistentProperty> properties, String name) {
+
+		for (CassandraPersistentProperty property : properties) {
+			if (property.getName().equals(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private String getSelectByPrimaryKeyCql(CassandraPersistentEntity<?> entity,
+			List<CassandraPersistentProperty> keyProperties) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(entity.getType(), entity.getTableName());
+		String cql = selectsByPrimaryKey.get(cacheKey);
+
+		if (cql == null) {
+
+			Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+			for (CassandraPersistentProperty property : keyProperties) {
+				select.where(QueryBuilder.eq(property.getColumnName().toCql(), QueryBuilder.bindMarker()));
+			}
+
+			cql = select.toString();
+			selectsByPrimaryKey.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	private String getExistsByPrimaryKeyCql(CassandraPersistentEntity<?> entity,
+			List<CassandraPersistentProperty> keyProperties) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(entity.getType(), entity.getTableName());
+		String cql = existsByPrimaryKey.get(cacheKey);
+
+		if (cql == null) {
+
+			Select select = QueryBuilder.select(keyProperties.get(0).getColumnName().toCql())
+					.from(entity.getTableName().toCql());
+
+			for (CassandraPersistentProperty property : keyProperties) {
+				select.where(QueryBuilder.eq(property.getColumnName().toCql(), QueryBuilder.bindMarker()));
+			}
+
+			select.limit(1);
+
+			cql = select.toString();
+			existsByPrimaryKey.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	/**
+	 * Read each of the given primary {@code keys} with a single-partition read of {@code preparedStatement}. Bound
+	 * statements carry their routing key, so a token-aware load balancing policy sends each read to a replica owning the
+	 * partition. At most {@link #setMultiGetConcurrency(int) multi-get concurrency} reads are in flight at a time. Rows
+	 * are converted on the calling thread once all reads have completed.
+	 */
+	<T> List<T> selectByPrimaryKeys(PreparedStatement preparedStatement, List<Object[]> keys,
+			RowCallback<T> rowCallback) {
+
+		final boolean preserveOrder = this.preserveMultiGetOrder;
+		final int concurrency = Math.min(this.multiGetConcurrency, keys.size());
+		final Semaphore permits = new Semaphore(concurrency);
+		final ResultSet[] resultSets = new ResultSet[keys.size()];
+		final Queue<ResultSet> completed = new ConcurrentLinkedQueue<ResultSet>();
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(keys.size());
+
+		try {
+
+			for (int index = 0; index < keys.size(); index++) {
+
+				permits.acquire();
+
+				if (failure.get() != null) {
+					permits.release();
+					break;
+				}
+
+				final int position = index;
+				ResultSetFuture future = executeAsynchronously(preparedStatement.bind(keys.get(index)));
+				futures.add(future);
+
+				Futures.addCallback(future, new FutureCallback<ResultSet>() {
+
+					@Override
+					public void onSuccess(ResultSet resultSet) {
+
+						if (preserveOrder) {
+							resultSets[position] = resultSet;
+						} else {
+							completed.add(resultSet);
+						}
+
+						permits.release();
+					}
+
+					@Override
+					public void onFailure(Throwable throwable) {
+
+						failure.compareAndSet(null, throwable);
+						permits.release();
+					}
+				});
+			}
+
+			permits.acquire(concurrency);
+		} catch (InterruptedException e) {
+
+			for (ResultSetFuture future : futures) {
+				future.cancel(true);
+			}
+
+			Thread.currentThread().interrupt();
+			throw translateExceptionIfPossible(e);
+		}
+
+		if (failure.get() != null) {
+			throw translateExceptionIfPossible(failure.get());
+		}
+
+		List<T> result = new ArrayList<T>(keys.size());
+
+		for (ResultSet resultSet : (preserveOrder ? Arrays.asList(resultSets) : completed)) {
+			for (Row row : EmptyResultSet.nullSafeResultSet(resultSet)) {
+				result.add(rowCallback.doWith(row));
+			}
+		}
+
+		return result;
 	}
 
 	@Override
@@ -416,11 +1290,128 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.notNull(id, "Id must not be null");
 
 		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
-		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+		EntityCache entityCache = entityCaches.get(entity);
 
-		cassandraConverter.write(id, select.where(), entity);
+		id = timeBuckets.withTimeBucket(entity, id);
+
+		if (entityCache == null) {
+			return selectOneById(entity, entityClass, id);
+		}
+
+		Object[] key = getPrimaryKeyValues(entity, getPrimaryKeyProperties(entity), id);
+		Row row = entityCache.get(key);
+
+		if (row == null) {
+
+			row = selectOneRowById(entity, id);
+
+			if (row == null) {
+				return null;
+			}
+
+			entityCache.put(key, row);
+		}
+
+		return getRowCallback(entityClass).doWith(row);
+	}
+
+	private <T> T selectOneById(CassandraPersistentEntity<?> entity, Class<T> entityClass, Object id) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		Row row = selectOneRowById(entity, id);
+
+		return (row != null ? getRowCallback(entityClass).doWith(row) : null);
+	}
+
+	/**
+	 * Read the row of {@code id}. Concurrent reads of the same row may share the returned {@link Row}, which is mapped
+	 * by each caller.
+	 */
+	private Row selectOneRowById(CassandraPersistentEntity<?> entity, Object id) {
+
+		final Select select = createSelectByIdQuery(entity, id);
+
+		return doQueryCollapsed(select, new ResultSetExtractor<Row>() {
+
+			@Override
+			public Row extractData(ResultSet resultSet) {
+				return selectOne(resultSet, select, ROW_CALLBACK);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOneByIdAsynchronously(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public <T> ListenableFuture<T> selectOneByIdAsynchronously(final Class<T> entityClass, Object id) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		final EntityCache entityCache = entityCaches.get(entity);
+		final SettableListenableFuture<T> future = new SettableListenableFuture<T>();
+
+		id = timeBuckets.withTimeBucket(entity, id);
+
+		if (entityCache == null) {
+
+			doSelectOneAsync(createSelectByIdQuery(entity, id), entityClass, new QueryForObjectListener<T>() {
+
+				@Override
+				public void onQueryComplete(T result) {
+					future.set(result);
+				}
+
+				@Override
+				public void onException(Exception x) {
+					future.setException(x);
+				}
+			}, null);
+
+			return future;
+		}
+
+		final Object[] key = getPrimaryKeyValues(entity, getPrimaryKeyProperties(entity), id);
+		Row cached = entityCache.get(key);
+
+		if (cached != null) {
+
+			try {
+				future.set(getRowCallback(entityClass).doWith(cached));
+			} catch (RuntimeException e) {
+				future.setException(translateExceptionIfPossible(e));
+			}
+
+			return future;
+		}
+
+		final Select select = createSelectByIdQuery(entity, id);
+
+		queryAsynchronously(select, new AsynchronousQueryListener() {
+
+			@Override
+			public void onQueryComplete(ResultSetFuture resultSetFuture) {
+
+				try {
+
+					Row row = selectOne(resultSetFuture.getUninterruptibly(), select, ROW_CALLBACK);
+
+					if (row != null) {
+						entityCache.put(key, row);
+					}
+
+					future.set(row != null ? getRowCallback(entityClass).doWith(row) : null);
+				} catch (Exception e) {
+					future.setException(translateExceptionIfPossible(e));
+				}
+			}
+		});
 
-		return selectOne(select, entityClass);
+		return future;
 	}
 
 	@Deprecated
@@ -506,7 +1497,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return selectOne(cql, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		return selectOne(cql, getRowCallback(entityClass));
 	}
 
 	@Override
@@ -514,7 +1505,32 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return selectOne(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		return selectOne(select, getRowCallback(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
+	@Override
+	public <T> T selectOne(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		Iterator<Row> iterator = EmptyResultSet.nullSafeResultSet(doExecute(statement)).iterator();
+		T result = null;
+
+		if (iterator.hasNext()) {
+
+			result = getRowCallback(entityClass).doWith(iterator.next());
+
+			if (iterator.hasNext()) {
+				throw new DuplicateKeyException(String.format("found two or more results in query [%s]", statement));
+			}
+		}
+
+		return result;
 	}
 
 	@Override
@@ -590,22 +1606,20 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return doUpdateAsync(entity, listener, options);
 	}
 
-	protected <T> List<T> select(String query, CassandraConverterRowCallback<T> rowCallback) {
-		return processResultSet(doExecuteQueryReturnResultSet(query), rowCallback);
-	}
+	private <T> CassandraConverterRowCallback<T> getRowCallback(Class<T> entityClass) {
 
-	protected <T> List<T> select(Select query, CassandraConverterRowCallback<T> rowCallback) {
-		return processResultSet(doExecuteQueryReturnResultSet(query), rowCallback);
-	}
+		EntityChangeTracker changeTracker = this.changeTracker;
 
-	private <T> List<T> processResultSet(ResultSet resultSet, RowCallback<T> rowCallback) {
-		List<T> result = new ArrayList<T>();
+		return (changeTracker != null ? new TrackingRowCallback<T>(cassandraConverter, entityClass, changeTracker)
+				: new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+	}
 
-		for (Row row : EmptyResultSet.nullSafeResultSet(resultSet)) {
-			result.add(rowCallback.doWith(row));
-		}
+	protected <T> List<T> select(String query, CassandraConverterRowCallback<T> rowCallback) {
+		return resultSetConverter.convert(doExecuteQueryReturnResultSet(query), rowCallback);
+	}
 
-		return result;
+	protected <T> List<T> select(Select query, CassandraConverterRowCallback<T> rowCallback) {
+		return resultSetConverter.convert(doExecuteQueryReturnResultSet(query), rowCallback);
 	}
 
 	/*
@@ -624,38 +1638,99 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.cassandra.core.CassandraTemplate.ResultSetIteratorAdapter
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#stream(com.datastax.driver.core.Statement, java.lang.Class)
 	 */
-	@SuppressWarnings("unchecked")
-	private <T> Iterator<T> toIterator(ResultSet resultSet, Class<T> entityClass) {
+	@Override
+	public <T> Iterator<T> stream(Statement statement, Class<T> entityClass) {
 
-		return new ResultSetIteratorAdapter(resultSet.iterator(), getExceptionTranslator(),
-			new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		ResultSet resultSet = doExecute(statement);
+
+		return (resultSet != null ? toIterator(resultSet, entityClass) : Collections.<T>emptyIterator());
 	}
 
-	protected <T> T selectOne(String query, CassandraConverterRowCallback<T> rowCallback) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#slice(java.lang.String, org.springframework.data.domain.Pageable, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> slice(String cql, Pageable pageable, Class<T> entityClass) {
 
-		Iterator<Row> iterator = query(logCql(query)).iterator();
-		T result = null;
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		if (iterator.hasNext()) {
-			Row row = iterator.next();
+		return slice(new SimpleStatement(logCql(cql)), pageable, entityClass);
+	}
 
-			result = rowCallback.doWith(row);
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#slice(com.datastax.driver.core.Statement, org.springframework.data.domain.Pageable, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> slice(Statement statement, Pageable pageable, Class<T> entityClass) {
 
-			if (iterator.hasNext()) {
-				// TODO: this is not necessarily a duplicate key depending on the query predicate!
-				// TODO: should probably be IncorrectResultSizeDataAccessException
-				throw new DuplicateKeyException(String.format("found two or more results in query [%s]", query));
-			}
-		}
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return result;
+		return pagedQueryExecutor.slice(statement, pageable, getRowCallback(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectAsynchronously(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(String cql, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return selectAsynchronously(new SimpleStatement(logCql(cql)), entityClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectAsynchronously(com.datastax.driver.core.querybuilder.Select, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(Select select, Class<T> entityClass) {
+
+		Assert.notNull(select, "Select must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return selectAsynchronously((Statement) select, entityClass);
+	}
+
+	private <T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(Statement statement, Class<T> entityClass) {
+		return pagedQueryExecutor.selectAsynchronously(statement, getRowCallback(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraTemplate.ResultSetIteratorAdapter
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Iterator<T> toIterator(ResultSet resultSet, Class<T> entityClass) {
+
+		return new ResultSetIteratorAdapter(resultSet.iterator(), getExceptionTranslator(),
+			getRowCallback(entityClass));
+	}
+
+	protected <T> T selectOne(String query, CassandraConverterRowCallback<T> rowCallback) {
+		return selectOne(query(logCql(query)), query, rowCallback);
 	}
 
 	protected <T> T selectOne(Select query, CassandraConverterRowCallback<T> rowCallback) {
+		return selectOne(query(query), query, rowCallback);
+	}
+
+	private <T> T selectOne(ResultSet resultSet, Object query, RowCallback<T> rowCallback) {
 
-		Iterator<Row> iterator = query(query).iterator();
+		Iterator<Row> iterator = resultSet.iterator();
 		T result = null;
 
 		if (iterator.hasNext()) {
@@ -675,37 +1750,74 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 	// TODO: handle possible IndexOutOfBoundsException if the List of entities is empty
 	protected <T> void doBatchDelete(List<T> entities, QueryOptions options) {
-		execute(createDeleteBatchQuery(getTableName(entities.get(0).getClass()).toCql(), entities, options,
-			cassandraConverter));
+
+		timeBuckets.populate(entities);
+		entityCaches.evictEntities(entities);
+
+		if (hasQueryTables(entities.get(0).getClass())) {
+			queryTableWriter.executeAll(createBatchDeleteStatements(entities, options));
+		} else {
+			execute(createDeleteBatchQuery(getTableName(entities.get(0).getClass()).toCql(), entities, options,
+				cassandraConverter));
+		}
+
+		entityCaches.evictEntities(entities);
+
+		for (T entity : entities) {
+			untrack(entity);
+		}
 	}
 
 	// TODO: handle possible IndexOutOfBoundsException if the List of entities is empty
 	protected <T> Cancellable doBatchDeleteAsync(final List<T> entities, final DeletionListener<T> listener,
 			QueryOptions options) {
 
-		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
+		timeBuckets.populate(entities);
+		entityCaches.evictEntities(entities);
+
+		AsynchronousQueryListener queryListener = new AsynchronousQueryListener() {
 
 			@Override
 			public void onQueryComplete(ResultSetFuture resultSetFuture) {
 				try {
 					resultSetFuture.getUninterruptibly();
-					listener.onDeletionComplete(entities);
+
+					for (T entity : entities) {
+						untrack(entity);
+					}
+
+					if (listener != null) {
+						listener.onDeletionComplete(entities);
+					}
 				} catch (Exception e) {
-					listener.onException(translateExceptionIfPossible(e));
+					if (listener != null) {
+						listener.onException(translateExceptionIfPossible(e));
+					}
 				}
 			}
-		});
+		};
+
+		if (hasQueryTables(entities.get(0).getClass())) {
+			return queryTableWriter.executeAllAsynchronously(createBatchDeleteStatements(entities, options),
+					afterDeleteCompletion(entities, queryListener));
+		}
 
 		return executeAsynchronously(createDeleteBatchQuery(
 				getTableName(entities.get(0).getClass()).toCql(), entities, options, cassandraConverter),
-					queryListener);
+					afterDeleteCompletion(entities, queryListener));
 	}
 
 	protected <T> T doInsert(T entity, WriteOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createInsertQuery(entity, options));
+		timeBuckets.populate(entity);
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
+
+		queryTableWriter.execute(createInsertStatements(entity, options));
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
 
 		return entity;
 	}
@@ -714,14 +1826,110 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		timeBuckets.populate(entity);
+
 		return createInsertQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
+	/**
+	 * Create the insert {@link Statement} for {@code entity}. Entities using {@link NullWriteStrategy#UNSET} are inserted
+	 * with a prepared statement leaving {@literal null} values unset if the native protocol supports unset values.
+	 */
+	private Statement createInsertStatement(Object entity, WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+
+		if (persistentEntity == null) {
+			return createInsertQuery(entity, options);
+		}
+
+		NullWriteStrategy nullWriteStrategy = getNullWriteStrategy(entity, options);
+
+		if (nullWriteStrategy == NullWriteStrategy.UNSET && isPreparedUnsetInsertSupported()) {
+
+			EntityWritePlan writePlan = ((MappingCassandraConverter) cassandraConverter).getWritePlan(persistentEntity);
+			Integer ttl = (options != null ? options.getTtl() : null);
+
+			PreparedStatement preparedStatement = prepare(getPreparedInsertCql(writePlan, ttl != null));
+			BoundStatement boundStatement = writePlan.bind(preparedStatement, entity, NullWriteStrategy.UNSET);
+
+			if (ttl != null) {
+				boundStatement.setInt(writePlan.getColumnCount(), ttl);
+			}
+
+			return addQueryOptions(boundStatement, options);
+		}
+
+		return createInsertQuery(entity, options);
+	}
+
+	private String getPreparedInsertCql(EntityWritePlan writePlan, boolean withTtl) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(writePlan.getEntity().getType(), withTtl);
+		String cql = preparedInserts.get(cacheKey);
+
+		if (cql == null) {
+
+			Insert insert = QueryBuilder.insertInto(writePlan.getEntity().getTableName().toCql());
+
+			for (CqlIdentifier columnName : writePlan.getColumnNames()) {
+				insert.value(columnName.toCql(), QueryBuilder.bindMarker());
+			}
+
+			if (withTtl) {
+				insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+			}
+
+			cql = insert.toString();
+			preparedInserts.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	/**
+	 * Resolve once whether inserts can leave {@literal null} values unset. This requires a
+	 * {@link MappingCassandraConverter} and native protocol version 4 or higher. The outcome is cached as soon as the
+	 * protocol version has been negotiated.
+	 */
+	boolean isPreparedUnsetInsertSupported() {
+
+		Boolean supported = this.preparedUnsetInsertSupported;
+
+		if (supported != null) {
+			return supported;
+		}
+
+		if (!(cassandraConverter instanceof MappingCassandraConverter)) {
+			this.preparedUnsetInsertSupported = false;
+			return false;
+		}
+
+		Cluster cluster = getSession().getCluster();
+		ProtocolVersion protocolVersion = (cluster != null
+				? cluster.getConfiguration().getProtocolOptions().getProtocolVersion() : null);
+
+		if (protocolVersion == null) {
+			return false;
+		}
+
+		supported = protocolVersion.compareTo(ProtocolVersion.V4) >= 0;
+		this.preparedUnsetInsertSupported = supported;
+
+		return supported;
+	}
+
 	protected <T> Cancellable doInsertAsync(final T entity, final WriteListener<T> listener, WriteOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = createInsertQuery(entity, options);
+		timeBuckets.populate(entity);
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
+
+		List<Statement> statements = createInsertStatements(entity, options);
 
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 
@@ -737,7 +1945,8 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(insert, queryListener);
+		return queryTableWriter.executeAsynchronously(statements,
+				afterWriteCompletion(Collections.singletonList(entity), queryListener));
 	}
 
 	protected <T> List<T> doBatchInsert(List<T> entities, WriteOptions options) {
@@ -758,12 +1967,24 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			return entities;
 		}
 
-		String tableName = getTableName(entities.get(0).getClass()).toCql();
+		timeBuckets.populate(entities);
+		existenceFilters.recordPresentKeys(entities);
+		entityCaches.evictEntities(entities);
 
-		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
-				: createUpdateBatchQuery(tableName, entities, options, cassandraConverter));
+		if (hasQueryTables(entities.get(0).getClass())) {
+			queryTableWriter.executeAll(createBatchWriteStatements(entities, options, insert));
+		} else {
+
+			String tableName = getTableName(entities.get(0).getClass()).toCql();
+
+			Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
+					: createUpdateBatchQuery(tableName, entities, options, cassandraConverter));
+
+			execute(batch);
+		}
 
-		execute(batch);
+		existenceFilters.recordPresentKeys(entities);
+		entityCaches.evictEntities(entities);
 
 		return entities;
 	}
@@ -827,11 +2048,6 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			};
 		}
 
-		String tableName = getTableName(entities.get(0).getClass()).toCql();
-
-		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
-				: createUpdateBatchQuery(tableName, entities, options, cassandraConverter));
-
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 
 			@Override
@@ -845,54 +2061,135 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(batch, queryListener);
+		timeBuckets.populate(entities);
+		existenceFilters.recordPresentKeys(entities);
+		entityCaches.evictEntities(entities);
+
+		if (hasQueryTables(entities.get(0).getClass())) {
+			return queryTableWriter.executeAllAsynchronously(createBatchWriteStatements(entities, options, insert),
+					afterWriteCompletion(entities, queryListener));
+		}
+
+		String tableName = getTableName(entities.get(0).getClass()).toCql();
+
+		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
+				: createUpdateBatchQuery(tableName, entities, options, cassandraConverter));
+
+		return executeAsynchronously(batch, afterWriteCompletion(entities, queryListener));
 	}
 
 	<T> Delete createDeleteQuery(T entity, QueryOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		timeBuckets.populate(entity);
+
 		return createDeleteQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
 	protected <T> void doDelete(T entity, QueryOptions options) {
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createDeleteQuery(entity, options));
+		timeBuckets.populate(entity);
+		evictCachedEntity(entity);
+
+		queryTableWriter.execute(createDeleteStatements(entity, options));
+		evictCachedEntity(entity);
+		untrack(entity);
 	}
 
 	protected <T> Cancellable doDeleteAsync(final T entity, final DeletionListener<T> listener, QueryOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = createDeleteQuery(entity, options);
+		timeBuckets.populate(entity);
+		evictCachedEntity(entity);
 
-		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
+		List<Statement> statements = createDeleteStatements(entity, options);
+
+		AsynchronousQueryListener queryListener = new AsynchronousQueryListener() {
 			@Override
 			public void onQueryComplete(ResultSetFuture resultSetFuture) {
 				try {
 					resultSetFuture.getUninterruptibly();
-					listener.onDeletionComplete(Collections.singletonList(entity));
+					untrack(entity);
+
+					if (listener != null) {
+						listener.onDeletionComplete(Collections.singletonList(entity));
+					}
 				} catch (Exception x) {
-					listener.onException(translateExceptionIfPossible(x));
+					if (listener != null) {
+						listener.onException(translateExceptionIfPossible(x));
+					}
 				}
 			}
-		});
+		};
 
-		return executeAsynchronously(delete, queryListener);
+		return queryTableWriter.executeAsynchronously(statements,
+				afterDeleteCompletion(Collections.singletonList(entity), queryListener));
 	}
 
 	<T> Update createUpdateQuery(T entity, WriteOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		timeBuckets.populate(entity);
+
 		return createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
+	/**
+	 * Create the statements writing {@code entity} to the query tables of its type within a
+	 * {@link CassandraBatchOperations batch}. Rows keyed by a modified query table key are deleted for tracked entities.
+	 *
+	 * @param insert {@literal true} to apply the {@link NullWriteStrategy} of inserts, {@literal false} to write
+	 *          {@literal null} values as updates do.
+	 */
+	List<Statement> createBatchQueryTableWrites(Object entity, WriteOptions options, boolean insert) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		if (!hasQueryTables(entity.getClass())) {
+			return Collections.emptyList();
+		}
+
+		EntityChangeTracker.Changes changes = getTrackedChanges(entity);
+
+		return queryTableWriter.createWrites(entity, options,
+				insert ? getNullWriteStrategy(entity, options) : NullWriteStrategy.WRITE_NULL,
+				changes != null ? QueryTableWriter.getPreviousValues(changes) : null, null);
+	}
+
+	/**
+	 * Create the statements deleting {@code entity} from the query tables of its type within a
+	 * {@link CassandraBatchOperations batch}.
+	 */
+	List<Statement> createBatchQueryTableDeletes(Object entity, QueryOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return queryTableWriter.createDeletes(entity, options);
+	}
+
 	protected <T> T doUpdate(T entity, WriteOptions options) {
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createUpdateQuery(entity, options));
+		timeBuckets.populate(entity);
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
+
+		EntityChangeTracker changeTracker = this.changeTracker;
+		EntityChangeTracker.Changes changes = (changeTracker != null ? changeTracker.getChanges(entity) : null);
+
+		if (changes == null) {
+			queryTableWriter.execute(createUpdateStatements(entity, options, queryTableWriter.readStoredKey(entity)));
+		} else if (changes.hasChanges()) {
+			queryTableWriter.execute(createPartialUpdateStatements(entity, changes, options));
+			changeTracker.refresh(changes);
+		}
+
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
 
 		return entity;
 	}
@@ -901,6 +2198,17 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		timeBuckets.populate(entity);
+		recordPresentKey(entity);
+		evictCachedEntity(entity);
+
+		final EntityChangeTracker changeTracker = this.changeTracker;
+		final EntityChangeTracker.Changes changes = (changeTracker != null ? changeTracker.getChanges(entity) : null);
+
+		if (changes != null) {
+			return doPartialUpdateAsync(entity, changeTracker, changes, listener, options);
+		}
+
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 
 			@Override
@@ -915,7 +2223,348 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(createUpdateQuery(entity, options), queryListener);
+		return queryTableWriter.executeAsynchronously(
+				createUpdateStatements(entity, options, queryTableWriter.readStoredKey(entity)),
+				afterWriteCompletion(Collections.singletonList(entity), queryListener));
+	}
+
+	private <T> Cancellable doPartialUpdateAsync(final T entity, final EntityChangeTracker changeTracker,
+			final EntityChangeTracker.Changes changes, final WriteListener<T> listener, WriteOptions options) {
+
+		if (!changes.hasChanges()) {
+
+			if (listener != null) {
+				listener.onWriteComplete(Collections.singletonList(entity));
+			}
+
+			return NO_OP_CANCELLABLE;
+		}
+
+		AsynchronousQueryListener queryListener = new AsynchronousQueryListener() {
+
+			@Override
+			public void onQueryComplete(ResultSetFuture resultSetFuture) {
+				try {
+					resultSetFuture.getUninterruptibly();
+					changeTracker.refresh(changes);
+
+					if (listener != null) {
+						listener.onWriteComplete(Collections.singletonList(entity));
+					}
+				} catch (Exception x) {
+					if (listener != null) {
+						listener.onException(translateExceptionIfPossible(x));
+					}
+				}
+			}
+		};
+
+		return queryTableWriter.executeAsynchronously(createPartialUpdateStatements(entity, changes, options),
+				afterWriteCompletion(Collections.singletonList(entity), queryListener));
+	}
+
+	/**
+	 * Create a {@link BoundStatement} updating the modified columns captured by {@link EntityChangeTracker.Changes}.
+	 * Statements are prepared once per entity type and set of modified columns.
+	 */
+	BoundStatement createPartialUpdate(EntityChangeTracker.Changes changes, WriteOptions options) {
+
+		EntityWritePlan writePlan = changes.getWritePlan();
+		BitSet changedColumns = changes.getChangedColumns();
+		Integer ttl = (options != null ? options.getTtl() : null);
+
+		PreparedStatement preparedStatement = prepare(getPartialUpdateCql(writePlan, changedColumns, ttl != null));
+
+		List<Object> values = new ArrayList<Object>(writePlan.getColumnCount() + 1);
+
+		if (ttl != null) {
+			values.add(ttl);
+		}
+
+		for (int index = changedColumns.nextSetBit(0); index >= 0; index = changedColumns.nextSetBit(index + 1)) {
+			values.add(changes.getValue(index));
+		}
+
+		for (int index = 0; index < writePlan.getColumnCount(); index++) {
+			if (writePlan.isPrimaryKeyColumn(index)) {
+				values.add(changes.getValue(index));
+			}
+		}
+
+		return addQueryOptions(preparedStatement.bind(values.toArray()), options);
+	}
+
+	private String getPartialUpdateCql(EntityWritePlan writePlan, BitSet changedColumns, boolean withTtl) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(writePlan.getEntity().getType(), changedColumns, withTtl);
+		String cql = partialUpdates.get(cacheKey);
+
+		if (cql == null) {
+
+			Update update = QueryBuilder.update(writePlan.getEntity().getTableName().toCql());
+			List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+
+			if (withTtl) {
+				update.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+			}
+
+			for (int index = changedColumns.nextSetBit(0); index >= 0; index = changedColumns.nextSetBit(index + 1)) {
+				update.with(QueryBuilder.set(columnNames.get(index).toCql(), QueryBuilder.bindMarker()));
+			}
+
+			for (int index = 0; index < columnNames.size(); index++) {
+				if (writePlan.isPrimaryKeyColumn(index)) {
+					update.where(QueryBuilder.eq(columnNames.get(index).toCql(), QueryBuilder.bindMarker()));
+				}
+			}
+
+			cql = update.toString();
+			partialUpdates.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	/**
+	 * Returns whether {@code entityClass} declares query tables that are written along with its entity table.
+	 */
+	boolean hasQueryTables(Class<?> entityClass) {
+		return queryTableWriter.hasQueryTables(entityClass);
+	}
+
+	private EntityChangeTracker.Changes getTrackedChanges(Object entity) {
+
+		EntityChangeTracker changeTracker = this.changeTracker;
+
+		return (changeTracker != null ? changeTracker.getChanges(entity) : null);
+	}
+
+	private NullWriteStrategy getNullWriteStrategy(Object entity, WriteOptions options) {
+
+		if (options != null && options.getNullWriteStrategy() != null) {
+			return options.getNullWriteStrategy();
+		}
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+
+		return (persistentEntity != null ? persistentEntity.getNullWriteStrategy() : NullWriteStrategy.WRITE_NULL);
+	}
+
+	/**
+	 * Create the statements inserting {@code entity} into its table and query tables.
+	 */
+	private List<Statement> createInsertStatements(Object entity, WriteOptions options) {
+
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(createInsertStatement(entity, options));
+
+		if (hasQueryTables(entity.getClass())) {
+
+			EntityChangeTracker.Changes changes = getTrackedChanges(entity);
+
+			statements.addAll(queryTableWriter.createWrites(entity, options, getNullWriteStrategy(entity, options),
+					changes != null ? QueryTableWriter.getPreviousValues(changes) : null, null));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements updating all columns of {@code entity} in its table and query tables.
+	 *
+	 * @param storedValues column values of the stored row or {@literal null} if unknown.
+	 */
+	private List<Statement> createUpdateStatements(Object entity, WriteOptions options, Object[] storedValues) {
+
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(createUpdateQuery(entity, options));
+		statements.addAll(
+				queryTableWriter.createWrites(entity, options, NullWriteStrategy.WRITE_NULL, storedValues, null));
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements updating the modified columns captured by {@link EntityChangeTracker.Changes} in the table
+	 * and query tables of {@code entity}.
+	 */
+	private List<Statement> createPartialUpdateStatements(Object entity, EntityChangeTracker.Changes changes,
+			WriteOptions options) {
+
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(createPartialUpdate(changes, options));
+		statements.addAll(queryTableWriter.createWrites(entity, options, NullWriteStrategy.WRITE_NULL,
+				QueryTableWriter.getPreviousValues(changes), changes.getChangedColumns()));
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements deleting {@code entity} from its table and query tables.
+	 */
+	private List<Statement> createDeleteStatements(Object entity, QueryOptions options) {
+
+		List<Statement> statements = new ArrayList<Statement>();
+		statements.add(createDeleteQuery(entity, options));
+		statements.addAll(queryTableWriter.createDeletes(entity, options));
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements inserting or updating each of {@code entities} along with their query table rows. Stored
+	 * query table keys of untracked entities are read before updating them if
+	 * {@link #setReadQueryTableKeysBeforeUpdate(boolean) enabled}.
+	 */
+	private <T> List<List<Statement>> createBatchWriteStatements(List<T> entities, WriteOptions options,
+			boolean insert) {
+
+		List<List<Statement>> statements = new ArrayList<List<Statement>>(entities.size());
+
+		if (insert) {
+
+			for (T entity : entities) {
+				statements.add(createInsertStatements(entity, options));
+			}
+
+			return statements;
+		}
+
+		List<EntityChangeTracker.Changes> changes = new ArrayList<EntityChangeTracker.Changes>(entities.size());
+		List<T> untracked = new ArrayList<T>();
+
+		for (T entity : entities) {
+
+			EntityChangeTracker.Changes entityChanges = getTrackedChanges(entity);
+			changes.add(entityChanges);
+
+			if (entityChanges == null) {
+				untracked.add(entity);
+			}
+		}
+
+		Iterator<Object[]> storedValues = queryTableWriter.readStoredKeys(untracked).iterator();
+
+		for (int index = 0; index < entities.size(); index++) {
+
+			EntityChangeTracker.Changes entityChanges = changes.get(index);
+
+			statements.add(createUpdateStatements(entities.get(index), options,
+					entityChanges != null ? QueryTableWriter.getPreviousValues(entityChanges) : storedValues.next()));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements deleting each of {@code entities} along with their query table rows.
+	 */
+	private <T> List<List<Statement>> createBatchDeleteStatements(List<T> entities, QueryOptions options) {
+
+		List<List<Statement>> statements = new ArrayList<List<Statement>>(entities.size());
+
+		for (T entity : entities) {
+			statements.add(createDeleteStatements(entity, options));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Prepare {@code cql} once per {@link Session}.
+	 */
+	PreparedStatement prepare(String cql) {
+
+		try {
+			return new CachedPreparedStatementCreator(logCql(cql)).createPreparedStatement(getSession());
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	/**
+	 * Translate {@code throwable} raised by a collaborator of this template.
+	 */
+	RuntimeException translateException(Throwable throwable) {
+		return translateExceptionIfPossible(throwable);
+	}
+
+	/**
+	 * Record the primary key of {@code entity} in the existence filter of its table.
+	 *
+	 * @see ExistenceFilters#recordPresentKey(Object)
+	 */
+	void recordPresentKey(Object entity) {
+		existenceFilters.recordPresentKey(entity);
+	}
+
+	/**
+	 * Wrap {@code listener} to record the primary keys of the written {@code entities} in the existence filter and to
+	 * evict them from the entity cache again once the write completed.
+	 *
+	 * @param listener may be {@literal null}.
+	 */
+	private AsynchronousQueryListener afterWriteCompletion(final List<?> entities,
+			final AsynchronousQueryListener listener) {
+
+		return new AsynchronousQueryListener() {
+
+			@Override
+			public void onQueryComplete(ResultSetFuture resultSetFuture) {
+
+				existenceFilters.recordPresentKeys(entities);
+				entityCaches.evictEntities(entities);
+
+				if (listener != null) {
+					listener.onQueryComplete(resultSetFuture);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Wrap {@code listener} to evict the deleted {@code entities} from the entity cache again once the delete completed.
+	 *
+	 * @param listener may be {@literal null}.
+	 */
+	private AsynchronousQueryListener afterDeleteCompletion(final List<?> entities,
+			final AsynchronousQueryListener listener) {
+
+		return new AsynchronousQueryListener() {
+
+			@Override
+			public void onQueryComplete(ResultSetFuture resultSetFuture) {
+
+				entityCaches.evictEntities(entities);
+
+				if (listener != null) {
+					listener.onQueryComplete(resultSetFuture);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Evict {@code entity} from the entity cache of its table.
+	 */
+	void evictCachedEntity(Object entity) {
+		entityCaches.evictEntity(entity);
+	}
+
+	/**
+	 * Set the time bucket of {@code entity} from its timestamp.
+	 */
+	void populateTimeBucket(Object entity) {
+		timeBuckets.populate(entity);
+	}
+
+	private void untrack(Object entity) {
+
+		EntityChangeTracker changeTracker = this.changeTracker;
+
+		if (changeTracker != null) {
+			changeTracker.untrack(entity);
+		}
 	}
 
 	/*
@@ -944,8 +2593,13 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Assert.notNull(entityWriter, "EntityWriter must not be null");
 
 		Insert insert = addWriteOptions(QueryBuilder.insertInto(tableName), options);
+		NullWriteStrategy nullWriteStrategy = (options != null ? options.getNullWriteStrategy() : null);
 
-		entityWriter.write(objectToUpdate, insert);
+		if (nullWriteStrategy != null && entityWriter instanceof MappingCassandraConverter) {
+			((MappingCassandraConverter) entityWriter).write(objectToUpdate, insert, nullWriteStrategy);
+		} else {
+			entityWriter.write(objectToUpdate, insert);
+		}
 
 		return insert;
 	}
@@ -1106,6 +2760,18 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		truncate(getPersistentEntity(entityClass).getTableName());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cassandra.core.CqlTemplate#truncate(org.springframework.cassandra.core.cql.CqlIdentifier)
+	 */
+	@Override
+	public void truncate(CqlIdentifier tableName) {
+
+		entityCaches.evictTable(tableName);
+		super.truncate(tableName);
+		entityCaches.evictTable(tableName);
+	}
+
 	@Override
 	public <T> Cancellable selectOneAsynchronously(Select select, Class<T> type, QueryForObjectListener<T> listener) {
 		return selectOneAsynchronously(select, type, listener, null);
@@ -1130,7 +2796,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return doSelectOneAsync(cql, entityClass, listener, options);
 	}
 
-	private <T> CassandraPersistentEntity<?> getPersistentEntity(Class<T> entityClass) {
+	<T> CassandraPersistentEntity<?> getPersistentEntity(Class<T> entityClass) {
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
@@ -1161,7 +2827,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 					if (iterator.hasNext()) {
 						Row row = iterator.next();
 
-						T result = new CassandraConverterRowCallback<T>(cassandraConverter, entityClass).doWith(row);
+						T result = getRowCallback(entityClass).doWith(row);
 
 						if (iterator.hasNext()) {
 							// TODO: throw IncorrectResultSetSizeDataAccessException instead
@@ -1195,6 +2861,32 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		void doWithClause(Clause clause);
 	}
 
+	/**
+	 * {@link CassandraConverterRowCallback} registering read entities with an {@link EntityChangeTracker}.
+	 */
+	private static class TrackingRowCallback<T> extends CassandraConverterRowCallback<T> {
+
+		private final EntityChangeTracker changeTracker;
+
+		TrackingRowCallback(CassandraConverter reader, Class<T> type, EntityChangeTracker changeTracker) {
+
+			super(reader, type);
+			this.changeTracker = changeTracker;
+		}
+
+		@Override
+		public T doWith(Row row) {
+
+			T entity = super.doWith(row);
+
+			if (entity != null) {
+				changeTracker.track(entity, row.getColumnDefinitions());
+			}
+
+			return entity;
+		}
+	}
+
 	private static class ResultSetIteratorAdapter<T> implements Iterator<T>{
 
 		private final CassandraConverterRowCallback<T> rowCallback;
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.exceptions.DriverInternalError;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link ResultSetFuture} completing once all of the given {@link ResultSetFuture}s have completed. The composite
+ * completes with the {@link ResultSet} of the first future or with the first failure. Cancelling the composite cancels
+ * all futures.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class CompositeResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+	private final List<ResultSetFuture> futures;
+
+	CompositeResultSetFuture(List<ResultSetFuture> futures) {
+
+		Assert.notEmpty(futures, "ResultSetFutures must not be empty");
+
+		this.futures = new ArrayList<ResultSetFuture>(futures);
+
+		Futures.addCallback(Futures.allAsList(this.futures), new FutureCallback<List<ResultSet>>() {
+
+			@Override
+			public void onSuccess(List<ResultSet> resultSets) {
+				set(resultSets.get(0));
+			}
+
+			@Override
+			public void onFailure(Throwable throwable) {
+				setException(throwable);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.ResultSetFuture#getUninterruptibly()
+	 */
+	@Override
+	public ResultSet getUninterruptibly() {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(this);
+		} catch (ExecutionException e) {
+			throw propagateCause(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.ResultSetFuture#getUninterruptibly(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+		} catch (ExecutionException e) {
+			throw propagateCause(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see com.google.common.util.concurrent.AbstractFuture#cancel(boolean)
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+
+		if (!super.cancel(mayInterruptIfRunning)) {
+			return false;
+		}
+
+		for (ResultSetFuture future : futures) {
+			future.cancel(mayInterruptIfRunning);
+		}
+
+		return true;
+	}
+
+	static RuntimeException propagateCause(ExecutionException e) {
+
+		Throwable cause = e.getCause();
+
+		if (cause instanceof DriverException) {
+			return ((DriverException) cause).copy();
+		}
+
+		if (cause instanceof RuntimeException) {
+			return (RuntimeException) cause;
+		}
+
+		return new DriverInternalError("Unexpected exception thrown", cause);
+	}
+}
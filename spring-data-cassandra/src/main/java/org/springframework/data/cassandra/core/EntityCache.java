@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Cache of the rows of a single table keyed by their primary key column values. Rows are cached instead of entities so
+ * that each cache hit maps a new entity instance. Entries are evicted once the cache exceeds its maximum size or their
+ * time to live has elapsed.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class EntityCache {
+
+	private final Cache<List<Object>, Row> cache;
+
+	/**
+	 * Creates a new {@link EntityCache}.
+	 *
+	 * @param maximumSize the maximum number of cached entities, must be greater than zero.
+	 * @param timeToLive the time after which a cached entity is evicted, zero to evict entities by size only.
+	 * @param timeUnit must not be {@literal null}.
+	 */
+	EntityCache(long maximumSize, long timeToLive, TimeUnit timeUnit) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.isTrue(timeToLive >= 0, "Time to live must not be negative");
+		Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+
+		if (timeToLive > 0) {
+			builder.expireAfterWrite(timeToLive, timeUnit);
+		}
+
+		this.cache = builder.build();
+	}
+
+	/**
+	 * @param key the primary key column values.
+	 * @return the cached row or {@literal null} if no row is cached for {@code key}.
+	 */
+	Row get(Object[] key) {
+		return cache.getIfPresent(Arrays.asList(key));
+	}
+
+	/**
+	 * Cache {@code row} under {@code key}.
+	 *
+	 * @param key the primary key column values.
+	 * @param row must not be {@literal null}.
+	 */
+	void put(Object[] key, Row row) {
+		cache.put(Arrays.asList(key), row);
+	}
+
+	/**
+	 * Evict the row cached under {@code key}.
+	 *
+	 * @param key the primary key column values.
+	 */
+	void evict(Object[] key) {
+		cache.invalidate(Arrays.asList(key));
+	}
+
+	/**
+	 * Evict all cached rows.
+	 */
+	void evictAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return the {@link EntityCacheStatistics} of this cache.
+	 */
+	EntityCacheStatistics getStatistics() {
+
+		CacheStats stats = cache.stats();
+
+		return new EntityCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.size());
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+/**
+ * Snapshot of the statistics of an entity cache.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraTemplate#enableEntityCache(Class, long, long, java.util.concurrent.TimeUnit)
+ * @see CassandraTemplate#getEntityCacheStatistics(Class)
+ */
+public class EntityCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final long size;
+
+	EntityCacheStatistics(long hitCount, long missCount, long evictionCount, long size) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that queried Cassandra.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of entities evicted because the cache exceeded its maximum size or their time to live
+	 *         elapsed. Entities evicted by writes are not counted.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the approximate number of cached entities.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the ratio of lookups answered from the cache, {@literal 1.0} if no lookup was performed yet.
+	 */
+	public double getHitRatio() {
+
+		long lookupCount = hitCount + missCount;
+
+		return (lookupCount == 0 ? 1.0 : (double) hitCount / lookupCount);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Entity cache statistics [hits: %d, misses: %d, evictions: %d, size: %d]", hitCount,
+				missCount, evictionCount, size);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link EntityCache entity caches} of the entity types of a {@link CassandraTemplate}, keyed by the primary key
+ * column values of the cached rows.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class EntityCaches {
+
+	private final CassandraTemplate template;
+	private final Map<Class<?>, EntityCache> caches = new ConcurrentHashMap<Class<?>, EntityCache>();
+
+	/**
+	 * Creates new {@link EntityCaches} resolving keys through {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	EntityCaches(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * Enable the cache of {@code entity}, replacing a previously enabled cache and its statistics.
+	 *
+	 * @see CassandraTemplate#enableEntityCache(Class, long, long, TimeUnit)
+	 */
+	void enable(CassandraPersistentEntity<?> entity, long maximumSize, long timeToLive, TimeUnit timeUnit) {
+		caches.put(entity.getType(), new EntityCache(maximumSize, timeToLive, timeUnit));
+	}
+
+	void disable(CassandraPersistentEntity<?> entity) {
+		caches.remove(entity.getType());
+	}
+
+	/**
+	 * Discard all caches, used when the mapping metadata of the template changes.
+	 */
+	void clear() {
+		caches.clear();
+	}
+
+	/**
+	 * @return the cache of {@code entity} or {@literal null} if no cache is enabled.
+	 */
+	EntityCache get(CassandraPersistentEntity<?> entity) {
+		return caches.get(entity.getType());
+	}
+
+	/**
+	 * @throws IllegalStateException if no entity cache is enabled for {@code entity}.
+	 */
+	EntityCacheStatistics getStatistics(CassandraPersistentEntity<?> entity) {
+
+		EntityCache entityCache = caches.get(entity.getType());
+
+		Assert.state(entityCache != null, String.format("No entity cache enabled for [%s]", entity.getName()));
+
+		return entityCache.getStatistics();
+	}
+
+	/**
+	 * Evict {@code entity} from the cache of its table.
+	 */
+	void evictEntity(Object entity) {
+
+		if (caches.isEmpty()) {
+			return;
+		}
+
+		CassandraPersistentEntity<?> persistentEntity = template.getMappingContext()
+				.getPersistentEntity(entity.getClass());
+
+		if (persistentEntity != null) {
+			evictId(persistentEntity, template.getConverter().getId(entity, persistentEntity));
+		}
+	}
+
+	void evictEntities(List<?> entities) {
+
+		for (Object entity : entities) {
+			evictEntity(entity);
+		}
+	}
+
+	void evictId(CassandraPersistentEntity<?> entity, Object id) {
+
+		EntityCache entityCache = caches.get(entity.getType());
+
+		if (entityCache != null) {
+			entityCache.evict(template.getPrimaryKeyValues(entity, template.getPrimaryKeyProperties(entity), id));
+		}
+	}
+
+	/**
+	 * Evict all entities cached from {@code tableName}.
+	 */
+	void evictTable(CqlIdentifier tableName) {
+
+		for (Map.Entry<Class<?>, EntityCache> entry : caches.entrySet()) {
+			if (template.getPersistentEntity(entry.getKey()).getTableName().equals(tableName)) {
+				entry.getValue().evictAll();
+			}
+		}
+	}
+}
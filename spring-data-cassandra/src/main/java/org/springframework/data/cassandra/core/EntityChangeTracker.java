@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.convert.EntityWritePlan;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.LazyValue;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Tracks the column values of entity instances as last read from or written to Cassandra. Snapshots are taken with the
+ * {@link EntityWritePlan} of the entity and compared column by column to determine which columns were modified since.
+ * <p>
+ * Entities are tracked by identity and held weakly, so tracking does not prevent entities from being garbage collected.
+ * Collection and map values are copied when taking a snapshot to detect in-place modifications. {@link LazyValue}
+ * properties are not resolved for a snapshot; these are considered modified once the property refers to a different
+ * {@link LazyValue} instance.
+ * {@link EntityChangeTracker} is thread-safe.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraTemplate#setChangeTracking(boolean)
+ */
+public class EntityChangeTracker {
+
+	private final MappingCassandraConverter converter;
+	private final Map<Object, Object[]> snapshots = new MapMaker().weakKeys().makeMap();
+
+	/**
+	 * Creates a new {@link EntityChangeTracker} given {@link MappingCassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	public EntityChangeTracker(MappingCassandraConverter converter) {
+
+		Assert.notNull(converter, "MappingCassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Take a snapshot of the current column values of {@code entity}. Objects that are not mapped to a table are ignored.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	public void track(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		EntityWritePlan writePlan = getWritePlan(entity);
+
+		if (writePlan != null) {
+			snapshots.put(entity, snapshot(writePlan, writePlan.getUnresolvedValues(entity)));
+		}
+	}
+
+	/**
+	 * Take a snapshot of the current column values of {@code entity} read from a row with the given
+	 * {@link ColumnDefinitions}. Entities read from a subset of their columns are not tracked as their snapshot would
+	 * not reflect the stored state of the missing columns.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columns must not be {@literal null}.
+	 * @return {@literal true} if {@code entity} is tracked.
+	 */
+	public boolean track(Object entity, ColumnDefinitions columns) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(columns, "ColumnDefinitions must not be null");
+
+		EntityWritePlan writePlan = getWritePlan(entity);
+
+		if (writePlan == null) {
+			return false;
+		}
+
+		if (!containsAllColumns(writePlan, columns)) {
+			snapshots.remove(entity);
+			return false;
+		}
+
+		snapshots.put(entity, snapshot(writePlan, writePlan.getUnresolvedValues(entity)));
+
+		return true;
+	}
+
+	private static boolean containsAllColumns(EntityWritePlan writePlan, ColumnDefinitions columns) {
+
+		for (CqlIdentifier columnName : writePlan.getColumnNames()) {
+			if (!columns.contains(columnName.toCql())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Discard the snapshot of {@code entity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	public void untrack(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		snapshots.remove(entity);
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if a snapshot of {@code entity} exists.
+	 */
+	public boolean isTracked(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return snapshots.containsKey(entity);
+	}
+
+	/**
+	 * Discard all snapshots.
+	 */
+	public void clear() {
+		snapshots.clear();
+	}
+
+	/**
+	 * Determine the columns of {@code entity} that were modified since its snapshot was taken.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link Changes} or {@literal null} if {@code entity} is not tracked or one of its primary key columns
+	 *         was modified.
+	 */
+	public Changes getChanges(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		Object[] snapshot = snapshots.get(entity);
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		EntityWritePlan writePlan = getWritePlan(entity);
+		Object[] values = writePlan.getUnresolvedValues(entity);
+		BitSet changedColumns = new BitSet(values.length);
+
+		for (int index = 0; index < values.length; index++) {
+
+			if (writePlan.isLazyColumn(index) ? values[index] == snapshot[index]
+					: ObjectUtils.nullSafeEquals(values[index], snapshot[index])) {
+				continue;
+			}
+
+			if (writePlan.isPrimaryKeyColumn(index)) {
+				return null;
+			}
+
+			changedColumns.set(index);
+		}
+
+		return new Changes(entity, writePlan, snapshot, values, changedColumns);
+	}
+
+	/**
+	 * Replace the snapshot of the entity with the column values captured by {@link Changes} after these were written.
+	 *
+	 * @param changes must not be {@literal null}.
+	 */
+	public void refresh(Changes changes) {
+
+		Assert.notNull(changes, "Changes must not be null");
+
+		snapshots.put(changes.entity, snapshot(changes.writePlan, changes.values));
+	}
+
+	private EntityWritePlan getWritePlan(Object entity) {
+
+		CassandraPersistentEntity<?> persistentEntity = converter.getMappingContext()
+				.getPersistentEntity(entity.getClass());
+
+		if (persistentEntity == null || persistentEntity.isUserDefinedType()) {
+			return null;
+		}
+
+		return converter.getWritePlan(persistentEntity);
+	}
+
+	private static Object[] snapshot(EntityWritePlan writePlan, Object[] values) {
+
+		Object[] snapshot = new Object[values.length];
+
+		for (int index = 0; index < values.length; index++) {
+			snapshot[index] = (writePlan.isLazyColumn(index) ? values[index] : copy(values[index]));
+		}
+
+		return snapshot;
+	}
+
+	private static Object copy(Object value) {
+
+		if (value instanceof List) {
+			return new ArrayList<Object>((List<?>) value);
+		}
+
+		if (value instanceof Set) {
+			return new LinkedHashSet<Object>((Set<?>) value);
+		}
+
+		if (value instanceof Map) {
+			return new LinkedHashMap<Object, Object>((Map<?, ?>) value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Modified columns of a tracked entity along with the current column values in the order of
+	 * {@link EntityWritePlan#getColumnNames()}.
+	 */
+	public static class Changes {
+
+		private final Object entity;
+		private final EntityWritePlan writePlan;
+		private final Object[] snapshot;
+		private final Object[] values;
+		private final BitSet changedColumns;
+
+		private Changes(Object entity, EntityWritePlan writePlan, Object[] snapshot, Object[] values,
+				BitSet changedColumns) {
+
+			this.entity = entity;
+			this.writePlan = writePlan;
+			this.snapshot = snapshot;
+			this.values = values;
+			this.changedColumns = changedColumns;
+		}
+
+		/**
+		 * @return the {@link EntityWritePlan} used to capture the column values.
+		 */
+		public EntityWritePlan getWritePlan() {
+			return writePlan;
+		}
+
+		/**
+		 * @return {@literal true} if at least one column was modified.
+		 */
+		public boolean hasChanges() {
+			return !changedColumns.isEmpty();
+		}
+
+		/**
+		 * @param index column index.
+		 * @return {@literal true} if the column at {@code index} was modified.
+		 */
+		public boolean isChanged(int index) {
+			return changedColumns.get(index);
+		}
+
+		/**
+		 * @return the indexes of modified columns.
+		 */
+		public BitSet getChangedColumns() {
+			return (BitSet) changedColumns.clone();
+		}
+
+		/**
+		 * @param index column index.
+		 * @return the current value of the column at {@code index}.
+		 */
+		public Object getValue(int index) {
+			return (writePlan.isLazyColumn(index) ? writePlan.getLazyColumnValue(index, values[index]) : values[index]);
+		}
+
+		/**
+		 * @param index column index.
+		 * @return the value of the column at {@code index} when the snapshot was taken.
+		 */
+		public Object getPreviousValue(int index) {
+			return (writePlan.isLazyColumn(index) ? writePlan.getLazyColumnValue(index, snapshot[index]) : snapshot[index]);
+		}
+	}
+}
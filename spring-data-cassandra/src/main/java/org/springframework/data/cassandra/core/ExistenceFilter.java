@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.util.Assert;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.PrimitiveSink;
+
+/**
+ * Client-side Bloom filter of the primary keys known to be present in a table. A key the filter does not contain is
+ * definitely absent as long as all writes to the table are recorded in the filter; a key the filter contains may be
+ * present and must be looked up. Deleted keys are not removed from the filter, they remain possibly present until the
+ * filter is rebuilt.
+ * <p>
+ * The filter answers {@link #mightContain(Object[])} with {@literal true} until it has been built for the first time.
+ * Keys recorded while the filter is rebuilt are recorded in both the current and the rebuilt filter so no write is
+ * lost when the rebuilt filter replaces the current one. Writers record a key again once their write completed since
+ * a rebuild may scan the key's token range while the write is still in flight.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class ExistenceFilter {
+
+	private final int expectedKeys;
+	private final double falsePositiveProbability;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private BloomFilter<Object[]> filter;
+	private BloomFilter<Object[]> rebuilding;
+
+	/**
+	 * Creates a new {@link ExistenceFilter}.
+	 *
+	 * @param expectedKeys the number of keys expected in the table, must be greater than zero.
+	 * @param falsePositiveProbability the probability of reporting an absent key as possibly present, must be between
+	 *          {@literal 0} and {@literal 1}, exclusive.
+	 */
+	ExistenceFilter(int expectedKeys, double falsePositiveProbability) {
+
+		Assert.isTrue(expectedKeys > 0, "Expected keys must be greater than zero");
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"False positive probability must be between 0 and 1");
+
+		this.expectedKeys = expectedKeys;
+		this.falsePositiveProbability = falsePositiveProbability;
+	}
+
+	/**
+	 * @param key the primary key column values.
+	 * @return {@literal false} if {@code key} is definitely absent, {@literal true} if it may be present.
+	 */
+	boolean mightContain(Object[] key) {
+
+		lock.readLock().lock();
+
+		try {
+			return filter == null || filter.mightContain(key);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Record {@code key} as present.
+	 *
+	 * @param key the primary key column values.
+	 */
+	void put(Object[] key) {
+
+		lock.writeLock().lock();
+
+		try {
+
+			if (filter != null) {
+				filter.put(key);
+			}
+
+			if (rebuilding != null) {
+				rebuilding.put(key);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Start rebuilding the filter. Keys read while rebuilding are added with
+	 * {@link #putRebuilding(BloomFilter, Object[])}.
+	 *
+	 * @return the filter being rebuilt.
+	 */
+	BloomFilter<Object[]> startRebuild() {
+
+		lock.writeLock().lock();
+
+		try {
+			rebuilding = BloomFilter.create(KeyFunnel.INSTANCE, expectedKeys, falsePositiveProbability);
+			return rebuilding;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Record {@code key} as present in the filter being rebuilt.
+	 *
+	 * @param rebuild the filter returned by {@link #startRebuild()}.
+	 * @param key the primary key column values.
+	 */
+	void putRebuilding(BloomFilter<Object[]> rebuild, Object[] key) {
+
+		lock.writeLock().lock();
+
+		try {
+			if (rebuilding == rebuild) {
+				rebuilding.put(key);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Replace the current filter with the rebuilt filter unless a later rebuild has been started in the meantime.
+	 *
+	 * @param rebuild the filter returned by {@link #startRebuild()}.
+	 */
+	void completeRebuild(BloomFilter<Object[]> rebuild) {
+
+		lock.writeLock().lock();
+
+		try {
+			if (rebuilding == rebuild) {
+				filter = rebuilding;
+				rebuilding = null;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Discard the filter being rebuilt and keep the current filter.
+	 *
+	 * @param rebuild the filter returned by {@link #startRebuild()}.
+	 */
+	void abortRebuild(BloomFilter<Object[]> rebuild) {
+
+		lock.writeLock().lock();
+
+		try {
+			if (rebuilding == rebuild) {
+				rebuilding = null;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * {@link Funnel} for primary key column values as read from or written to Cassandra.
+	 */
+	enum KeyFunnel implements Funnel<Object[]> {
+
+		INSTANCE;
+
+		@Override
+		public void funnel(Object[] key, PrimitiveSink into) {
+
+			for (Object value : key) {
+
+				if (value instanceof CharSequence) {
+
+					CharSequence chars = (CharSequence) value;
+					into.putInt(chars.length()).putUnencodedChars(chars);
+				} else if (value instanceof Long || value instanceof Integer || value instanceof Short
+						|| value instanceof Byte) {
+					into.putLong(((Number) value).longValue());
+				} else if (value instanceof UUID) {
+					into.putLong(((UUID) value).getMostSignificantBits()).putLong(((UUID) value).getLeastSignificantBits());
+				} else if (value instanceof ByteBuffer) {
+
+					ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+					byte[] bytes = new byte[buffer.remaining()];
+					buffer.get(bytes);
+					into.putInt(bytes.length).putBytes(bytes);
+				} else {
+					into.putInt(value != null ? value.hashCode() : 0);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.querybuilder.Clause;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.hash.BloomFilter;
+
+/**
+ * The {@link ExistenceFilter existence filters} of the entity types of a {@link CassandraTemplate}. Filters are built
+ * by scanning the primary keys of their table token range by token range and record the keys of entities written
+ * through the template.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class ExistenceFilters {
+
+	private final CassandraTemplate template;
+	private final Map<Class<?>, ExistenceFilter> filters = new ConcurrentHashMap<Class<?>, ExistenceFilter>();
+
+	/**
+	 * Creates new {@link ExistenceFilters} scanning and recording keys through {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	ExistenceFilters(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * Enable the filter of {@code entity} and build it.
+	 *
+	 * @see CassandraTemplate#enableExistenceFilter(Class, int, double)
+	 */
+	void enable(CassandraPersistentEntity<?> entity, int expectedKeys, double falsePositiveProbability) {
+
+		filters.put(entity.getType(), new ExistenceFilter(expectedKeys, falsePositiveProbability));
+
+		rebuild(entity);
+	}
+
+	void disable(CassandraPersistentEntity<?> entity) {
+		filters.remove(entity.getType());
+	}
+
+	/**
+	 * Rebuild the filter of {@code entity}. The current filter is used until the scan completes and is kept if the scan
+	 * fails.
+	 *
+	 * @throws IllegalStateException if no existence filter is enabled for {@code entity}.
+	 */
+	void rebuild(CassandraPersistentEntity<?> entity) {
+
+		ExistenceFilter filter = filters.get(entity.getType());
+
+		Assert.state(filter != null, String.format("No existence filter enabled for [%s]", entity.getName()));
+
+		BloomFilter<Object[]> rebuild = filter.startRebuild();
+		boolean completed = false;
+
+		try {
+			scanPrimaryKeys(entity, filter, rebuild);
+			completed = true;
+		} finally {
+			if (completed) {
+				filter.completeRebuild(rebuild);
+			} else {
+				filter.abortRebuild(rebuild);
+			}
+		}
+	}
+
+	/**
+	 * @param key the primary key column values.
+	 * @return {@literal false} if {@code key} is definitely absent from the table of {@code entity}, {@literal true} if
+	 *         it may be present or no filter is enabled.
+	 */
+	boolean mightContain(CassandraPersistentEntity<?> entity, Object[] key) {
+
+		ExistenceFilter filter = filters.get(entity.getType());
+
+		return filter == null || filter.mightContain(key);
+	}
+
+	/**
+	 * Record the primary key of {@code entity} in the filter of its table. Keys are recorded before the entity is
+	 * written and again once the write completed: a rebuild started while the write is in flight may scan the token
+	 * range of the key before the write is applied, and the filter may not exist yet when the write starts.
+	 */
+	void recordPresentKey(Object entity) {
+
+		if (filters.isEmpty()) {
+			return;
+		}
+
+		CassandraPersistentEntity<?> persistentEntity = template.getMappingContext()
+				.getPersistentEntity(entity.getClass());
+		ExistenceFilter filter = (persistentEntity != null ? filters.get(persistentEntity.getType()) : null);
+
+		if (filter != null) {
+			filter.put(template.getPrimaryKeyValues(persistentEntity, template.getPrimaryKeyProperties(persistentEntity),
+					template.getConverter().getId(entity, persistentEntity)));
+		}
+	}
+
+	void recordPresentKeys(List<?> entities) {
+
+		for (Object entity : entities) {
+			recordPresentKey(entity);
+		}
+	}
+
+	/**
+	 * Read the primary keys of the table of {@code entity} into {@code rebuild} with one query per token range.
+	 */
+	private void scanPrimaryKeys(CassandraPersistentEntity<?> entity, ExistenceFilter filter,
+			BloomFilter<Object[]> rebuild) {
+
+		List<CassandraPersistentProperty> keyProperties = template.getPrimaryKeyProperties(entity);
+		List<String> keyColumns = new ArrayList<String>(keyProperties.size());
+		List<String> partitionKeyColumns = new ArrayList<String>();
+
+		for (CassandraPersistentProperty property : keyProperties) {
+
+			keyColumns.add(property.getColumnName().toCql());
+
+			if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+				partitionKeyColumns.add(property.getColumnName().toCql());
+			}
+		}
+
+		String[] columns = keyColumns.toArray(new String[keyColumns.size()]);
+		String tableName = entity.getTableName().toCql();
+		String token = QueryBuilder.token(partitionKeyColumns.toArray(new String[partitionKeyColumns.size()]));
+
+		for (TokenRange range : template.getSession().getCluster().getMetadata().getTokenRanges()) {
+
+			int comparison = range.getStart().compareTo(range.getEnd());
+
+			if (comparison < 0) {
+				scanPrimaryKeys(createKeyScan(columns, tableName, QueryBuilder.gt(token, QueryBuilder.bindMarker()),
+						QueryBuilder.lte(token, QueryBuilder.bindMarker())), filter, rebuild, range.getStart(), range.getEnd());
+			} else if (comparison > 0) {
+
+				// range wraps around the end of the ring
+				scanPrimaryKeys(createKeyScan(columns, tableName, QueryBuilder.gt(token, QueryBuilder.bindMarker())), filter,
+						rebuild, range.getStart());
+				scanPrimaryKeys(createKeyScan(columns, tableName, QueryBuilder.lte(token, QueryBuilder.bindMarker())), filter,
+						rebuild, range.getEnd());
+			} else {
+
+				// single range spanning the whole ring
+				scanPrimaryKeys(createKeyScan(columns, tableName), filter, rebuild);
+			}
+		}
+	}
+
+	private static Select createKeyScan(String[] columns, String tableName, Clause... clauses) {
+
+		Select select = QueryBuilder.select(columns).from(tableName);
+
+		for (Clause clause : clauses) {
+			select.where(clause);
+		}
+
+		return select;
+	}
+
+	private void scanPrimaryKeys(Select select, ExistenceFilter filter, BloomFilter<Object[]> rebuild,
+			Token... tokens) {
+
+		BoundStatement statement = template.prepare(select.toString()).bind();
+
+		for (int index = 0; index < tokens.length; index++) {
+			statement.setToken(index, tokens[index]);
+		}
+
+		for (Row row : template.query(statement)) {
+
+			Object[] key = new Object[row.getColumnDefinitions().size()];
+
+			for (int index = 0; index < key.length; index++) {
+				key[index] = row.getObject(index);
+			}
+
+			filter.putRebuilding(rebuild, key);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.cassandra.core.RowCallback;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * Executes queries of a {@link CassandraTemplate} page by page, either as {@link Slice slices} resumed from a
+ * {@link PagingState} or as {@link AsyncCursor asynchronous cursors} fetching pages on demand.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class PagedQueryExecutor {
+
+	private final CassandraTemplate template;
+
+	/**
+	 * Creates a new {@link PagedQueryExecutor} executing queries with {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	PagedQueryExecutor(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * Fetch the page of {@code statement} described by {@code pageable}. The fetch size and paging state of
+	 * {@code statement} are restored once the page was fetched.
+	 *
+	 * @throws InvalidDataAccessApiUsageException if a page other than the first is requested without a paging state.
+	 * @see CassandraOperations#slice(Statement, Pageable, Class)
+	 */
+	<T> Slice<T> slice(Statement statement, Pageable pageable, RowCallback<T> rowCallback) {
+
+		PagingState pagingState = (pageable instanceof CassandraPageRequest
+				? ((CassandraPageRequest) pageable).getPagingState() : null);
+
+		if (pagingState == null && pageable.getPageNumber() > 0) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Cannot request page [%d] without a paging state; resume the query using Slice.nextPageable()",
+					pageable.getPageNumber()));
+		}
+
+		int fetchSize = statement.getFetchSize();
+		ResultSet resultSet;
+
+		statement.setFetchSize(pageable.getPageSize());
+		statement.setPagingState(pagingState);
+
+		try {
+			resultSet = template.query(statement);
+		} finally {
+			statement.setFetchSize(fetchSize);
+			statement.setPagingState(null);
+		}
+
+		int available = resultSet.getAvailableWithoutFetching();
+		List<T> content = new ArrayList<T>(available);
+
+		for (int index = 0; index < available; index++) {
+			content.add(rowCallback.doWith(resultSet.one()));
+		}
+
+		PagingState nextPagingState = resultSet.getExecutionInfo().getPagingState();
+		boolean hasNext = (nextPagingState != null);
+
+		return new SliceImpl<T>(content, CassandraPageRequest.of(pageable, nextPagingState, hasNext), hasNext);
+	}
+
+	/**
+	 * Execute {@code statement} asynchronously and convert rows on the
+	 * {@link CassandraTemplate#setConversionExecutor(Executor) conversion executor} or the driver's callback thread if
+	 * no conversion executor is configured.
+	 */
+	<T> ListenableFuture<AsyncCursor<T>> selectAsynchronously(Statement statement, RowCallback<T> rowCallback) {
+
+		Executor conversionExecutor = template.getConversionExecutor();
+
+		return AsyncCursor.create(template.executeAsynchronously(statement), rowCallback,
+				conversionExecutor != null ? conversionExecutor : MoreExecutors.directExecutor(),
+				template.getExceptionTranslator());
+	}
+}
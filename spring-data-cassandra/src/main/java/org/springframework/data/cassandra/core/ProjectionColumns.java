@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Column selection required to materialize a projection of a mapped entity. Closed interface projections select the
+ * columns backing their accessors (plus the columns required by the entity's persistence constructor) and are created
+ * from the partially read entity. DTO projections select the columns matching their properties and rows are mapped
+ * straight into the DTO; columns named differently in the entity are aliased to the DTO column name.
+ * <p>
+ * Open interface projections and DTOs that cannot be resolved against the entity (unknown properties, composite
+ * primary keys) select all columns.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public class ProjectionColumns {
+
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+	private final Class<?> projectionType;
+	private final Map<CqlIdentifier, CqlIdentifier> columns;
+	private final boolean directMapping;
+
+	private ProjectionColumns(Class<?> projectionType, Map<CqlIdentifier, CqlIdentifier> columns,
+			boolean directMapping) {
+
+		this.projectionType = projectionType;
+		this.columns = Collections.unmodifiableMap(columns);
+		this.directMapping = directMapping;
+	}
+
+	/**
+	 * Resolve the {@link ProjectionColumns} to project {@code entity} onto {@code projectionType}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param projectionType must not be {@literal null}.
+	 * @return the {@link ProjectionColumns}.
+	 */
+	public static ProjectionColumns create(CassandraMappingContext mappingContext, CassandraPersistentEntity<?> entity,
+			Class<?> projectionType) {
+
+		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(projectionType, "Projection type must not be null");
+
+		if (projectionType.isAssignableFrom(entity.getType())) {
+			return allColumns(projectionType);
+		}
+
+		if (projectionType.isInterface()) {
+			return forInterface(entity, projectionType);
+		}
+
+		return forDto(mappingContext, entity, projectionType);
+	}
+
+	private static ProjectionColumns allColumns(Class<?> projectionType) {
+		return new ProjectionColumns(projectionType, Collections.<CqlIdentifier, CqlIdentifier> emptyMap(), false);
+	}
+
+	private static ProjectionColumns forInterface(CassandraPersistentEntity<?> entity, Class<?> projectionType) {
+
+		ProjectionInformation projectionInformation = PROJECTION_FACTORY.getProjectionInformation(projectionType);
+
+		if (!projectionInformation.isClosed() || projectionInformation.getInputProperties().isEmpty()) {
+			return allColumns(projectionType);
+		}
+
+		Map<CqlIdentifier, CqlIdentifier> columns = new LinkedHashMap<CqlIdentifier, CqlIdentifier>();
+
+		for (PropertyDescriptor descriptor : projectionInformation.getInputProperties()) {
+
+			CassandraPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+
+			if (property == null) {
+				return allColumns(projectionType);
+			}
+
+			addColumns(property, columns);
+		}
+
+		PreferredConstructor<?, CassandraPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		if (constructor != null) {
+			for (Parameter<Object, CassandraPersistentProperty> parameter : constructor.getParameters()) {
+
+				CassandraPersistentProperty property = entity.getPersistentProperty(parameter.getName());
+
+				if (property != null) {
+					addColumns(property, columns);
+				}
+			}
+		}
+
+		return new ProjectionColumns(projectionType, columns, false);
+	}
+
+	private static ProjectionColumns forDto(CassandraMappingContext mappingContext,
+			final CassandraPersistentEntity<?> entity, Class<?> projectionType) {
+
+		CassandraPersistentEntity<?> projectionEntity = mappingContext.getPersistentEntity(projectionType);
+
+		if (projectionEntity == null) {
+			return allColumns(projectionType);
+		}
+
+		final Map<CqlIdentifier, CqlIdentifier> columns = new LinkedHashMap<CqlIdentifier, CqlIdentifier>();
+		final AtomicBoolean resolvable = new AtomicBoolean(true);
+
+		projectionEntity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty projectionProperty) {
+
+				CassandraPersistentProperty property = entity.getPersistentProperty(projectionProperty.getName());
+
+				if (property == null || property.isCompositePrimaryKey() || projectionProperty.isCompositePrimaryKey()) {
+					resolvable.set(false);
+					return;
+				}
+
+				CqlIdentifier columnName = property.getColumnName();
+				CqlIdentifier alias = projectionProperty.getColumnName();
+
+				columns.put(columnName, columnName.equals(alias) ? null : alias);
+			}
+		});
+
+		if (!resolvable.get() || columns.isEmpty()) {
+			return allColumns(projectionType);
+		}
+
+		return new ProjectionColumns(projectionType, columns, true);
+	}
+
+	private static void addColumns(CassandraPersistentProperty property, Map<CqlIdentifier, CqlIdentifier> columns) {
+
+		for (CqlIdentifier columnName : property.getColumnNames()) {
+			columns.put(columnName, null);
+		}
+	}
+
+	/**
+	 * @return the projection type.
+	 */
+	public Class<?> getProjectionType() {
+		return projectionType;
+	}
+
+	/**
+	 * @return {@literal true} if only a subset of columns is selected, {@literal false} to select all columns.
+	 */
+	public boolean isPruned() {
+		return !columns.isEmpty();
+	}
+
+	/**
+	 * @return {@literal true} if rows are read directly into the {@link #getProjectionType() projection type};
+	 *         {@literal false} if rows are read into the entity type first.
+	 */
+	public boolean isDirectMapping() {
+		return directMapping;
+	}
+
+	/**
+	 * @return the selected column names mapped to their alias (may be {@literal null}). Empty if all columns are
+	 *         selected.
+	 */
+	public Map<CqlIdentifier, CqlIdentifier> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Create a {@link Select} for the given {@code tableName} selecting the projected columns.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @return the {@link Select}.
+	 */
+	public Select select(CqlIdentifier tableName) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+
+		if (!isPruned()) {
+			return QueryBuilder.select().all().from(tableName.toCql());
+		}
+
+		Select.Selection selection = QueryBuilder.select();
+
+		for (Map.Entry<CqlIdentifier, CqlIdentifier> column : columns.entrySet()) {
+			if (column.getValue() != null) {
+				selection.column(column.getKey().toCql()).as(column.getValue().toCql());
+			} else {
+				selection.column(column.getKey().toCql());
+			}
+		}
+
+		return selection.from(tableName.toCql());
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+/**
+ * Strategy to write an entity to its table and its {@link org.springframework.data.cassandra.mapping.QueryTable query
+ * tables}.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraTemplate#setQueryTableWriteStrategy(QueryTableWriteStrategy)
+ */
+public enum QueryTableWriteStrategy {
+
+	/**
+	 * Write the entity table and all query tables in a single logged batch. The batch log guarantees that all writes are
+	 * eventually applied at the cost of an additional round trip to the batch log replicas. Writing multiple entities
+	 * uses one logged batch per entity.
+	 */
+	LOGGED_BATCH,
+
+	/**
+	 * Write the entity table and all query tables with concurrent statements. Writes complete with the latency of the
+	 * slowest statement, but a failed statement leaves the tables inconsistent until the entity is written again.
+	 */
+	PARALLEL
+}
@@ -0,0 +1,640 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cassandra.core.AsynchronousQueryListener;
+import org.springframework.cassandra.core.Cancellable;
+import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.NullWriteStrategy;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.ResultSetFutureCancellable;
+import org.springframework.cassandra.core.RowCallback;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.keyspace.ColumnSpecification;
+import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.EntityWritePlan;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * Fans out writes of a {@link CassandraTemplate} to the {@link org.springframework.data.cassandra.mapping.QueryTable
+ * query tables} of the written entities. Creates the statements writing and deleting query table rows and executes
+ * the statements of an entity according to the {@link QueryTableWriteStrategy}.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class QueryTableWriter {
+
+	private final CassandraTemplate template;
+	private final Map<Class<?>, List<CreateTableSpecification>> queryTables =
+			new ConcurrentHashMap<Class<?>, List<CreateTableSpecification>>();
+	private final Map<List<Object>, String> statements = new ConcurrentHashMap<List<Object>, String>();
+
+	private QueryTableWriteStrategy writeStrategy = QueryTableWriteStrategy.LOGGED_BATCH;
+	private boolean readKeysBeforeUpdate;
+	private int writeConcurrency = CassandraTemplate.DEFAULT_WRITE_CONCURRENCY;
+
+	/**
+	 * Creates a new {@link QueryTableWriter} preparing and executing statements with {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	QueryTableWriter(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	void setWriteStrategy(QueryTableWriteStrategy writeStrategy) {
+		this.writeStrategy = writeStrategy;
+	}
+
+	QueryTableWriteStrategy getWriteStrategy() {
+		return writeStrategy;
+	}
+
+	void setReadKeysBeforeUpdate(boolean readKeysBeforeUpdate) {
+		this.readKeysBeforeUpdate = readKeysBeforeUpdate;
+	}
+
+	boolean isReadKeysBeforeUpdate() {
+		return readKeysBeforeUpdate;
+	}
+
+	void setWriteConcurrency(int writeConcurrency) {
+		this.writeConcurrency = writeConcurrency;
+	}
+
+	int getWriteConcurrency() {
+		return writeConcurrency;
+	}
+
+	/**
+	 * Discard the resolved query tables and statements, used when the mapping metadata of the template changes.
+	 */
+	void clear() {
+
+		queryTables.clear();
+		statements.clear();
+	}
+
+	/**
+	 * Returns whether {@code entityClass} declares query tables that are written along with its entity table.
+	 */
+	boolean hasQueryTables(Class<?> entityClass) {
+		return !getQueryTables(entityClass).isEmpty();
+	}
+
+	private List<CreateTableSpecification> getQueryTables(Class<?> entityClass) {
+
+		List<CreateTableSpecification> specifications = queryTables.get(entityClass);
+		CassandraMappingContext mappingContext = template.getMappingContext();
+		CassandraConverter converter = template.getConverter();
+
+		if (specifications == null) {
+
+			CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityClass);
+
+			specifications = (persistentEntity != null
+					? mappingContext.getCreateQueryTableSpecificationsFor(persistentEntity)
+					: Collections.<CreateTableSpecification> emptyList());
+
+			queryTables.put(entityClass, specifications);
+		}
+
+		if (!specifications.isEmpty() && !(converter instanceof MappingCassandraConverter)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Entity class [%s] declares query tables which require a MappingCassandraConverter but found [%s]",
+					entityClass.getName(), converter.getClass().getName()));
+		}
+
+		return specifications;
+	}
+
+	private EntityWritePlan getWritePlan(Class<?> entityClass) {
+		return ((MappingCassandraConverter) template.getConverter())
+				.getWritePlan(template.getMappingContext().getPersistentEntity(entityClass));
+	}
+
+	/**
+	 * Create the statements deleting {@code entity} from the query tables of its type. Tracked entities are deleted using
+	 * the column values they were read with.
+	 */
+	List<Statement> createDeletes(Object entity, QueryOptions options) {
+
+		List<CreateTableSpecification> specifications = getQueryTables(entity.getClass());
+
+		if (specifications.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		EntityWritePlan writePlan = getWritePlan(entity.getClass());
+		EntityChangeTracker changeTracker = template.getChangeTracker();
+		EntityChangeTracker.Changes changes = (changeTracker != null ? changeTracker.getChanges(entity) : null);
+		Object[] values = (changes != null ? getPreviousValues(changes) : writePlan.getValues(entity));
+
+		List<Statement> statements = new ArrayList<Statement>(specifications.size());
+
+		for (CreateTableSpecification specification : specifications) {
+			statements.add(createDelete(writePlan, specification, values, options));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Create the statements writing {@code entity} to the query tables of its type. Query tables are always written with
+	 * an insert so that updates create missing rows. {@literal null} values are handled according to
+	 * {@code nullWriteStrategy}.
+	 * <p>
+	 * If the column values of the stored row are known, query table rows whose key columns were modified are deleted
+	 * before the row is written with its new key. Rows whose key is unchanged are written with their primary key and the
+	 * {@code changedColumns} only.
+	 *
+	 * @param storedValues column values of the stored row or {@literal null} if unknown.
+	 * @param changedColumns indexes of the modified columns or {@literal null} to write all columns.
+	 */
+	List<Statement> createWrites(Object entity, QueryOptions options, NullWriteStrategy nullWriteStrategy,
+			Object[] storedValues, BitSet changedColumns) {
+
+		List<CreateTableSpecification> specifications = getQueryTables(entity.getClass());
+
+		if (specifications.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		EntityWritePlan writePlan = getWritePlan(entity.getClass());
+		Object[] values = writePlan.getValues(entity);
+		Integer ttl = (options instanceof WriteOptions ? ((WriteOptions) options).getTtl() : null);
+		boolean writeNulls = (nullWriteStrategy == null || nullWriteStrategy == NullWriteStrategy.WRITE_NULL);
+
+		List<Statement> statements = new ArrayList<Statement>(specifications.size());
+
+		for (CreateTableSpecification specification : specifications) {
+
+			BitSet keyColumns = getColumnIndexes(writePlan, specification.getPrimaryKeyColumns());
+			boolean keyChanged = (storedValues != null && isChanged(keyColumns, values, storedValues));
+
+			if (keyChanged) {
+				statements.add(createDelete(writePlan, specification, storedValues, options));
+			}
+
+			BitSet columns = new BitSet(values.length);
+
+			if (changedColumns != null && storedValues != null && !keyChanged) {
+				columns.or(changedColumns);
+				columns.or(keyColumns);
+			} else {
+				columns.set(0, values.length);
+			}
+
+			if (!writeNulls) {
+				for (int index = columns.nextSetBit(0); index >= 0; index = columns.nextSetBit(index + 1)) {
+					if (values[index] == null) {
+						columns.clear(index);
+					}
+				}
+			}
+
+			statements.add(createInsert(writePlan, specification, values, columns, ttl, options));
+		}
+
+		return statements;
+	}
+
+	private Statement createDelete(EntityWritePlan writePlan, CreateTableSpecification specification, Object[] values,
+			QueryOptions options) {
+
+		PreparedStatement preparedStatement = template.prepare(getCql(writePlan, specification, true, false));
+		List<ColumnSpecification> primaryKeyColumns = specification.getPrimaryKeyColumns();
+		Object[] bindValues = new Object[primaryKeyColumns.size()];
+
+		for (int index = 0; index < bindValues.length; index++) {
+			bindValues[index] = values[writePlan.getColumnNames().indexOf(primaryKeyColumns.get(index).getName())];
+		}
+
+		return CqlTemplate.addQueryOptions(preparedStatement.bind(bindValues), options);
+	}
+
+	/**
+	 * Create the insert of the selected {@code columns} into a query table. Partial inserts leave the remaining bind
+	 * variables unset if the native protocol supports unset values and otherwise fall back to a non-prepared insert of
+	 * the selected columns.
+	 */
+	private Statement createInsert(EntityWritePlan writePlan, CreateTableSpecification specification, Object[] values,
+			BitSet columns, Integer ttl, QueryOptions options) {
+
+		boolean allColumns = (columns.cardinality() == values.length);
+
+		if (allColumns || template.isPreparedUnsetInsertSupported()) {
+
+			PreparedStatement preparedStatement = template.prepare(getCql(writePlan, specification, false, ttl != null));
+
+			if (!allColumns) {
+
+				BoundStatement boundStatement = writePlan.bind(preparedStatement, values, columns);
+
+				if (ttl != null) {
+					boundStatement.setInt(values.length, ttl);
+				}
+
+				return CqlTemplate.addQueryOptions(boundStatement, options);
+			}
+
+			Object[] bindValues = values;
+
+			if (ttl != null) {
+				bindValues = Arrays.copyOf(values, values.length + 1);
+				bindValues[values.length] = ttl;
+			}
+
+			return CqlTemplate.addQueryOptions(preparedStatement.bind(bindValues), options);
+		}
+
+		Insert insert = QueryBuilder.insertInto(specification.getName().toCql());
+		List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+
+		for (int index = columns.nextSetBit(0); index >= 0; index = columns.nextSetBit(index + 1)) {
+			insert.value(columnNames.get(index).toCql(), values[index]);
+		}
+
+		if (ttl != null) {
+			insert.using(QueryBuilder.ttl(ttl));
+		}
+
+		return CqlTemplate.addQueryOptions(insert, options);
+	}
+
+	private String getCql(EntityWritePlan writePlan, CreateTableSpecification specification, boolean delete,
+			boolean withTtl) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(writePlan.getEntity().getType(), specification.getName(), delete,
+				withTtl);
+		String cql = statements.get(cacheKey);
+
+		if (cql == null) {
+
+			if (delete) {
+
+				Delete.Where where = QueryBuilder.delete().from(specification.getName().toCql()).where();
+
+				for (ColumnSpecification column : specification.getPrimaryKeyColumns()) {
+					where.and(QueryBuilder.eq(column.getName().toCql(), QueryBuilder.bindMarker()));
+				}
+
+				cql = where.toString();
+			} else {
+
+				Insert insert = QueryBuilder.insertInto(specification.getName().toCql());
+
+				for (CqlIdentifier columnName : writePlan.getColumnNames()) {
+					insert.value(columnName.toCql(), QueryBuilder.bindMarker());
+				}
+
+				if (withTtl) {
+					insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+				}
+
+				cql = insert.toString();
+			}
+
+			statements.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	private static BitSet getColumnIndexes(EntityWritePlan writePlan, List<ColumnSpecification> columns) {
+
+		BitSet indexes = new BitSet(writePlan.getColumnCount());
+
+		for (ColumnSpecification column : columns) {
+			indexes.set(writePlan.getColumnNames().indexOf(column.getName()));
+		}
+
+		return indexes;
+	}
+
+	private static boolean isChanged(BitSet columns, Object[] values, Object[] storedValues) {
+
+		for (int index = columns.nextSetBit(0); index >= 0; index = columns.nextSetBit(index + 1)) {
+			if (!ObjectUtils.nullSafeEquals(values[index], storedValues[index])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the column values a tracked entity was read or last updated with.
+	 */
+	static Object[] getPreviousValues(EntityChangeTracker.Changes changes) {
+
+		Object[] values = new Object[changes.getWritePlan().getColumnCount()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = changes.getPreviousValue(index);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Read the query table key columns of the stored rows of {@code entities} to detect query table keys modified since
+	 * the entities were read. Reads are only issued if
+	 * {@link CassandraTemplate#setReadQueryTableKeysBeforeUpdate(boolean) enabled} and a query table key contains
+	 * columns outside of the primary key of the entity table.
+	 *
+	 * @return the stored column values for each entity in the order of {@code entities}. Elements are {@literal null} if
+	 *         no row is stored or the stored values are not required.
+	 */
+	List<Object[]> readStoredKeys(List<?> entities) {
+
+		List<Object[]> storedValues = new ArrayList<Object[]>(Collections.<Object[]> nCopies(entities.size(), null));
+
+		if (entities.isEmpty() || !readKeysBeforeUpdate) {
+			return storedValues;
+		}
+
+		Class<?> entityClass = entities.get(0).getClass();
+		final EntityWritePlan writePlan = getWritePlan(entityClass);
+		final BitSet primaryKeyColumns = new BitSet(writePlan.getColumnCount());
+		final BitSet readColumns = new BitSet(writePlan.getColumnCount());
+
+		for (int index = 0; index < writePlan.getColumnCount(); index++) {
+			if (writePlan.isPrimaryKeyColumn(index)) {
+				primaryKeyColumns.set(index);
+			}
+		}
+
+		for (CreateTableSpecification specification : getQueryTables(entityClass)) {
+			readColumns.or(getColumnIndexes(writePlan, specification.getPrimaryKeyColumns()));
+		}
+
+		readColumns.andNot(primaryKeyColumns);
+
+		if (readColumns.isEmpty()) {
+			return storedValues;
+		}
+
+		readColumns.or(primaryKeyColumns);
+
+		List<Object[]> keys = new ArrayList<Object[]>(entities.size());
+
+		for (Object entity : entities) {
+			keys.add(getColumnValues(writePlan.getValues(entity), primaryKeyColumns));
+		}
+
+		PreparedStatement preparedStatement = template
+				.prepare(getStoredKeysCql(writePlan, readColumns, primaryKeyColumns));
+		final List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+
+		List<Object[]> rows = template.selectByPrimaryKeys(preparedStatement, keys, new RowCallback<Object[]>() {
+
+			@Override
+			public Object[] doWith(Row row) {
+
+				Object[] values = new Object[columnNames.size()];
+
+				for (int index = readColumns.nextSetBit(0); index >= 0; index = readColumns.nextSetBit(index + 1)) {
+					values[index] = row.getObject(columnNames.get(index).toCql());
+				}
+
+				return values;
+			}
+		});
+
+		Map<List<Object>, Object[]> rowsByKey = new HashMap<List<Object>, Object[]>(rows.size());
+
+		for (Object[] row : rows) {
+			rowsByKey.put(Arrays.asList(getColumnValues(row, primaryKeyColumns)), row);
+		}
+
+		for (int index = 0; index < keys.size(); index++) {
+			storedValues.set(index, rowsByKey.get(Arrays.asList(keys.get(index))));
+		}
+
+		return storedValues;
+	}
+
+	/**
+	 * @return the stored column values of {@code entity} or {@literal null}.
+	 * @see #readStoredKeys(List)
+	 */
+	Object[] readStoredKey(Object entity) {
+		return (hasQueryTables(entity.getClass()) ? readStoredKeys(Collections.singletonList(entity)).get(0) : null);
+	}
+
+	private String getStoredKeysCql(EntityWritePlan writePlan, BitSet readColumns, BitSet primaryKeyColumns) {
+
+		List<Object> cacheKey = Arrays.<Object> asList(writePlan.getEntity().getType(), readColumns);
+		String cql = statements.get(cacheKey);
+
+		if (cql == null) {
+
+			List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+			Select.Selection selection = QueryBuilder.select();
+
+			for (int index = readColumns.nextSetBit(0); index >= 0; index = readColumns.nextSetBit(index + 1)) {
+				selection.column(columnNames.get(index).toCql());
+			}
+
+			Select select = selection.from(writePlan.getEntity().getTableName().toCql());
+
+			for (int index = primaryKeyColumns.nextSetBit(0); index >= 0; index = primaryKeyColumns
+					.nextSetBit(index + 1)) {
+				select.where(QueryBuilder.eq(columnNames.get(index).toCql(), QueryBuilder.bindMarker()));
+			}
+
+			cql = select.toString();
+			statements.put(cacheKey, cql);
+		}
+
+		return cql;
+	}
+
+	private static Object[] getColumnValues(Object[] values, BitSet columns) {
+
+		Object[] selected = new Object[columns.cardinality()];
+		int position = 0;
+
+		for (int index = columns.nextSetBit(0); index >= 0; index = columns.nextSetBit(index + 1)) {
+			selected[position++] = values[index];
+		}
+
+		return selected;
+	}
+
+	/**
+	 * Execute the {@code statements} writing a single entity according to the {@link QueryTableWriteStrategy}.
+	 */
+	void execute(List<Statement> statements) {
+
+		if (statements.size() == 1) {
+			template.execute(statements.get(0));
+			return;
+		}
+
+		if (writeStrategy == QueryTableWriteStrategy.LOGGED_BATCH) {
+			template.execute(createLoggedBatch(statements));
+			return;
+		}
+
+		try {
+			executeInParallel(statements).getUninterruptibly();
+		} catch (DriverException e) {
+			throw template.translateException(e);
+		}
+	}
+
+	/**
+	 * Execute the {@code statements} writing a single entity asynchronously according to the
+	 * {@link QueryTableWriteStrategy}. The {@link AsynchronousQueryListener} is notified once all statements have
+	 * completed.
+	 */
+	Cancellable executeAsynchronously(List<Statement> statements, AsynchronousQueryListener listener) {
+
+		if (statements.size() == 1) {
+			return template.executeAsynchronously(statements.get(0), listener);
+		}
+
+		if (writeStrategy == QueryTableWriteStrategy.LOGGED_BATCH) {
+			return template.executeAsynchronously(createLoggedBatch(statements), listener);
+		}
+
+		return notifyOnCompletion(executeInParallel(statements), listener);
+	}
+
+	/**
+	 * Execute the statements writing multiple entities. Depending on the {@link QueryTableWriteStrategy}, each entity is
+	 * written with its own logged batch or statements are executed individually. At most
+	 * {@link CassandraTemplate#setWriteConcurrency(int) write concurrency} batches or statements are in flight at a
+	 * time.
+	 */
+	void executeAll(List<List<Statement>> statements) {
+
+		try {
+			executeBounded(statements).getUninterruptibly();
+		} catch (DriverException e) {
+			throw template.translateException(e);
+		}
+	}
+
+	/**
+	 * Execute the statements writing multiple entities asynchronously.
+	 *
+	 * @see #executeAll(List)
+	 */
+	Cancellable executeAllAsynchronously(List<List<Statement>> statements, AsynchronousQueryListener listener) {
+		return notifyOnCompletion(executeBounded(statements), listener);
+	}
+
+	private ResultSetFuture executeBounded(List<List<Statement>> statements) {
+
+		List<Statement> writes = new ArrayList<Statement>();
+
+		for (List<Statement> entityStatements : statements) {
+
+			if (writeStrategy == QueryTableWriteStrategy.LOGGED_BATCH && entityStatements.size() > 1) {
+				writes.add(createLoggedBatch(entityStatements));
+			} else {
+				writes.addAll(entityStatements);
+			}
+		}
+
+		return new BoundedResultSetFuture(writes, writeConcurrency, new BoundedResultSetFuture.StatementExecutor() {
+
+			@Override
+			public ResultSetFuture executeAsync(Statement statement) {
+				return template.executeAsynchronously(statement);
+			}
+		});
+	}
+
+	private static Cancellable notifyOnCompletion(final ResultSetFuture future, final AsynchronousQueryListener listener) {
+
+		if (listener != null) {
+			future.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+					listener.onQueryComplete(future);
+				}
+			}, MoreExecutors.directExecutor());
+		}
+
+		return new ResultSetFutureCancellable(future);
+	}
+
+	private ResultSetFuture executeInParallel(List<Statement> statements) {
+
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(statements.size());
+
+		for (Statement statement : statements) {
+			futures.add(template.executeAsynchronously(statement));
+		}
+
+		return new CompositeResultSetFuture(futures);
+	}
+
+	/**
+	 * Create a logged {@link BatchStatement} applying the consistency level and retry policy of the first statement.
+	 */
+	private static BatchStatement createLoggedBatch(List<Statement> statements) {
+
+		BatchStatement batch = new BatchStatement(BatchStatement.Type.LOGGED);
+		Statement first = statements.get(0);
+
+		batch.addAll(statements);
+
+		if (first.getConsistencyLevel() != null) {
+			batch.setConsistencyLevel(first.getConsistencyLevel());
+		}
+
+		if (first.getRetryPolicy() != null) {
+			batch.setRetryPolicy(first.getRetryPolicy());
+		}
+
+		return batch;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.cassandra.core.RowCallback;
+import org.springframework.cassandra.core.support.EmptyResultSet;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * Converts the rows of a {@link ResultSet} on the calling thread or, for large result sets, in chunks on a conversion
+ * {@link Executor} of a {@link CassandraTemplate}.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraTemplate#setConversionExecutor(Executor)
+ */
+class ResultSetConverter {
+
+	/**
+	 * Number of rows converted per task when converting rows in parallel.
+	 */
+	private static final int CHUNK_SIZE = 256;
+
+	private final CassandraTemplate template;
+
+	private Executor executor;
+	private int parallelConversionThreshold = CassandraTemplate.DEFAULT_PARALLEL_CONVERSION_THRESHOLD;
+
+	/**
+	 * Creates a new {@link ResultSetConverter} translating conversion failures with {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	ResultSetConverter(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	Executor getExecutor() {
+		return executor;
+	}
+
+	void setParallelConversionThreshold(int parallelConversionThreshold) {
+		this.parallelConversionThreshold = parallelConversionThreshold;
+	}
+
+	int getParallelConversionThreshold() {
+		return parallelConversionThreshold;
+	}
+
+	/**
+	 * Convert all rows of {@code resultSet} in the order of the rows.
+	 *
+	 * @param resultSet may be {@literal null}.
+	 */
+	<T> List<T> convert(ResultSet resultSet, RowCallback<T> rowCallback) {
+
+		Executor executor = this.executor;
+
+		if (executor != null && resultSet != null) {
+			return convert(resultSet, rowCallback, executor);
+		}
+
+		List<T> result = new ArrayList<T>();
+
+		for (Row row : EmptyResultSet.nullSafeResultSet(resultSet)) {
+			result.add(rowCallback.doWith(row));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Convert rows up to the parallel conversion threshold on the calling thread and submit remaining rows in chunks to
+	 * {@code executor}. The calling thread prefetches the next page while chunks of the current page are converted and
+	 * converts chunks itself that were not picked up by {@code executor} by the time their result is collected.
+	 */
+	private <T> List<T> convert(ResultSet resultSet, RowCallback<T> rowCallback, Executor executor) {
+
+		List<T> result = new ArrayList<T>();
+		Iterator<Row> iterator = resultSet.iterator();
+
+		while (result.size() < parallelConversionThreshold && iterator.hasNext()) {
+			result.add(rowCallback.doWith(iterator.next()));
+		}
+
+		if (!iterator.hasNext()) {
+			return result;
+		}
+
+		List<FutureTask<List<T>>> chunks = new ArrayList<FutureTask<List<T>>>();
+		List<Row> chunk = new ArrayList<Row>(CHUNK_SIZE);
+
+		while (iterator.hasNext()) {
+
+			if (resultSet.getAvailableWithoutFetching() == CHUNK_SIZE && !resultSet.isFullyFetched()) {
+				resultSet.fetchMoreResults();
+			}
+
+			chunk.add(iterator.next());
+
+			if (chunk.size() == CHUNK_SIZE) {
+				chunks.add(convertAsync(chunk, rowCallback, executor));
+				chunk = new ArrayList<Row>(CHUNK_SIZE);
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			chunks.add(convertAsync(chunk, rowCallback, executor));
+		}
+
+		for (FutureTask<List<T>> converted : chunks) {
+
+			// no-op if the executor already started the task, otherwise avoids waiting for a queued or rejected task
+			converted.run();
+			result.addAll(getConverted(converted));
+		}
+
+		return result;
+	}
+
+	private static <T> FutureTask<List<T>> convertAsync(final List<Row> rows, final RowCallback<T> rowCallback,
+			Executor executor) {
+
+		FutureTask<List<T>> task = new FutureTask<List<T>>(new Callable<List<T>>() {
+
+			@Override
+			public List<T> call() {
+
+				List<T> converted = new ArrayList<T>(rows.size());
+
+				for (Row row : rows) {
+					converted.add(rowCallback.doWith(row));
+				}
+
+				return converted;
+			}
+		});
+
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			// converted on the calling thread when collecting results
+		}
+
+		return task;
+	}
+
+	private <T> List<T> getConverted(Future<List<T>> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw template.translateException(e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw template.translateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.TimeBucketProperty;
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.data.cassandra.repository.support.BasicMapId;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+
+/**
+ * Derives the {@link org.springframework.data.cassandra.mapping.TimeBucket time bucket} of entities and ids written
+ * and read through a {@link CassandraTemplate} from their timestamp.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class TimeBucketResolver {
+
+	private final CassandraTemplate template;
+
+	/**
+	 * Creates a new {@link TimeBucketResolver} using the mapping metadata of {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	TimeBucketResolver(CassandraTemplate template) {
+		this.template = template;
+	}
+
+	/**
+	 * Set the time bucket of {@code entity} from its timestamp.
+	 */
+	void populate(Object entity) {
+
+		CassandraPersistentEntity<?> persistentEntity = template.getMappingContext().getPersistentEntity(entity.getClass());
+		TimeBucketProperty timeBucketProperty = (persistentEntity != null ? persistentEntity.getTimeBucketProperty()
+				: null);
+
+		if (timeBucketProperty != null) {
+			timeBucketProperty.populate(entity, template.getConverter().getConversionService());
+		}
+	}
+
+	void populate(List<?> entities) {
+
+		for (Object entity : entities) {
+			populate(entity);
+		}
+	}
+
+	/**
+	 * Derive the bucket of {@code id} from its timestamp if the bucket is declared by a composite primary key class or
+	 * {@code id} is a {@link MapId} providing the timestamp but not the bucket. {@code id} is left unchanged as it is
+	 * owned by the caller; the bucket is set on a {@link MapId} copy instead.
+	 *
+	 * @return {@code id} or a {@link MapId} containing the key values of {@code id} and the bucket.
+	 */
+	Object withTimeBucket(CassandraPersistentEntity<?> entity, Object id) {
+
+		TimeBucketProperty timeBucketProperty = entity.getTimeBucketProperty();
+
+		if (timeBucketProperty == null) {
+			return id;
+		}
+
+		String bucketName = timeBucketProperty.getProperty().getName();
+		CassandraPersistentProperty compositePrimaryKeyProperty = timeBucketProperty.getCompositePrimaryKeyProperty();
+		MapId mapId;
+
+		if (id instanceof MapId) {
+
+			mapId = (MapId) id;
+
+			if (mapId.containsKey(bucketName)) {
+				return id;
+			}
+		} else if (compositePrimaryKeyProperty != null && compositePrimaryKeyProperty.getType().isInstance(id)) {
+			mapId = toMapId(compositePrimaryKeyProperty.getCompositePrimaryKeyEntity(), id);
+		} else {
+			return id;
+		}
+
+		Long timestamp = TimeBucketProperty.toMillis(mapId.get(timeBucketProperty.getTimestampProperty().getName()),
+				template.getConverter().getConversionService());
+
+		if (timestamp == null) {
+			return id;
+		}
+
+		return BasicMapId.id(mapId).with(bucketName,
+				(Serializable) timeBucketProperty.toPropertyValue(timeBucketProperty.getBucket(timestamp)));
+	}
+
+	private static MapId toMapId(CassandraPersistentEntity<?> compositePrimaryKeyEntity, Object id) {
+
+		final PersistentPropertyAccessor accessor = compositePrimaryKeyEntity.getPropertyAccessor(id);
+		final MapId mapId = BasicMapId.id();
+
+		compositePrimaryKeyEntity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+				mapId.put(property.getName(), (Serializable) accessor.getProperty(property));
+			}
+		});
+
+		return mapId;
+	}
+}
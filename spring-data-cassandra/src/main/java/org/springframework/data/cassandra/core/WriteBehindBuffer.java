@@ -0,0 +1,416 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cassandra.core.AsynchronousQueryListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+
+/**
+ * Buffer deferring inserts and updates of entities to write them in bulk. Writes to the same primary key within a
+ * flush interval are coalesced: only the last buffered write of a row is executed. Pending writes are grouped by
+ * partition and each partition is written with unlogged batches of at most {@link #setMaxBatchSize(int) maxBatchSize}
+ * rows. Batches are executed asynchronously with at most {@link #setMaxConcurrentBatches(int) maxConcurrentBatches}
+ * batches in flight. A flush returns once all of its batches completed, so a flush never overtakes the writes of a
+ * previous flush.
+ * <p>
+ * Pending writes are flushed periodically, by the writing thread once {@code maxPendingWrites} rows are pending, on
+ * {@link #flush()} and when the buffer is {@link #destroy() destroyed}. Writes are not visible to readers before they
+ * are flushed and are lost if the application terminates without destroying the buffer. Failed writes are reported
+ * to the {@link WriteBehindFailureListener}, possibly from a driver thread, and are not retried.
+ * <p>
+ * Buffered entities are written in the state they have at flush time, so they should not be modified after they were
+ * buffered unless the latest state is meant to be written. Coalescing keeps the last write of a row, counter columns
+ * cannot be buffered. Entities with query tables cannot be buffered.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public class WriteBehindBuffer implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+	/**
+	 * Default maximum number of rows written by a single batch.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 50;
+
+	/**
+	 * Default maximum number of batches in flight during a flush.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+
+	private final CassandraTemplate template;
+	private final int maxPendingWrites;
+	private final ScheduledExecutorService scheduler;
+	private final Object flushMonitor = new Object();
+	private final AtomicLong coalescedWriteCount = new AtomicLong();
+	private final AtomicLong flushedWriteCount = new AtomicLong();
+
+	private Map<List<Object>, PendingWrite> pendingWrites = new LinkedHashMap<List<Object>, PendingWrite>();
+	private boolean closed;
+
+	private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+	private volatile int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+
+	private volatile WriteBehindFailureListener failureListener = new WriteBehindFailureListener() {
+
+		@Override
+		public void onFlushFailure(Collection<Object> entities, Exception x) {
+			LOGGER.error(String.format("Failed to write %d buffered entities", entities.size()), x);
+		}
+	};
+
+	/**
+	 * Creates a new {@link WriteBehindBuffer} flushing writes to {@code template}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param flushInterval the interval in which pending writes are flushed, must be greater than zero.
+	 * @param timeUnit must not be {@literal null}.
+	 * @param maxPendingWrites the number of pending rows that trigger a flush, must be greater than zero.
+	 */
+	public WriteBehindBuffer(CassandraTemplate template, long flushInterval, TimeUnit timeUnit, int maxPendingWrites) {
+
+		Assert.notNull(template, "CassandraTemplate must not be null");
+		Assert.isTrue(flushInterval > 0, "Flush interval must be greater than zero");
+		Assert.notNull(timeUnit, "TimeUnit must not be null");
+		Assert.isTrue(maxPendingWrites > 0, "Max pending writes must be greater than zero");
+
+		this.template = template;
+		this.maxPendingWrites = maxPendingWrites;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+
+				Thread thread = new Thread(runnable, "cassandra-write-behind");
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+
+		this.scheduler.scheduleWithFixedDelay(new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					flush();
+				} catch (RuntimeException e) {
+					LOGGER.error("Failed to flush buffered writes", e);
+				}
+			}
+		}, flushInterval, flushInterval, timeUnit);
+	}
+
+	/**
+	 * Set the {@link WriteBehindFailureListener} notified about failed writes. Failed writes are logged by default.
+	 *
+	 * @param failureListener must not be {@literal null}.
+	 */
+	public void setFailureListener(WriteBehindFailureListener failureListener) {
+
+		Assert.notNull(failureListener, "WriteBehindFailureListener must not be null");
+
+		this.failureListener = failureListener;
+	}
+
+	/**
+	 * Set the maximum number of rows written by a single batch. Partitions with more pending rows are written with
+	 * multiple batches. Defaults to {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 *
+	 * @param maxBatchSize must be greater than zero.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of batches in flight during a flush. Defaults to {@value #DEFAULT_MAX_CONCURRENT_BATCHES}.
+	 *
+	 * @param maxConcurrentBatches must be greater than zero.
+	 */
+	public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+
+		Assert.isTrue(maxConcurrentBatches > 0, "Max concurrent batches must be greater than zero");
+
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Buffer an insert of {@code entity}, replacing a pending write of the same row.
+	 *
+	 * @param entity must not be {@literal null} and must not have query tables.
+	 * @throws IllegalStateException if the buffer was destroyed.
+	 */
+	public void insert(Object entity) {
+		buffer(entity, true);
+	}
+
+	/**
+	 * Buffer an update of {@code entity}, replacing a pending write of the same row.
+	 *
+	 * @param entity must not be {@literal null} and must not have query tables.
+	 * @throws IllegalStateException if the buffer was destroyed.
+	 */
+	public void update(Object entity) {
+		buffer(entity, false);
+	}
+
+	private void buffer(Object entity, boolean insert) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.isTrue(!template.hasQueryTables(entity.getClass()), "Entities with query tables cannot be buffered");
+
+		template.populateTimeBucket(entity);
+
+		PendingWrite write = new PendingWrite(entity, insert, getKey(entity, true));
+		List<Object> rowKey = getKey(entity, false);
+		boolean flush;
+
+		synchronized (this) {
+
+			Assert.state(!closed, "WriteBehindBuffer was already destroyed");
+
+			if (pendingWrites.put(rowKey, write) != null) {
+				coalescedWriteCount.incrementAndGet();
+			}
+
+			flush = pendingWrites.size() >= maxPendingWrites;
+		}
+
+		if (flush) {
+			flush();
+		}
+	}
+
+	/**
+	 * Write all pending writes and await their completion. Each partition is written with unlogged batches, failed
+	 * batches are reported to the {@link WriteBehindFailureListener}.
+	 */
+	public void flush() {
+
+		synchronized (flushMonitor) {
+
+			Map<List<Object>, PendingWrite> writes;
+
+			synchronized (this) {
+
+				if (pendingWrites.isEmpty()) {
+					return;
+				}
+
+				writes = pendingWrites;
+				pendingWrites = new LinkedHashMap<List<Object>, PendingWrite>();
+			}
+
+			int maxBatchSize = this.maxBatchSize;
+			int maxConcurrentBatches = this.maxConcurrentBatches;
+			Semaphore permits = new Semaphore(maxConcurrentBatches);
+
+			for (List<PendingWrite> partition : groupByPartition(writes.values()).values()) {
+				for (int from = 0; from < partition.size(); from += maxBatchSize) {
+
+					permits.acquireUninterruptibly();
+					write(partition.subList(from, Math.min(from + maxBatchSize, partition.size())), permits);
+				}
+			}
+
+			permits.acquireUninterruptibly(maxConcurrentBatches);
+		}
+	}
+
+	private static Map<List<Object>, List<PendingWrite>> groupByPartition(Collection<PendingWrite> writes) {
+
+		Map<List<Object>, List<PendingWrite>> partitions = new LinkedHashMap<List<Object>, List<PendingWrite>>();
+
+		for (PendingWrite write : writes) {
+
+			List<PendingWrite> partition = partitions.get(write.partitionKey);
+
+			if (partition == null) {
+				partition = new ArrayList<PendingWrite>();
+				partitions.put(write.partitionKey, partition);
+			}
+
+			partition.add(write);
+		}
+
+		return partitions;
+	}
+
+	/**
+	 * Execute an unlogged batch of {@code writes} asynchronously and release the acquired permit once it completed.
+	 */
+	private void write(List<PendingWrite> writes, final Semaphore permits) {
+
+		final List<Object> entities = new ArrayList<Object>(writes.size());
+
+		for (PendingWrite write : writes) {
+			entities.add(write.entity);
+		}
+
+		try {
+
+			Batch batch = QueryBuilder.unloggedBatch();
+
+			for (PendingWrite write : writes) {
+
+				template.recordPresentKey(write.entity);
+				template.evictCachedEntity(write.entity);
+
+				batch.add(write.insert ? template.createInsertQuery(write.entity, null)
+						: template.createUpdateQuery(write.entity, null));
+			}
+
+			template.executeAsynchronously(batch, new AsynchronousQueryListener() {
+
+				@Override
+				public void onQueryComplete(ResultSetFuture resultSetFuture) {
+
+					try {
+
+						resultSetFuture.getUninterruptibly();
+
+						for (Object entity : entities) {
+							template.recordPresentKey(entity);
+							template.evictCachedEntity(entity);
+						}
+
+						flushedWriteCount.addAndGet(entities.size());
+					} catch (RuntimeException e) {
+						failureListener.onFlushFailure(entities, translateExceptionIfPossible(e));
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+
+			permits.release();
+			failureListener.onFlushFailure(entities, e);
+		}
+	}
+
+	/**
+	 * Returns the entity type and the primary key column values of {@code entity}, identifying its row, or the partition
+	 * key column values only, identifying its partition.
+	 */
+	private List<Object> getKey(Object entity, boolean partitionKeyOnly) {
+
+		CassandraPersistentEntity<?> persistentEntity = template.getPersistentEntity(entity.getClass());
+		List<CassandraPersistentProperty> keyProperties = template.getPrimaryKeyProperties(persistentEntity);
+		Object[] values = template.getPrimaryKeyValues(persistentEntity, keyProperties,
+				template.getConverter().getId(entity, persistentEntity));
+		List<Object> key = new ArrayList<Object>(values.length + 1);
+
+		key.add(persistentEntity.getType());
+
+		for (int index = 0; index < values.length; index++) {
+
+			CassandraPersistentProperty property = keyProperties.get(index);
+
+			if (!partitionKeyOnly || property.isPartitionKeyColumn()
+					|| (property.isIdProperty() && !property.isCompositePrimaryKey())) {
+				key.add(values[index]);
+			}
+		}
+
+		return key;
+	}
+
+	private RuntimeException translateExceptionIfPossible(RuntimeException e) {
+
+		DataAccessException translated = template.getExceptionTranslator().translateExceptionIfPossible(e);
+
+		return (translated != null ? translated : e);
+	}
+
+	/**
+	 * @return the number of rows with pending writes.
+	 */
+	public synchronized int getPendingWriteCount() {
+		return pendingWrites.size();
+	}
+
+	/**
+	 * @return the number of buffered writes that replaced a pending write of the same row.
+	 */
+	public long getCoalescedWriteCount() {
+		return coalescedWriteCount.get();
+	}
+
+	/**
+	 * @return the number of rows written by flushes.
+	 */
+	public long getFlushedWriteCount() {
+		return flushedWriteCount.get();
+	}
+
+	/**
+	 * Stop the periodic flush, reject further writes and flush all pending writes.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		synchronized (this) {
+			closed = true;
+		}
+
+		scheduler.shutdown();
+		flush();
+	}
+
+	private static class PendingWrite {
+
+		private final Object entity;
+		private final boolean insert;
+		private final List<Object> partitionKey;
+
+		PendingWrite(Object entity, boolean insert, List<Object> partitionKey) {
+
+			this.entity = entity;
+			this.insert = insert;
+			this.partitionKey = partitionKey;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collection;
+
+/**
+ * Listener notified if buffered writes of a {@link WriteBehindBuffer} fail to be flushed.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public interface WriteBehindFailureListener {
+
+	/**
+	 * Called if the writes of {@code entities} failed. The entities are not buffered again; write them again to retry.
+	 *
+	 * @param entities the entities whose writes failed.
+	 * @param x the exception raised while writing the entities.
+	 */
+	void onFlushFailure(Collection<Object> entities, Exception x);
+}
@@ -21,32 +21,43 @@ import static org.springframework.data.cassandra.mapping.CassandraSimpleTypeHold
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.TableMetadata;
 import com.datastax.driver.core.UserType;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.cassandra.core.Ordering;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.keyspace.ColumnSpecification;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
 import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.cassandra.core.keyspace.CreateUserTypeSpecification;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.convert.CustomConversions;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -74,18 +85,24 @@ public class BasicCassandraMappingContext
 
 	protected Mapping mapping = new Mapping();
 
-	// useful caches
-	protected Map<Class<?>, CassandraPersistentEntity<?>> entitiesByType = new HashMap<Class<?>, CassandraPersistentEntity<?>>();
-	protected Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new HashMap<CqlIdentifier, Set<CassandraPersistentEntity<?>>>();
+	// useful caches, read concurrently at runtime
+	protected Map<Class<?>, CassandraPersistentEntity<?>> entitiesByType = new ConcurrentHashMap<Class<?>, CassandraPersistentEntity<?>>();
+	protected Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new ConcurrentHashMap<CqlIdentifier, Set<CassandraPersistentEntity<?>>>();
 
-	protected Set<CassandraPersistentEntity<?>> primaryKeyEntities = new HashSet<CassandraPersistentEntity<?>>();
-	protected Set<CassandraPersistentEntity<?>> userDefinedTypes = new HashSet<CassandraPersistentEntity<?>>();
-	protected Set<CassandraPersistentEntity<?>> tableEntities = new HashSet<CassandraPersistentEntity<?>>();
+	protected Set<CassandraPersistentEntity<?>> primaryKeyEntities = newConcurrentSet();
+	protected Set<CassandraPersistentEntity<?>> userDefinedTypes = newConcurrentSet();
+	protected Set<CassandraPersistentEntity<?>> tableEntities = newConcurrentSet();
+
+	private final Map<CassandraPersistentProperty, CassandraPersistentPropertyMetadata> propertyMetadata = new ConcurrentHashMap<CassandraPersistentProperty, CassandraPersistentPropertyMetadata>();
 
 	private CustomConversions customConversions;
 
 	private UserTypeResolver userTypeResolver;
 
+	private Set<? extends Class<?>> initialEntitySet = Collections.emptySet();
+
+	private Executor initializationExecutor;
+
 	/**
 	 * Creates a new {@link BasicCassandraMappingContext}.
 	 */
@@ -99,8 +116,168 @@ public class BasicCassandraMappingContext
 	 */
 	@Override
 	public void initialize() {
+
+		introspectInitialEntitySet();
+
 		super.initialize();
 		processMappingOverrides();
+		initializePropertyMetadata();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mapping.context.AbstractMappingContext#setInitialEntitySet(java.util.Set)
+	 */
+	@Override
+	public void setInitialEntitySet(Set<? extends Class<?>> initialEntitySet) {
+
+		super.setInitialEntitySet(initialEntitySet);
+		this.initialEntitySet = (initialEntitySet != null ? initialEntitySet : Collections.<Class<?>> emptySet());
+	}
+
+	/**
+	 * Set the {@link Executor} used to prepare persistent entities in parallel during {@link #initialize()}. With an
+	 * {@link Executor}, the types of the initial entity set are introspected and the property metadata of all entities
+	 * is resolved in parallel. Entities are registered sequentially as {@link AbstractMappingContext} serializes entity
+	 * registration. Without an {@link Executor} (the default), initialization runs on the calling thread.
+	 *
+	 * @param initializationExecutor may be {@literal null}.
+	 * @since 1.6
+	 */
+	public void setInitializationExecutor(Executor initializationExecutor) {
+		this.initializationExecutor = initializationExecutor;
+	}
+
+	/**
+	 * Introspect the bean properties of the initial entity set in parallel so that the sequential entity registration
+	 * uses cached introspection results.
+	 */
+	private void introspectInitialEntitySet() {
+
+		if (initializationExecutor == null) {
+			return;
+		}
+
+		List<Runnable> tasks = new ArrayList<Runnable>(initialEntitySet.size());
+
+		for (final Class<?> type : initialEntitySet) {
+
+			tasks.add(new Runnable() {
+
+				@Override
+				public void run() {
+					BeanUtils.getPropertyDescriptors(type);
+					ClassTypeInformation.from(type);
+				}
+			});
+		}
+
+		runAll(tasks);
+	}
+
+	/**
+	 * Precompute {@link CassandraPersistentPropertyMetadata} for all known persistent properties once mapping overrides
+	 * are applied. Metadata of properties referencing user types is never cached but resolved on each access, as the
+	 * user type might not exist before schema creation and may be altered at runtime.
+	 */
+	protected void initializePropertyMetadata() {
+
+		propertyMetadata.clear();
+
+		List<Runnable> tasks = new ArrayList<Runnable>();
+
+		for (final CassandraPersistentEntity<?> entity : getPersistentEntities(true)) {
+
+			tasks.add(new Runnable() {
+
+				@Override
+				public void run() {
+					initializePropertyMetadata(entity);
+				}
+			});
+		}
+
+		runAll(tasks);
+	}
+
+	private void initializePropertyMetadata(CassandraPersistentEntity<?> entity) {
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				try {
+					if (!referencesUserType(property)) {
+						getPropertyMetadata(property);
+					}
+				} catch (InvalidDataAccessApiUsageException e) {
+					// data type not resolvable, fail on first access
+				}
+			}
+		});
+	}
+
+	/**
+	 * Run {@code tasks} on the {@link #setInitializationExecutor(Executor) initialization executor} and await their
+	 * completion or run these on the calling thread if no {@link Executor} is configured.
+	 */
+	private void runAll(List<Runnable> tasks) {
+
+		Executor executor = this.initializationExecutor;
+
+		if (executor == null || tasks.size() < 2) {
+
+			for (Runnable task : tasks) {
+				task.run();
+			}
+
+			return;
+		}
+
+		List<FutureTask<Object>> futures = new ArrayList<FutureTask<Object>>(tasks.size());
+
+		for (Runnable task : tasks) {
+
+			FutureTask<Object> future = new FutureTask<Object>(task, null);
+			futures.add(future);
+			executor.execute(future);
+		}
+
+		for (FutureTask<Object> future : futures) {
+
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while initializing the mapping context", e);
+			} catch (ExecutionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+
+				throw new IllegalStateException("Cannot initialize the mapping context", e.getCause());
+			}
+		}
+	}
+
+	private boolean referencesUserType(CassandraPersistentProperty property) {
+
+		CassandraType cassandraType = property.findAnnotation(CassandraType.class);
+
+		if (cassandraType != null) {
+			return StringUtils.hasText(cassandraType.userTypeName());
+		}
+
+		Class<?> actualType = (property.isLazyValue() ? property.getLazyValueType().getActualType().getType()
+				: property.getActualType());
+		CassandraPersistentEntity<?> entity = entitiesByType.get(actualType);
+
+		return (entity != null && entity.isUserDefinedType());
 	}
 
 	/* (non-Javadoc) */
@@ -186,6 +363,7 @@ public class BasicCassandraMappingContext
 		Assert.notNull(customConversions, "CustomConversions must not be null");
 
 		this.customConversions = customConversions;
+		clearCachedPropertyMetadata(null);
 	}
 
 	public void setMapping(Mapping mapping) {
@@ -206,6 +384,38 @@ public class BasicCassandraMappingContext
 		Assert.notNull(userTypeResolver, "UserTypeResolver must not be null");
 
 		this.userTypeResolver = userTypeResolver;
+		clearCachedPropertyMetadata(userTypeResolver);
+	}
+
+	/**
+	 * Discard the {@link CassandraPersistentPropertyMetadata} and the {@link DataType}s cached by the persistent
+	 * properties of all known entities, passing a changed {@link UserTypeResolver} on to the properties.
+	 */
+	private void clearCachedPropertyMetadata(final UserTypeResolver userTypeResolver) {
+
+		propertyMetadata.clear();
+
+		for (CassandraPersistentEntity<?> entity : getPersistentEntities(true)) {
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					if (!(property instanceof BasicCassandraPersistentProperty)) {
+						return;
+					}
+
+					BasicCassandraPersistentProperty basicProperty = (BasicCassandraPersistentProperty) property;
+
+					if (userTypeResolver != null) {
+						basicProperty.setUserTypeResolver(userTypeResolver);
+					} else {
+						basicProperty.clearCachedDataType();
+					}
+				}
+			});
+		}
 	}
 
 	/**
@@ -282,7 +492,7 @@ public class BasicCassandraMappingContext
 		Set<CassandraPersistentEntity<?>> entities = entitySetsByTableName.get(entity.getTableName());
 
 		if (entities == null) {
-			entities = new HashSet<CassandraPersistentEntity<?>>();
+			entities = newConcurrentSet();
 			entitySetsByTableName.put(entity.getTableName(), entities);
 		}
 
@@ -321,7 +531,22 @@ public class BasicCassandraMappingContext
 	 */
 	@Override
 	public boolean usesTable(TableMetadata table) {
-		return entitySetsByTableName.containsKey(cqlId(table.getName()));
+
+		CqlIdentifier tableName = cqlId(table.getName());
+
+		if (entitySetsByTableName.containsKey(tableName)) {
+			return true;
+		}
+
+		for (CassandraPersistentEntity<?> entity : getTableEntities()) {
+			for (QueryTable queryTable : getQueryTables(entity)) {
+				if (cqlId(queryTable.name(), queryTable.forceQuote()).equals(tableName)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
 	}
 
 	/* (non-Javadoc)
@@ -451,6 +676,244 @@ public class BasicCassandraMappingContext
 		return specification;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraMappingContext#getCreateMaterializedViewSpecificationsFor(org.springframework.data.cassandra.mapping.CassandraPersistentEntity)
+	 */
+	@Override
+	public List<CreateMaterializedViewSpecification> getCreateMaterializedViewSpecificationsFor(
+			CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		List<MaterializedView> views = new ArrayList<MaterializedView>();
+
+		MaterializedView view = entity.findAnnotation(MaterializedView.class);
+		MaterializedViews viewContainer = entity.findAnnotation(MaterializedViews.class);
+
+		if (view != null) {
+			views.add(view);
+		}
+
+		if (viewContainer != null) {
+			Collections.addAll(views, viewContainer.value());
+		}
+
+		if (views.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		KeyColumns keyColumns = new KeyColumns(entity);
+		List<CreateMaterializedViewSpecification> specifications = new ArrayList<CreateMaterializedViewSpecification>(
+				views.size());
+
+		for (MaterializedView materializedView : views) {
+
+			KeyLayout keyLayout = keyColumns.layout("materialized view", materializedView.name(),
+					materializedView.partitionKey(), materializedView.clusteredKey());
+
+			CreateMaterializedViewSpecification specification = CreateMaterializedViewSpecification
+					.createMaterializedView(cqlId(materializedView.name(), materializedView.forceQuote()))
+					.baseTable(entity.getTableName());
+
+			for (CqlIdentifier columnName : keyLayout.partitionKey) {
+				specification.partitionKeyColumn(columnName);
+			}
+
+			for (Map.Entry<CqlIdentifier, Ordering> column : keyLayout.clusteredKey.entrySet()) {
+				specification.clusteredKeyColumn(column.getKey(), column.getValue());
+			}
+
+			specifications.add(specification);
+		}
+
+		return specifications;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraMappingContext#getCreateQueryTableSpecificationsFor(org.springframework.data.cassandra.mapping.CassandraPersistentEntity)
+	 */
+	@Override
+	public List<CreateTableSpecification> getCreateQueryTableSpecificationsFor(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		if (getQueryTables(entity).isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return getCreateQueryTableSpecificationsFor(entity, getCreateTableSpecificationFor(entity));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraMappingContext#getCreateQueryTableSpecificationsFor(org.springframework.data.cassandra.mapping.CassandraPersistentEntity, org.springframework.cassandra.core.keyspace.CreateTableSpecification)
+	 */
+	@Override
+	public List<CreateTableSpecification> getCreateQueryTableSpecificationsFor(CassandraPersistentEntity<?> entity,
+			CreateTableSpecification tableSpecification) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableSpecification, "CreateTableSpecification must not be null");
+
+		List<QueryTable> queryTables = getQueryTables(entity);
+
+		if (queryTables.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		KeyColumns keyColumns = new KeyColumns(entity);
+		Map<CqlIdentifier, ColumnSpecification> tableColumns = new LinkedHashMap<CqlIdentifier, ColumnSpecification>();
+
+		for (ColumnSpecification column : tableSpecification.getColumns()) {
+			tableColumns.put(column.getName(), column);
+		}
+
+		List<CreateTableSpecification> specifications = new ArrayList<CreateTableSpecification>(queryTables.size());
+
+		for (QueryTable queryTable : queryTables) {
+
+			KeyLayout keyLayout = keyColumns.layout("query table", queryTable.name(), queryTable.partitionKey(),
+					queryTable.clusteredKey());
+
+			CreateTableSpecification specification = createTable(cqlId(queryTable.name(), queryTable.forceQuote()));
+
+			for (CqlIdentifier columnName : keyLayout.partitionKey) {
+				specification.partitionKeyColumn(columnName, tableColumns.get(columnName).getType());
+			}
+
+			for (Map.Entry<CqlIdentifier, Ordering> column : keyLayout.clusteredKey.entrySet()) {
+				specification.clusteredKeyColumn(column.getKey(), tableColumns.get(column.getKey()).getType(),
+						column.getValue());
+			}
+
+			for (ColumnSpecification column : tableColumns.values()) {
+				if (!keyLayout.contains(column.getName())) {
+					specification.column(column.getName(), column.getType());
+				}
+			}
+
+			specifications.add(specification);
+		}
+
+		return specifications;
+	}
+
+	private static List<QueryTable> getQueryTables(CassandraPersistentEntity<?> entity) {
+
+		List<QueryTable> queryTables = new ArrayList<QueryTable>();
+
+		QueryTable queryTable = entity.findAnnotation(QueryTable.class);
+		QueryTables queryTableContainer = entity.findAnnotation(QueryTables.class);
+
+		if (queryTable != null) {
+			queryTables.add(queryTable);
+		}
+
+		if (queryTableContainer != null) {
+			Collections.addAll(queryTables, queryTableContainer.value());
+		}
+
+		return queryTables;
+	}
+
+	/**
+	 * Columns and primary key columns of a table entity used to derive the key layout of materialized views and query
+	 * tables.
+	 */
+	private class KeyColumns {
+
+		private final CassandraPersistentEntity<?> entity;
+		private final Set<CqlIdentifier> columns = new HashSet<CqlIdentifier>();
+		private final Map<CqlIdentifier, Ordering> primaryKeyColumns = new LinkedHashMap<CqlIdentifier, Ordering>();
+
+		KeyColumns(CassandraPersistentEntity<?> entity) {
+
+			this.entity = entity;
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					if (property.isCompositePrimaryKey()) {
+						for (CassandraPersistentProperty primaryKeyProperty : getPersistentEntity(property.getRawType())
+								.getCompositePrimaryKeyProperties()) {
+
+							columns.add(primaryKeyProperty.getColumnName());
+							primaryKeyColumns.put(primaryKeyProperty.getColumnName(), primaryKeyProperty.getPrimaryKeyOrdering());
+						}
+					} else {
+
+						columns.add(property.getColumnName());
+
+						if (property.isIdProperty() || property.isPrimaryKeyColumn()) {
+							primaryKeyColumns.put(property.getColumnName(), property.getPrimaryKeyOrdering());
+						}
+					}
+				}
+			});
+		}
+
+		/**
+		 * Resolve the key layout of a view or query table. Primary key columns of the entity table not contained in the
+		 * declared key are appended to the clustering columns to keep rows unique.
+		 */
+		KeyLayout layout(String kind, String name, String[] partitionKey, String[] clusteredKey) {
+
+			if (partitionKey.length == 0) {
+				throw new MappingException(String.format("No partition key columns declared for %s [%s] of [%s]", kind, name,
+						entity.getType()));
+			}
+
+			KeyLayout keyLayout = new KeyLayout();
+
+			for (String column : partitionKey) {
+				keyLayout.partitionKey.add(getColumn(kind, name, column));
+			}
+
+			for (String column : clusteredKey) {
+
+				CqlIdentifier columnName = getColumn(kind, name, column);
+				keyLayout.clusteredKey.put(columnName, primaryKeyColumns.get(columnName));
+			}
+
+			for (Map.Entry<CqlIdentifier, Ordering> primaryKeyColumn : primaryKeyColumns.entrySet()) {
+				if (!keyLayout.contains(primaryKeyColumn.getKey())) {
+					keyLayout.clusteredKey.put(primaryKeyColumn.getKey(), primaryKeyColumn.getValue());
+				}
+			}
+
+			return keyLayout;
+		}
+
+		private CqlIdentifier getColumn(String kind, String name, String column) {
+
+			CqlIdentifier columnName = cqlId(column);
+
+			if (!columns.contains(columnName)) {
+				throw new MappingException(
+						String.format("Unknown column [%s] in %s [%s] of [%s]", column, kind, name, entity.getType()));
+			}
+
+			return columnName;
+		}
+	}
+
+	/**
+	 * Partition key and clustering columns of a view or query table.
+	 */
+	private static class KeyLayout {
+
+		final List<CqlIdentifier> partitionKey = new ArrayList<CqlIdentifier>();
+		final Map<CqlIdentifier, Ordering> clusteredKey = new LinkedHashMap<CqlIdentifier, Ordering>();
+
+		boolean contains(CqlIdentifier columnName) {
+			return partitionKey.contains(columnName) || clusteredKey.containsKey(columnName);
+		}
+	}
+
 	/* (non-Javadoc)
 		 * @see org.springframework.data.mapping.context.AbstractMappingContext#shouldCreatePersistentEntityFor(org.springframework.data.util.TypeInformation)
 		 */
@@ -479,6 +942,34 @@ public class BasicCassandraMappingContext
 			return property.getDataType();
 		}
 
+		return getPropertyMetadata(property).getDataType();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraMappingContext#getPropertyMetadata(org.springframework.data.cassandra.mapping.CassandraPersistentProperty)
+	 */
+	@Override
+	public CassandraPersistentPropertyMetadata getPropertyMetadata(CassandraPersistentProperty property) {
+
+		Assert.notNull(property, "CassandraPersistentProperty must not be null");
+
+		CassandraPersistentPropertyMetadata metadata = propertyMetadata.get(property);
+
+		if (metadata == null) {
+
+			metadata = new CassandraPersistentPropertyMetadata(property,
+					property.isCompositePrimaryKey() ? null : resolveDataType(property));
+
+			if (!referencesUserType(property)) {
+				propertyMetadata.put(property, metadata);
+			}
+		}
+
+		return metadata;
+	}
+
+	private DataType resolveDataType(CassandraPersistentProperty property) {
+
 		if (property.findAnnotation(CassandraType.class) != null) {
 			return property.getDataType();
 		}
@@ -535,4 +1026,8 @@ public class BasicCassandraMappingContext
 	public boolean contains(Class<?> type) {
 		return entitiesByType.containsKey(type);
 	}
+
+	private static Set<CassandraPersistentEntity<?>> newConcurrentSet() {
+		return Collections.newSetFromMap(new ConcurrentHashMap<CassandraPersistentEntity<?>, Boolean>());
+	}
 }
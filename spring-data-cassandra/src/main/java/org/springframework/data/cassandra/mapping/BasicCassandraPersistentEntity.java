@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.BeansException;
+import org.springframework.cassandra.core.NullWriteStrategy;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.support.exception.UnsupportedCassandraOperationException;
 import org.springframework.context.ApplicationContext;
@@ -65,6 +66,10 @@ public class BasicCassandraPersistentEntity<T> extends BasicPersistentEntity<T,
 
 	protected StandardEvaluationContext spelContext;
 
+	private volatile TimeBucketProperty timeBucketProperty;
+
+	private volatile boolean timeBucketPropertyResolved;
+
 	public BasicCassandraPersistentEntity(TypeInformation<T> typeInformation) {
 		this(typeInformation, null, DEFAULT_VERIFIER);
 	}
@@ -229,6 +234,31 @@ public class BasicCassandraPersistentEntity<T> extends BasicPersistentEntity<T,
 		return null;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraPersistentEntity#getNullWriteStrategy()
+	 */
+	@Override
+	public NullWriteStrategy getNullWriteStrategy() {
+
+		Table tableAnnotation = findAnnotation(Table.class);
+
+		return (tableAnnotation != null ? tableAnnotation.nullWriteStrategy() : NullWriteStrategy.WRITE_NULL);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraPersistentEntity#getTimeBucketProperty()
+	 */
+	@Override
+	public TimeBucketProperty getTimeBucketProperty() {
+
+		if (!timeBucketPropertyResolved) {
+			timeBucketProperty = TimeBucketProperty.of(this);
+			timeBucketPropertyResolved = true;
+		}
+
+		return timeBucketProperty;
+	}
+
 	protected CqlIdentifier determineDefaultName() {
 		return cqlId(getType().getSimpleName(), false);
 	}
@@ -81,7 +81,18 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 
 	protected StandardEvaluationContext spelContext;
 
-	private final UserTypeResolver userTypeResolver;
+	private volatile UserTypeResolver userTypeResolver;
+
+	private final boolean compositePrimaryKey;
+
+	private final PrimaryKeyType primaryKeyType;
+
+	private final Ordering primaryKeyOrdering;
+
+	/**
+	 * The resolved {@link DataType}, cached once it could be determined unless it references a user type.
+	 */
+	private volatile DataType dataType;
 
 	/**
 	 * Creates a new {@link BasicCassandraPersistentProperty}.
@@ -113,6 +124,12 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 		super(field, propertyDescriptor, owner, simpleTypeHolder);
 
 		this.userTypeResolver = userTypeResolver;
+		this.compositePrimaryKey = (AnnotatedElementUtils.findMergedAnnotation(getType(), PrimaryKeyClass.class) != null);
+
+		PrimaryKeyColumn primaryKeyColumn = findAnnotation(PrimaryKeyColumn.class);
+
+		this.primaryKeyType = (primaryKeyColumn != null ? primaryKeyColumn.type() : null);
+		this.primaryKeyOrdering = (primaryKeyColumn != null ? primaryKeyColumn.ordering() : null);
 
 		if (owner.getApplicationContext() != null) {
 			setApplicationContext(owner.getApplicationContext());
@@ -138,7 +155,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 
 	@Override
 	public boolean isCompositePrimaryKey() {
-		return (AnnotatedElementUtils.findMergedAnnotation(getType(), PrimaryKeyClass.class) != null);
+		return compositePrimaryKey;
 	}
 
 	public Class<?> getCompositePrimaryKeyType() {
@@ -162,10 +179,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 
 	@Override
 	public Ordering getPrimaryKeyOrdering() {
-
-		PrimaryKeyColumn primaryKeyColumn = findAnnotation(PrimaryKeyColumn.class);
-
-		return (primaryKeyColumn != null ? primaryKeyColumn.ordering() : null);
+		return primaryKeyOrdering;
 	}
 
 	/* (non-Javadoc)
@@ -174,7 +188,13 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	@Override
 	public DataType getDataType() {
 
-		DataType dataType = findDataType();
+		DataType dataType = this.dataType;
+
+		if (dataType != null) {
+			return dataType;
+		}
+
+		dataType = findDataType();
 
 		if (dataType == null) {
 			throw new InvalidDataAccessApiUsageException(String.format(
@@ -182,9 +202,47 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 					getType(), getName(), getOwner().getName()));
 		}
 
+		if (!containsUserType(dataType)) {
+			this.dataType = dataType;
+		}
+
 		return dataType;
 	}
 
+	/**
+	 * Discard the cached {@link DataType}. Called by the mapping context if the type mapping changes.
+	 */
+	void clearCachedDataType() {
+		this.dataType = null;
+	}
+
+	/**
+	 * Replace the {@link UserTypeResolver} and discard the cached {@link DataType}.
+	 */
+	void setUserTypeResolver(UserTypeResolver userTypeResolver) {
+
+		this.userTypeResolver = userTypeResolver;
+		this.dataType = null;
+	}
+
+	/**
+	 * User types are resolved from the current schema on each access, they may change at runtime.
+	 */
+	private static boolean containsUserType(DataType dataType) {
+
+		if (dataType instanceof UserType) {
+			return true;
+		}
+
+		for (DataType typeArgument : dataType.getTypeArguments()) {
+			if (containsUserType(typeArgument)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private DataType findDataType() {
 
 		CassandraType cassandraType = findAnnotation(CassandraType.class);
@@ -193,29 +251,49 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 			return getDataTypeFor(cassandraType);
 		}
 
-		if (isMap()) {
-			List<TypeInformation<?>> args = getTypeInformation().getTypeArguments();
+		if (isLazyValue()) {
+
+			TypeInformation<?> valueType = getLazyValueType();
+
+			if (valueType.isMap() || valueType.isCollectionLike()) {
+				return findDataType(valueType);
+			}
+
+			CassandraPersistentEntity<?> persistentEntity = getOwner().getMappingContext()
+					.getPersistentEntity(valueType.getType());
+
+			return (persistentEntity != null && persistentEntity.isUserDefinedType() ? persistentEntity.getUserType()
+					: CassandraSimpleTypeHolder.getDataTypeFor(valueType.getType()));
+		}
+
+		return findDataType(getTypeInformation());
+	}
+
+	private DataType findDataType(TypeInformation<?> typeInformation) {
+
+		if (typeInformation.isMap()) {
+			List<TypeInformation<?>> args = typeInformation.getTypeArguments();
 
 			ensureTypeArguments(args.size(), 2);
 
 			return DataType.map(getDataTypeFor(args.get(0).getType()), getDataTypeFor(args.get(1).getType()));
 		}
 
-		if (isCollectionLike()) {
-			List<TypeInformation<?>> args = getTypeInformation().getTypeArguments();
+		if (typeInformation.isCollectionLike()) {
+			List<TypeInformation<?>> args = typeInformation.getTypeArguments();
 
 			ensureTypeArguments(args.size(), 1);
 
-			if (Set.class.isAssignableFrom(getType())) {
+			if (Set.class.isAssignableFrom(typeInformation.getType())) {
 				return DataType.set(getDataTypeFor(args.get(0).getType()));
 			}
 
-			if (List.class.isAssignableFrom(getType())) {
+			if (List.class.isAssignableFrom(typeInformation.getType())) {
 				return DataType.list(getDataTypeFor(args.get(0).getType()));
 			}
 		}
 
-		return CassandraSimpleTypeHolder.getDataTypeFor(getType());
+		return CassandraSimpleTypeHolder.getDataTypeFor(typeInformation.getType());
 	}
 
 	private DataType getDataTypeFor(CassandraType annotation) {
@@ -271,23 +349,17 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 
 	@Override
 	public boolean isClusterKeyColumn() {
-
-		PrimaryKeyColumn primaryKeyColumn = findAnnotation(PrimaryKeyColumn.class);
-
-		return (primaryKeyColumn != null && PrimaryKeyType.CLUSTERED.equals(primaryKeyColumn.type()));
+		return PrimaryKeyType.CLUSTERED.equals(primaryKeyType);
 	}
 
 	@Override
 	public boolean isPartitionKeyColumn() {
-
-		PrimaryKeyColumn primaryKeyColumn = findAnnotation(PrimaryKeyColumn.class);
-
-		return (primaryKeyColumn != null && PrimaryKeyType.PARTITIONED.equals(primaryKeyColumn.type()));
+		return PrimaryKeyType.PARTITIONED.equals(primaryKeyType);
 	}
 
 	@Override
 	public boolean isPrimaryKeyColumn() {
-		return isAnnotationPresent(PrimaryKeyColumn.class);
+		return (primaryKeyType != null);
 	}
 
 	protected DataType getDataTypeFor(DataType.Name dataTypeName) {
@@ -477,4 +549,29 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	public boolean isMapLike() {
 		return ClassUtils.isAssignable(Map.class, getType());
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraPersistentProperty#isLazyValue()
+	 */
+	@Override
+	public boolean isLazyValue() {
+		return LazyValue.class.equals(getType());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.mapping.CassandraPersistentProperty#getLazyValueType()
+	 */
+	@Override
+	public TypeInformation<?> getLazyValueType() {
+
+		if (!isLazyValue()) {
+			return null;
+		}
+
+		List<TypeInformation<?>> args = getTypeInformation().getTypeArguments();
+
+		ensureTypeArguments(args.size(), 1);
+
+		return args.get(0);
+	}
 }
@@ -16,11 +16,13 @@
 package org.springframework.data.cassandra.mapping;
 
 import java.util.Collection;
+import java.util.List;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.TableMetadata;
 import com.datastax.driver.core.UserType;
 
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
 import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.cassandra.core.keyspace.CreateUserTypeSpecification;
 import org.springframework.data.cassandra.convert.CustomConversions;
@@ -96,6 +98,43 @@ public interface CassandraMappingContext
 	 */
 	CreateUserTypeSpecification getCreateUserTypeSpecificationFor(CassandraPersistentEntity<?> entity);
 
+	/**
+	 * Returns the {@link CreateMaterializedViewSpecification}s of the {@link MaterializedView materialized views}
+	 * declared by the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the view specifications in declaration order, an empty {@link List} if the entity declares no views.
+	 * @since 1.6
+	 * @see MaterializedView
+	 */
+	List<CreateMaterializedViewSpecification> getCreateMaterializedViewSpecificationsFor(
+			CassandraPersistentEntity<?> entity);
+
+	/**
+	 * Returns the {@link CreateTableSpecification}s of the {@link QueryTable query tables} declared by the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the query table specifications in declaration order, an empty {@link List} if the entity declares no
+	 *         query tables.
+	 * @since 1.6
+	 * @see QueryTable
+	 */
+	List<CreateTableSpecification> getCreateQueryTableSpecificationsFor(CassandraPersistentEntity<?> entity);
+
+	/**
+	 * Returns the {@link CreateTableSpecification}s of the {@link QueryTable query tables} declared by the given entity
+	 * deriving the column types from the given {@link CreateTableSpecification} of the entity's table.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param tableSpecification the specification of the entity's table, must not be {@literal null}.
+	 * @return the query table specifications in declaration order, an empty {@link List} if the entity declares no
+	 *         query tables.
+	 * @since 1.6
+	 * @see QueryTable
+	 */
+	List<CreateTableSpecification> getCreateQueryTableSpecificationsFor(CassandraPersistentEntity<?> entity,
+			CreateTableSpecification tableSpecification);
+
 	/**
 	 * Returns whether this mapping context has any entities mapped to the given table.
 	 *
@@ -157,4 +196,15 @@ public interface CassandraMappingContext
 	 */
 	DataType getDataType(Class<?> type);
 
+	/**
+	 * Retrieve the precomputed {@link CassandraPersistentPropertyMetadata} of the property. Metadata is resolved once and
+	 * served from a concurrent cache afterwards, except for properties referencing user types whose metadata is resolved
+	 * on each call so that altered user types are picked up.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the {@link CassandraPersistentPropertyMetadata} for {@code property}.
+	 * @since 1.6
+	 */
+	CassandraPersistentPropertyMetadata getPropertyMetadata(CassandraPersistentProperty property);
+
 }
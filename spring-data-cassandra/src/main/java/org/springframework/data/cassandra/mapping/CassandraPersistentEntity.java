@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.mapping;
 
 import java.util.List;
 
+import org.springframework.cassandra.core.NullWriteStrategy;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -67,4 +68,18 @@ public interface CassandraPersistentEntity<T>
 	 * @see UserDefinedType
 	 */
 	UserType getUserType();
+
+	/**
+	 * @return the {@link NullWriteStrategy} to apply when inserting rows with {@literal null} values.
+	 * @since 1.6
+	 * @see Table#nullWriteStrategy()
+	 */
+	NullWriteStrategy getNullWriteStrategy();
+
+	/**
+	 * @return the {@link TimeBucketProperty} if the entity declares a {@link TimeBucket}, otherwise {@literal null}.
+	 * @since 1.6
+	 * @see TimeBucket
+	 */
+	TimeBucketProperty getTimeBucketProperty();
 }
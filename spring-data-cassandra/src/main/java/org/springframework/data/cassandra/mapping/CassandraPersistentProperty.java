@@ -147,6 +147,23 @@ public interface CassandraPersistentProperty
 	 */
 	boolean isMapLike();
 
+	/**
+	 * Returns whether the property is declared as {@link LazyValue}.
+	 *
+	 * @return {@literal true} if the property value is decoded lazily.
+	 * @since 1.6
+	 */
+	boolean isLazyValue();
+
+	/**
+	 * Returns the {@link TypeInformation} of the value held by a {@link LazyValue} property.
+	 *
+	 * @return the value type or {@literal null} if the property is not a {@link LazyValue}.
+	 * @since 1.6
+	 * @see #isLazyValue()
+	 */
+	TypeInformation<?> getLazyValueType();
+
 	enum PropertyToFieldNameConverter implements Converter<CassandraPersistentProperty, String> {
 
 		INSTANCE;
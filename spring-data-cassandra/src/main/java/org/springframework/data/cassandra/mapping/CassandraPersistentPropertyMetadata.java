@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Immutable snapshot of the resolved mapping facts of a {@link CassandraPersistentProperty}. Instances are computed once
+ * by the {@link CassandraMappingContext} so that column names, the Cassandra {@link DataType}, the {@link TypeCodec}
+ * and the primary key role are available without repeated annotation and type resolution. Snapshots of properties
+ * referencing user types are not cached by the context.
+ *
+ * @author agent
+ * @since 1.6
+ * @see CassandraMappingContext#getPropertyMetadata(CassandraPersistentProperty)
+ */
+public class CassandraPersistentPropertyMetadata {
+
+	private final CassandraPersistentProperty property;
+	private final List<CqlIdentifier> columnNames;
+	private final DataType dataType;
+	private final TypeCodec<Object> codec;
+	private final PrimaryKeyType primaryKeyType;
+	private final Ordering primaryKeyOrdering;
+	private final boolean compositePrimaryKey;
+
+	/**
+	 * Creates a new {@link CassandraPersistentPropertyMetadata} for the given {@link CassandraPersistentProperty} and its
+	 * resolved {@link DataType}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param dataType the resolved {@link DataType}, may be {@literal null} for composite primary key properties.
+	 */
+	public CassandraPersistentPropertyMetadata(CassandraPersistentProperty property, DataType dataType) {
+
+		Assert.notNull(property, "CassandraPersistentProperty must not be null");
+
+		this.property = property;
+		this.columnNames = Collections.unmodifiableList(property.getColumnNames());
+		this.dataType = dataType;
+		this.codec = (dataType != null ? CodecRegistry.DEFAULT_INSTANCE.<Object> codecFor(dataType) : null);
+		this.primaryKeyType = (property.isPartitionKeyColumn() ? PrimaryKeyType.PARTITIONED
+				: property.isClusterKeyColumn() ? PrimaryKeyType.CLUSTERED : null);
+		this.primaryKeyOrdering = property.getPrimaryKeyOrdering();
+		this.compositePrimaryKey = property.isCompositePrimaryKey();
+	}
+
+	/**
+	 * @return the underlying {@link CassandraPersistentProperty}.
+	 */
+	public CassandraPersistentProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * @return the unmodifiable list of column names.
+	 */
+	public List<CqlIdentifier> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * @return the single column name.
+	 * @throws IllegalStateException if the property is mapped to multiple columns.
+	 */
+	public CqlIdentifier getColumnName() {
+
+		Assert.state(columnNames.size() == 1,
+				String.format("Property [%s] has no single column mapping", property.getName()));
+
+		return columnNames.get(0);
+	}
+
+	/**
+	 * @return the Cassandra {@link DataType}, {@literal null} for composite primary key properties.
+	 */
+	public DataType getDataType() {
+		return dataType;
+	}
+
+	/**
+	 * @return the {@link TypeCodec} from {@link CodecRegistry#DEFAULT_INSTANCE} for the {@link DataType},
+	 *         {@literal null} for composite primary key properties.
+	 */
+	public TypeCodec<Object> getCodec() {
+		return codec;
+	}
+
+	/**
+	 * @return the {@link PrimaryKeyType} if the property is a partition or cluster key column, otherwise
+	 *         {@literal null}.
+	 */
+	public PrimaryKeyType getPrimaryKeyType() {
+		return primaryKeyType;
+	}
+
+	/**
+	 * @return the {@link Ordering} of a primary key column, may be {@literal null}.
+	 */
+	public Ordering getPrimaryKeyOrdering() {
+		return primaryKeyOrdering;
+	}
+
+	/**
+	 * @return {@literal true} if the property is a partition key column.
+	 */
+	public boolean isPartitionKeyColumn() {
+		return PrimaryKeyType.PARTITIONED.equals(primaryKeyType);
+	}
+
+	/**
+	 * @return {@literal true} if the property is a cluster key column.
+	 */
+	public boolean isClusterKeyColumn() {
+		return PrimaryKeyType.CLUSTERED.equals(primaryKeyType);
+	}
+
+	/**
+	 * @return {@literal true} if the property is a composite primary key.
+	 */
+	public boolean isCompositePrimaryKey() {
+		return compositePrimaryKey;
+	}
+}
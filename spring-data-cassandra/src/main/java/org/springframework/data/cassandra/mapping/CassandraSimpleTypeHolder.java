@@ -65,6 +65,7 @@ public class CassandraSimpleTypeHolder extends SimpleTypeHolder {
 		simpleTypes.add(Number.class);
 		simpleTypes.add(Row.class);
 		simpleTypes.add(UDTValue.class);
+		simpleTypes.add(LazyValue.class);
 
 		classToDataType = Collections.unmodifiableMap(classToDataType(primitiveWrappers, codecRegistry));
 		nameToDataType = Collections.unmodifiableMap(nameToDataType());
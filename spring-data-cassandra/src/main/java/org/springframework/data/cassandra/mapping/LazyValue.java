@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Holder for a column value that is decoded on first access. Declaring a persistent property as {@code LazyValue<T>}
+ * maps the property to a column of type {@code T}. Entities read from a row retain the raw cell and defer decoding
+ * (including the conversion of user-defined types and collection elements) until {@link #get()} is called, so wide
+ * entities only pay for the columns that are actually accessed.
+ * <p>
+ * The value type {@code T} must map to a native Cassandra type, a {@link UserDefinedType} or a collection thereof.
+ * {@link LazyValue} is thread-safe; the value is decoded at most once.
+ *
+ * @author agent
+ * @since 1.6
+ */
+public final class LazyValue<T> {
+
+	private static final LazyValue<?> EMPTY = new LazyValue<Object>(null, null);
+
+	private volatile Resolver<T> resolver;
+	private T value;
+
+	private LazyValue(T value, Resolver<T> resolver) {
+
+		this.value = value;
+		this.resolver = resolver;
+	}
+
+	/**
+	 * Create a resolved {@link LazyValue} holding {@code value}.
+	 *
+	 * @param value may be {@literal null}.
+	 * @return the {@link LazyValue}.
+	 */
+	public static <T> LazyValue<T> of(T value) {
+		return (value != null ? new LazyValue<T>(value, null) : LazyValue.<T> empty());
+	}
+
+	/**
+	 * @return a resolved {@link LazyValue} holding {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> LazyValue<T> empty() {
+		return (LazyValue<T>) EMPTY;
+	}
+
+	/**
+	 * Create a {@link LazyValue} obtaining its value from {@link Resolver} on first access.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return the {@link LazyValue}.
+	 */
+	public static <T> LazyValue<T> lazy(Resolver<T> resolver) {
+
+		Assert.notNull(resolver, "Resolver must not be null");
+
+		return new LazyValue<T>(null, resolver);
+	}
+
+	/**
+	 * Return the value, resolving it if necessary.
+	 *
+	 * @return the value, may be {@literal null}.
+	 */
+	public T get() {
+
+		if (resolver != null) {
+			synchronized (this) {
+
+				Resolver<T> resolver = this.resolver;
+
+				if (resolver != null) {
+					this.value = resolver.resolve();
+					this.resolver = null;
+				}
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * @return {@literal true} if the value was resolved.
+	 */
+	public boolean isResolved() {
+		return resolver == null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof LazyValue)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(get(), ((LazyValue<?>) obj).get());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHashCode(get());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return (isResolved() ? String.format("LazyValue [%s]", value) : "LazyValue [unresolved]");
+	}
+
+	/**
+	 * Callback to obtain the value of a {@link LazyValue}.
+	 */
+	public interface Resolver<T> {
+
+		/**
+		 * @return the resolved value, may be {@literal null}.
+		 */
+		T resolve();
+	}
+}
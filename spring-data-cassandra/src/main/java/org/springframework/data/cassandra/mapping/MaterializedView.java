@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a materialized view of a {@link Table} entity keyed by other columns. The view selects all columns of the
+ * table. Primary key columns of the table that are not part of the view key are appended to the clustering columns of
+ * the view, as required by Cassandra.
+ * <p>
+ * Derived repository queries restricting the partition key of a view but not the partition key of the table are
+ * routed to the view. Declare multiple views using {@link MaterializedViews}.
+ *
+ * @author agent
+ * @since 1.6
+ * @see MaterializedViews
+ */
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.TYPE })
+public @interface MaterializedView {
+
+	/**
+	 * The name of the view; must be a valid CQL identifier or quoted identifier.
+	 */
+	String name();
+
+	/**
+	 * The partition key column names of the view.
+	 */
+	String[] partitionKey();
+
+	/**
+	 * The clustering column names of the view, followed by the primary key columns of the table not contained in the
+	 * view key.
+	 */
+	String[] clusteredKey() default {};
+
+	/**
+	 * Whether to cause the view name to be force-quoted.
+	 */
+	boolean forceQuote() default false;
+}
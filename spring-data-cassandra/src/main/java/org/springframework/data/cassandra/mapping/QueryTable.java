@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a denormalized query table of a {@link Table} entity keyed by other columns. A query table contains all
+ * columns of the entity. Primary key columns of the entity table that are not part of the query table key are appended
+ * to the clustering columns to keep rows unique.
+ * <p>
+ * In contrast to a {@link MaterializedView}, query tables are maintained by the application:
+ * {@link org.springframework.data.cassandra.core.CassandraTemplate} writes and deletes rows of all query tables along
+ * with the entity table. Changing the value of a query table key column deletes the row keyed by the previous value
+ * only if the previous value is known, either from change tracking or from reading the stored key before the update
+ * (see {@link org.springframework.data.cassandra.core.CassandraTemplate#setReadQueryTableKeysBeforeUpdate(boolean)}).
+ * Otherwise, the row keyed by the previous value is left in place; delete the entity in its previous state before
+ * writing it with the new key. Derived repository queries
+ * restricting the partition key of a query table but not the partition key of the entity table are routed to the query
+ * table. Declare multiple query tables using {@link QueryTables}.
+ *
+ * @author agent
+ * @since 1.6
+ * @see QueryTables
+ */
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.TYPE })
+public @interface QueryTable {
+
+	/**
+	 * The name of the query table; must be a valid CQL identifier or quoted identifier.
+	 */
+	String name();
+
+	/**
+	 * The partition key column names of the query table.
+	 */
+	String[] partitionKey();
+
+	/**
+	 * The clustering column names of the query table, followed by the primary key columns of the entity table not
+	 * contained in the query table key.
+	 */
+	String[] clusteredKey() default {};
+
+	/**
+	 * Whether to cause the query table name to be force-quoted.
+	 */
+	boolean forceQuote() default false;
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.cassandra.core.NullWriteStrategy;
 import org.springframework.data.annotation.Persistent;
 
 /**
@@ -44,4 +45,12 @@ public @interface Table {
 	 * Whether to cause the table name to be force-quoted.
 	 */
 	boolean forceQuote() default false;
+
+	/**
+	 * The {@link NullWriteStrategy} to apply when inserting rows with {@literal null} values. Can be overridden per
+	 * operation through {@link org.springframework.cassandra.core.WriteOptions}.
+	 *
+	 * @since 1.6
+	 */
+	NullWriteStrategy nullWriteStrategy() default NullWriteStrategy.WRITE_NULL;
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declares a partition key column holding the time bucket of a timestamp property. Bucketing bounds the size of
+ * time-series partitions: all rows whose timestamp falls into the same bucket share a partition.
+ * <p>
+ * The annotated property must be a {@link PrimaryKeyColumn partition key column} of type {@code long},
+ * {@link Long} or {@link java.util.Date} and is set to the start of the bucket, in epoch milliseconds, whenever
+ * {@link org.springframework.data.cassandra.core.CassandraTemplate} writes or deletes the entity. The timestamp
+ * property must be declared in the same type, either the entity or its {@link PrimaryKeyClass}. Derived repository
+ * queries returning collections that restrict the timestamp by a range but do not restrict the bucket are executed as
+ * one query per bucket.
+ *
+ * <pre class="code">
+ * &#64;Table
+ * class Measurement {
+ *
+ * 	&#64;PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String sensorId;
+ * 	&#64;PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.PARTITIONED) &#64;TimeBucket("timestamp") long day;
+ * 	&#64;PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.CLUSTERED) Date timestamp;
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 1.6
+ */
+@Documented
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface TimeBucket {
+
+	/**
+	 * The name of the timestamp property the bucket is derived from.
+	 */
+	String value();
+
+	/**
+	 * The width of a bucket in {@link #unit() units}.
+	 */
+	long width() default 1;
+
+	/**
+	 * The {@link TimeUnit} of the bucket {@link #width()}.
+	 */
+	TimeUnit unit() default TimeUnit.DAYS;
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.util.Assert;
+
+/**
+ * Resolved {@link TimeBucket} metadata of a table entity: the bucket property, the timestamp property it is derived
+ * from and the bucket width.
+ *
+ * @author agent
+ * @since 1.6
+ * @see TimeBucket
+ */
+public class TimeBucketProperty {
+
+	private final CassandraPersistentProperty compositePrimaryKeyProperty;
+	private final CassandraPersistentProperty property;
+	private final CassandraPersistentProperty timestampProperty;
+	private final long width;
+	private final boolean clusteredByTimestamp;
+
+	private TimeBucketProperty(CassandraPersistentProperty compositePrimaryKeyProperty,
+			CassandraPersistentProperty property, CassandraPersistentProperty timestampProperty, long width,
+			boolean clusteredByTimestamp) {
+
+		this.compositePrimaryKeyProperty = compositePrimaryKeyProperty;
+		this.property = property;
+		this.timestampProperty = timestampProperty;
+		this.width = width;
+		this.clusteredByTimestamp = clusteredByTimestamp;
+	}
+
+	/**
+	 * Resolve the {@link TimeBucketProperty} of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link TimeBucketProperty} or {@literal null} if the entity declares no {@link TimeBucket}.
+	 * @throws MappingException if the {@link TimeBucket} declaration is invalid.
+	 */
+	public static TimeBucketProperty of(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		final List<TimeBucketProperty> found = new ArrayList<TimeBucketProperty>(1);
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+
+					CassandraPersistentEntity<?> keyEntity = property.getCompositePrimaryKeyEntity();
+
+					for (CassandraPersistentProperty keyProperty : keyEntity.getCompositePrimaryKeyProperties()) {
+						if (keyProperty.getOwner().equals(keyEntity)) {
+							collect(property, keyEntity, keyProperty, found);
+						}
+					}
+				} else {
+					collect(null, property.getOwner(), property, found);
+				}
+			}
+		});
+
+		if (found.size() > 1) {
+			throw new MappingException(String.format("Entity [%s] declares more than one @TimeBucket", entity.getName()));
+		}
+
+		return (found.isEmpty() ? null : found.get(0));
+	}
+
+	private static void collect(CassandraPersistentProperty compositePrimaryKeyProperty,
+			CassandraPersistentEntity<?> owner, CassandraPersistentProperty property, List<TimeBucketProperty> found) {
+
+		TimeBucket timeBucket = property.findAnnotation(TimeBucket.class);
+
+		if (timeBucket == null) {
+			return;
+		}
+
+		if (!property.isPartitionKeyColumn()) {
+			throw new MappingException(String.format("@TimeBucket property [%s] of [%s] must be a partition key column",
+					property.getName(), owner.getName()));
+		}
+
+		if (!isSupportedBucketType(property.getType())) {
+			throw new MappingException(String.format("@TimeBucket property [%s] of [%s] must be of type long or Date",
+					property.getName(), owner.getName()));
+		}
+
+		if (timeBucket.width() <= 0) {
+			throw new MappingException(String.format("@TimeBucket width of property [%s] of [%s] must be positive",
+					property.getName(), owner.getName()));
+		}
+
+		CassandraPersistentProperty timestampProperty = owner.getPersistentProperty(timeBucket.value());
+
+		if (timestampProperty == null) {
+			throw new MappingException(String.format("Unknown timestamp property [%s] of @TimeBucket property [%s] of [%s]",
+					timeBucket.value(), property.getName(), owner.getName()));
+		}
+
+		found.add(new TimeBucketProperty(compositePrimaryKeyProperty, property, timestampProperty,
+				timeBucket.unit().toMillis(timeBucket.width()), timestampProperty.equals(getFirstClusterKeyColumn(owner))));
+	}
+
+	private static CassandraPersistentProperty getFirstClusterKeyColumn(CassandraPersistentEntity<?> owner) {
+
+		final List<CassandraPersistentProperty> clusterKeyColumns = new ArrayList<CassandraPersistentProperty>();
+
+		owner.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isClusterKeyColumn()) {
+					clusterKeyColumns.add(property);
+				}
+			}
+		});
+
+		return (clusterKeyColumns.isEmpty() ? null : clusterKeyColumns.get(0));
+	}
+
+	private static boolean isSupportedBucketType(Class<?> type) {
+		return (type == Long.TYPE || type == Long.class || type == Date.class);
+	}
+
+	/**
+	 * @return the composite primary key property declaring the bucket and timestamp properties or {@literal null} if
+	 *         they are declared by the entity itself.
+	 */
+	public CassandraPersistentProperty getCompositePrimaryKeyProperty() {
+		return compositePrimaryKeyProperty;
+	}
+
+	/**
+	 * @return the bucket property.
+	 */
+	public CassandraPersistentProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * @return the timestamp property the bucket is derived from.
+	 */
+	public CassandraPersistentProperty getTimestampProperty() {
+		return timestampProperty;
+	}
+
+	/**
+	 * @return the bucket width in milliseconds.
+	 */
+	public long getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return {@literal true} if the timestamp property is the first clustering column so that rows of a bucket are
+	 *         ordered by their timestamp.
+	 */
+	public boolean isClusteredByTimestamp() {
+		return clusteredByTimestamp;
+	}
+
+	/**
+	 * Returns the start of the bucket containing {@code timestamp}.
+	 *
+	 * @param timestamp epoch milliseconds.
+	 * @return the bucket start in epoch milliseconds.
+	 */
+	public long getBucket(long timestamp) {
+		return timestamp - (((timestamp % width) + width) % width);
+	}
+
+	/**
+	 * Returns the starts of all buckets overlapping the range from {@code from} to {@code to}, both inclusive.
+	 *
+	 * @param from epoch milliseconds.
+	 * @param to epoch milliseconds.
+	 * @return the bucket starts in ascending order, empty if {@code from} is after {@code to}.
+	 */
+	public List<Long> getBuckets(long from, long to) {
+
+		List<Long> buckets = new ArrayList<Long>();
+
+		for (long bucket = getBucket(from); bucket <= to; bucket += width) {
+			buckets.add(bucket);
+		}
+
+		return buckets;
+	}
+
+	/**
+	 * Returns the number of buckets overlapping the range from {@code from} to {@code to}, both inclusive.
+	 */
+	public long getBucketCount(long from, long to) {
+		return (from > to ? 0 : (getBucket(to) - getBucket(from)) / width + 1);
+	}
+
+	/**
+	 * Convert a bucket start into a value of the bucket property type.
+	 *
+	 * @param bucket epoch milliseconds.
+	 * @return the bucket value.
+	 */
+	public Object toPropertyValue(long bucket) {
+		return (property.getType() == Date.class ? new Date(bucket) : Long.valueOf(bucket));
+	}
+
+	/**
+	 * Convert a timestamp value into epoch milliseconds. {@link Date}s and {@link Number}s are used as-is, other types
+	 * are converted to {@link Date} using the given {@link ConversionService}.
+	 *
+	 * @param timestamp may be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 * @return epoch milliseconds or {@literal null} if {@code timestamp} is {@literal null}.
+	 */
+	public static Long toMillis(Object timestamp, ConversionService conversionService) {
+
+		if (timestamp == null) {
+			return null;
+		}
+
+		if (timestamp instanceof Date) {
+			return ((Date) timestamp).getTime();
+		}
+
+		if (timestamp instanceof Number) {
+			return ((Number) timestamp).longValue();
+		}
+
+		Date date = conversionService.convert(timestamp, Date.class);
+
+		return (date != null ? date.getTime() : null);
+	}
+
+	/**
+	 * Set the bucket property of {@code entity} to the bucket of its timestamp. Entities without timestamp or without
+	 * composite primary key instance are left unchanged.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public void populate(Object entity, ConversionService conversionService) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		if (compositePrimaryKeyProperty == null) {
+			populateBucket(entity, conversionService);
+			return;
+		}
+
+		Object key = compositePrimaryKeyProperty.getOwner().getPropertyAccessor(entity)
+				.getProperty(compositePrimaryKeyProperty);
+
+		if (key != null) {
+			populateBucket(key, conversionService);
+		}
+	}
+
+	private void populateBucket(Object owner, ConversionService conversionService) {
+
+		PersistentPropertyAccessor accessor = property.getOwner().getPropertyAccessor(owner);
+		Long timestamp = toMillis(accessor.getProperty(timestampProperty), conversionService);
+
+		if (timestamp != null) {
+			accessor.setProperty(property, toPropertyValue(getBucket(timestamp)));
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository;
+
+import java.io.Serializable;
+
+import org.springframework.data.cassandra.core.AsyncCursor;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Extension of {@link TypedIdCassandraRepository} declaring asynchronous CRUD methods. The methods execute through the
+ * asynchronous driver API and return without waiting for Cassandra to respond, so callers can issue multiple
+ * repository calls concurrently without blocking a thread per call. Query methods of repositories may return a
+ * {@link ListenableFuture} or a {@link java.util.concurrent.CompletableFuture} to execute asynchronously as well.
+ *
+ * @param <T> The type of the persistent entity.
+ * @param <ID> The type of the entity's id.
+ * @author agent
+ * @since 1.6
+ */
+@NoRepositoryBean
+public interface AsyncTypedIdCassandraRepository<T, ID extends Serializable> extends TypedIdCassandraRepository<T, ID> {
+
+	/**
+	 * Save the given entity asynchronously.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the saved entity.
+	 */
+	<S extends T> ListenableFuture<S> saveAsync(S entity);
+
+	/**
+	 * Retrieve an entity by its id asynchronously.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the entity or {@literal null} if none found.
+	 */
+	ListenableFuture<T> findOneAsync(ID id);
+
+	/**
+	 * Retrieve all entities asynchronously. Entities are fetched page by page on demand, see
+	 * {@link AsyncCursor#fetchNext()}.
+	 *
+	 * @return a {@link ListenableFuture} completing with the {@link AsyncCursor} of the first page.
+	 */
+	ListenableFuture<AsyncCursor<T>> findAllAsync();
+
+	/**
+	 * Delete the entity with the given id asynchronously.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing once the entity is deleted.
+	 */
+	ListenableFuture<Void> deleteAsync(ID id);
+
+	/**
+	 * Delete the given entity asynchronously.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing once the entity is deleted.
+	 */
+	ListenableFuture<Void> deleteAsync(T entity);
+}
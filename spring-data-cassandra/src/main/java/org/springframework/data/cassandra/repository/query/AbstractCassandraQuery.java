@@ -17,15 +17,20 @@ package org.springframework.data.cassandra.repository.query;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
 
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,11 +39,18 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.CustomConversions;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.ProjectionColumns;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.AsyncExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.CollectionExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ConcurrentCollectionExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.CountExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.DeleteExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ExistsExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingConverter;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultSetQuery;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.StreamExecution;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -60,10 +72,25 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 	protected static Logger log = LoggerFactory.getLogger(AbstractCassandraQuery.class);
 
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	/**
+	 * Maximum number of statements of a query executed concurrently if the query is split into multiple statements.
+	 */
+	static final int MAX_CONCURRENT_STATEMENTS = 32;
+
 	private final CassandraOperations template;
 	private final CassandraQueryMethod queryMethod;
 	private final EntityInstantiators instantiators;
 
+	private Executor callbackExecutor = DIRECT_EXECUTOR;
+
 	/**
 	 * Creates a new {@link AbstractCassandraQuery} from the given {@link CassandraQueryMethod} and
 	 * {@link CassandraOperations}.
@@ -81,6 +108,21 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 		this.instantiators = new EntityInstantiators();
 	}
 
+	/**
+	 * Set the {@link Executor} used to convert and post-process results of query methods returning a
+	 * {@link java.util.concurrent.Future}. Results are processed on the driver's callback thread by default. Configure an
+	 * {@link Executor} for queries returning large results to keep result conversion off the driver's I/O threads.
+	 *
+	 * @param callbackExecutor must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+
+		Assert.notNull(callbackExecutor, "Callback executor must not be null");
+
+		this.callbackExecutor = callbackExecutor;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
 	 */
@@ -100,27 +142,47 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		String query = createQuery(parameterAccessor);
-
-		CassandraQueryExecution queryExecution = getExecution(query, parameterAccessor,
-				new ResultProcessingConverter(resultProcessor, template.getConverter().getMappingContext(), instantiators));
-
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				template.getConverter().getCustomConversions());
 
-		Class<?> resultType = (returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
+		ProjectionColumns projection = (returnedType.isProjecting()
+				? getProjectionColumns(returnedType.getReturnedType()) : null);
+
+		List<Statement> statements = createStatements(parameterAccessor, projection);
+
+		Converter<Object, Object> resultProcessing = new ResultProcessingConverter(resultProcessor,
+				template.getConverter().getMappingContext(), instantiators);
 
-		return queryExecution.execute(query, resultType);
+		Class<?> resultType = (returnedType.isProjecting()
+				? (projection != null && projection.isDirectMapping() ? returnedType.getReturnedType()
+						: returnedType.getDomainType())
+				: returnedType.getReturnedType());
+
+		if (queryMethod.isAsyncQuery()) {
+			return new AsyncExecution(template, queryMethod, resultProcessing, callbackExecutor, MAX_CONCURRENT_STATEMENTS,
+					getResultLimit()).execute(statements, resultType);
+		}
+
+		if (statements.size() != 1) {
+			return resultProcessing.convert(new ConcurrentCollectionExecution(template, MAX_CONCURRENT_STATEMENTS,
+					getResultLimit()).execute(statements, resultType));
+		}
+
+		Statement statement = statements.get(0);
+
+		CassandraQueryExecution queryExecution = getExecution(statement, parameterAccessor, resultProcessing);
+
+		return queryExecution.execute(statement, resultType);
 	}
 
 	/**
 	 * Returns the execution instance to use.
 	 *
-	 * @param query must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
 	 * @param accessor must not be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private CassandraQueryExecution getExecution(String query, CassandraParameterAccessor accessor,
+	private CassandraQueryExecution getExecution(Statement statement, CassandraParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing) {
 
 		return new ResultProcessingExecution(getExecutionToWrap(accessor, resultProcessing), resultProcessing);
@@ -129,7 +191,15 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	private CassandraQueryExecution getExecutionToWrap(CassandraParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing) {
 
-		if (queryMethod.isCollectionQuery()) {
+		if (isDeleteQuery()) {
+			return new DeleteExecution(template, queryMethod.getEntityInformation().getJavaType());
+		} else if (isCountQuery()) {
+			return new CountExecution(template);
+		} else if (isExistsQuery()) {
+			return new ExistsExecution(template);
+		} else if (queryMethod.isSliceQuery()) {
+			return new SlicedExecution(template, accessor.getPageable());
+		} else if (queryMethod.isCollectionQuery()) {
 			return new CollectionExecution(template);
 		} else if (queryMethod.isResultSetQuery()) {
 			return new ResultSetQuery(template);
@@ -242,6 +312,112 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 */
 	protected abstract String createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Creates a string query using the given {@link ParameterAccessor} selecting the columns of the given
+	 * {@link ProjectionColumns}. Queries that do not support column selection ignore the projection.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param projection the projection, may be {@literal null} if the query method does not project.
+	 * @since 1.6
+	 */
+	protected String createQuery(CassandraParameterAccessor accessor, ProjectionColumns projection) {
+		return createQuery(accessor);
+	}
+
+	/**
+	 * Creates the string queries to execute using the given {@link ParameterAccessor}. Collection queries may be split
+	 * into multiple queries that are executed concurrently; their results are concatenated in the order of the returned
+	 * queries and truncated to the {@link #getResultLimit() result limit}. Returns the query created by
+	 * {@link #createQuery(CassandraParameterAccessor, ProjectionColumns)} by default.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param projection the projection, may be {@literal null} if the query method does not project.
+	 * @return the queries to execute.
+	 * @since 1.6
+	 */
+	protected List<String> createQueries(CassandraParameterAccessor accessor, ProjectionColumns projection) {
+		return Collections.singletonList(createQuery(accessor, projection));
+	}
+
+	/**
+	 * Creates the {@link Statement}s to execute using the given {@link ParameterAccessor}. Returns a
+	 * {@link SimpleStatement} for each query created by
+	 * {@link #createQueries(CassandraParameterAccessor, ProjectionColumns)} by default. Subclasses may return
+	 * {@link com.datastax.driver.core.BoundStatement bound statements} to avoid rendering and parsing CQL on each
+	 * invocation.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param projection the projection, may be {@literal null} if the query method does not project.
+	 * @return the statements to execute.
+	 * @since 1.6
+	 */
+	protected List<Statement> createStatements(CassandraParameterAccessor accessor, ProjectionColumns projection) {
+
+		List<String> queries = createQueries(accessor, projection);
+		List<Statement> statements = new ArrayList<Statement>(queries.size());
+
+		for (String query : queries) {
+			statements.add(new SimpleStatement(query));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Returns the maximum number of results of the query. The results of queries split into multiple statements are
+	 * truncated to the limit after concatenation; statements are not executed once the limit is reached. Returns
+	 * {@literal null} by default.
+	 *
+	 * @return the maximum number of results or {@literal null} if the results are not limited.
+	 * @since 1.6
+	 */
+	protected Integer getResultLimit() {
+		return null;
+	}
+
+	/**
+	 * Returns whether the query counts the matching rows and returns the count. Count queries return {@literal false} by
+	 * default.
+	 *
+	 * @return {@literal true} if the query is a count query.
+	 * @since 1.6
+	 */
+	protected boolean isCountQuery() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the query checks whether a matching row exists. Exists queries return {@literal false} by default.
+	 *
+	 * @return {@literal true} if the query is an exists query.
+	 * @since 1.6
+	 */
+	protected boolean isExistsQuery() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the query deletes the matching rows. Delete queries return {@literal false} by default.
+	 *
+	 * @return {@literal true} if the query is a delete query.
+	 * @since 1.6
+	 */
+	protected boolean isDeleteQuery() {
+		return false;
+	}
+
+	/**
+	 * Returns the {@link ProjectionColumns} to select for the given projection type. Returns {@literal null} by default
+	 * to select the columns declared by the query itself.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @return the {@link ProjectionColumns} or {@literal null}.
+	 * @since 1.6
+	 */
+	protected ProjectionColumns getProjectionColumns(Class<?> projectionType) {
+		return null;
+	}
+
 	@RequiredArgsConstructor
 	private class CassandraReturnedType {
 
@@ -21,7 +21,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Clause;
+import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -29,12 +31,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.ProjectionColumns;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.repository.query.ConvertingParameterAccessor.PotentiallyConvertingIterator;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentPropertyPath;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
@@ -44,20 +48,26 @@ import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 
 /**
- * Custom query creator to create Cassandra criteria.
+ * Custom query creator to create Cassandra criteria. Count projections create a {@code SELECT count(*)} query, exists
+ * projections select the partition key columns of the first matching row only and delete queries create a
+ * {@code DELETE} statement, so these queries are evaluated server-side without transferring entities.
  *
  * @author Matthew Adams
  * @author Mark Paluch
  * @author John Blum
  */
-class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
+class CassandraQueryCreator extends AbstractQueryCreator<BuiltStatement, Clause> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CassandraQueryCreator.class);
 	private static final Pattern PUNCTUATION_PATTERN = Pattern.compile("\\p{Punct}");
 
+	private final PartTree tree;
+	private final CassandraParameterAccessor accessor;
 	private final CassandraMappingContext mappingContext;
 	private final CassandraPersistentEntity<?> entity;
 	private final CqlIdentifier tableName;
+	private final ProjectionColumns projection;
+	private final boolean bindMarkers;
 	private final WhereBuilder whereBuilder = new WhereBuilder();
 
 	/**
@@ -72,14 +82,56 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	public CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor,
 			CassandraMappingContext mappingContext, CassandraEntityMetadata<?> entityMetadata) {
 
+		this(tree, accessor, mappingContext, entityMetadata, null);
+	}
+
+	/**
+	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor},
+	 * {@link MappingContext} and {@link ProjectionColumns}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param projection the columns to select, may be {@literal null} to select all columns.
+	 * @since 1.6
+	 */
+	public CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor,
+			CassandraMappingContext mappingContext, CassandraEntityMetadata<?> entityMetadata,
+			ProjectionColumns projection) {
+
+		this(tree, accessor, mappingContext, entityMetadata, projection, false);
+	}
+
+	/**
+	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor},
+	 * {@link MappingContext} and {@link ProjectionColumns}. Queries created with {@code bindMarkers} render bind markers
+	 * instead of parameter values.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param projection the columns to select, may be {@literal null} to select all columns.
+	 * @param bindMarkers whether to render bind markers instead of parameter values.
+	 * @since 1.6
+	 */
+	public CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor,
+			CassandraMappingContext mappingContext, CassandraEntityMetadata<?> entityMetadata,
+			ProjectionColumns projection, boolean bindMarkers) {
+
 		super(tree, accessor);
 
 		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
 		Assert.notNull(entityMetadata, "CassandraEntityMetadata must not be null");
 
+		this.tree = tree;
+		this.accessor = accessor;
 		this.mappingContext = mappingContext;
 		this.entity = mappingContext.getPersistentEntity(entityMetadata.getJavaType());
 		this.tableName = entityMetadata.getTableName();
+		this.projection = projection;
+		this.bindMarkers = bindMarkers;
 	}
 
 	/* (non-Javadoc)
@@ -126,19 +178,36 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#complete(java.lang.Object, org.springframework.data.domain.Sort)
 	 */
 	@Override
-	protected Select complete(Clause criteria, Sort sort) {
+	protected BuiltStatement complete(Clause criteria, Sort sort) {
 
 		if (criteria != null) {
 			whereBuilder.and(criteria);
 		}
 
-		Select select = StatementBuilder.select(entity, tableName, whereBuilder, sort);
+		BuiltStatement statement;
+
+		if (tree.isDelete()) {
+			statement = StatementBuilder.delete(tableName, whereBuilder);
+		} else if (tree.isCountProjection()) {
+			statement = StatementBuilder.count(tableName, whereBuilder);
+		} else if (tree.isExistsProjection()) {
+			statement = StatementBuilder.exists(entity, tableName, whereBuilder);
+		} else {
+
+			Select select = StatementBuilder.select(entity, tableName, projection, whereBuilder, sort);
+
+			if (tree.isLimiting()) {
+				select.limit(tree.getMaxResults());
+			}
+
+			statement = select;
+		}
 
 		if (LOG.isDebugEnabled()) {
-			LOG.debug("Created query {}", select);
+			LOG.debug("Created query {}", statement);
 		}
 
-		return select;
+		return statement;
 	}
 
 	private Clause from(Part part, CassandraPersistentProperty property, PotentiallyConvertingIterator parameters) {
@@ -148,20 +217,23 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		switch (type) {
 			case AFTER:
 			case GREATER_THAN:
-				return QueryBuilder.gt(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.gt(columnName(property), bindable(parameters.nextConverted(property)));
 			case GREATER_THAN_EQUAL:
-				return QueryBuilder.gte(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.gte(columnName(property), bindable(parameters.nextConverted(property)));
 			case BEFORE:
 			case LESS_THAN:
-				return QueryBuilder.lt(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.lt(columnName(property), bindable(parameters.nextConverted(property)));
 			case LESS_THAN_EQUAL:
-				return QueryBuilder.lte(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.lte(columnName(property), bindable(parameters.nextConverted(property)));
+			case BETWEEN:
+				whereBuilder.and(QueryBuilder.gte(columnName(property), bindable(parameters.nextConverted(property))));
+				return QueryBuilder.lte(columnName(property), bindable(parameters.nextConverted(property)));
 			case IN:
-				return QueryBuilder.in(columnName(property), nextAsArray(property, parameters));
+				return in(property, nextAsArray(property, parameters));
 			case LIKE:
 			case STARTING_WITH:
 			case ENDING_WITH:
-				return QueryBuilder.like(columnName(property), like(type, parameters.nextConverted(property)));
+				return QueryBuilder.like(columnName(property), bindable(like(type, parameters.nextConverted(property))));
 			case CONTAINING:
 				return containing(property, parameters.nextConverted(property));
 			case TRUE:
@@ -169,7 +241,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 			case FALSE:
 				return QueryBuilder.eq(columnName(property), false);
 			case SIMPLE_PROPERTY:
-				return QueryBuilder.eq(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.eq(columnName(property), bindable(parameters.nextConverted(property)));
 			default:
 				throw new InvalidDataAccessApiUsageException(String.format(
 					"Unsupported keyword [%s] in part [%s]", type, part));
@@ -183,13 +255,36 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	private Clause containing(CassandraPersistentProperty property, Object bindableValue) {
 
 		if (property.isCollectionLike() || property.isMapLike()) {
-			return QueryBuilder.contains(columnName(property), bindableValue);
+			return QueryBuilder.contains(columnName(property), bindable(bindableValue));
 		}
 
-		return QueryBuilder.like(columnName(property), like(Type.CONTAINING, bindableValue));
+		return QueryBuilder.like(columnName(property), bindable(like(Type.CONTAINING, bindableValue)));
 	}
 
-	private Object like(Type type, Object value) {
+	/**
+	 * Render an {@code IN} clause. Bind markers bind the whole list to a single {@code IN ?} marker so the query does
+	 * not depend on the number of values.
+	 */
+	private Clause in(CassandraPersistentProperty property, Object[] values) {
+
+		if (bindMarkers) {
+			return QueryBuilder.in(columnName(property), QueryBuilder.bindMarker());
+		}
+
+		return QueryBuilder.in(columnName(property), values);
+	}
+
+	/**
+	 * Returns a bind marker if the query renders bind markers, otherwise {@code value}.
+	 */
+	private Object bindable(Object value) {
+		return (bindMarkers ? QueryBuilder.bindMarker() : value);
+	}
+
+	/**
+	 * Apply the {@code LIKE} pattern of the given {@link Type} to {@code value}.
+	 */
+	static Object like(Type type, Object value) {
 
 		if (value != null) {
 			switch (type) {
@@ -211,7 +306,13 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 
 	private Object[] nextAsArray(CassandraPersistentProperty property, PotentiallyConvertingIterator iterator) {
 
-		Object next = iterator.nextConverted(property);
+		return asArray(iterator.nextConverted(property));
+	}
+
+	/**
+	 * Return the values of an {@code IN} clause as array.
+	 */
+	static Object[] asArray(Object next) {
 
 		if (next instanceof Collection) {
 			return ((Collection<?>) next).toArray();
@@ -243,6 +344,14 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 
 			return where;
 		}
+
+		Delete.Where build(Delete.Where where) {
+			for (Clause clause : clauses) {
+				where = where.and(clause);
+			}
+
+			return where;
+		}
 	}
 
 	/**
@@ -252,11 +361,14 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 
 		/**
 		 * Build a {@link Select} statement from the given {@link WhereBuilder} and {@link Sort}. Resolves property names
-		 * for {@link Sort} using the {@link CassandraPersistentEntity}.
+		 * for {@link Sort} using the {@link CassandraPersistentEntity}. Selects the columns of the given
+		 * {@link ProjectionColumns} or all columns if {@code projection} is {@literal null}.
 		 */
-		static Select select(CassandraPersistentEntity<?> entity, CqlIdentifier tableName, WhereBuilder whereBuilder, Sort sort) {
+		static Select select(CassandraPersistentEntity<?> entity, CqlIdentifier tableName, ProjectionColumns projection,
+				WhereBuilder whereBuilder, Sort sort) {
 
-			Select select = QueryBuilder.select().from(tableName.toCql());
+			Select select = (projection != null ? projection.select(tableName)
+					: QueryBuilder.select().from(tableName.toCql()));
 
 			whereBuilder.build(select.where());
 
@@ -277,6 +389,69 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 			return select;
 		}
 
+		/**
+		 * Build a {@code SELECT count(*)} statement from the given {@link WhereBuilder}.
+		 */
+		static Select count(CqlIdentifier tableName, WhereBuilder whereBuilder) {
+
+			Select select = QueryBuilder.select().countAll().from(tableName.toCql());
+
+			whereBuilder.build(select.where());
+
+			return select;
+		}
+
+		/**
+		 * Build a {@link Select} statement from the given {@link WhereBuilder} selecting the partition key columns of the
+		 * first matching row only.
+		 */
+		static Select exists(CassandraPersistentEntity<?> entity, CqlIdentifier tableName, WhereBuilder whereBuilder) {
+
+			Select select = QueryBuilder.select(getPartitionKeyColumns(entity)).from(tableName.toCql());
+
+			whereBuilder.build(select.where());
+			select.limit(1);
+
+			return select;
+		}
+
+		/**
+		 * Build a {@link Delete} statement from the given {@link WhereBuilder}. Restricting the partition key deletes whole
+		 * partitions, additionally restricting clustering columns by a range deletes a range of rows.
+		 */
+		static Delete delete(CqlIdentifier tableName, WhereBuilder whereBuilder) {
+
+			Delete delete = QueryBuilder.delete().from(tableName.toCql());
+
+			whereBuilder.build(delete.where());
+
+			return delete;
+		}
+
+		private static String[] getPartitionKeyColumns(CassandraPersistentEntity<?> entity) {
+
+			final List<String> columns = new ArrayList<String>();
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					if (property.isCompositePrimaryKey()) {
+						for (CassandraPersistentProperty primaryKeyProperty : property.getCompositePrimaryKeyProperties()) {
+							if (primaryKeyProperty.isPartitionKeyColumn()) {
+								columns.add(columnName(primaryKeyProperty));
+							}
+						}
+					} else if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+						columns.add(columnName(property));
+					}
+				}
+			});
+
+			return columns.toArray(new String[columns.size()]);
+		}
+
 		private static CassandraPersistentProperty getPersistentProperty(CassandraPersistentEntity<?> entity,
 				String dotPath) {
 
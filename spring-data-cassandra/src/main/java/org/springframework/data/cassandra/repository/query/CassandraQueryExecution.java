@@ -16,16 +16,45 @@
 
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.StatementWrapper;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +67,7 @@ import lombok.RequiredArgsConstructor;
  */
 interface CassandraQueryExecution {
 
-	Object execute(String query, Class<?> type);
+	Object execute(Statement statement, Class<?> type);
 
 	/**
 	 * {@link CassandraQueryExecution} for a Stream.
@@ -52,12 +81,12 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> resultProcessing;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
+		public Object execute(Statement statement, Class<?> type) {
 
-			return StreamUtils.createStreamFromIterator(operations.stream(query, type)).map(new Function<Object, Object>() {
+			return StreamUtils.createStreamFromIterator(operations.stream(statement, type)).map(new Function<Object, Object>() {
 
 				@Override
 				public Object apply(Object t) {
@@ -78,11 +107,358 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.select(statement, type);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for {@link Slice} returning queries.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final @NonNull Pageable pageable;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.slice(statement, pageable, type);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for collection returning queries split into multiple statements. Statements are
+	 * executed concurrently with at most {@code concurrency} statements in flight and their results are concatenated in
+	 * statement order. Results are truncated to {@code limit}; remaining statements are not executed once the limit is
+	 * reached.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class ConcurrentCollectionExecution implements CassandraQueryExecution {
+
+		private static final CassandraExceptionTranslator EXCEPTION_TRANSLATOR = new CassandraExceptionTranslator();
+
+		private final @NonNull CassandraOperations operations;
+		private final int concurrency;
+		private final Integer limit;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+			return execute(Collections.singletonList(statement), type);
+		}
+
+		/**
+		 * Execute the given statements concurrently.
+		 *
+		 * @param statements must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @return the concatenated results.
+		 */
+		public List<Object> execute(List<Statement> statements, Class<?> type) {
+
+			Iterator<Statement> pending = statements.iterator();
+			Deque<ResultSetFuture> inFlight = new ArrayDeque<ResultSetFuture>(concurrency);
+
+			CassandraConverter converter = operations.getConverter();
+			List<Object> results = new ArrayList<Object>();
+
+			try {
+				while (!isLimitReached(results) && (pending.hasNext() || !inFlight.isEmpty())) {
+
+					while (inFlight.size() < concurrency && pending.hasNext()) {
+						inFlight.add(operations.executeAsynchronously(pending.next()));
+					}
+
+					for (Row row : inFlight.poll().getUninterruptibly()) {
+
+						results.add(converter.read(type, row));
+
+						if (isLimitReached(results)) {
+							break;
+						}
+					}
+				}
+			} catch (DriverException e) {
+
+				DataAccessException translated = EXCEPTION_TRANSLATOR.translateExceptionIfPossible(e);
+				throw (translated != null ? translated : e);
+			} finally {
+
+				for (ResultSetFuture future : inFlight) {
+					future.cancel(true);
+				}
+			}
+
+			return results;
+		}
+
+		private boolean isLimitReached(List<Object> results) {
+			return (limit != null && results.size() >= limit);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} returning a {@link Future} of the query result. Queries are executed through the
+	 * asynchronous driver API with at most {@code concurrency} statements in flight and further pages are fetched
+	 * asynchronously. Results are truncated to {@code limit}. Rows are converted and post-processed on the callback
+	 * {@link Executor}. Returns a {@link CompletableFuture} if the query method declares one, otherwise a
+	 * {@link org.springframework.util.concurrent.ListenableFuture}.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class AsyncExecution implements CassandraQueryExecution {
+
+		private static final CassandraExceptionTranslator EXCEPTION_TRANSLATOR = new CassandraExceptionTranslator();
+
+		private final @NonNull CassandraOperations operations;
+		private final @NonNull CassandraQueryMethod queryMethod;
+		private final @NonNull Converter<Object, Object> resultProcessing;
+		private final @NonNull Executor executor;
+		private final int concurrency;
+		private final Integer limit;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.select(query, type);
+		public Object execute(Statement statement, Class<?> type) {
+			return execute(Collections.singletonList(statement), type);
+		}
+
+		/**
+		 * Execute the given statements concurrently. Results of multiple statements are concatenated in statement order.
+		 *
+		 * @param statements must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @return the {@link Future} of the processed result.
+		 */
+		public Object execute(List<Statement> statements, final Class<?> type) {
+
+			final SettableListenableFuture<Object> result = new SettableListenableFuture<Object>();
+
+			if (queryMethod.isResultSetQuery()) {
+
+				final ResultSetFuture future = operations.executeAsynchronously(statements.get(0));
+
+				Futures.addCallback(future, new FutureCallback<ResultSet>() {
+
+					@Override
+					public void onSuccess(ResultSet resultSet) {
+						result.set(resultSet);
+					}
+
+					@Override
+					public void onFailure(Throwable throwable) {
+						result.setException(translateExceptionIfPossible(throwable));
+					}
+				}, executor);
+
+				return adapt(result, future);
+			}
+
+			final boolean collection = queryMethod.isCollectionQuery();
+			final ListenableFuture<List<List<Row>>> allRows = readRows(statements, collection);
+
+			Futures.addCallback(allRows, new FutureCallback<List<List<Row>>>() {
+
+				@Override
+				public void onSuccess(List<List<Row>> rows) {
+
+					try {
+						result.set(resultProcessing.convert(read(rows, type, collection)));
+					} catch (RuntimeException e) {
+						result.setException(translateExceptionIfPossible(e));
+					}
+				}
+
+				@Override
+				public void onFailure(Throwable throwable) {
+					result.setException(translateExceptionIfPossible(throwable));
+				}
+			}, executor);
+
+			return adapt(result, allRows);
+		}
+
+		private Object read(List<List<Row>> rows, Class<?> type, boolean collection) {
+
+			CassandraConverter converter = operations.getConverter();
+
+			if (!collection) {
+
+				List<Row> first = rows.get(0);
+
+				return (first.isEmpty() ? null : converter.read(type, first.get(0)));
+			}
+
+			List<Object> results = new ArrayList<Object>();
+
+			for (List<Row> queryRows : rows) {
+				for (Row row : queryRows) {
+
+					if (limit != null && results.size() >= limit) {
+						return results;
+					}
+
+					results.add(converter.read(type, row));
+				}
+			}
+
+			return results;
+		}
+
+		/**
+		 * Read the rows of all {@code statements} with at most {@code concurrency} statements in flight. The next statement
+		 * is executed once a statement has been read completely. No further statements are executed once reading failed
+		 * or was cancelled.
+		 */
+		private ListenableFuture<List<List<Row>>> readRows(final List<Statement> statements, final boolean fetchAll) {
+
+			final List<SettableFuture<List<Row>>> rows = new ArrayList<SettableFuture<List<Row>>>(statements.size());
+
+			for (int index = 0; index < statements.size(); index++) {
+				rows.add(SettableFuture.<List<Row>> create());
+			}
+
+			final ListenableFuture<List<List<Row>>> allRows = Futures.allAsList(rows);
+			final AtomicInteger next = new AtomicInteger();
+
+			Runnable readNext = new Runnable() {
+
+				@Override
+				public void run() {
+
+					int index = next.getAndIncrement();
+
+					if (index >= statements.size() || allRows.isDone()) {
+						return;
+					}
+
+					SettableFuture<List<Row>> result = rows.get(index);
+					result.addListener(this, MoreExecutors.directExecutor());
+
+					try {
+						readRows(operations.executeAsynchronously(statements.get(index)), new ArrayList<Row>(), fetchAll,
+								result);
+					} catch (RuntimeException e) {
+						result.setException(e);
+					}
+				}
+			};
+
+			for (int slot = 0; slot < concurrency && slot < statements.size(); slot++) {
+				readNext.run();
+			}
+
+			return allRows;
+		}
+
+		/**
+		 * Read the rows of {@code future} into {@code result} without blocking. All pages are read if {@code fetchAll} is
+		 * {@literal true}, otherwise pages are read until the first row is available.
+		 */
+		private static void readRows(ListenableFuture<ResultSet> future, final List<Row> rows, final boolean fetchAll,
+				final SettableFuture<List<Row>> result) {
+
+			Futures.addCallback(future, new FutureCallback<ResultSet>() {
+
+				@Override
+				public void onSuccess(ResultSet resultSet) {
+
+					int available = resultSet.getAvailableWithoutFetching();
+
+					for (int index = 0; index < available; index++) {
+						rows.add(resultSet.one());
+					}
+
+					if ((fetchAll || rows.isEmpty()) && !resultSet.isFullyFetched()) {
+						readRows(resultSet.fetchMoreResults(), rows, fetchAll, result);
+					} else {
+						result.set(rows);
+					}
+				}
+
+				@Override
+				public void onFailure(Throwable throwable) {
+					result.setException(throwable);
+				}
+			});
+		}
+
+		/**
+		 * Adapt {@code result} to the return type of the query method. Cancelling the returned future cancels the
+		 * underlying {@code execution}.
+		 */
+		private Object adapt(final SettableListenableFuture<Object> result, final Future<?> execution) {
+
+			result.addCallback(new ListenableFutureCallback<Object>() {
+
+				@Override
+				public void onSuccess(Object value) {}
+
+				@Override
+				public void onFailure(Throwable throwable) {
+
+					if (result.isCancelled()) {
+						execution.cancel(true);
+					}
+				}
+			});
+
+			if (queryMethod.getReturnType().getType().isInstance(result)) {
+				return result;
+			}
+
+			final CompletableFuture<Object> completable = new CompletableFuture<Object>() {
+
+				@Override
+				public boolean cancel(boolean mayInterruptIfRunning) {
+
+					result.cancel(mayInterruptIfRunning);
+					return super.cancel(mayInterruptIfRunning);
+				}
+			};
+
+			result.addCallback(new ListenableFutureCallback<Object>() {
+
+				@Override
+				public void onSuccess(Object value) {
+					completable.complete(value);
+				}
+
+				@Override
+				public void onFailure(Throwable throwable) {
+					completable.completeExceptionally(throwable);
+				}
+			});
+
+			return completable;
+		}
+
+		private static Throwable translateExceptionIfPossible(Throwable throwable) {
+
+			if (throwable instanceof DriverException) {
+
+				DataAccessException translated = EXCEPTION_TRANSLATOR
+						.translateExceptionIfPossible((DriverException) throwable);
+				return (translated != null ? translated : throwable);
+			}
+
+			return throwable;
 		}
 	}
 
@@ -97,11 +473,107 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.selectOne(statement, type);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for count queries. Reads the count computed by Cassandra.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class CountExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			Row row = operations.query(statement).one();
+
+			return (row != null ? row.getLong(0) : 0L);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for exists queries. A query exists if it returns a row.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class ExistsExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.selectOne(query, type);
+		public Object execute(Statement statement, Class<?> type) {
+			return (operations.query(statement).one() != null);
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for delete queries. Executes {@link SelectForDelete} statements by reading the
+	 * matching entities and deleting them one by one through {@link CassandraOperations#delete(Object)}.
+	 *
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	final class DeleteExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final @NonNull Class<?> entityClass;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			if (statement instanceof SelectForDelete) {
+
+				Iterator<?> entities = operations.stream(((SelectForDelete) statement).getSelect(), entityClass);
+
+				while (entities.hasNext()) {
+					operations.delete(entities.next());
+				}
+			} else {
+				operations.query(statement);
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * {@link Statement} selecting the entities a delete query deletes entity by entity.
+	 *
+	 * @author agent
+	 * @see CassandraOperations#isEntityDeleteRequired(Class)
+	 */
+	final class SelectForDelete extends StatementWrapper {
+
+		private final Statement select;
+
+		SelectForDelete(Statement select) {
+
+			super(select);
+
+			this.select = select;
+		}
+
+		Statement getSelect() {
+			return select;
 		}
 	}
 
@@ -116,11 +588,11 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.query(query);
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.query(statement);
 		}
 	}
 
@@ -136,11 +608,11 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> converter;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return converter.convert(delegate.execute(query, type));
+		public Object execute(Statement statement, Class<?> type) {
+			return converter.convert(delegate.execute(statement, type));
 		}
 	}
 
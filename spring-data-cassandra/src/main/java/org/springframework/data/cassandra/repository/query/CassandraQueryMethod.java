@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Future;
 
 import com.datastax.driver.core.ResultSet;
 
@@ -72,14 +73,21 @@ public class CassandraQueryMethod extends QueryMethod {
 	}
 
 	/**
-	 * Validates that this query is not a page or slice query.
+	 * Validates that this query is not a page query and that slice queries declare a
+	 * {@link org.springframework.data.domain.Pageable} parameter. Page queries are not supported as Cassandra cannot
+	 * count results efficiently.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
 
-		// TODO: support Page & Slice queries
-		if (isSliceQuery() || isPageQuery()) {
-			throw new InvalidDataAccessApiUsageException("Slice and Page queries are not supported");
+		if (isPageQuery()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Page queries are not supported, use Slice instead; Offending method: %s", method));
+		}
+
+		if (isSliceQuery() && !getParameters().hasPageableParameter()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Slice queries require a Pageable parameter; Offending method: %s", method));
 		}
 	}
 
@@ -171,4 +179,14 @@ public class CassandraQueryMethod extends QueryMethod {
 	public boolean isResultSetQuery() {
 		return ResultSet.class.isAssignableFrom(getReturnType().getActualType().getType());
 	}
+
+	/**
+	 * @return true if the method returns a {@link Future}, such as a
+	 *         {@link org.springframework.util.concurrent.ListenableFuture} or a
+	 *         {@link java.util.concurrent.CompletableFuture}.
+	 * @since 1.6
+	 */
+	public boolean isAsyncQuery() {
+		return Future.class.isAssignableFrom(method.getReturnType());
+	}
 }
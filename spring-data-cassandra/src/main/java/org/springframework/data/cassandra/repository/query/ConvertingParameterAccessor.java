@@ -141,8 +141,28 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 	private TypeInformation<?> findTypeInformation(int index, Object bindableValue,
 			CassandraPersistentProperty property) {
 
-		if (delegate.findCassandraType(index) != null) {
-			TypeCodec<?> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getDataType(index, property));
+		CassandraType cassandraType = delegate.findCassandraType(index);
+
+		if (cassandraType == null && property == null) {
+			return ClassTypeInformation.from(bindableValue.getClass());
+		}
+
+		return getTypeInformation(cassandraType, property);
+	}
+
+	/**
+	 * Return the {@link TypeInformation} to convert a parameter value to based on the {@link CassandraType} annotation
+	 * of the parameter or the {@link CassandraPersistentProperty} the parameter is compared with.
+	 *
+	 * @param cassandraType the {@link CassandraType} annotation of the parameter, may be {@literal null}.
+	 * @param property must not be {@literal null} if {@code cassandraType} is {@literal null}.
+	 * @return the {@link TypeInformation}.
+	 */
+	static TypeInformation<?> getTypeInformation(CassandraType cassandraType, CassandraPersistentProperty property) {
+
+		if (cassandraType != null) {
+			TypeCodec<?> typeCodec = CodecRegistry.DEFAULT_INSTANCE
+					.codecFor(CassandraSimpleTypeHolder.getDataTypeFor(cassandraType.type()));
 
 			if (typeCodec.getJavaType().getType() instanceof Class<?>) {
 				return ClassTypeInformation.from((Class<?>) typeCodec.getJavaType().getType());
@@ -151,10 +171,6 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 			return ClassTypeInformation.from(typeCodec.getJavaType().getRawType());
 		}
 
-		if (property == null) {
-			return ClassTypeInformation.from(bindableValue.getClass());
-		}
-
 		return property.getTypeInformation();
 	}
 
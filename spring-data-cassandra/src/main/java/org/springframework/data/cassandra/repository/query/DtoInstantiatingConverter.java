@@ -68,7 +68,7 @@ class DtoInstantiatingConverter implements Converter<Object, Object> {
 	@Override
 	public Object convert(Object source) {
 
-		if (targetType.isInterface()) {
+		if (targetType.isInterface() || targetType.isInstance(source)) {
 			return source;
 		}
 
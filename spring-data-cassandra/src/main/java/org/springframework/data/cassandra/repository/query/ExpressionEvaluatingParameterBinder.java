@@ -18,6 +18,8 @@ package org.springframework.data.cassandra.repository.query;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.cassandra.repository.query.StringBasedCassandraQuery.ParameterBinding;
 import org.springframework.data.repository.query.EvaluationContextProvider;
@@ -30,6 +32,12 @@ import org.springframework.util.CollectionUtils;
 /**
  * {@link ExpressionEvaluatingParameterBinder} allows to evaluate, convert and bind parameters to placeholders within a
  * {@link String}.
+ * <p>
+ * Expressions are parsed once and cached per binder so that repeated invocations reuse the same {@link Expression}
+ * instance. This allows a {@link SpelExpressionParser} configured with
+ * {@link org.springframework.expression.spel.SpelCompilerMode#MIXED} to compile frequently evaluated expressions to
+ * bytecode. The {@link EvaluationContext} is created at most once per invocation and shared by all expressions bound
+ * within that invocation.
  *
  * @author Mark Paluch
  * @since 1.5
@@ -38,6 +46,7 @@ class ExpressionEvaluatingParameterBinder {
 
 	private final SpelExpressionParser expressionParser;
 	private final EvaluationContextProvider evaluationContextProvider;
+	private final Map<String, Expression> expressions = new ConcurrentHashMap<String, Expression>();
 
 	/**
 	 * Creates new {@link ExpressionEvaluatingParameterBinder}
@@ -70,9 +79,12 @@ class ExpressionEvaluatingParameterBinder {
 		}
 
 		List<Object> parameters = new ArrayList<Object>(bindingContext.getBindings().size());
+		EvaluationContextHolder evaluationContext = new EvaluationContextHolder(bindingContext.getParameters(),
+				parameterAccessor.getValues());
 
 		for (ParameterBinding binding : bindingContext.getBindings()) {
-			parameters.add(getParameterValueForBinding(parameterAccessor, bindingContext.getParameters(), binding));
+			parameters.add(getParameterValueForBinding(parameterAccessor, bindingContext.getParameters(), binding,
+					evaluationContext));
 		}
 
 		return parameters;
@@ -84,13 +96,14 @@ class ExpressionEvaluatingParameterBinder {
 	 * @param parameterAccessor must not be {@literal null}.
 	 * @param parameters must not be {@literal null}.
 	 * @param binding must not be {@literal null}.
+	 * @param evaluationContext must not be {@literal null}.
 	 * @return the value used for the given {@link ParameterBinding}.
 	 */
 	private Object getParameterValueForBinding(CassandraParameterAccessor parameterAccessor,
-			CassandraParameters parameters, ParameterBinding binding) {
+			CassandraParameters parameters, ParameterBinding binding, EvaluationContextHolder evaluationContext) {
 
 		if (binding.isExpression()) {
-			return evaluateExpression(binding.getExpression(), parameters, parameterAccessor.getValues());
+			return evaluateExpression(binding.getExpression(), evaluationContext);
 		}
 
 		return binding.isNamed()
@@ -114,17 +127,54 @@ class ExpressionEvaluatingParameterBinder {
 	 * Evaluates the given {@code expressionString}.
 	 *
 	 * @param expressionString must not be {@literal null} or empty.
-	 * @param parameters must not be {@literal null}.
-	 * @param parameterValues must not be {@literal null}.
+	 * @param evaluationContext must not be {@literal null}.
 	 * @return the value of the {@code expressionString} evaluation.
 	 */
-	private Object evaluateExpression(String expressionString, CassandraParameters parameters,
-			Object[] parameterValues) {
+	private Object evaluateExpression(String expressionString, EvaluationContextHolder evaluationContext) {
+		return getExpression(expressionString).getValue(evaluationContext.get(), Object.class);
+	}
 
-		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, parameterValues);
-		Expression expression = expressionParser.parseExpression(expressionString);
+	/**
+	 * Returns the parsed {@link Expression} for {@code expressionString}, parsing it on first use.
+	 *
+	 * @param expressionString must not be {@literal null} or empty.
+	 * @return the parsed {@link Expression}.
+	 */
+	private Expression getExpression(String expressionString) {
+
+		Expression expression = expressions.get(expressionString);
+
+		if (expression == null) {
+			expression = expressionParser.parseExpression(expressionString);
+			expressions.put(expressionString, expression);
+		}
+
+		return expression;
+	}
 
-		return expression.getValue(evaluationContext, Object.class);
+	/**
+	 * Lazily obtains the {@link EvaluationContext} of a single invocation so bindings without expressions do not pay for
+	 * it and multiple expressions share it.
+	 */
+	private class EvaluationContextHolder {
+
+		private final CassandraParameters parameters;
+		private final Object[] parameterValues;
+		private EvaluationContext evaluationContext;
+
+		EvaluationContextHolder(CassandraParameters parameters, Object[] parameterValues) {
+			this.parameters = parameters;
+			this.parameterValues = parameterValues;
+		}
+
+		EvaluationContext get() {
+
+			if (evaluationContext == null) {
+				evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, parameterValues);
+			}
+
+			return evaluationContext;
+		}
 	}
 
 	/**
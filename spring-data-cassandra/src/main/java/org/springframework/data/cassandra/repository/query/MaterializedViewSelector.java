@@ -0,0 +1,307 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.keyspace.ColumnSpecification;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
+import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+
+/**
+ * Selects the table, {@link org.springframework.data.cassandra.mapping.MaterializedView materialized view} or
+ * {@link org.springframework.data.cassandra.mapping.QueryTable query table} a derived query is routed to. A view or
+ * query table is selected if the predicate restricts all of its partition key columns by equality while it does not
+ * restrict the partition key of the table. Among multiple matches, the one whose clustering columns are restricted the
+ * most is selected; ties are resolved by declaration order, views before query tables. Queries are only routed to a view
+ * or query table if their sort columns are a prefix of its clustering columns, sorted either all in clustering order or
+ * all reversed.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class MaterializedViewSelector {
+
+	private MaterializedViewSelector() {}
+
+	/**
+	 * Select the table or view name to query for the given {@link PartTree}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return the name of the selected view or query table or the table name of {@code entity}.
+	 */
+	static CqlIdentifier select(PartTree tree, CassandraPersistentEntity<?> entity,
+			CassandraMappingContext mappingContext) {
+
+		List<KeyLayout> candidates = new ArrayList<KeyLayout>();
+
+		for (CreateMaterializedViewSpecification view : mappingContext.getCreateMaterializedViewSpecificationsFor(entity)) {
+
+			List<Ordering> orderings = new ArrayList<Ordering>();
+
+			for (CqlIdentifier column : view.getClusteredKeyColumns()) {
+				Ordering ordering = view.getOrdering(column);
+				orderings.add(ordering != null ? ordering : ColumnSpecification.DEFAULT_ORDERING);
+			}
+
+			candidates.add(new KeyLayout(view.getName(), view.getPartitionKeyColumns(), view.getClusteredKeyColumns(),
+					orderings));
+		}
+
+		for (CreateTableSpecification queryTable : mappingContext.getCreateQueryTableSpecificationsFor(entity)) {
+
+			List<Ordering> orderings = new ArrayList<Ordering>();
+
+			for (ColumnSpecification column : queryTable.getClusteredKeyColumns()) {
+				orderings.add(column.getOrdering() != null ? column.getOrdering() : ColumnSpecification.DEFAULT_ORDERING);
+			}
+
+			candidates.add(new KeyLayout(queryTable.getName(), getColumnNames(queryTable.getPartitionKeyColumns()),
+					getColumnNames(queryTable.getClusteredKeyColumns()), orderings));
+		}
+
+		if (candidates.isEmpty()) {
+			return entity.getTableName();
+		}
+
+		Set<CqlIdentifier> equalityColumns = new HashSet<CqlIdentifier>();
+		Set<CqlIdentifier> rangeColumns = new HashSet<CqlIdentifier>();
+		int orParts = 0;
+
+		for (OrPart orPart : tree) {
+
+			orParts++;
+
+			for (Part part : orPart) {
+
+				CassandraPersistentProperty property = mappingContext.getPersistentPropertyPath(part.getProperty())
+						.getLeafProperty();
+
+				switch (part.getType()) {
+					case SIMPLE_PROPERTY:
+					case TRUE:
+					case FALSE:
+					case IN:
+						equalityColumns.add(property.getColumnName());
+						break;
+					default:
+						rangeColumns.add(property.getColumnName());
+				}
+			}
+		}
+
+		if (orParts != 1) {
+			return entity.getTableName();
+		}
+
+		List<CqlIdentifier> partitionKey = new ArrayList<CqlIdentifier>();
+		List<CqlIdentifier> clusteredKey = new ArrayList<CqlIdentifier>();
+
+		collectPrimaryKeyColumns(entity, partitionKey, clusteredKey);
+
+		List<SortColumn> sortColumns = getSortColumns(tree.getSort(), entity, mappingContext);
+
+		CqlIdentifier selected = entity.getTableName();
+		int selectedScore = score(partitionKey, clusteredKey, equalityColumns, rangeColumns);
+
+		for (KeyLayout candidate : candidates) {
+
+			if (!isSortable(candidate, sortColumns)) {
+				continue;
+			}
+
+			int score = score(candidate.partitionKey, candidate.clusteredKey, equalityColumns, rangeColumns);
+
+			if (score > selectedScore) {
+				selected = candidate.name;
+				selectedScore = score;
+			}
+		}
+
+		return selected;
+	}
+
+	private static List<CqlIdentifier> getColumnNames(List<ColumnSpecification> columns) {
+
+		List<CqlIdentifier> columnNames = new ArrayList<CqlIdentifier>(columns.size());
+
+		for (ColumnSpecification column : columns) {
+			columnNames.add(column.getName());
+		}
+
+		return columnNames;
+	}
+
+	/**
+	 * Score a primary key against the restricted columns: {@literal -1} if the partition key is not fully restricted by
+	 * equality, otherwise {@literal 1} plus the number of leading clustering columns that are restricted.
+	 */
+	private static int score(List<CqlIdentifier> partitionKey, List<CqlIdentifier> clusteredKey,
+			Set<CqlIdentifier> equalityColumns, Set<CqlIdentifier> rangeColumns) {
+
+		if (!equalityColumns.containsAll(partitionKey)) {
+			return -1;
+		}
+
+		int score = 1;
+
+		for (CqlIdentifier column : clusteredKey) {
+
+			if (equalityColumns.contains(column)) {
+				score++;
+				continue;
+			}
+
+			if (rangeColumns.contains(column)) {
+				score++;
+			}
+
+			break;
+		}
+
+		return score;
+	}
+
+	private static void collectPrimaryKeyColumns(CassandraPersistentEntity<?> entity,
+			final List<CqlIdentifier> partitionKey, final List<CqlIdentifier> clusteredKey) {
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+					for (CassandraPersistentProperty primaryKeyProperty : property.getCompositePrimaryKeyProperties()) {
+						addPrimaryKeyColumn(primaryKeyProperty, partitionKey, clusteredKey);
+					}
+				} else {
+					addPrimaryKeyColumn(property, partitionKey, clusteredKey);
+				}
+			}
+		});
+	}
+
+	private static void addPrimaryKeyColumn(CassandraPersistentProperty property, List<CqlIdentifier> partitionKey,
+			List<CqlIdentifier> clusteredKey) {
+
+		if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+			partitionKey.add(property.getColumnName());
+		} else if (property.isClusterKeyColumn()) {
+			clusteredKey.add(property.getColumnName());
+		}
+	}
+
+	/**
+	 * Cassandra can only sort by a prefix of the clustering columns, either in clustering order or fully reversed.
+	 */
+	private static boolean isSortable(KeyLayout candidate, List<SortColumn> sortColumns) {
+
+		if (sortColumns.size() > candidate.clusteredKey.size()) {
+			return false;
+		}
+
+		Boolean reversed = null;
+
+		for (int index = 0; index < sortColumns.size(); index++) {
+
+			SortColumn sortColumn = sortColumns.get(index);
+
+			if (!candidate.clusteredKey.get(index).equals(sortColumn.column)) {
+				return false;
+			}
+
+			boolean descending = candidate.clusteredOrdering.get(index) == Ordering.DESCENDING;
+			boolean columnReversed = sortColumn.descending != descending;
+
+			if (reversed == null) {
+				reversed = columnReversed;
+			} else if (reversed != columnReversed) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static List<SortColumn> getSortColumns(Sort sort, CassandraPersistentEntity<?> entity,
+			CassandraMappingContext mappingContext) {
+
+		List<SortColumn> sortColumns = new ArrayList<SortColumn>();
+
+		if (sort == null) {
+			return sortColumns;
+		}
+
+		for (Order order : sort) {
+
+			PropertyPath path = PropertyPath.from(order.getProperty(), entity.getType());
+			sortColumns.add(new SortColumn(mappingContext.getPersistentPropertyPath(path).getLeafProperty().getColumnName(),
+					order.isDescending()));
+		}
+
+		return sortColumns;
+	}
+
+	/**
+	 * Name, primary key columns and clustering order of a view or query table.
+	 */
+	private static class KeyLayout {
+
+		final CqlIdentifier name;
+		final List<CqlIdentifier> partitionKey;
+		final List<CqlIdentifier> clusteredKey;
+		final List<Ordering> clusteredOrdering;
+
+		KeyLayout(CqlIdentifier name, List<CqlIdentifier> partitionKey, List<CqlIdentifier> clusteredKey,
+				List<Ordering> clusteredOrdering) {
+			this.name = name;
+			this.partitionKey = partitionKey;
+			this.clusteredKey = clusteredKey;
+			this.clusteredOrdering = clusteredOrdering;
+		}
+	}
+
+	/**
+	 * Column and direction of a sort order.
+	 */
+	private static class SortColumn {
+
+		final CqlIdentifier column;
+		final boolean descending;
+
+		SortColumn(CqlIdentifier column, boolean descending) {
+			this.column = column;
+			this.descending = descending;
+		}
+	}
+}
@@ -15,12 +15,42 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cassandra.core.Ordering;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.ProjectionColumns;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.TimeBucketProperty;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SelectForDelete;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.data.util.TypeInformation;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
@@ -30,10 +60,35 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
+	/**
+	 * Maximum number of {@link org.springframework.data.cassandra.mapping.TimeBucket time buckets} a single query is
+	 * expanded into.
+	 */
+	static final int MAX_TIME_BUCKETS = 1000;
+
+	/**
+	 * Maximum number of statement shapes cached per query method. Shapes vary by dynamic sort and projection.
+	 */
+	static final int MAX_STATEMENT_SHAPES = 16;
+
+	private final CassandraOperations operations;
+
 	private final CassandraMappingContext mappingContext;
 
+	private final ConversionService conversionService;
+
 	private final PartTree tree;
 
+	private final PartTree selectForDeleteTree;
+
+	private volatile CassandraEntityMetadata<?> queryEntityMetadata;
+
+	private final Map<Class<?>, ProjectionColumns> projections = new ConcurrentHashMap<Class<?>, ProjectionColumns>();
+
+	private final Map<List<Object>, StatementShape> statementShapes = new ConcurrentHashMap<List<Object>, StatementShape>();
+
+	private volatile List<ParameterBinding> parameterBindings;
+
 	/**
 	 * Creates a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -45,7 +100,59 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		super(queryMethod, operations);
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+		this.selectForDeleteTree = (tree.isDelete()
+				? new PartTree(queryMethod.getName().replaceFirst("^(delete|remove)", "find"),
+						queryMethod.getEntityInformation().getJavaType())
+				: null);
+		this.operations = operations;
 		this.mappingContext = operations.getConverter().getMappingContext();
+		this.conversionService = operations.getConverter().getConversionService();
+
+		if (queryMethod.isAsyncQuery() && (isCountQuery() || isExistsQuery() || isDeleteQuery())) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Count, exists and delete queries cannot be executed asynchronously; Offending method: %s", queryMethod));
+		}
+
+		Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
+
+		if (isDeleteQuery() && !void.class.equals(returnedObjectType) && !Void.class.equals(returnedObjectType)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Delete queries must return void since Cassandra does not report deleted rows; Offending method: %s",
+					queryMethod));
+		}
+	}
+
+	/**
+	 * Resolve the {@link CassandraEntityMetadata} of the table, materialized view or query table to query. Resolved
+	 * lazily on first use as resolving query table columns may require user types to exist. Delete queries always
+	 * target the table since views are read-only.
+	 */
+	private CassandraEntityMetadata<?> getQueryEntityMetadata() {
+
+		if (isDeleteQuery()) {
+			return getQueryMethod().getEntityInformation();
+		}
+
+		CassandraEntityMetadata<?> queryEntityMetadata = this.queryEntityMetadata;
+
+		if (queryEntityMetadata == null) {
+			queryEntityMetadata = routeToMaterializedView(getQueryMethod().getEntityInformation());
+			this.queryEntityMetadata = queryEntityMetadata;
+		}
+
+		return queryEntityMetadata;
+	}
+
+	private <T> CassandraEntityMetadata<T> routeToMaterializedView(CassandraEntityMetadata<T> entityMetadata) {
+
+		CqlIdentifier tableName = MaterializedViewSelector.select(tree,
+				mappingContext.getPersistentEntity(entityMetadata.getJavaType()), mappingContext);
+
+		if (tableName.equals(entityMetadata.getTableName())) {
+			return entityMetadata;
+		}
+
+		return new MaterializedViewEntityMetadata<T>(entityMetadata, tableName);
 	}
 
 	/**
@@ -57,16 +164,421 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		return tree;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isCountQuery()
+	 */
+	@Override
+	protected boolean isCountQuery() {
+		return tree.isCountProjection();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isExistsQuery()
+	 */
+	@Override
+	protected boolean isExistsQuery() {
+		return tree.isExistsProjection();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isDeleteQuery()
+	 */
+	@Override
+	protected boolean isDeleteQuery() {
+		return tree.isDelete();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#getResultLimit()
+	 */
+	@Override
+	protected Integer getResultLimit() {
+		return (tree.isLimiting() ? tree.getMaxResults() : null);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, boolean)
 	 */
 	@Override
 	protected String createQuery(CassandraParameterAccessor parameterAccessor) {
+		return createQuery(parameterAccessor, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, org.springframework.data.cassandra.core.ProjectionColumns)
+	 */
+	@Override
+	protected String createQuery(CassandraParameterAccessor parameterAccessor, ProjectionColumns projection) {
 
 		CassandraQueryCreator queryCreator = new CassandraQueryCreator(tree, parameterAccessor, mappingContext,
-				getQueryMethod().getEntityInformation());
+				getQueryEntityMetadata(), projection);
 
 		return queryCreator.createQuery().toString();
 	}
+
+	/**
+	 * Expands collection queries of entities declaring a {@link org.springframework.data.cassandra.mapping.TimeBucket}
+	 * into one query per time bucket if the query restricts the timestamp by a bounded range but does not restrict the
+	 * bucket. If the timestamp is the first clustering column, buckets are queried in the order of the timestamp so that
+	 * concatenated results retain clustering order and a limit applies across all buckets. Otherwise concatenated
+	 * results are not ordered and sorting or limiting queries are rejected.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQueries(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, org.springframework.data.cassandra.core.ProjectionColumns)
+	 */
+	@Override
+	protected List<String> createQueries(CassandraParameterAccessor parameterAccessor, ProjectionColumns projection) {
+
+		CassandraPersistentEntity<?> entity = mappingContext
+				.getPersistentEntity(getQueryMethod().getEntityInformation().getJavaType());
+		TimeBucketProperty timeBucket = getExpandableTimeBucket();
+		long[] range = (timeBucket != null ? getTimestampRange(timeBucket, parameterAccessor) : null);
+
+		if (range == null) {
+			return super.createQueries(parameterAccessor, projection);
+		}
+
+		if (timeBucket.getBucketCount(range[0], range[1]) > MAX_TIME_BUCKETS) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Query [%s] spans more than %d time buckets", getQueryMethod().getName(), MAX_TIME_BUCKETS));
+		}
+
+		if (!timeBucket.isClusteredByTimestamp() && (tree.isLimiting() || isSorted(parameterAccessor))) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Query [%s] spanning multiple time buckets cannot be sorted or limited since [%s] is not the first clustering column",
+					getQueryMethod().getName(), timeBucket.getTimestampProperty().getName()));
+		}
+
+		List<Long> buckets = timeBucket.getBuckets(range[0], range[1]);
+
+		if (isDescending(timeBucket, entity, parameterAccessor)) {
+			Collections.reverse(buckets);
+		}
+
+		List<String> queries = new ArrayList<String>(buckets.size());
+
+		for (Long bucket : buckets) {
+
+			Select select = (Select) new CassandraQueryCreator(tree, parameterAccessor, mappingContext,
+					getQueryEntityMetadata(), projection).createQuery();
+
+			select.where(QueryBuilder.eq(timeBucket.getProperty().getColumnName().toCql(),
+					timeBucket.toPropertyValue(bucket)));
+
+			queries.add(select.toString());
+		}
+
+		return queries;
+	}
+
+	/**
+	 * Creates a {@link com.datastax.driver.core.BoundStatement} for the query. The statement shape is created with bind
+	 * markers and prepared once per shape and {@link Session}; invocations only convert and bind the parameters using
+	 * {@link ParameterBinding}s derived once from the {@link PartTree}. Queries expanded into multiple time buckets are
+	 * rendered as CQL strings. Delete queries of entities that must be deleted entity by entity select the matching
+	 * entities instead.
+	 *
+	 * @see CassandraOperations#isEntityDeleteRequired(Class)
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createStatements(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, org.springframework.data.cassandra.core.ProjectionColumns)
+	 */
+	@Override
+	protected List<Statement> createStatements(CassandraParameterAccessor parameterAccessor,
+			ProjectionColumns projection) {
+
+		TimeBucketProperty timeBucket = getExpandableTimeBucket();
+
+		if (timeBucket != null && getTimestampRange(timeBucket, parameterAccessor) != null) {
+			return super.createStatements(parameterAccessor, projection);
+		}
+
+		boolean selectForDelete = (isDeleteQuery()
+				&& operations.isEntityDeleteRequired(getQueryMethod().getEntityInformation().getJavaType()));
+		List<Object> cacheKey = Arrays.<Object>asList(projection, parameterAccessor.getSort(), selectForDelete);
+		StatementShape shape = statementShapes.get(cacheKey);
+
+		if (shape == null) {
+
+			shape = new StatementShape(new CassandraQueryCreator(selectForDelete ? selectForDeleteTree : tree,
+					parameterAccessor, mappingContext, getQueryEntityMetadata(), projection, true).createQuery().toString());
+
+			if (statementShapes.size() < MAX_STATEMENT_SHAPES) {
+				statementShapes.put(cacheKey, shape);
+			}
+		}
+
+		List<ParameterBinding> parameterBindings = getParameterBindings(parameterAccessor);
+		Object[] parameters = parameterAccessor.getValues();
+		Object[] values = new Object[parameterBindings.size()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = parameterBindings.get(index).getValue(parameters, operations.getConverter());
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug("Executing CQL [{}] with values {}", shape.getCql(), Arrays.asList(values));
+		}
+
+		Statement statement = shape.getPreparedStatement(operations.getSession()).bind(values);
+
+		return Collections.singletonList(selectForDelete ? new SelectForDelete(statement) : statement);
+	}
+
+	/**
+	 * Returns the {@link ParameterBinding}s in bind marker order. Bindings do not depend on sort or projection and apply
+	 * to all statement shapes of this query.
+	 */
+	private List<ParameterBinding> getParameterBindings(CassandraParameterAccessor parameterAccessor) {
+
+		List<ParameterBinding> parameterBindings = this.parameterBindings;
+
+		if (parameterBindings == null) {
+			parameterBindings = createParameterBindings(parameterAccessor);
+			this.parameterBindings = parameterBindings;
+		}
+
+		return parameterBindings;
+	}
+
+	private List<ParameterBinding> createParameterBindings(CassandraParameterAccessor parameterAccessor) {
+
+		List<ParameterBinding> parameterBindings = new ArrayList<ParameterBinding>();
+		Parameters<?, ?> parameters = getQueryMethod().getParameters();
+		int index = 0;
+
+		for (OrPart orPart : tree) {
+			for (Part part : orPart) {
+
+				CassandraPersistentProperty property = mappingContext.getPersistentPropertyPath(part.getProperty())
+						.getLeafProperty();
+				Type type = part.getType();
+
+				if (type == Type.CONTAINING && (property.isCollectionLike() || property.isMapLike())) {
+					type = Type.SIMPLE_PROPERTY;
+				}
+
+				for (int argument = 0; argument < part.getNumberOfArguments(); argument++) {
+
+					TypeInformation<?> typeInformation = ConvertingParameterAccessor
+							.getTypeInformation(parameterAccessor.findCassandraType(index), property);
+
+					parameterBindings.add(new ParameterBinding(parameters.getBindableParameter(index).getIndex(),
+							typeInformation, type));
+					index++;
+				}
+			}
+		}
+
+		return Collections.unmodifiableList(parameterBindings);
+	}
+
+	/**
+	 * Returns the {@link TimeBucketProperty} if queries of this method may be expanded into one query per time bucket.
+	 * Collection queries of entities declaring a time bucket are expanded unless they are routed to a view or query
+	 * table.
+	 */
+	private TimeBucketProperty getExpandableTimeBucket() {
+
+		CassandraEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
+		TimeBucketProperty timeBucket = mappingContext.getPersistentEntity(entityMetadata.getJavaType())
+				.getTimeBucketProperty();
+
+		if (timeBucket == null || !getQueryMethod().isCollectionQuery()
+				|| !getQueryEntityMetadata().getTableName().equals(entityMetadata.getTableName())) {
+			return null;
+		}
+
+		return timeBucket;
+	}
+
+	/**
+	 * Determine the bounded timestamp range restricted by the query.
+	 *
+	 * @return the inclusive range in epoch milliseconds or {@literal null} if the query does not restrict the timestamp
+	 *         by a bounded range or restricts the bucket itself.
+	 */
+	private long[] getTimestampRange(TimeBucketProperty timeBucket, CassandraParameterAccessor parameterAccessor) {
+
+		Long from = null;
+		Long to = null;
+		int index = 0;
+		int orParts = 0;
+
+		for (OrPart orPart : tree) {
+
+			if (++orParts > 1) {
+				return null;
+			}
+
+			for (Part part : orPart) {
+
+				CassandraPersistentProperty property = mappingContext.getPersistentPropertyPath(part.getProperty())
+						.getLeafProperty();
+
+				if (property.equals(timeBucket.getProperty())) {
+					return null;
+				}
+
+				if (property.equals(timeBucket.getTimestampProperty())) {
+
+					switch (part.getType()) {
+						case SIMPLE_PROPERTY:
+							from = to = getMillis(parameterAccessor, index);
+							break;
+						case BETWEEN:
+							from = getMillis(parameterAccessor, index);
+							to = getMillis(parameterAccessor, index + 1);
+							break;
+						case AFTER:
+						case GREATER_THAN:
+						case GREATER_THAN_EQUAL:
+							from = getMillis(parameterAccessor, index);
+							break;
+						case BEFORE:
+						case LESS_THAN:
+						case LESS_THAN_EQUAL:
+							to = getMillis(parameterAccessor, index);
+							break;
+						default:
+							return null;
+					}
+				}
+
+				index += part.getNumberOfArguments();
+			}
+		}
+
+		return (from != null && to != null ? new long[] { from, to } : null);
+	}
+
+	private boolean isSorted(CassandraParameterAccessor parameterAccessor) {
+
+		for (Sort sort : Arrays.asList(tree.getSort(), parameterAccessor.getSort())) {
+			if (sort != null && sort.iterator().hasNext()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private Long getMillis(CassandraParameterAccessor parameterAccessor, int index) {
+		return TimeBucketProperty.toMillis(parameterAccessor.getBindableValue(index), conversionService);
+	}
+
+	private boolean isDescending(TimeBucketProperty timeBucket, CassandraPersistentEntity<?> entity,
+			CassandraParameterAccessor parameterAccessor) {
+
+		for (Sort sort : Arrays.asList(tree.getSort(), parameterAccessor.getSort())) {
+
+			if (sort == null) {
+				continue;
+			}
+
+			for (Order order : sort) {
+
+				PropertyPath path = PropertyPath.from(order.getProperty(), entity.getType());
+
+				if (mappingContext.getPersistentPropertyPath(path).getLeafProperty()
+						.equals(timeBucket.getTimestampProperty())) {
+					return order.isDescending();
+				}
+			}
+		}
+
+		return (timeBucket.getTimestampProperty().getPrimaryKeyOrdering() == Ordering.DESCENDING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#getProjectionColumns(java.lang.Class)
+	 */
+	@Override
+	protected ProjectionColumns getProjectionColumns(Class<?> projectionType) {
+
+		ProjectionColumns projection = projections.get(projectionType);
+
+		if (projection == null) {
+			projection = ProjectionColumns.create(mappingContext,
+					mappingContext.getPersistentEntity(getQueryMethod().getEntityInformation().getJavaType()), projectionType);
+			projections.put(projectionType, projection);
+		}
+
+		return projection;
+	}
+
+	/**
+	 * Binding of a query method parameter to a bind marker. Converts the parameter value to the type of the property the
+	 * parameter is compared with and applies {@code IN} and {@code LIKE} semantics of the {@link Part}.
+	 */
+	private static class ParameterBinding {
+
+		private final int parameterIndex;
+		private final TypeInformation<?> typeInformation;
+		private final Type type;
+
+		ParameterBinding(int parameterIndex, TypeInformation<?> typeInformation, Type type) {
+			this.parameterIndex = parameterIndex;
+			this.typeInformation = typeInformation;
+			this.type = type;
+		}
+
+		Object getValue(Object[] parameters, CassandraConverter converter) {
+
+			Object value = parameters[parameterIndex];
+
+			if (value == null) {
+				return null;
+			}
+
+			value = converter.convertToCassandraColumn(value, typeInformation);
+
+			switch (type) {
+				case IN:
+					return Arrays.asList(CassandraQueryCreator.asArray(value));
+				case LIKE:
+				case STARTING_WITH:
+				case ENDING_WITH:
+				case CONTAINING:
+					return CassandraQueryCreator.like(type, value);
+				default:
+					return value;
+			}
+		}
+	}
+
+	/**
+	 * {@link CassandraEntityMetadata} routing queries to a materialized view or query table of the entity table.
+	 */
+	private static class MaterializedViewEntityMetadata<T> implements CassandraEntityMetadata<T> {
+
+		private final CassandraEntityMetadata<T> delegate;
+		private final CqlIdentifier viewName;
+
+		MaterializedViewEntityMetadata(CassandraEntityMetadata<T> delegate, CqlIdentifier viewName) {
+			this.delegate = delegate;
+			this.viewName = viewName;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraEntityMetadata#getTableName()
+		 */
+		@Override
+		public CqlIdentifier getTableName() {
+			return viewName;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.core.EntityMetadata#getJavaType()
+		 */
+		@Override
+		public Class<T> getJavaType() {
+			return delegate.getJavaType();
+		}
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import org.springframework.cassandra.core.CachedPreparedStatementCreator;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * CQL of a repository query rendered with bind markers. {@link PreparedStatement}s are obtained through
+ * {@link CachedPreparedStatementCreator}, which prepares the CQL once per {@link Session} and keyspace.
+ *
+ * @author agent
+ * @since 1.6
+ */
+class StatementShape {
+
+	private static final CassandraExceptionTranslator EXCEPTION_TRANSLATOR = new CassandraExceptionTranslator();
+
+	private final CachedPreparedStatementCreator preparedStatementCreator;
+
+	/**
+	 * Creates a new {@link StatementShape} for the given {@code cql}.
+	 *
+	 * @param cql must not be empty.
+	 */
+	StatementShape(String cql) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		this.preparedStatementCreator = new CachedPreparedStatementCreator(cql);
+	}
+
+	/**
+	 * @return the CQL rendered with bind markers.
+	 */
+	String getCql() {
+		return preparedStatementCreator.getCql();
+	}
+
+	/**
+	 * Returns the {@link PreparedStatement} of this shape for {@code session}, preparing the statement on first use.
+	 * Translates {@link DriverException}s into {@link DataAccessException}s.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @return the {@link PreparedStatement}.
+	 */
+	PreparedStatement getPreparedStatement(Session session) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		try {
+			return preparedStatementCreator.createPreparedStatement(session);
+		} catch (DriverException e) {
+
+			DataAccessException translated = EXCEPTION_TRANSLATOR.translateExceptionIfPossible(e);
+			throw (translated != null ? translated : e);
+		}
+	}
+}
@@ -15,8 +15,12 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,7 +30,9 @@ import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cassandra.support.exception.CassandraQuerySyntaxException;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.ProjectionColumns;
 import org.springframework.data.cassandra.repository.query.ExpressionEvaluatingParameterBinder.BindingContext;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryCreationException;
@@ -34,8 +40,14 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.CodecNotFoundException;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
 import com.datastax.driver.core.querybuilder.BindMarker;
 
 /**
@@ -44,6 +56,13 @@ import com.datastax.driver.core.querybuilder.BindMarker;
  * A {@link StringBasedCassandraQuery} expects a query method to be annotated with
  * {@link org.springframework.data.cassandra.repository.Query} with a CQL query. String-based queries support named,
  * index-based and expression parameters that are resolved during query execution.
+ * <p>
+ * Queries are executed as prepared statements: parameters are replaced with positional bind markers and their values,
+ * including the values of expressions, are bound to the statement. Queries are rendered with CQL literals if they
+ * cannot be bound, that is if a parameter appears inside a string literal or in a position that does not accept bind
+ * markers, or if a collection value is enclosed in a collection literal ({@code [?0]}, <code>{?0}</code>) or in the
+ * parentheses of an {@code IN} predicate ({@code IN (?0)}) by the query. Collection values of other parameters are
+ * bound as collections.
  *
  * @author Matthew Adams
  * @author Mark Paluch
@@ -54,6 +73,8 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 	private static final Logger LOG = LoggerFactory.getLogger(StringBasedCassandraQuery.class);
 	private static final ParameterBindingParser BINDING_PARSER = ParameterBindingParser.INSTANCE;
 
+	private final CassandraOperations operations;
+
 	private final CodecRegistry codecRegistry;
 
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
@@ -62,6 +83,12 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final String query;
 
+	private final StatementShape statementShape;
+
+	private final BitSet enclosedPlaceholders;
+
+	private volatile boolean prepareFailed;
+
 	/**
 	 * Creates a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -93,11 +120,16 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 		super(queryMethod, operations);
 
+		this.operations = operations;
 		this.queryParameterBindings = new ArrayList<ParameterBinding>();
 		this.query = BINDING_PARSER.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
 				this.queryParameterBindings);
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
 		this.codecRegistry = operations.getSession().getCluster().getConfiguration().getCodecRegistry();
+
+		String preparableQuery = ParameterBinder.INSTANCE.toBindMarkers(this.query);
+		this.statementShape = (StringUtils.hasText(preparableQuery) ? new StatementShape(preparableQuery) : null);
+		this.enclosedPlaceholders = ParameterBinder.INSTANCE.findEnclosedPlaceholders(this.query);
 	}
 
 	/* (non-Javadoc)
@@ -122,6 +154,96 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		}
 	}
 
+	/**
+	 * Creates a {@link BoundStatement} binding the parameter values to the bind markers of the prepared query. Falls back
+	 * to a query rendered with CQL literals if the query or the parameter values cannot be bound.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createStatements(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, org.springframework.data.cassandra.core.ProjectionColumns)
+	 */
+	@Override
+	protected List<Statement> createStatements(CassandraParameterAccessor parameterAccessor,
+			ProjectionColumns projection) {
+
+		List<Object> arguments;
+
+		try {
+			arguments = this.parameterBinder.bind(parameterAccessor,
+					new BindingContext(getQueryMethod(), queryParameterBindings));
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+
+		Statement statement = (isBindable(arguments) ? createBoundStatement(arguments) : null);
+
+		if (statement == null) {
+
+			try {
+				String boundQuery = bind(query, arguments);
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(String.format("Created query [%s].", boundQuery));
+				}
+
+				statement = new SimpleStatement(boundQuery);
+			} catch (RuntimeException e) {
+				throw QueryCreationException.create(getQueryMethod(), e);
+			}
+		}
+
+		return Collections.singletonList(statement);
+	}
+
+	private boolean isBindable(List<Object> arguments) {
+
+		if (statementShape == null || prepareFailed) {
+			return false;
+		}
+
+		for (int index = 0; index < arguments.size(); index++) {
+
+			Object argument = arguments.get(index);
+
+			if (ParameterBinder.containsSpecialValue(argument)) {
+				return false;
+			}
+
+			if ((argument instanceof Collection || argument instanceof Map) && enclosedPlaceholders.get(index)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Bind {@code arguments} to the prepared query. Returns {@literal null} if the query cannot be prepared or the
+	 * arguments do not match the types of the bind markers.
+	 */
+	private BoundStatement createBoundStatement(List<Object> arguments) {
+
+		PreparedStatement preparedStatement;
+
+		try {
+			preparedStatement = statementShape.getPreparedStatement(operations.getSession());
+		} catch (CassandraQuerySyntaxException e) {
+
+			LOG.debug(String.format("Cannot prepare query [%s], falling back to CQL literals", statementShape.getCql()), e);
+
+			prepareFailed = true;
+			return null;
+		}
+
+		try {
+			return preparedStatement.bind(arguments.toArray());
+		} catch (InvalidTypeException e) {
+			LOG.debug("Cannot bind parameters, falling back to CQL literals", e);
+		} catch (CodecNotFoundException e) {
+			LOG.debug("Cannot bind parameters, falling back to CQL literals", e);
+		}
+
+		return null;
+	}
+
 	private String bind(String query, List<Object> arguments) {
 		return ParameterBinder.INSTANCE.bind(query, codecRegistry, arguments);
 	}
@@ -138,6 +260,96 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
+		/**
+		 * Replace the argument placeholders of {@code input} with positional bind markers.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @return the query using bind markers or {@literal null} if a placeholder appears inside a string literal.
+		 */
+		public String toBindMarkers(String input) {
+
+			StringBuilder result = new StringBuilder(input.length());
+			boolean inStringLiteral = false;
+
+			for (int index = 0; index < input.length(); index++) {
+
+				char c = input.charAt(index);
+
+				if (c == '\'') {
+					inStringLiteral = !inStringLiteral;
+				}
+
+				if (input.startsWith(ARGUMENT_PLACEHOLDER, index)) {
+
+					if (inStringLiteral) {
+						return null;
+					}
+
+					result.append('?');
+					index += ARGUMENT_PLACEHOLDER.length() - 1;
+				} else {
+					result.append(c);
+				}
+			}
+
+			return result.toString();
+		}
+
+		/**
+		 * Determine the argument placeholders of {@code input} that are enclosed in a collection literal ({@code [?0]},
+		 * <code>{?0}</code>) or in the parentheses of an {@code IN} predicate ({@code IN (?0)}). Collection values of these
+		 * placeholders are rendered as the elements of the enclosing literal and cannot be bound as a single value.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @return the indexes of the enclosed placeholders in order of their appearance in {@code input}.
+		 */
+		public BitSet findEnclosedPlaceholders(String input) {
+
+			BitSet enclosed = new BitSet();
+			Deque<Boolean> brackets = new ArrayDeque<Boolean>();
+			boolean inStringLiteral = false;
+			int placeholder = 0;
+
+			for (int index = 0; index < input.length(); index++) {
+
+				char c = input.charAt(index);
+
+				if (input.startsWith(ARGUMENT_PLACEHOLDER, index)) {
+
+					if (!inStringLiteral && !brackets.isEmpty() && brackets.peek()) {
+						enclosed.set(placeholder);
+					}
+
+					placeholder++;
+					index += ARGUMENT_PLACEHOLDER.length() - 1;
+				} else if (c == '\'') {
+					inStringLiteral = !inStringLiteral;
+				} else if (!inStringLiteral && (c == '[' || c == '{')) {
+					brackets.push(true);
+				} else if (!inStringLiteral && c == '(') {
+					brackets.push(isPrecededByIn(input, index));
+				} else if (!inStringLiteral && (c == ')' || c == ']' || c == '}') && !brackets.isEmpty()) {
+					brackets.pop();
+				}
+			}
+
+			return enclosed;
+		}
+
+		private static boolean isPrecededByIn(String input, int index) {
+
+			int end = index;
+
+			while (end > 0 && Character.isWhitespace(input.charAt(end - 1))) {
+				end--;
+			}
+
+			int start = end - 2;
+
+			return start >= 0 && input.regionMatches(true, start, "IN", 0, 2)
+					&& (start == 0 || !Character.isLetterOrDigit(input.charAt(start - 1)));
+		}
+
 		public String bind(String input, CodecRegistry codecRegistry, List<Object> parameters) {
 
 			if (parameters.isEmpty()) {
@@ -17,11 +17,13 @@ package org.springframework.data.cassandra.repository.support;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
+import org.springframework.data.cassandra.repository.query.AbstractCassandraQuery;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.cassandra.repository.query.CassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.PartTreeCassandraQuery;
@@ -36,6 +38,8 @@ import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
@@ -50,11 +54,14 @@ import org.springframework.util.Assert;
  */
 public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, CassandraRepositoryFactory.class.getClassLoader()));
 
 	private final CassandraMappingContext mappingContext;
 	private final CassandraOperations operations;
 
+	private Executor callbackExecutor;
+
 	/**
 	 * Creates a new {@link CassandraRepositoryFactory} with the given {@link CassandraOperations}.
 	 *
@@ -68,6 +75,19 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Set the {@link Executor} used to convert and post-process results of query methods returning a
+	 * {@link java.util.concurrent.Future}. Results are processed on the driver's callback thread if no {@link Executor}
+	 * is configured.
+	 *
+	 * @param callbackExecutor may be {@literal null}.
+	 * @since 1.6
+	 * @see AbstractCassandraQuery#setCallbackExecutor(Executor)
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -151,17 +171,23 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 			CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory, mappingContext);
 			String namedQueryName = queryMethod.getNamedQueryName();
+			AbstractCassandraQuery query;
 
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedCassandraQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
+				query = new StringBasedCassandraQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
 						evaluationContextProvider);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedCassandraQuery(queryMethod, operations, EXPRESSION_PARSER,
-						evaluationContextProvider);
+				query = new StringBasedCassandraQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
 			} else {
-				return new PartTreeCassandraQuery(queryMethod, operations);
+				query = new PartTreeCassandraQuery(queryMethod, operations);
 			}
+
+			if (callbackExecutor != null) {
+				query.setCallbackExecutor(callbackExecutor);
+			}
+
+			return query;
 		}
 	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
@@ -38,6 +39,7 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID e
 		extends RepositoryFactoryBeanSupport<T, S, ID> {
 
 	private CassandraTemplate cassandraTemplate;
+	private Executor callbackExecutor;
 	
 	/**
 	 * Creates a new {@link CassandraRepositoryFactoryBean} for the given repository interface.
@@ -50,7 +52,11 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID e
 
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
-		return new CassandraRepositoryFactory(cassandraTemplate);
+
+		CassandraRepositoryFactory factory = new CassandraRepositoryFactory(cassandraTemplate);
+		factory.setCallbackExecutor(callbackExecutor);
+
+		return factory;
 	}
 
 	/**
@@ -64,6 +70,18 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID e
 		setMappingContext(cassandraTemplate.getConverter().getMappingContext());
 	}
 
+	/**
+	 * Configures the {@link Executor} used to convert and post-process results of query methods returning a
+	 * {@link java.util.concurrent.Future}.
+	 *
+	 * @param callbackExecutor may be {@literal null} to process results on the driver's callback thread.
+	 * @since 1.6
+	 * @see CassandraRepositoryFactory#setCallbackExecutor(Executor)
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -16,15 +16,22 @@
 package org.springframework.data.cassandra.repository.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.cassandra.core.util.CollectionUtils;
+import org.springframework.data.cassandra.core.AsyncCursor;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
-import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
+import org.springframework.data.cassandra.core.DeletionListener;
+import org.springframework.data.cassandra.core.WriteListener;
+import org.springframework.data.cassandra.repository.AsyncTypedIdCassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
+import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -34,7 +41,7 @@ import com.datastax.driver.core.querybuilder.Select;
  * @author Matthew T. Adams
  * @author Mark Paluch
  */
-public class SimpleCassandraRepository<T, ID extends Serializable> implements TypedIdCassandraRepository<T, ID> {
+public class SimpleCassandraRepository<T, ID extends Serializable> implements AsyncTypedIdCassandraRepository<T, ID> {
 
 	protected CassandraOperations operations;
 	protected CassandraEntityInformation<T, ID> entityInformation;
@@ -110,6 +117,74 @@ public class SimpleCassandraRepository<T, ID extends Serializable> implements Ty
 		return operations.selectBySimpleIds(entityInformation.getJavaType(), ids);
 	}
 
+	@Override
+	public <S extends T> ListenableFuture<S> saveAsync(final S entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		final SettableListenableFuture<S> future = new SettableListenableFuture<S>();
+
+		operations.insertAsynchronously(entity, new WriteListener<S>() {
+
+			@Override
+			public void onWriteComplete(Collection<S> entities) {
+				future.set(entity);
+			}
+
+			@Override
+			public void onException(Exception x) {
+				future.setException(x);
+			}
+		});
+
+		return future;
+	}
+
+	@Override
+	public ListenableFuture<T> findOneAsync(ID id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		return operations.selectOneByIdAsynchronously(entityInformation.getJavaType(), id);
+	}
+
+	@Override
+	public ListenableFuture<AsyncCursor<T>> findAllAsync() {
+		return operations.selectAsynchronously(QueryBuilder.select().all().from(entityInformation.getTableName().toCql()),
+				entityInformation.getJavaType());
+	}
+
+	@Override
+	public ListenableFuture<Void> deleteAsync(ID id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		return operations.deleteByIdAsynchronously(entityInformation.getJavaType(), id);
+	}
+
+	@Override
+	public ListenableFuture<Void> deleteAsync(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		final SettableListenableFuture<Void> future = new SettableListenableFuture<Void>();
+
+		operations.deleteAsynchronously(entity, new DeletionListener<T>() {
+
+			@Override
+			public void onDeletionComplete(Collection<T> entities) {
+				future.set(null);
+			}
+
+			@Override
+			public void onException(Exception x) {
+				future.setException(x);
+			}
+		});
+
+		return future;
+	}
+
 	protected List<T> findAll(Select query) {
 		return operations.select(query, entityInformation.getJavaType());
 	}
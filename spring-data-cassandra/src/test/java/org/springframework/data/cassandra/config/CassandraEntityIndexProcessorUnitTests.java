@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link CassandraEntityIndexProcessor} compiling sources with the system Java compiler.
+ *
+ * @author agent
+ */
+public class CassandraEntityIndexProcessorUnitTests {
+
+	static final String TABLE = "org.springframework.data.cassandra.mapping.Table";
+
+	@Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	Properties index;
+
+	@Before
+	public void setUp() throws IOException {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assumeNotNull(compiler);
+
+		List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+		sources.add(source("com.example.Person", "@Table public class Person {}"));
+		sources.add(source("com.example.AbstractEntity", "@Table public abstract class AbstractEntity {}"));
+		sources.add(source("com.example.Customer", "public class Customer extends AbstractEntity {}"));
+		sources.add(source("com.example.Named", "@Table public interface Named {}"));
+		sources.add(source("com.example.Outer",
+				"public class Outer { @Table class Inner {} @Table static class Nested {} }"));
+		sources.add(source("com.example.Entity",
+				"@Table @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) public @interface Entity {}"));
+		sources.add(source("com.example.Order", "@Entity public class Order {}"));
+
+		File output = temporaryFolder.getRoot();
+		List<String> options = Arrays.asList("-proc:only", "-d", output.getAbsolutePath(), "-classpath",
+				System.getProperty("java.class.path"));
+
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, sources);
+		task.setProcessors(Collections.singletonList(new CassandraEntityIndexProcessor()));
+
+		assertThat(task.call()).isTrue();
+
+		index = new Properties();
+		InputStream inputStream = new FileInputStream(new File(output, CassandraEntityIndex.INDEX_LOCATION));
+
+		try {
+			index.load(inputStream);
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	@Test
+	public void shouldIndexConcreteTopLevelAndStaticNestedClasses() {
+
+		assertThat(index.getProperty("com.example.Person")).isEqualTo(TABLE);
+		assertThat(index.getProperty("com.example.Outer$Nested")).isEqualTo(TABLE);
+	}
+
+	@Test
+	public void shouldNotIndexAbstractClassesInterfacesAndInnerClasses() {
+
+		assertThat(index).doesNotContainKey("com.example.AbstractEntity").doesNotContainKey("com.example.Named")
+				.doesNotContainKey("com.example.Outer$Inner").doesNotContainKey("com.example.Outer")
+				.doesNotContainKey("com.example.Entity");
+	}
+
+	@Test
+	public void shouldIndexClassesInheritingMappingAnnotation() {
+		assertThat(index.getProperty("com.example.Customer")).isEqualTo(TABLE);
+	}
+
+	@Test
+	public void shouldIndexClassesAnnotatedWithComposedAnnotation() {
+		assertThat(index.getProperty("com.example.Order")).isEqualTo(TABLE);
+	}
+
+	private static JavaFileObject source(String className, String declaration) {
+
+		int separator = className.lastIndexOf('.');
+		final String content = String.format("package %s; import org.springframework.data.cassandra.mapping.Table; %s",
+				className.substring(0, separator), declaration);
+
+		return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+				JavaFileObject.Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return content;
+			}
+		};
+	}
+}
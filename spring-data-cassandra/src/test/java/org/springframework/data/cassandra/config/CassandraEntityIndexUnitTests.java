@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CassandraEntityIndex}.
+ *
+ * @author agent
+ */
+public class CassandraEntityIndexUnitTests {
+
+	static final String TABLE = "org.springframework.data.cassandra.mapping.Table";
+	static final String USER_DEFINED_TYPE = "org.springframework.data.cassandra.mapping.UserDefinedType";
+
+	CassandraEntityIndex index;
+
+	@Before
+	public void setUp() {
+
+		Properties properties = new Properties();
+		properties.setProperty("com.example.domain.Person", TABLE);
+		properties.setProperty("com.example.domain.Address", USER_DEFINED_TYPE);
+		properties.setProperty("com.example.domain.sub.Order", TABLE + ", " + USER_DEFINED_TYPE);
+		properties.setProperty("com.example.domainextension.Invoice", TABLE);
+
+		index = new CassandraEntityIndex(properties);
+	}
+
+	@Test
+	public void shouldReturnTypesOfBasePackageAndSubPackages() {
+
+		assertThat(index.getCandidateTypes("com.example.domain", Collections.singleton(TABLE)))
+				.containsOnly("com.example.domain.Person", "com.example.domain.sub.Order");
+	}
+
+	@Test
+	public void shouldFilterByAnnotation() {
+
+		assertThat(index.getCandidateTypes("com.example", Collections.singleton(USER_DEFINED_TYPE)))
+				.containsOnly("com.example.domain.Address", "com.example.domain.sub.Order");
+	}
+
+	@Test
+	public void shouldReturnEmptySetForUnknownPackage() {
+		assertThat(index.getCandidateTypes("org.example", Arrays.asList(TABLE, USER_DEFINED_TYPE))).isEmpty();
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.convert.MappingCassandraConverterUnitTests.Condition;
+import org.springframework.data.cassandra.convert.MappingCassandraConverterUnitTests.WithEnumColumns;
+import org.springframework.data.cassandra.domain.CompositeKey;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.domain.TypeWithKeyClass;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+
+import com.datastax.driver.core.PreparedStatement;
+
+/**
+ * Unit tests for {@link EntityWritePlan}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityWritePlanUnitTests {
+
+	@Mock PreparedStatement preparedStatement;
+
+	CassandraMappingContext mappingContext;
+	MappingCassandraConverter converter;
+
+	@Before
+	public void setUp() {
+
+		mappingContext = new BasicCassandraMappingContext();
+
+		converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	public void shouldCacheWritePlanPerEntity() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(Person.class);
+
+		assertThat(converter.getWritePlan(entity)).isSameAs(converter.getWritePlan(entity));
+	}
+
+	@Test
+	public void shouldProduceValuesInColumnOrder() {
+
+		Person person = new Person();
+		person.setId("heisenberg");
+		person.setFirstname("Walter");
+		person.setLastname("White");
+
+		EntityWritePlan writePlan = converter.getWritePlan(mappingContext.getPersistentEntity(Person.class));
+
+		List<CqlIdentifier> columnNames = writePlan.getColumnNames();
+		Object[] values = writePlan.getValues(person);
+
+		assertThat(values).hasSize(3);
+		assertThat(values[columnNames.indexOf(CqlIdentifier.cqlId("id"))]).isEqualTo("heisenberg");
+		assertThat(values[columnNames.indexOf(CqlIdentifier.cqlId("firstname"))]).isEqualTo("Walter");
+		assertThat(values[columnNames.indexOf(CqlIdentifier.cqlId("lastname"))]).isEqualTo("White");
+		assertThat(writePlan.isPrimaryKeyColumn(columnNames.indexOf(CqlIdentifier.cqlId("id")))).isTrue();
+		assertThat(writePlan.isPrimaryKeyColumn(columnNames.indexOf(CqlIdentifier.cqlId("lastname")))).isFalse();
+	}
+
+	@Test
+	public void shouldWriteEnumByName() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+		withEnumColumns.setCondition(Condition.USED);
+
+		EntityWritePlan writePlan = converter.getWritePlan(mappingContext.getPersistentEntity(WithEnumColumns.class));
+
+		Object[] values = writePlan.getValues(withEnumColumns);
+
+		assertThat(values[writePlan.getColumnNames().indexOf(CqlIdentifier.cqlId("condition"))]).isEqualTo("USED");
+	}
+
+	@Test
+	public void shouldFlattenCompositePrimaryKey() {
+
+		CompositeKey key = new CompositeKey();
+		key.setFirstname("Walter");
+		key.setLastname("White");
+
+		TypeWithKeyClass entity = new TypeWithKeyClass();
+		entity.setKey(key);
+
+		EntityWritePlan writePlan = converter.getWritePlan(mappingContext.getPersistentEntity(TypeWithKeyClass.class));
+
+		assertThat(writePlan.getColumnNames()).containsExactly(CqlIdentifier.cqlId("firstname"),
+				CqlIdentifier.cqlId("lastname"));
+		assertThat(writePlan.getValues(entity)).containsExactly("Walter", "White");
+		assertThat(writePlan.isPrimaryKeyColumn(0)).isTrue();
+		assertThat(writePlan.isPrimaryKeyColumn(1)).isTrue();
+	}
+
+	@Test
+	public void shouldWriteNullValues() {
+
+		Person person = new Person();
+		person.setId("heisenberg");
+
+		EntityWritePlan writePlan = converter.getWritePlan(mappingContext.getPersistentEntity(Person.class));
+
+		assertThat(writePlan.getValues(person)).containsOnly("heisenberg", null);
+	}
+
+	@Test
+	public void shouldBindValuesToPreparedStatement() {
+
+		Person person = new Person();
+		person.setId("heisenberg");
+		person.setFirstname("Walter");
+		person.setLastname("White");
+
+		EntityWritePlan writePlan = converter.getWritePlan(mappingContext.getPersistentEntity(Person.class));
+
+		writePlan.bind(preparedStatement, person);
+
+		verify(preparedStatement).bind(writePlan.getValues(person));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectIncompatibleSource() {
+		converter.getWritePlan(mappingContext.getPersistentEntity(Person.class)).getValues("foo");
+	}
+}
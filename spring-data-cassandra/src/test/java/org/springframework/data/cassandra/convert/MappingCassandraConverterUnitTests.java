@@ -30,6 +30,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -47,6 +48,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.NullWriteStrategy;
 import org.springframework.cassandra.core.PrimaryKeyType;
 import org.springframework.core.SpringVersion;
 import org.springframework.core.convert.ConverterNotFoundException;
@@ -59,11 +61,15 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.mapping.CassandraType;
+import org.springframework.data.cassandra.mapping.LazyValue;
 import org.springframework.data.cassandra.mapping.PrimaryKey;
 import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
 import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.util.Version;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -837,6 +843,125 @@ public class MappingCassandraConverterUnitTests {
 				mappingContext.getPersistentEntity(TypeWithMapId.class));
 	}
 
+	@Test
+	public void insertShouldWriteNullValuesByDefault() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(withEnumColumns, insert);
+
+		assertThat(getValues(insert)).hasSize(2).contains("foo").containsNull();
+	}
+
+	@Test
+	public void insertShouldSkipNullValuesUsingEntityNullWriteStrategy() {
+
+		TypeWithSkippedNulls typeWithSkippedNulls = new TypeWithSkippedNulls();
+		typeWithSkippedNulls.id = "foo";
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(typeWithSkippedNulls, insert);
+
+		assertThat(getValues(insert)).containsExactly("foo");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void writeShouldDispatchToOverriddenWrapperWriters() {
+
+		final List<Object> written = new ArrayList<Object>();
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext) {
+
+			@Override
+			protected void writeInsertFromWrapper(ConvertingPropertyAccessor accessor, Insert insert,
+					CassandraPersistentEntity<?> entity) {
+
+				written.add(accessor.getBean());
+				super.writeInsertFromWrapper(accessor, insert, entity);
+			}
+
+			@Override
+			protected void writeUpdateFromWrapper(ConvertingPropertyAccessor accessor, Update update,
+					CassandraPersistentEntity<?> entity) {
+
+				written.add(accessor.getBean());
+				super.writeUpdateFromWrapper(accessor, update, entity);
+			}
+		};
+		converter.afterPropertiesSet();
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+		withEnumColumns.setCondition(Condition.MINT);
+
+		Insert insert = QueryBuilder.insertInto("table");
+		Update update = QueryBuilder.update("table");
+
+		converter.write(withEnumColumns, insert);
+		converter.write(withEnumColumns, update);
+
+		assertThat(written).containsExactly(withEnumColumns, withEnumColumns);
+		assertThat(getValues(insert)).contains("foo", "MINT");
+		assertThat(update.toString()).contains("condition='MINT'").contains("id='foo'");
+	}
+
+	@Test
+	public void insertShouldSkipNullValuesUsingGivenNullWriteStrategy() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(withEnumColumns, insert, NullWriteStrategy.UNSET);
+
+		assertThat(getValues(insert)).containsExactly("foo");
+	}
+
+	@Test
+	public void shouldDecodeLazyValueOnFirstAccess() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("payload", "large", DataType.varchar()));
+
+		TypeWithLazyValue result = mappingCassandraConverter.readRow(TypeWithLazyValue.class, rowMock);
+
+		assertThat(result.payload.isResolved()).isFalse();
+		verify(rowMock, never()).getObject(1);
+
+		assertThat(result.payload.get()).isEqualTo("large");
+		assertThat(result.payload.isResolved()).isTrue();
+	}
+
+	@Test
+	public void shouldWriteLazyValue() {
+
+		TypeWithLazyValue typeWithLazyValue = new TypeWithLazyValue();
+		typeWithLazyValue.id = "foo";
+		typeWithLazyValue.payload = LazyValue.of("bar");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(typeWithLazyValue, insert);
+
+		assertThat(getValues(insert)).contains("foo", "bar");
+	}
+
+	@Test
+	public void shouldResolveDataTypeOfLazyValue() {
+
+		CassandraPersistentProperty property = mappingContext.getPersistentEntity(TypeWithLazyValue.class)
+				.getPersistentProperty("payload");
+
+		assertThat(property.isLazyValue()).isTrue();
+		assertThat(mappingContext.getDataType(property)).isEqualTo(DataType.text());
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> List<T> getListValue(Insert statement) {
 		List<Object> values = getValues(statement);
@@ -1086,4 +1211,20 @@ public class MappingCassandraConverterUnitTests {
 
 		ZoneId zoneId;
 	}
+
+	@Table
+	public static class TypeWithLazyValue {
+
+		@PrimaryKey private String id;
+
+		LazyValue<String> payload;
+	}
+
+	@Table(nullWriteStrategy = NullWriteStrategy.SKIP)
+	public static class TypeWithSkippedNulls {
+
+		@PrimaryKey private String id;
+
+		String firstname;
+	}
 }
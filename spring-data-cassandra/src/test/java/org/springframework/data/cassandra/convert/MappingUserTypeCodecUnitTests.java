@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.cassandra.mapping.UserDefinedType;
+import org.springframework.data.cassandra.mapping.UserTypeResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.UserType.Field;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+
+/**
+ * Unit tests for {@link MappingUserTypeCodec}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MappingUserTypeCodecUnitTests {
+
+	@Mock UserTypeResolver userTypeResolver;
+
+	UserType addressType;
+	BasicCassandraMappingContext mappingContext;
+	MappingCassandraConverter converter;
+	CodecRegistry codecRegistry;
+
+	@Before
+	public void setUp() {
+
+		addressType = createUserType("address",
+				Arrays.asList(createField("city", DataType.varchar()), createField("zip", DataType.cint())));
+
+		when(userTypeResolver.resolveType(CqlIdentifier.cqlId("address"))).thenReturn(addressType);
+
+		mappingContext = new BasicCassandraMappingContext();
+		mappingContext.setUserTypeResolver(userTypeResolver);
+		mappingContext.getPersistentEntity(AddressUserType.class);
+
+		converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		codecRegistry = new CodecRegistry();
+	}
+
+	@Test
+	public void shouldSerializeUsingUserTypeWireFormat() {
+
+		MappingUserTypeCodec<AddressUserType> codec = createCodec();
+
+		ByteBuffer bytes = codec.serialize(new AddressUserType("Springfield", 42), ProtocolVersion.V4);
+		UDTValue udtValue = TypeCodec.userType(addressType).deserialize(bytes, ProtocolVersion.V4);
+
+		assertThat(udtValue.getString("city")).isEqualTo("Springfield");
+		assertThat(udtValue.getInt("zip")).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldDeserializeIntoEntity() {
+
+		UDTValue udtValue = addressType.newValue().setString("city", "Springfield");
+		ByteBuffer bytes = TypeCodec.userType(addressType).serialize(udtValue, ProtocolVersion.V4);
+
+		AddressUserType address = createCodec().deserialize(bytes, ProtocolVersion.V4);
+
+		assertThat(address.city).isEqualTo("Springfield");
+		assertThat(address.zip).isNull();
+	}
+
+	@Test
+	public void shouldFormatEntity() {
+		assertThat(createCodec().format(new AddressUserType("Springfield", 42))).isEqualTo("{city:'Springfield',zip:42}");
+	}
+
+	@Test
+	public void shouldRegisterCodecsForUserTypes() {
+
+		converter.registerUserTypeCodecs(codecRegistry);
+
+		assertThat(codecRegistry.codecFor(addressType, AddressUserType.class)).isInstanceOf(MappingUserTypeCodec.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRefuseToRegisterCodecsWithDefaultCodecRegistry() {
+		converter.registerUserTypeCodecs(CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRefuseToRegisterCodecsWithDifferentCodecRegistries() {
+
+		converter.registerUserTypeCodecs(codecRegistry);
+		converter.registerUserTypeCodecs(new CodecRegistry());
+	}
+
+	@Test
+	public void shouldExposeUserTypeCodecRegistry() {
+
+		converter.registerUserTypeCodecs(codecRegistry);
+
+		assertThat(converter.getUserTypeCodecRegistry()).isSameAs(codecRegistry);
+	}
+
+	@Test
+	public void shouldWriteEntityValuesForRegisteredUserTypes() {
+
+		converter.registerUserTypeCodecs(codecRegistry);
+
+		AddressUserType address = new AddressUserType("Springfield", 42);
+		Customer customer = new Customer();
+		customer.id = "homer";
+		customer.address = address;
+
+		Insert insert = QueryBuilder.insertInto("customer");
+		converter.write(customer, insert);
+
+		assertThat(getValues(insert)).contains(address);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MappingUserTypeCodec<AddressUserType> createCodec() {
+
+		CassandraPersistentEntity<AddressUserType> entity = (CassandraPersistentEntity<AddressUserType>) mappingContext
+				.getPersistentEntity(AddressUserType.class);
+
+		return new MappingUserTypeCodec<AddressUserType>(entity, converter, codecRegistry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> getValues(Insert statement) {
+		return (List<Object>) ReflectionTestUtils.getField(statement, "values");
+	}
+
+	private Field createField(String fieldName, DataType dataType) {
+
+		try {
+			Constructor<Field> constructor = Field.class.getDeclaredConstructor(String.class, DataType.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(fieldName, dataType);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private UserType createUserType(String typeName, Collection<Field> fields) {
+
+		try {
+			Constructor<UserType> constructor = UserType.class.getDeclaredConstructor(String.class, String.class,
+					Collection.class, ProtocolVersion.class, CodecRegistry.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(typeName, typeName, fields, ProtocolVersion.NEWEST_SUPPORTED,
+					CodecRegistry.DEFAULT_INSTANCE);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@UserDefinedType("address")
+	static class AddressUserType {
+
+		String city;
+		Integer zip;
+
+		AddressUserType() {}
+
+		AddressUserType(String city, Integer zip) {
+			this.city = city;
+			this.zip = zip;
+		}
+	}
+
+	@Table
+	static class Customer {
+
+		@PrimaryKey String id;
+		AddressUserType address;
+	}
+}
@@ -15,10 +15,12 @@
  */
 package org.springframework.data.cassandra.core;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import lombok.Data;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Before;
@@ -30,10 +32,16 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.Table;
 import org.springframework.data.cassandra.mapping.UserDefinedType;
 import org.springframework.data.cassandra.mapping.UserTypeResolver;
 
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.UserType;
 
 /**
@@ -88,6 +96,91 @@ public class CassandraPersistentEntitySchemaCreatorUnitTests {
 		inOrder.verify(operations).execute(Mockito.contains("CREATE TYPE planettype"));
 	}
 
+	@Test
+	public void planShouldContainMissingSchemaElementsByLevel() {
+
+		context.getPersistentEntity(MoonType.class);
+		context.getPersistentEntity(PlanetType.class);
+		context.getPersistentEntity(UniverseType.class);
+		context.getPersistentEntity(Galaxy.class);
+
+		when(operations.getKeyspaceMetadata()).thenReturn(metadata);
+		when(metadata.getUserType("universetype")).thenReturn(universetype);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				operations);
+
+		List<List<String>> plan = schemaCreator.planSchema(false);
+
+		assertThat(plan).hasSize(3);
+		assertThat(plan.get(0)).hasSize(1);
+		assertThat(plan.get(0).get(0)).startsWith("CREATE TYPE moontype");
+		assertThat(plan.get(1)).hasSize(1);
+		assertThat(plan.get(1).get(0)).startsWith("CREATE TYPE planettype").contains("moons set<moontype>");
+		assertThat(plan.get(2)).hasSize(1);
+		assertThat(plan.get(2).get(0)).startsWith("CREATE TABLE galaxy");
+
+		verify(operations, never()).execute(anyString());
+		verify(operations, never()).executeAsynchronously(anyString());
+	}
+
+	@Test
+	public void planShouldRenderTablesReferencingPlannedUserTypes() {
+
+		context.getPersistentEntity(MoonType.class);
+		context.getPersistentEntity(UniverseType.class);
+		context.getPersistentEntity(Orbit.class);
+
+		when(operations.getKeyspaceMetadata()).thenReturn(metadata);
+		when(metadata.getUserType("universetype")).thenReturn(universetype);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				operations);
+
+		List<List<String>> plan = schemaCreator.planSchema(false);
+
+		assertThat(plan).hasSize(2);
+		assertThat(plan.get(0).get(0)).startsWith("CREATE TYPE moontype");
+		assertThat(plan.get(1).get(0)).startsWith("CREATE TABLE orbit").contains("moon moontype");
+	}
+
+	@Test
+	public void shouldCreateMissingTypesLevelByLevel() {
+
+		context.getPersistentEntity(MoonType.class);
+		context.getPersistentEntity(PlanetType.class);
+		context.getPersistentEntity(UniverseType.class);
+
+		Session session = mock(Session.class);
+		Cluster cluster = mock(Cluster.class);
+		Metadata clusterMetadata = mock(Metadata.class);
+
+		when(operations.getKeyspaceMetadata()).thenReturn(metadata);
+		when(operations.getSession()).thenReturn(session);
+		when(operations.executeAsynchronously(anyString())).thenReturn(mock(ResultSetFuture.class));
+		when(session.getCluster()).thenReturn(cluster);
+		when(cluster.getMetadata()).thenReturn(clusterMetadata);
+		when(clusterMetadata.checkSchemaAgreement()).thenReturn(true);
+		when(metadata.getUserType("universetype")).thenReturn(universetype);
+		when(metadata.getUserType("moontype")).thenReturn(null, moontype);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				operations);
+
+		List<String> cql = schemaCreator.createSchema(false);
+
+		assertThat(cql).hasSize(2);
+
+		InOrder inOrder = Mockito.inOrder(operations, clusterMetadata);
+
+		inOrder.verify(operations).executeAsynchronously(Mockito.contains("CREATE TYPE moontype"));
+		inOrder.verify(clusterMetadata).checkSchemaAgreement();
+		inOrder.verify(operations).executeAsynchronously(Mockito.contains("CREATE TYPE planettype"));
+		inOrder.verify(clusterMetadata).checkSchemaAgreement();
+
+		verify(operations, never()).executeAsynchronously(Mockito.contains("CREATE TYPE universetype"));
+	}
+
 	@UserDefinedType
 	@Data
 	static class UniverseType {
@@ -106,4 +199,18 @@ public class CassandraPersistentEntitySchemaCreatorUnitTests {
 		Set<MoonType> moons;
 		UniverseType universeType;
 	}
+
+	@Table
+	static class Orbit {
+
+		@PrimaryKey String name;
+		MoonType moon;
+	}
+
+	@Table
+	static class Galaxy {
+
+		@PrimaryKey String name;
+		UniverseType universeType;
+	}
 }
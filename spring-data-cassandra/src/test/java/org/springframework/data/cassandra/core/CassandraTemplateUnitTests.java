@@ -18,25 +18,68 @@ package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.NullWriteStrategy;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.QueryTable;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.cassandra.mapping.TimeBucket;
+import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.test.integration.simpletons.Book;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.concurrent.ListenableFuture;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
-import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -66,6 +109,22 @@ public class CassandraTemplateUnitTests {
 		return mock(Row.class, name);
 	}
 
+	private static MappingCassandraConverter newConverter() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		return converter;
+	}
+
+	private static Message newMessage(String mailbox, String id) {
+
+		Message message = new Message();
+		message.key = new MessageKey(mailbox, id);
+
+		return message;
+	}
+
 	protected <T> CassandraConverterRowCallback<T> newRollCallback(CassandraConverter converter, Class<T> type) {
 		return new CassandraConverterRowCallback<T>(converter, type);
 	}
@@ -155,6 +214,1022 @@ public class CassandraTemplateUnitTests {
 	public void batchOperationsShouldCallSession() {
 		template.batchOps().insert(new Book()).execute();
 
-		verify(mockSession).execute(Mockito.any(Batch.class));
+		verify(mockSession).execute(isA(BatchStatement.class));
+	}
+
+	@Test
+	public void batchOperationsShouldWriteQueryTables() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+
+		template.batchOps().insert(new Account("1", "walter@example.com")).update(new Account("2", "skyler@example.com"))
+				.execute();
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession, atLeastOnce()).prepare(startsWith("INSERT INTO account_by_email"));
+		verify(mockSession, never()).prepare(startsWith("SELECT"));
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(4);
+	}
+
+	@Test
+	public void batchOperationsShouldDeleteFromQueryTables() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+
+		template.batchOps().delete(new Account("1", "walter@example.com")).execute();
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(2);
+	}
+
+	@Test
+	public void insertShouldWriteQueryTablesInLoggedBatch() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+
+		template.insert(new Account("1", "walter@example.com"));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession).prepare(startsWith("INSERT INTO account_by_email"));
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(captor.getValue()).isInstanceOf(BatchStatement.class);
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(2);
+	}
+
+	@Test
+	public void deleteShouldDeleteFromQueryTablesByQueryTableKey() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+
+		template.delete(new Account("1", "walter@example.com"));
+
+		verify(mockSession).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockSession).execute(any(BatchStatement.class));
+	}
+
+	@Test
+	public void insertShouldWriteQueryTablesInParallel() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mock(ResultSet.class)));
+
+		template.setQueryTableWriteStrategy(QueryTableWriteStrategy.PARALLEL);
+		template.insert(new Account("1", "walter@example.com"));
+
+		verify(mockSession, times(2)).executeAsync(any(Statement.class));
+		verify(mockSession, never()).executeAsync(isA(BatchStatement.class));
+		verify(mockSession, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	public void batchInsertShouldWriteOneLoggedBatchPerEntity() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mock(ResultSet.class)));
+
+		template.insert(Arrays.asList(new Account("1", "walter@example.com"), new Account("2", "skyler@example.com"),
+				new Account("3", "jesse@example.com")));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(mockSession, times(3)).executeAsync(captor.capture());
+
+		for (Statement statement : captor.getAllValues()) {
+			assertThat(statement).isInstanceOf(BatchStatement.class);
+			assertThat(((BatchStatement) statement).size()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	public void batchInsertShouldBoundWritesInFlight() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		final List<Runnable> pending = new ArrayList<Runnable>();
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockFuture);
+		when(mockFuture.isDone()).thenReturn(true);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				pending.add((Runnable) invocation.getArguments()[0]);
+				return null;
+			}
+		}).when(mockFuture).addListener(any(Runnable.class), any(Executor.class));
+
+		template.setWriteConcurrency(2);
+		template.insertAsynchronously(Arrays.asList(new Account("1", "walter@example.com"),
+				new Account("2", "skyler@example.com"), new Account("3", "jesse@example.com")), null);
+
+		verify(mockSession, times(2)).executeAsync(any(Statement.class));
+
+		pending.remove(0).run();
+
+		verify(mockSession, times(3)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void updateShouldDeleteQueryTableRowOfModifiedKey() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		Row mockRow = mockRow("StoredRow");
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mockRow));
+		when(mockRow.getObject("id")).thenReturn("1");
+		when(mockRow.getObject("email")).thenReturn("walter@example.com");
+
+		template.setReadQueryTableKeysBeforeUpdate(true);
+		template.update(new Account("1", "heisenberg@example.com"));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession).prepare(matches("SELECT .* FROM account WHERE id=\\?;"));
+		verify(mockSession).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(3);
+	}
+
+	@Test
+	public void updateShouldNotDeleteQueryTableRowOfUnmodifiedKey() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		Row mockRow = mockRow("StoredRow");
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mockRow));
+		when(mockRow.getObject("id")).thenReturn("1");
+		when(mockRow.getObject("email")).thenReturn("walter@example.com");
+
+		template.setReadQueryTableKeysBeforeUpdate(true);
+		template.update(new Account("1", "walter@example.com"));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession, never()).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(2);
+	}
+
+	@Test
+	public void batchUpdateShouldDeleteQueryTableRowsOfModifiedKeys() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		Row mockRow = mockRow("StoredRow");
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mockRow),
+				mockResultSetFuture(), mockResultSetFuture(mock(ResultSet.class)));
+		when(mockRow.getObject("id")).thenReturn("1");
+		when(mockRow.getObject("email")).thenReturn("walter@example.com");
+
+		template.setReadQueryTableKeysBeforeUpdate(true);
+		template.update(Arrays.asList(new Account("1", "heisenberg@example.com"), new Account("2", "skyler@example.com")));
+
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockPreparedStatement, never()).bind("skyler@example.com", "2");
+	}
+
+	@Test
+	public void updateShouldNotReadQueryTableKeysOfUntrackedEntityByDefault() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+
+		template.update(new Account("1", "heisenberg@example.com"));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession, never()).executeAsync(any(Statement.class));
+		verify(mockSession, never()).prepare(startsWith("SELECT"));
+		verify(mockSession, never()).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(2);
+	}
+
+	@Test
+	public void updateShouldDeleteQueryTableRowOfTrackedEntityWithModifiedKey() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ResultSet mockResultSet = mock(ResultSet.class);
+		Row mockRow = mockRow("TrackedRow");
+		ColumnDefinitions mockColumnDefinitions = mock(ColumnDefinitions.class);
+		MappingCassandraConverter converter = spy(newConverter());
+		Account account = new Account("1", "walter@example.com");
+
+		template.setConverter(converter);
+		template.setChangeTracking(true);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRow));
+		when(mockRow.getColumnDefinitions()).thenReturn(mockColumnDefinitions);
+		when(mockColumnDefinitions.contains(anyString())).thenReturn(true);
+		doReturn(account).when(converter).read(Account.class, mockRow);
+
+		Account loaded = template.selectOne("SELECT * FROM account", Account.class);
+		loaded.email = "heisenberg@example.com";
+
+		template.update(loaded);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+
+		verify(mockSession, never()).executeAsync(any(Statement.class));
+		verify(mockSession).prepare(startsWith("UPDATE account SET email=?"));
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockSession, times(2)).execute(captor.capture());
+
+		assertThat(((BatchStatement) captor.getValue()).size()).isEqualTo(3);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void insertShouldRejectQueryTablesWithoutMappingConverter() {
+
+		CassandraConverter mockConverter = mock(CassandraConverter.class);
+
+		when(mockConverter.getMappingContext()).thenReturn(newConverter().getMappingContext());
+
+		template.setConverter(mockConverter);
+		template.insert(new Account("1", "walter@example.com"));
+	}
+
+	@Test
+	public void processResultSetConvertsLargeResultSetsInParallelPreservingOrder() throws Exception {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		List<Row> rows = new ArrayList<Row>();
+
+		for (int index = 0; index < 1000; index++) {
+
+			Row row = mockRow("MockRow" + index);
+			when(row.getInt(0)).thenReturn(index);
+			rows.add(row);
+		}
+
+		when(mockSession.execute(eq("SELECT * FROM Test"))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(rows.iterator());
+		when(mockCassandraConverter.read(eq(Integer.class), any(Row.class))).thenAnswer(new Answer<Integer>() {
+
+			@Override
+			public Integer answer(InvocationOnMock invocation) {
+				return ((Row) invocation.getArguments()[1]).getInt(0);
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			template.setConversionExecutor(executor);
+			template.setParallelConversionThreshold(10);
+
+			List<Integer> results = template.select("SELECT * FROM Test",
+					newRollCallback(mockCassandraConverter, Integer.class));
+
+			assertThat(results).hasSize(1000);
+
+			for (int index = 0; index < results.size(); index++) {
+				assertThat(results.get(index)).isEqualTo(index);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void processResultSetConvertsChunksNotStartedByExecutorOnCallingThread() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		List<Row> rows = new ArrayList<Row>();
+
+		for (int index = 0; index < 300; index++) {
+
+			Row row = mockRow("MockRow" + index);
+			when(row.getInt(0)).thenReturn(index);
+			rows.add(row);
+		}
+
+		when(mockSession.execute(eq("SELECT * FROM Test"))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(rows.iterator());
+		when(mockCassandraConverter.read(eq(Integer.class), any(Row.class))).thenAnswer(new Answer<Integer>() {
+
+			@Override
+			public Integer answer(InvocationOnMock invocation) {
+				return ((Row) invocation.getArguments()[1]).getInt(0);
+			}
+		});
+
+		final List<Runnable> queued = new ArrayList<Runnable>();
+
+		template.setConversionExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				queued.add(command);
+			}
+		});
+		template.setParallelConversionThreshold(10);
+
+		List<Integer> results = template.select("SELECT * FROM Test",
+				newRollCallback(mockCassandraConverter, Integer.class));
+
+		assertThat(queued).isNotEmpty();
+		assertThat(results).hasSize(300);
+		assertThat(results.get(299)).isEqualTo(299);
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldIssuePreparedSinglePartitionReadPerId() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+		converter = spy(converter);
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Row mockRowTwo = mockRow("MockRowTwo");
+		Account walter = new Account("1", "walter@example.com");
+		Account skyler = new Account("2", "skyler@example.com");
+
+		template.setConverter(converter);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mockRowOne),
+				mockResultSetFuture(mockRowTwo));
+		doReturn(walter).when(converter).read(Account.class, mockRowOne);
+		doReturn(skyler).when(converter).read(Account.class, mockRowTwo);
+
+		List<Account> accounts = template.selectBySimpleIds(Account.class, Arrays.asList("1", "2"));
+
+		assertThat(accounts).containsExactly(walter, skyler);
+
+		verify(mockSession).prepare("SELECT * FROM account WHERE id=?;");
+		verify(mockPreparedStatement).bind("1");
+		verify(mockPreparedStatement).bind("2");
+		verify(mockSession, times(2)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldReadDuplicateIdsOnce() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ResultSetFuture emptyResult = mockResultSetFuture();
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(emptyResult);
+
+		template.selectBySimpleIds(Message.class, Arrays.<Object> asList(new MessageKey("heisenberg", "2"),
+				new MessageKey("heisenberg", "1"), id("mailbox", "heisenberg").with("id", "2")));
+
+		InOrder inOrder = inOrder(mockPreparedStatement);
+		inOrder.verify(mockPreparedStatement).bind("heisenberg", "2");
+		inOrder.verify(mockPreparedStatement).bind("heisenberg", "1");
+		verify(mockSession, times(2)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldSupportCompositeKeysAndMapIds() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ResultSetFuture emptyResult = mockResultSetFuture();
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(emptyResult);
+
+		List<Message> messages = template.selectBySimpleIds(Message.class,
+				Arrays.<Object> asList(new MessageKey("heisenberg", "1"), id("mailbox", "heisenberg").with("id", "2")));
+
+		assertThat(messages).isEmpty();
+
+		verify(mockSession).prepare("SELECT * FROM message WHERE mailbox=? AND id=?;");
+		verify(mockPreparedStatement).bind("heisenberg", "1");
+		verify(mockPreparedStatement).bind("heisenberg", "2");
+	}
+
+	@Test
+	public void existsShouldSelectPrimaryKeyColumnOfSingleRow() {
+
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		BoundStatement mockBoundStatement = mock(BoundStatement.class);
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mockBoundStatement);
+		when(mockSession.execute(mockBoundStatement)).thenReturn(mockResultSet);
+		when(mockResultSet.one()).thenReturn(mockRow("MockRowOne"), (Row) null);
+
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "1"))).isTrue();
+		assertThat(template.exists(Message.class, id("mailbox", "heisenberg").with("id", "2"))).isFalse();
+
+		verify(mockSession).prepare("SELECT mailbox FROM message WHERE mailbox=? AND id=? LIMIT 1;");
+		verify(mockPreparedStatement).bind("heisenberg", "1");
+		verify(mockPreparedStatement).bind("heisenberg", "2");
+	}
+
+	@Test
+	public void existsShouldNotQueryKeysAbsentFromExistenceFilter() {
+
+		Cluster mockCluster = mock(Cluster.class);
+		Metadata mockMetadata = mock(Metadata.class);
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.getCluster()).thenReturn(mockCluster);
+		when(mockCluster.getMetadata()).thenReturn(mockMetadata);
+		when(mockMetadata.getTokenRanges()).thenReturn(Collections.<TokenRange> emptySet());
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.execute(any(BoundStatement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.one()).thenReturn(mockRow("MockRowOne"));
+
+		template.enableExistenceFilter(Message.class, 1000, 0.01);
+
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "1"))).isFalse();
+		verify(mockSession, never()).prepare(anyString());
+
+		Message message = new Message();
+		message.key = new MessageKey("heisenberg", "1");
+		template.insert(message);
+
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "1"))).isTrue();
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "2"))).isFalse();
+		verify(mockPreparedStatement).bind("heisenberg", "1");
+		verify(mockPreparedStatement, never()).bind("heisenberg", "2");
+	}
+
+	@Test
+	public void existenceFilterShouldRecordWritesCompletingAfterFilterWasBuilt() {
+
+		Cluster mockCluster = mock(Cluster.class);
+		Metadata mockMetadata = mock(Metadata.class);
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		when(mockSession.getCluster()).thenReturn(mockCluster);
+		when(mockCluster.getMetadata()).thenReturn(mockMetadata);
+		when(mockMetadata.getTokenRanges()).thenReturn(Collections.<TokenRange> emptySet());
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockFuture);
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		when(mockSession.execute(any(BoundStatement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.one()).thenReturn(mockRow("MockRowOne"));
+
+		template.insertAsynchronously(newMessage("heisenberg", "1"), (WriteListener<Message>) null);
+		template.enableExistenceFilter(Message.class, 1000, 0.01);
+
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "1"))).isFalse();
+
+		ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+		verify(mockFuture).addListener(completion.capture(), any(Executor.class));
+		completion.getValue().run();
+
+		assertThat(template.exists(Message.class, new MessageKey("heisenberg", "1"))).isTrue();
+		verify(mockPreparedStatement).bind("heisenberg", "1");
+	}
+
+	@Test
+	public void selectOneByIdShouldAnswerRepeatedLookupsFromEntityCache() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		Message cachedMessage = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne));
+		doReturn(message).doReturn(cachedMessage).when(converter).read(Message.class, mockRowOne);
+
+		assertThat(template.selectOneById(Message.class, new MessageKey("heisenberg", "1"))).isSameAs(message);
+		assertThat(template.selectOneById(Message.class, id("mailbox", "heisenberg").with("id", "1")))
+				.isSameAs(cachedMessage);
+
+		verify(mockSession, times(1)).execute(any(Statement.class));
+		verify(converter, times(2)).read(Message.class, mockRowOne);
+
+		EntityCacheStatistics statistics = template.getEntityCacheStatistics(Message.class);
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.5);
+		assertThat(statistics.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void writesShouldEvictEntitiesFromEntityCache() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne), iterator(mockRowOne), iterator(mockRowOne));
+		doReturn(message).when(converter).read(Message.class, mockRowOne);
+
+		template.selectOneById(Message.class, message.key);
+		template.update(message);
+		template.selectOneById(Message.class, message.key);
+		template.deleteAll(Message.class);
+		template.selectOneById(Message.class, message.key);
+
+		assertThat(template.getEntityCacheStatistics(Message.class).getHitCount()).isZero();
+		assertThat(template.getEntityCacheStatistics(Message.class).getMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void batchWritesShouldEvictEntitiesFromEntityCache() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne), iterator(mockRowOne));
+		doReturn(message).when(converter).read(Message.class, mockRowOne);
+
+		template.selectOneById(Message.class, message.key);
+		template.batchOps().delete(message).execute();
+		template.selectOneById(Message.class, message.key);
+
+		assertThat(template.getEntityCacheStatistics(Message.class).getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void selectOneByIdAsynchronouslyShouldAnswerRepeatedLookupsFromEntityCache() throws Exception {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		Message cachedMessage = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockResultSetFuture(mockRowOne));
+		doReturn(message).doReturn(cachedMessage).when(converter).read(Message.class, mockRowOne);
+
+		assertThat(template.selectOneByIdAsynchronously(Message.class, message.key).get()).isSameAs(message);
+		assertThat(template.selectOneByIdAsynchronously(Message.class, id("mailbox", "heisenberg").with("id", "1")).get())
+				.isSameAs(cachedMessage);
+
+		verify(mockSession, times(1)).executeAsync(any(Statement.class));
+		verify(converter, times(2)).read(Message.class, mockRowOne);
+		assertThat(template.getEntityCacheStatistics(Message.class).getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void deleteByIdAsynchronouslyShouldEvictEntityCacheOnCompletion() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockFuture);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne), iterator(mockRowOne), iterator(mockRowOne));
+		doReturn(message).when(converter).read(Message.class, mockRowOne);
+
+		ListenableFuture<Void> future = template.deleteByIdAsynchronously(Message.class, message.key);
+		template.selectOneById(Message.class, message.key);
+
+		ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+		verify(mockFuture).addListener(callback.capture(), any(Executor.class));
+		callback.getValue().run();
+
+		template.selectOneById(Message.class, message.key);
+
+		assertThat(future.isDone()).isTrue();
+		assertThat(template.getEntityCacheStatistics(Message.class).getHitCount()).isZero();
+		assertThat(template.getEntityCacheStatistics(Message.class).getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void asynchronousWritesShouldEvictEntityCacheOnCompletionWithoutListener() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Message message = newMessage("heisenberg", "1");
+		MappingCassandraConverter converter = spy(newConverter());
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		template.setConverter(converter);
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(mockFuture);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne), iterator(mockRowOne), iterator(mockRowOne));
+		doReturn(message).when(converter).read(Message.class, mockRowOne);
+
+		template.updateAsynchronously(message);
+		template.deleteAsynchronously(Collections.singletonList(message));
+		template.selectOneById(Message.class, message.key);
+
+		ArgumentCaptor<Runnable> callbacks = ArgumentCaptor.forClass(Runnable.class);
+		verify(mockFuture, times(2)).addListener(callbacks.capture(), any(Executor.class));
+
+		callbacks.getAllValues().get(0).run();
+		template.selectOneById(Message.class, message.key);
+
+		callbacks.getAllValues().get(1).run();
+		template.selectOneById(Message.class, message.key);
+
+		assertThat(template.getEntityCacheStatistics(Message.class).getHitCount()).isZero();
+		assertThat(template.getEntityCacheStatistics(Message.class).getMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldRequireEntityDeletesForQueryTablesAndEntityCache() {
+
+		template.setConverter(newConverter());
+
+		assertThat(template.isEntityDeleteRequired(Account.class)).isTrue();
+		assertThat(template.isEntityDeleteRequired(Message.class)).isFalse();
+
+		template.enableEntityCache(Message.class, 100, 0, TimeUnit.SECONDS);
+
+		assertThat(template.isEntityDeleteRequired(Message.class)).isTrue();
+	}
+
+	@Test
+	public void deleteByIdShouldDeleteQueryTableRowsOfStoredEntity() {
+
+		Row mockRowOne = mockRow("MockRowOne");
+		MappingCassandraConverter converter = spy(newConverter());
+		ResultSet mockResultSet = mock(ResultSet.class);
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+
+		template.setConverter(converter);
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne));
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(mock(BoundStatement.class));
+		doReturn(new Account("1", "walter@example.com")).when(converter).read(Account.class, mockRowOne);
+
+		template.deleteById(Account.class, "1");
+
+		verify(mockSession).prepare(startsWith("DELETE FROM account_by_email"));
+		verify(mockPreparedStatement).bind("walter@example.com", "1");
+		verify(mockSession).execute(any(BatchStatement.class));
+	}
+
+	@Test
+	public void deleteByIdShouldPopulateTimeBucketOfMapId() {
+
+		MapId id = id("sensorId", "s1").with("timestamp", new Date(TimeUnit.HOURS.toMillis(25)));
+
+		template.deleteById(Reading.class, id);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(captor.getValue().toString()).contains("day=" + TimeUnit.DAYS.toMillis(1));
+		assertThat(id.containsKey("day")).isFalse();
+	}
+
+	@Test
+	public void deleteByIdShouldPopulateTimeBucketOfCompositeKeyCopy() {
+
+		ReadingKey key = new ReadingKey();
+		key.sensorId = "s1";
+		key.timestamp = new Date(TimeUnit.HOURS.toMillis(25));
+
+		template.deleteById(BucketedReading.class, key);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(mockSession).execute(captor.capture());
+
+		assertThat(captor.getValue().toString()).contains("day=" + TimeUnit.DAYS.toMillis(1));
+		assertThat(key.day).isZero();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getEntityCacheStatisticsShouldRejectEntitiesWithoutCache() {
+		template.getEntityCacheStatistics(Message.class);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void selectBySimpleIdsShouldRejectIncompleteMapIds() {
+		template.selectBySimpleIds(Message.class, Collections.singleton(id("mailbox", "heisenberg")));
+	}
+
+	@Test
+	public void selectAsynchronouslyShouldFetchPagesOnDemand() throws Exception {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+		converter = spy(converter);
+
+		Row mockRowOne = mockRow("MockRowOne");
+		Row mockRowTwo = mockRow("MockRowTwo");
+		Account walter = new Account("1", "walter@example.com");
+		Account skyler = new Account("2", "skyler@example.com");
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ResultSetFuture firstPage = mockResultSetFuture(mockResultSet);
+		ResultSetFuture secondPage = mockResultSetFuture(mockResultSet);
+
+		template.setConverter(converter);
+
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(firstPage);
+		when(mockResultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(mockResultSet.one()).thenReturn(mockRowOne, mockRowTwo);
+		when(mockResultSet.isFullyFetched()).thenReturn(false, false, true);
+		when(mockResultSet.fetchMoreResults()).thenReturn(secondPage);
+		doReturn(walter).when(converter).read(Account.class, mockRowOne);
+		doReturn(skyler).when(converter).read(Account.class, mockRowTwo);
+
+		AsyncCursor<Account> cursor = template.selectAsynchronously("SELECT * FROM account", Account.class).get();
+
+		assertThat(cursor.getContent()).containsExactly(walter);
+		verify(mockResultSet, never()).fetchMoreResults();
+
+		assertThat(cursor.hasMore()).isTrue();
+
+		AsyncCursor<Account> next = cursor.fetchNext().get();
+
+		assertThat(next.getContent()).containsExactly(skyler);
+		assertThat(next.hasMore()).isFalse();
+	}
+
+	@Test
+	public void sliceShouldResumeQueryAtPagingState() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+		converter = spy(converter);
+
+		Row mockRow = mockRow("MockRow");
+		Account walter = new Account("1", "walter@example.com");
+		PagingState requestPagingState = mock(PagingState.class);
+		PagingState nextPagingState = mock(PagingState.class);
+		Select select = mock(Select.class);
+		ResultSet mockResultSet = mockResultSet(nextPagingState);
+
+		template.setConverter(converter);
+
+		when(mockSession.execute(select)).thenReturn(mockResultSet);
+		when(mockResultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(mockResultSet.one()).thenReturn(mockRow);
+		doReturn(walter).when(converter).read(Account.class, mockRow);
+
+		Slice<Account> slice = template.slice(select,
+				CassandraPageRequest.of(new PageRequest(1, 10), requestPagingState, true), Account.class);
+
+		assertThat(slice.getContent()).containsExactly(walter);
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.nextPageable().getPageNumber()).isEqualTo(2);
+		assertThat(((CassandraPageRequest) slice.nextPageable()).getPagingState()).isSameAs(nextPagingState);
+
+		verify(select).setFetchSize(10);
+		verify(select).setPagingState(requestPagingState);
+		verify(mockSession, times(1)).execute(select);
+	}
+
+	@Test
+	public void sliceShouldRestoreFetchSizeAndClearPagingStateOfStatement() {
+
+		PagingState requestPagingState = mock(PagingState.class);
+		Select select = mock(Select.class);
+		ResultSet mockResultSet = mockResultSet(null);
+
+		when(select.getFetchSize()).thenReturn(500);
+		when(mockSession.execute(select)).thenReturn(mockResultSet);
+
+		template.slice(select, CassandraPageRequest.of(new PageRequest(1, 10), requestPagingState, true), Account.class);
+
+		InOrder inOrder = inOrder(select, mockSession);
+
+		inOrder.verify(select).setFetchSize(10);
+		inOrder.verify(select).setPagingState(requestPagingState);
+		inOrder.verify(mockSession).execute(select);
+		inOrder.verify(select).setFetchSize(500);
+		inOrder.verify(select).setPagingState(null);
+	}
+
+	@Test
+	public void sliceShouldRejectPageWithoutPagingState() {
+
+		Select select = mock(Select.class);
+
+		try {
+			template.slice(select, new PageRequest(1, 10), Account.class);
+			fail("Missing InvalidDataAccessApiUsageException");
+		} catch (InvalidDataAccessApiUsageException e) {
+			assertThat(e).hasMessageContaining("paging state");
+		}
+
+		verifyZeroInteractions(select);
+		verify(mockSession, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	public void insertShouldLeaveNullValuesUnsetWithPreparedStatement() {
+
+		Cluster mockCluster = mock(Cluster.class);
+		Configuration mockConfiguration = mock(Configuration.class);
+		ProtocolOptions mockProtocolOptions = mock(ProtocolOptions.class);
+		PreparedStatement mockPreparedStatement = mock(PreparedStatement.class);
+		ColumnDefinitions mockVariables = mock(ColumnDefinitions.class);
+		BoundStatement mockBoundStatement = mock(BoundStatement.class);
+
+		when(mockSession.getCluster()).thenReturn(mockCluster);
+		when(mockCluster.getConfiguration()).thenReturn(mockConfiguration);
+		when(mockConfiguration.getProtocolOptions()).thenReturn(mockProtocolOptions);
+		when(mockProtocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind()).thenReturn(mockBoundStatement);
+		when(mockPreparedStatement.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(mockPreparedStatement.getVariables()).thenReturn(mockVariables);
+		when(mockVariables.getType(anyInt())).thenReturn(DataType.varchar());
+
+		Draft draft = new Draft();
+		draft.id = "heisenberg";
+
+		template.insert(draft);
+		template.insert(draft);
+
+		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
+		verify(mockSession).prepare(cql.capture());
+		assertThat(cql.getValue()).startsWith("INSERT INTO draft (");
+
+		verify(mockBoundStatement, times(2)).set(anyInt(), any(), Mockito.<TypeCodec<Object>> any());
+		verify(mockBoundStatement, times(2)).set(anyInt(), eq("heisenberg"), Mockito.<TypeCodec<Object>> any());
+		verify(mockSession, times(2)).execute(mockBoundStatement);
+		verify(mockCluster, times(1)).getConfiguration();
+	}
+
+	private static ResultSet mockResultSet(PagingState pagingState) {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ExecutionInfo mockExecutionInfo = mock(ExecutionInfo.class);
+
+		when(mockResultSet.getExecutionInfo()).thenReturn(mockExecutionInfo);
+		when(mockExecutionInfo.getPagingState()).thenReturn(pagingState);
+
+		return mockResultSet;
+	}
+
+	private static ResultSetFuture mockResultSetFuture(Row... rows) {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockResultSet.iterator()).thenReturn(Arrays.asList(rows).iterator());
+
+		return mockResultSetFuture(mockResultSet);
+	}
+
+	private static ResultSetFuture mockResultSetFuture(ResultSet resultSet) {
+
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		when(mockFuture.isDone()).thenReturn(true);
+		when(mockFuture.getUninterruptibly()).thenReturn(resultSet);
+
+		try {
+			when(mockFuture.get()).thenReturn(resultSet);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(mockFuture).addListener(any(Runnable.class), any(Executor.class));
+
+		return mockFuture;
+	}
+
+	@Table
+	@QueryTable(name = "account_by_email", partitionKey = "email")
+	static class Account {
+
+		@Id String id;
+		String email;
+
+		Account(String id, String email) {
+			this.id = id;
+			this.email = email;
+		}
+	}
+
+	@Table(nullWriteStrategy = NullWriteStrategy.UNSET)
+	static class Draft {
+
+		@Id String id;
+		String body;
+	}
+
+	@Table
+	static class Message {
+
+		@PrimaryKey MessageKey key;
+		String body;
+	}
+
+	@Table
+	static class Reading {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String sensorId;
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 1) @TimeBucket("timestamp") long day;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 2) Date timestamp;
+	}
+
+	@Table
+	static class BucketedReading {
+
+		@PrimaryKey ReadingKey key;
+		double value;
+	}
+
+	@PrimaryKeyClass
+	static class ReadingKey implements Serializable {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String sensorId;
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 1) @TimeBucket("timestamp") long day;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 2) Date timestamp;
+	}
+
+	@PrimaryKeyClass
+	static class MessageKey implements Serializable {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String mailbox;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 1) String id;
+
+		MessageKey(String mailbox, String id) {
+			this.mailbox = mailbox;
+			this.id = id;
+		}
 	}
 }
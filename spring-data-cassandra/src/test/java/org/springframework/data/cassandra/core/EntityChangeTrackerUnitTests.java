@@ -0,0 +1,293 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.convert.EntityWritePlan;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.LazyValue;
+import org.springframework.data.cassandra.mapping.Table;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Unit tests for {@link EntityChangeTracker} and change-tracking updates through {@link CassandraTemplate}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityChangeTrackerUnitTests {
+
+	@Mock Session session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+	@Mock ColumnDefinitions columnDefinitions;
+
+	MappingCassandraConverter converter;
+	EntityChangeTracker changeTracker;
+
+	@Before
+	public void setUp() {
+
+		converter = new MappingCassandraConverter(new BasicCassandraMappingContext());
+		converter.afterPropertiesSet();
+
+		changeTracker = new EntityChangeTracker(converter);
+	}
+
+	@Test
+	public void shouldNotReportChangesForUntrackedEntity() {
+		assertThat(changeTracker.getChanges(newPerson())).isNull();
+	}
+
+	@Test
+	public void shouldReportModifiedColumnsOnly() {
+
+		Person person = newPerson();
+		changeTracker.track(person);
+
+		person.setLastname("Heisenberg");
+
+		EntityChangeTracker.Changes changes = changeTracker.getChanges(person);
+		EntityWritePlan writePlan = changes.getWritePlan();
+
+		assertThat(changes.hasChanges()).isTrue();
+		assertThat(changes.getChangedColumns().cardinality()).isEqualTo(1);
+		assertThat(changes.isChanged(writePlan.getColumnNames().indexOf(CqlIdentifier.cqlId("lastname")))).isTrue();
+	}
+
+	@Test
+	public void shouldNotReportChangesAfterRefresh() {
+
+		Person person = newPerson();
+		changeTracker.track(person);
+
+		person.setFirstname("Walt");
+		changeTracker.refresh(changeTracker.getChanges(person));
+
+		assertThat(changeTracker.getChanges(person).hasChanges()).isFalse();
+	}
+
+	@Test
+	public void shouldNotReportChangesForModifiedPrimaryKey() {
+
+		Person person = newPerson();
+		changeTracker.track(person);
+
+		person.setId("saul");
+
+		assertThat(changeTracker.getChanges(person)).isNull();
+	}
+
+	@Test
+	public void shouldTrackByIdentity() {
+
+		Person person = newPerson();
+		changeTracker.track(person);
+
+		assertThat(changeTracker.isTracked(newPerson())).isFalse();
+
+		changeTracker.untrack(person);
+
+		assertThat(changeTracker.isTracked(person)).isFalse();
+	}
+
+	@Test
+	public void shouldNotResolveLazyValueForSnapshot() {
+
+		LazyValue<String> payload = LazyValue.lazy(new LazyValue.Resolver<String>() {
+
+			@Override
+			public String resolve() {
+				throw new IllegalStateException("Must not resolve LazyValue");
+			}
+		});
+
+		WithLazyValue entity = new WithLazyValue();
+		entity.id = "foo";
+		entity.payload = payload;
+
+		changeTracker.track(entity);
+
+		assertThat(changeTracker.getChanges(entity).hasChanges()).isFalse();
+		assertThat(payload.isResolved()).isFalse();
+	}
+
+	@Test
+	public void shouldReportReplacedLazyValue() {
+
+		WithLazyValue entity = new WithLazyValue();
+		entity.id = "foo";
+		entity.payload = LazyValue.of("bar");
+
+		changeTracker.track(entity);
+
+		entity.payload = LazyValue.of("baz");
+
+		EntityChangeTracker.Changes changes = changeTracker.getChanges(entity);
+		int index = changes.getWritePlan().getColumnNames().indexOf(CqlIdentifier.cqlId("payload"));
+
+		assertThat(changes.isChanged(index)).isTrue();
+		assertThat(changes.getValue(index)).isEqualTo("baz");
+	}
+
+	@Test
+	public void shouldNotTrackEntityReadFromColumnSubset() {
+
+		when(columnDefinitions.contains(anyString())).thenReturn(true);
+		when(columnDefinitions.contains("lastname")).thenReturn(false);
+
+		Person person = newPerson();
+
+		assertThat(changeTracker.track(person, columnDefinitions)).isFalse();
+		assertThat(changeTracker.isTracked(person)).isFalse();
+	}
+
+	@Test
+	public void templateShouldUpdateAllColumnsOfEntitiesReadFromColumnSubset() {
+
+		Person person = newPerson();
+		CassandraTemplate template = newTemplate(person);
+		when(columnDefinitions.contains("lastname")).thenReturn(false);
+
+		Person loaded = template.selectOne("SELECT id, firstname FROM person", Person.class);
+		loaded.setLastname(null);
+
+		template.update(loaded);
+
+		verify(session, never()).prepare(anyString());
+		verify(session).execute(isA(Update.class));
+	}
+
+	@Test
+	public void templateShouldUntrackAfterAsynchronousDelete() {
+
+		Person person = newPerson();
+		CassandraTemplate template = newTemplate(person);
+
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		when(session.executeAsync(any(Statement.class))).thenReturn(future);
+
+		Person loaded = template.selectOne("SELECT * FROM person", Person.class);
+		template.deleteAsynchronously(loaded);
+
+		assertThat(template.getChangeTracker().isTracked(loaded)).isTrue();
+
+		ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+		verify(future).addListener(callback.capture(), any(Executor.class));
+		callback.getValue().run();
+
+		assertThat(template.getChangeTracker().isTracked(loaded)).isFalse();
+	}
+
+	@Test
+	public void templateShouldUpdateModifiedColumnsOfEntitiesReadWithChangeTracking() {
+
+		Person person = newPerson();
+		CassandraTemplate template = newTemplate(person);
+
+		Person loaded = template.selectOne("SELECT * FROM person", Person.class);
+		loaded.setFirstname("Walt");
+
+		template.update(loaded);
+
+		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
+		verify(session).prepare(cql.capture());
+
+		assertThat(cql.getValue()).startsWith("UPDATE person SET firstname=? WHERE id=?");
+		verify(preparedStatement).bind("Walt", "heisenberg");
+	}
+
+	@Test
+	public void templateShouldSkipUpdateOfUnmodifiedEntity() {
+
+		Person person = newPerson();
+		CassandraTemplate template = newTemplate(person);
+
+		template.update(template.selectOne("SELECT * FROM person", Person.class));
+
+		verify(session, never()).prepare(anyString());
+		verify(session, times(1)).execute(any(Statement.class));
+	}
+
+	@Test
+	public void templateShouldUpdateAllColumnsOfUntrackedEntities() {
+
+		CassandraTemplate template = newTemplate(newPerson());
+
+		template.update(newPerson());
+
+		verify(session, never()).prepare(anyString());
+		verify(session).execute(isA(Update.class));
+	}
+
+	private CassandraTemplate newTemplate(Person person) {
+
+		MappingCassandraConverter converter = spy(this.converter);
+		doReturn(person).when(converter).read(Person.class, row);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Collections.singletonList(row).iterator());
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.contains(anyString())).thenReturn(true);
+		when(session.prepare(anyString())).thenReturn(preparedStatement);
+
+		CassandraTemplate template = new CassandraTemplate(session, converter);
+		template.setChangeTracking(true);
+
+		return template;
+	}
+
+	private static Person newPerson() {
+
+		Person person = new Person();
+		person.setId("heisenberg");
+		person.setFirstname("Walter");
+		person.setLastname("White");
+
+		return person;
+	}
+
+	@Table
+	static class WithLazyValue {
+
+		@Id String id;
+		LazyValue<String> payload;
+	}
+}
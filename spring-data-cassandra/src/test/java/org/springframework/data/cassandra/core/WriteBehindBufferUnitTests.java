@@ -0,0 +1,349 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.QueryTable;
+import org.springframework.data.cassandra.mapping.Table;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.Batch;
+
+/**
+ * Unit tests for {@link WriteBehindBuffer}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindBufferUnitTests {
+
+	@Mock private Session mockSession;
+
+	private WriteBehindBuffer buffer;
+
+	@Before
+	public void setup() {
+
+		buffer = new WriteBehindBuffer(new CassandraTemplate(mockSession), 1, TimeUnit.HOURS, 100);
+
+		when(mockSession.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) {
+				return completedFuture(mock(ResultSet.class));
+			}
+		});
+	}
+
+	@After
+	public void tearDown() {
+		buffer.destroy();
+	}
+
+	@Test
+	public void shouldCoalesceWritesToSameRow() {
+
+		buffer.update(new Visit("heisenberg", "home", 1));
+		buffer.update(new Visit("heisenberg", "home", 2));
+		buffer.update(new Visit("heisenberg", "home", 3));
+
+		assertThat(buffer.getPendingWriteCount()).isEqualTo(1);
+		assertThat(buffer.getCoalescedWriteCount()).isEqualTo(2);
+
+		buffer.flush();
+
+		List<Batch> batches = captureBatches(1);
+
+		assertThat(batches.get(0).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("count=3")
+				.doesNotContain("count=1");
+		assertThat(buffer.getPendingWriteCount()).isZero();
+		assertThat(buffer.getFlushedWriteCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldWriteEachPartitionWithUnloggedBatch() {
+
+		buffer.insert(new Visit("heisenberg", "home", 1));
+		buffer.insert(new Visit("walter", "home", 1));
+		buffer.update(new Visit("heisenberg", "lab", 1));
+
+		buffer.flush();
+
+		List<Batch> batches = captureBatches(2);
+
+		assertThat(batches.get(0).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("INSERT INTO visit")
+				.contains("UPDATE visit").contains("'lab'").doesNotContain("'walter'");
+		assertThat(batches.get(1).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("'walter'")
+				.doesNotContain("'heisenberg'");
+		assertThat(buffer.getFlushedWriteCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldFlushOnceMaxPendingWritesAreReached() {
+
+		buffer.destroy();
+		buffer = new WriteBehindBuffer(new CassandraTemplate(mockSession), 1, TimeUnit.HOURS, 2);
+
+		buffer.update(new Visit("heisenberg", "home", 1));
+		buffer.update(new Visit("heisenberg", "home", 2));
+
+		verifyZeroInteractions(mockSession);
+
+		buffer.update(new Visit("heisenberg", "lab", 1));
+
+		captureBatches(1);
+		assertThat(buffer.getPendingWriteCount()).isZero();
+	}
+
+	@Test
+	public void shouldReportFailedWritesToFailureListener() {
+
+		final List<Object> failed = new ArrayList<Object>();
+		final List<Exception> exceptions = new ArrayList<Exception>();
+		Visit visit = new Visit("heisenberg", "home", 1);
+
+		buffer.setFailureListener(new WriteBehindFailureListener() {
+
+			@Override
+			public void onFlushFailure(Collection<Object> entities, Exception x) {
+				failed.addAll(entities);
+				exceptions.add(x);
+			}
+		});
+
+		ResultSetFuture failedFuture = completedFuture(null);
+		when(failedFuture.getUninterruptibly()).thenThrow(new DriverException("failed"));
+		when(mockSession.executeAsync(any(Statement.class))).thenReturn(failedFuture);
+
+		buffer.update(visit);
+		buffer.flush();
+
+		assertThat(failed).containsExactly(visit);
+		assertThat(exceptions.get(0)).isInstanceOf(DataAccessException.class);
+		assertThat(buffer.getFlushedWriteCount()).isZero();
+	}
+
+	@Test
+	public void destroyShouldFlushPendingWritesAndRejectFurtherWrites() {
+
+		buffer.update(new Visit("heisenberg", "home", 1));
+		buffer.destroy();
+
+		captureBatches(1);
+
+		try {
+			buffer.update(new Visit("heisenberg", "home", 2));
+			fail("Missing IllegalStateException");
+		} catch (IllegalStateException e) {
+			assertThat(e).hasMessageContaining("destroyed");
+		}
+	}
+
+	@Test
+	public void shouldSplitPartitionsIntoBatchesOfMaxBatchSize() {
+
+		buffer.setMaxBatchSize(2);
+
+		buffer.insert(new Visit("heisenberg", "home", 1));
+		buffer.insert(new Visit("heisenberg", "lab", 1));
+		buffer.insert(new Visit("heisenberg", "car wash", 1));
+
+		buffer.flush();
+
+		List<Batch> batches = captureBatches(2);
+
+		assertThat(batches.get(0).toString()).contains("'home'").contains("'lab'").doesNotContain("'car wash'");
+		assertThat(batches.get(1).toString()).contains("'car wash'");
+		assertThat(buffer.getFlushedWriteCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldBoundBatchesInFlightAndAwaitTheirCompletion() throws Exception {
+
+		final List<Runnable> completions = new ArrayList<Runnable>();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		buffer.setMaxConcurrentBatches(1);
+
+		when(mockSession.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) {
+
+				ResultSetFuture future = mock(ResultSetFuture.class);
+
+				doAnswer(new Answer<Void>() {
+
+					@Override
+					public Void answer(InvocationOnMock invocation) {
+
+						synchronized (completions) {
+							completions.add((Runnable) invocation.getArguments()[0]);
+							completions.notifyAll();
+						}
+
+						return null;
+					}
+				}).when(future).addListener(any(Runnable.class), any(Executor.class));
+
+				return future;
+			}
+		});
+
+		buffer.insert(new Visit("heisenberg", "home", 1));
+		buffer.insert(new Visit("walter", "home", 1));
+
+		try {
+
+			Future<?> flush = executor.submit(new Runnable() {
+
+				@Override
+				public void run() {
+					buffer.flush();
+				}
+			});
+
+			awaitCompletions(completions, 1).run();
+
+			awaitCompletions(completions, 2);
+			verify(mockSession, times(2)).executeAsync(any(Statement.class));
+			assertThat(flush.isDone()).isFalse();
+
+			completions.get(1).run();
+			flush.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(buffer.getFlushedWriteCount()).isEqualTo(2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEntitiesWithQueryTables() {
+		buffer.insert(new Account("heisenberg", "walter@white.com"));
+	}
+
+	private List<Batch> captureBatches(int count) {
+
+		ArgumentCaptor<Batch> captor = ArgumentCaptor.forClass(Batch.class);
+
+		verify(mockSession, times(count)).executeAsync(captor.capture());
+
+		return captor.getAllValues();
+	}
+
+	private static Runnable awaitCompletions(List<Runnable> completions, int count) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+		synchronized (completions) {
+
+			while (completions.size() < count && System.currentTimeMillis() < deadline) {
+				completions.wait(10);
+			}
+
+			assertThat(completions).hasSize(count);
+
+			return completions.get(count - 1);
+		}
+	}
+
+	private static ResultSetFuture completedFuture(ResultSet resultSet) {
+
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+
+		when(mockFuture.getUninterruptibly()).thenReturn(resultSet);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(mockFuture).addListener(any(Runnable.class), any(Executor.class));
+
+		return mockFuture;
+	}
+
+	@Table
+	static class Visit {
+
+		@PrimaryKey VisitKey key;
+		long count;
+
+		Visit(String user, String page, long count) {
+			this.key = new VisitKey(user, page);
+			this.count = count;
+		}
+	}
+
+	@Table
+	@QueryTable(name = "account_by_email", partitionKey = "email")
+	static class Account {
+
+		@Id String id;
+		String email;
+
+		Account(String id, String email) {
+			this.id = id;
+			this.email = email;
+		}
+	}
+
+	@PrimaryKeyClass
+	static class VisitKey implements Serializable {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String user;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 1) String page;
+
+		VisitKey(String user, String page) {
+			this.user = user;
+			this.page = page;
+		}
+	}
+}
@@ -30,16 +30,19 @@ import org.springframework.cassandra.core.Ordering;
 import org.springframework.cassandra.core.PrimaryKeyType;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.core.keyspace.ColumnSpecification;
+import org.springframework.cassandra.core.keyspace.CreateMaterializedViewSpecification;
 import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.convert.CustomConversions;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.util.ClassTypeInformation;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.TableMetadata;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 
@@ -134,6 +137,46 @@ public class BasicCassandraMappingContextUnitTests {
 		assertThat(lastname.getColumnName().toCql()).isEqualTo("mylastname");
 	}
 
+	@Test
+	public void propertyMetadataShouldProvideResolvedMappingFacts() {
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext
+				.getPersistentEntity(PrimaryKeyColumnsOnProperty.class);
+
+		CassandraPersistentPropertyMetadata firstname = mappingContext
+				.getPropertyMetadata(persistentEntity.getPersistentProperty("firstname"));
+
+		assertThat(firstname.getColumnName().toCql()).isEqualTo("firstname");
+		assertThat(firstname.getDataType()).isEqualTo(DataType.varchar());
+		assertThat(firstname.getCodec().getJavaType().getRawType()).isEqualTo(String.class);
+		assertThat(firstname.isPartitionKeyColumn()).isTrue();
+		assertThat(firstname.isCompositePrimaryKey()).isFalse();
+
+		CassandraPersistentPropertyMetadata lastname = mappingContext
+				.getPropertyMetadata(persistentEntity.getPersistentProperty("lastname"));
+
+		assertThat(lastname.getColumnName().toCql()).isEqualTo("mylastname");
+		assertThat(lastname.getPrimaryKeyType()).isEqualTo(PrimaryKeyType.CLUSTERED);
+		assertThat(lastname.getPrimaryKeyOrdering()).isEqualTo(Ordering.ASCENDING);
+	}
+
+	@Test
+	public void propertyMetadataShouldBeCachedUntilConversionsChange() {
+
+		mappingContext.initialize();
+
+		CassandraPersistentProperty property = mappingContext.getPersistentEntity(PrimaryKeyColumnsOnProperty.class)
+				.getPersistentProperty("firstname");
+
+		CassandraPersistentPropertyMetadata metadata = mappingContext.getPropertyMetadata(property);
+
+		assertThat(mappingContext.getPropertyMetadata(property)).isSameAs(metadata);
+
+		mappingContext.setCustomConversions(new CustomConversions(Collections.EMPTY_LIST));
+
+		assertThat(mappingContext.getPropertyMetadata(property)).isNotSameAs(metadata);
+	}
+
 	@Table
 	private static class PrimaryKeyColumnsOnProperty {
 
@@ -419,6 +462,58 @@ public class BasicCassandraMappingContextUnitTests {
 		assertThat(mappingContext.usesUserType(myTypeMock)).isTrue();
 	}
 
+	@Test
+	public void setUserTypeResolverShouldResetCachedPropertyDataType() {
+
+		final UserType initialType = mock(UserType.class, "initial");
+		final UserType changedType = mock(UserType.class, "changed");
+
+		mappingContext.setUserTypeResolver(new UserTypeResolver() {
+
+			@Override
+			public UserType resolveType(CqlIdentifier typeName) {
+				return initialType;
+			}
+		});
+
+		CassandraPersistentProperty property = mappingContext.getPersistentEntity(WithUdt.class)
+				.getPersistentProperty("udtValue");
+
+		assertThat(property.getDataType()).isSameAs(initialType);
+
+		mappingContext.setUserTypeResolver(new UserTypeResolver() {
+
+			@Override
+			public UserType resolveType(CqlIdentifier typeName) {
+				return changedType;
+			}
+		});
+
+		assertThat(property.getDataType()).isSameAs(changedType);
+	}
+
+	@Test
+	public void propertyMetadataShouldNotBeCachedForUserTypeReferences() {
+
+		final UserType userType = mock(UserType.class, "mappedudt");
+
+		mappingContext.setUserTypeResolver(new UserTypeResolver() {
+
+			@Override
+			public UserType resolveType(CqlIdentifier typeName) {
+				return userType;
+			}
+		});
+
+		CassandraPersistentProperty property = mappingContext.getPersistentEntity(WithUdt.class)
+				.getPersistentProperty("udtValue");
+
+		CassandraPersistentPropertyMetadata metadata = mappingContext.getPropertyMetadata(property);
+
+		assertThat(metadata.getDataType()).isSameAs(userType);
+		assertThat(mappingContext.getPropertyMetadata(property)).isNotSameAs(metadata);
+	}
+
 	@Test // DATACASS-172
 	public void createTableForComplexPrimaryKeyShouldFail() {
 
@@ -503,6 +598,89 @@ public class BasicCassandraMappingContextUnitTests {
 		}
 	}
 
+	@Test
+	public void shouldCreateMaterializedViewSpecifications() {
+
+		List<CreateMaterializedViewSpecification> specifications = mappingContext
+				.getCreateMaterializedViewSpecificationsFor(mappingContext.getPersistentEntity(TypeWithViews.class));
+
+		assertThat(specifications).hasSize(2);
+
+		CreateMaterializedViewSpecification byEmail = specifications.get(0);
+
+		assertThat(byEmail.getName()).isEqualTo(CqlIdentifier.cqlId("user_by_email"));
+		assertThat(byEmail.getBaseTableName()).isEqualTo(CqlIdentifier.cqlId("typewithviews"));
+		assertThat(byEmail.getPartitionKeyColumns()).containsExactly(CqlIdentifier.cqlId("email"));
+		assertThat(byEmail.getClusteredKeyColumns()).containsExactly(CqlIdentifier.cqlId("id"));
+
+		CreateMaterializedViewSpecification byCountry = specifications.get(1);
+
+		assertThat(byCountry.getPartitionKeyColumns()).containsExactly(CqlIdentifier.cqlId("country"));
+		assertThat(byCountry.getClusteredKeyColumns()).containsExactly(CqlIdentifier.cqlId("email"),
+				CqlIdentifier.cqlId("id"));
+	}
+
+	@Test
+	public void shouldRejectMaterializedViewWithUnknownColumn() {
+
+		try {
+			mappingContext.getCreateMaterializedViewSpecificationsFor(
+					mappingContext.getPersistentEntity(TypeWithInvalidView.class));
+			fail("Missing MappingException");
+		} catch (MappingException e) {
+			assertThat(e).hasMessageContaining("Unknown column [unknown]");
+		}
+	}
+
+	@Test
+	public void shouldCreateQueryTableSpecifications() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(TypeWithQueryTable.class);
+		List<CreateTableSpecification> specifications = mappingContext.getCreateQueryTableSpecificationsFor(entity);
+
+		assertThat(specifications).hasSize(1);
+
+		CreateTableSpecification byEmail = specifications.get(0);
+
+		assertThat(byEmail.getName()).isEqualTo(CqlIdentifier.cqlId("account_by_email"));
+		assertThat(byEmail.getPartitionKeyColumns()).hasSize(1);
+		assertThat(byEmail.getPartitionKeyColumns().get(0).getName()).isEqualTo(CqlIdentifier.cqlId("email"));
+		assertThat(byEmail.getClusteredKeyColumns()).hasSize(1);
+		assertThat(byEmail.getClusteredKeyColumns().get(0).getName()).isEqualTo(CqlIdentifier.cqlId("id"));
+		assertThat(byEmail.getColumns()).hasSize(3);
+
+		TableMetadata tableMetadata = mock(TableMetadata.class);
+		when(tableMetadata.getName()).thenReturn("account_by_email");
+
+		assertThat(mappingContext.usesTable(tableMetadata)).isTrue();
+	}
+
+	@Table
+	@QueryTable(name = "account_by_email", partitionKey = "email")
+	private static class TypeWithQueryTable {
+
+		@Id String id;
+		String email;
+		String name;
+	}
+
+	@Table
+	@MaterializedViews({ @MaterializedView(name = "user_by_email", partitionKey = "email"),
+			@MaterializedView(name = "user_by_country", partitionKey = "country", clusteredKey = "email") })
+	private static class TypeWithViews {
+
+		@Id String id;
+		String email;
+		String country;
+	}
+
+	@Table
+	@MaterializedView(name = "invalid", partitionKey = "unknown")
+	private static class TypeWithInvalidView {
+
+		@Id String id;
+	}
+
 	@Table
 	private static class TypeWithCustomConvertedMap {
 
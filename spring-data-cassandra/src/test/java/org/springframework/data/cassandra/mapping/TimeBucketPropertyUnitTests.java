@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.model.MappingException;
+
+/**
+ * Unit tests for {@link TimeBucketProperty}.
+ *
+ * @author agent
+ */
+public class TimeBucketPropertyUnitTests {
+
+	static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+	BasicCassandraMappingContext mappingContext;
+
+	@Before
+	public void setUp() {
+		mappingContext = new BasicCassandraMappingContext();
+	}
+
+	@Test
+	public void shouldResolveTimeBucketProperty() {
+
+		TimeBucketProperty timeBucket = mappingContext.getPersistentEntity(Measurement.class).getTimeBucketProperty();
+
+		assertThat(timeBucket.getProperty().getName()).isEqualTo("hour");
+		assertThat(timeBucket.getTimestampProperty().getName()).isEqualTo("timestamp");
+		assertThat(timeBucket.getWidth()).isEqualTo(HOUR);
+	}
+
+	@Test
+	public void shouldDetermineWhetherRowsAreClusteredByTimestamp() {
+
+		assertThat(mappingContext.getPersistentEntity(Measurement.class).getTimeBucketProperty().isClusteredByTimestamp())
+				.isTrue();
+		assertThat(mappingContext.getPersistentEntity(Event.class).getTimeBucketProperty().isClusteredByTimestamp())
+				.isFalse();
+	}
+
+	@Test
+	public void shouldReturnNullWithoutTimeBucket() {
+		assertThat(mappingContext.getPersistentEntity(Sensor.class).getTimeBucketProperty()).isNull();
+	}
+
+	@Test
+	public void shouldCalculateBuckets() {
+
+		TimeBucketProperty timeBucket = mappingContext.getPersistentEntity(Measurement.class).getTimeBucketProperty();
+
+		assertThat(timeBucket.getBucket(HOUR + 1)).isEqualTo(HOUR);
+		assertThat(timeBucket.getBucket(-1)).isEqualTo(-HOUR);
+		assertThat(timeBucket.getBuckets(HOUR - 1, 2 * HOUR)).containsExactly(0L, HOUR, 2 * HOUR);
+		assertThat(timeBucket.getBucketCount(HOUR - 1, 2 * HOUR)).isEqualTo(3);
+		assertThat(timeBucket.getBuckets(HOUR, 0)).isEmpty();
+	}
+
+	@Test
+	public void shouldPopulateBucketFromTimestamp() {
+
+		Measurement measurement = new Measurement();
+		measurement.timestamp = new Date(3 * HOUR + 42);
+
+		mappingContext.getPersistentEntity(Measurement.class).getTimeBucketProperty().populate(measurement,
+				new DefaultConversionService());
+
+		assertThat(measurement.hour).isEqualTo(3 * HOUR);
+	}
+
+	@Test(expected = MappingException.class)
+	public void shouldRejectTimeBucketOnClusteringColumn() {
+		mappingContext.getPersistentEntity(InvalidMeasurement.class).getTimeBucketProperty();
+	}
+
+	@Table
+	static class Measurement {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String sensorId;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.PARTITIONED) @TimeBucket(value = "timestamp",
+				unit = TimeUnit.HOURS) long hour;
+		@PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.CLUSTERED) Date timestamp;
+	}
+
+	@Table
+	static class Event {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) @TimeBucket("timestamp") long day;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.CLUSTERED) String type;
+		@PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.CLUSTERED) Date timestamp;
+	}
+
+	@Table
+	static class Sensor {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String sensorId;
+	}
+
+	@Table
+	static class InvalidMeasurement {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String sensorId;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.CLUSTERED) @TimeBucket("timestamp") long day;
+		Date timestamp;
+	}
+}
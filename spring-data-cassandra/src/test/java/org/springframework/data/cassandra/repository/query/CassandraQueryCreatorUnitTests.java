@@ -30,9 +30,12 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.cassandra.core.PrimaryKeyType;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.ProjectionColumns;
+import org.springframework.data.cassandra.domain.FlatGroup;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
@@ -265,6 +268,76 @@ public class CassandraQueryCreatorUnitTests {
 		createQuery("findByKey", TypeWithCompositeId.class, new Key());
 	}
 
+	@Test
+	public void createsQueryForInterfaceProjectionSelectingProjectedColumns() {
+
+		String query = createProjectingQuery("findByLastname", Person.class, PersonFirstname.class, "White");
+
+		assertThat(query).isEqualTo("SELECT firstname FROM person WHERE lastname='White';");
+	}
+
+	@Test
+	public void createsQueryForDtoProjectionAliasingRenamedColumns() {
+
+		String query = createProjectingQuery("findById", TypeWithRenamedColumn.class, LastnameDto.class, "heisenberg");
+
+		assertThat(query).isEqualTo("SELECT last_name AS lastname FROM typewithrenamedcolumn WHERE id='heisenberg';");
+	}
+
+	@Test
+	public void createsQueryForOpenProjectionSelectingAllColumns() {
+
+		String query = createProjectingQuery("findByLastname", Person.class, OpenProjection.class, "White");
+
+		assertThat(query).isEqualTo("SELECT * FROM person WHERE lastname='White';");
+	}
+
+	@Test
+	public void createsCountQueryCorrectly() {
+
+		String query = createQuery("countByFirstname", Person.class, "Walter");
+
+		assertThat(query).isEqualTo("SELECT count(*) FROM person WHERE firstname='Walter';");
+	}
+
+	@Test
+	public void createsExistsQuerySelectingPartitionKeyOfFirstRow() {
+
+		String query = createQuery("existsByFirstname", Person.class, "Walter");
+
+		assertThat(query).isEqualTo("SELECT id FROM person WHERE firstname='Walter' LIMIT 1;");
+	}
+
+	@Test
+	public void createsPartitionDeleteQueryCorrectly() {
+
+		String query = createQuery("deleteByGroupnameAndHashPrefix", FlatGroup.class, "cast", "w");
+
+		assertThat(query).isEqualTo("DELETE FROM flatgroup WHERE groupname='cast' AND hash_prefix='w';");
+	}
+
+	@Test
+	public void createsRangeDeleteQueryCorrectly() {
+
+		String query = createQuery("deleteByGroupnameAndHashPrefixAndUsernameGreaterThan", FlatGroup.class, "cast", "w",
+				"walter");
+
+		assertThat(query)
+				.isEqualTo("DELETE FROM flatgroup WHERE groupname='cast' AND hash_prefix='w' AND username>'walter';");
+	}
+
+	private String createProjectingQuery(String source, Class<?> entityClass, Class<?> projectionType,
+			Object... values) {
+
+		PartTree tree = new PartTree(source, entityClass);
+		ProjectionColumns projection = ProjectionColumns.create(context, context.getPersistentEntity(entityClass),
+				projectionType);
+
+		CassandraQueryCreator creator = new CassandraQueryCreator(tree, getAccessor(converter, values), context,
+				getEntityInformation(entityClass), projection);
+		return creator.createQuery().toString();
+	}
+
 	private String createQuery(String source, Class<?> entityClass, Object... values) {
 
 		PartTree tree = new PartTree(source, entityClass);
@@ -279,6 +352,29 @@ public class CassandraQueryCreatorUnitTests {
 				(CassandraPersistentEntity) context.getPersistentEntity(entityClass), converter);
 	}
 
+	interface PersonFirstname {
+
+		String getFirstname();
+	}
+
+	interface OpenProjection {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+	}
+
+	static class LastnameDto {
+
+		String lastname;
+	}
+
+	@Table
+	private static class TypeWithRenamedColumn {
+
+		@Id String id;
+		@Column("last_name") String lastname;
+	}
+
 	@Table
 	private static class TypeWithSet {
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.MaterializedView;
+import org.springframework.data.cassandra.mapping.MaterializedViews;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit tests for {@link MaterializedViewSelector}.
+ *
+ * @author agent
+ */
+public class MaterializedViewSelectorUnitTests {
+
+	BasicCassandraMappingContext mappingContext = new BasicCassandraMappingContext();
+
+	@Test
+	public void shouldRouteToViewMatchingPartitionKey() {
+		assertThat(select("findByEmail")).isEqualTo(CqlIdentifier.cqlId("account_by_email"));
+	}
+
+	@Test
+	public void shouldPreferTableIfPartitionKeyIsRestricted() {
+		assertThat(select("findByTenantAndEmail")).isEqualTo(CqlIdentifier.cqlId("account"));
+	}
+
+	@Test
+	public void shouldPreferViewWithMostRestrictedClusteringColumns() {
+		assertThat(select("findByCountryAndCity")).isEqualTo(CqlIdentifier.cqlId("account_by_city"));
+		assertThat(select("findByCountry")).isEqualTo(CqlIdentifier.cqlId("account_by_country"));
+	}
+
+	@Test
+	public void shouldNotRouteIfSortingByNonClusteringColumn() {
+		assertThat(select("findByEmailOrderByCityAsc")).isEqualTo(CqlIdentifier.cqlId("account"));
+	}
+
+	@Test
+	public void shouldRouteIfSortingByClusteringPrefix() {
+
+		assertThat(select("findByCountryOrderByCityAsc")).isEqualTo(CqlIdentifier.cqlId("account_by_city"));
+		assertThat(select("findByCountryOrderByTenantAsc")).isEqualTo(CqlIdentifier.cqlId("account_by_country"));
+		assertThat(select("findByCountryOrderByCityAscTenantAsc")).isEqualTo(CqlIdentifier.cqlId("account_by_city"));
+	}
+
+	@Test
+	public void shouldRouteIfSortingInReversedClusteringOrder() {
+
+		assertThat(select("findByCountryOrderByCityDesc")).isEqualTo(CqlIdentifier.cqlId("account_by_city"));
+		assertThat(select("findByCountryOrderByCityDescTenantDesc")).isEqualTo(CqlIdentifier.cqlId("account_by_city"));
+	}
+
+	@Test
+	public void shouldNotRouteIfSortColumnsAreNoClusteringPrefix() {
+
+		assertThat(select("findByCountryOrderByIdAsc")).isEqualTo(CqlIdentifier.cqlId("account"));
+		assertThat(select("findByCountryOrderByTenantAscCityAsc")).isEqualTo(CqlIdentifier.cqlId("account"));
+	}
+
+	@Test
+	public void shouldNotRouteIfSortDirectionsAreMixed() {
+		assertThat(select("findByCountryOrderByCityAscTenantDesc")).isEqualTo(CqlIdentifier.cqlId("account"));
+	}
+
+	@Test
+	public void shouldNotRouteIfNoViewMatches() {
+		assertThat(select("findByCity")).isEqualTo(CqlIdentifier.cqlId("account"));
+	}
+
+	private CqlIdentifier select(String methodName) {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(Account.class);
+
+		return MaterializedViewSelector.select(new PartTree(methodName, Account.class), entity, mappingContext);
+	}
+
+	@Table
+	@MaterializedViews({ @MaterializedView(name = "account_by_email", partitionKey = "email"),
+			@MaterializedView(name = "account_by_country", partitionKey = "country"),
+			@MaterializedView(name = "account_by_city", partitionKey = "country", clusteredKey = "city") })
+	static class Account {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String tenant;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 1) String id;
+		String email;
+		String country;
+		String city;
+	}
+}
@@ -19,34 +19,65 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.PrimaryKeyType;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.support.exception.CassandraInvalidQueryException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraPageRequest;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.cassandra.mapping.TimeBucket;
 import org.springframework.data.cassandra.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Address;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Person;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
-
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
 
 /**
  * Unit tests for {@link PartTreeCassandraQuery}.
@@ -62,6 +93,8 @@ public class PartTreeCassandraQueryUnitTests {
 	@Mock UserTypeResolver userTypeResolverMock;
 	@Mock UserType userTypeMock;
 	@Mock UDTValue udtValueMock;
+	@Mock Session mockSession;
+	@Mock PreparedStatement mockPreparedStatement;
 
 	BasicCassandraMappingContext mappingContext;
 	CassandraConverter converter;
@@ -149,6 +182,336 @@ public class PartTreeCassandraQueryUnitTests {
 		assertThat(query).isEqualTo("SELECT * FROM person WHERE mainaddress IN ({});");
 	}
 
+	@Test
+	public void shouldExpandTimeBucketedRangeQueryIntoQueryPerBucket() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(MeasurementRepo.class,
+				"findBySensorIdAndTimestampBetween", String.class, Date.class, Date.class);
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(),
+				"s1", new Date(TimeUnit.HOURS.toMillis(20)), new Date(TimeUnit.HOURS.toMillis(30)));
+
+		List<String> queries = partTreeQuery
+				.createQueries(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor), null);
+
+		assertThat(queries).hasSize(2);
+		assertThat(queries.get(0)).startsWith("SELECT * FROM measurement WHERE sensorid='s1' AND timestamp>=")
+				.endsWith(" AND day=0;");
+		assertThat(queries.get(1)).endsWith(" AND day=" + TimeUnit.DAYS.toMillis(1) + ";");
+	}
+
+	@Test
+	public void shouldNotExpandTimeBucketedQueryWithoutUpperBound() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(MeasurementRepo.class,
+				"findBySensorIdAndTimestampGreaterThan", String.class, Date.class);
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(),
+				"s1", new Date(0));
+
+		List<String> queries = partTreeQuery
+				.createQueries(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor), null);
+
+		assertThat(queries).hasSize(1);
+		assertThat(queries.get(0)).doesNotContain("day=");
+	}
+
+	@Test
+	public void shouldTruncateLimitedTimeBucketQueryAcrossBuckets() {
+
+		Row row = mock(Row.class);
+		converter = spy(converter);
+		when(mockCassandraOperations.getConverter()).thenReturn(converter);
+		doReturn(new Measurement()).when(converter).read(Measurement.class, row);
+
+		ResultSetFuture first = mockCompletedFuture(row, row);
+		ResultSetFuture second = mockCompletedFuture(row, row);
+		when(mockCassandraOperations.executeAsynchronously(any(Statement.class))).thenReturn(first, second);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(MeasurementRepo.class,
+				"findTop3BySensorIdAndTimestampBetween", String.class, Date.class, Date.class);
+
+		Object result = partTreeQuery.execute(
+				new Object[] { "s1", new Date(TimeUnit.HOURS.toMillis(20)), new Date(TimeUnit.HOURS.toMillis(30)) });
+
+		assertThat((List<?>) result).hasSize(3);
+
+		ArgumentCaptor<Statement> statements = ArgumentCaptor.forClass(Statement.class);
+		verify(mockCassandraOperations, times(2)).executeAsynchronously(statements.capture());
+		assertThat(statements.getAllValues().get(0).toString()).endsWith(" AND day=0 LIMIT 3;");
+	}
+
+	@Test
+	public void shouldBoundStatementsInFlightOfTimeBucketQuery() {
+
+		final AtomicInteger submitted = new AtomicInteger();
+		final AtomicInteger completed = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		final List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>();
+
+		for (int index = 0; index < 40; index++) {
+
+			ResultSetFuture future = mockCompletedFuture();
+			final ResultSet resultSet = future.getUninterruptibly();
+
+			when(future.getUninterruptibly()).thenAnswer(new Answer<ResultSet>() {
+
+				@Override
+				public ResultSet answer(InvocationOnMock invocation) {
+
+					maxInFlight.set(Math.max(maxInFlight.get(), submitted.get() - completed.getAndIncrement()));
+					return resultSet;
+				}
+			});
+
+			futures.add(future);
+		}
+
+		when(mockCassandraOperations.executeAsynchronously(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) {
+				return futures.get(submitted.getAndIncrement());
+			}
+		});
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(MeasurementRepo.class,
+				"findBySensorIdAndTimestampBetween", String.class, Date.class, Date.class);
+
+		partTreeQuery.execute(new Object[] { "s1", new Date(0), new Date(TimeUnit.DAYS.toMillis(39)) });
+
+		assertThat(submitted.get()).isEqualTo(40);
+		assertThat(maxInFlight.get()).isEqualTo(AbstractCassandraQuery.MAX_CONCURRENT_STATEMENTS);
+	}
+
+	@Test
+	public void shouldRejectLimitedTimeBucketQueryNotClusteredByTimestamp() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(EventRepo.class, "findTop10ByTimestampBetween",
+				Date.class, Date.class);
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(),
+				new Date(0), new Date(TimeUnit.DAYS.toMillis(2)));
+
+		exception.expect(InvalidDataAccessApiUsageException.class);
+
+		partTreeQuery.createQueries(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor),
+				null);
+	}
+
+	@Test
+	public void shouldExecuteAsyncCollectionQueryReturningCompletableFuture() throws Exception {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		ResultSetFuture resultSetFuture = mockResultSetFuture(null);
+		when(mockCassandraOperations.executeAsynchronously(boundStatement)).thenReturn(resultSetFuture);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findAsyncByLastname", String.class);
+
+		Object result = partTreeQuery.execute(new Object[] { "White" });
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<?>) result).get()).isEqualTo(Collections.emptyList());
+		verify(mockSession).prepare("SELECT * FROM person WHERE lastname=?;");
+		verify(mockPreparedStatement).bind("White");
+	}
+
+	@Test
+	public void shouldTranslateExceptionsOfAsyncQuery() throws Exception {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		ResultSetFuture resultSetFuture = mockResultSetFuture(new InvalidQueryException("Invalid"));
+		when(mockCassandraOperations.executeAsynchronously(boundStatement)).thenReturn(resultSetFuture);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findOneAsyncByFirstname", String.class);
+
+		Object result = partTreeQuery.execute(new Object[] { "Walter" });
+
+		assertThat(result).isInstanceOf(ListenableFuture.class);
+
+		try {
+			((ListenableFuture<?>) result).get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(CassandraInvalidQueryException.class);
+		}
+	}
+
+	@Test
+	public void shouldExecuteSliceQueryWithPageable() {
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.first(10);
+		Slice<Person> slice = new SliceImpl<Person>(Collections.<Person>emptyList(), pageRequest, false);
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		when(mockCassandraOperations.slice(boundStatement, pageRequest, Person.class)).thenReturn(slice);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findSliceByLastname", String.class, Pageable.class);
+
+		Object result = partTreeQuery.execute(new Object[] { "White", pageRequest });
+
+		assertThat(result).isSameAs(slice);
+		verify(mockSession).prepare("SELECT * FROM person WHERE lastname=?;");
+	}
+
+	@Test
+	public void shouldPrepareQueryShapeOnceAndBindParameters() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		Person walter = new Person("Walter", "White");
+		when(mockCassandraOperations.selectOne(boundStatement, Person.class)).thenReturn(walter);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findByFirstnameIn", Collection.class);
+
+		assertThat(partTreeQuery.execute(new Object[] { Arrays.asList("Hank", "Walter") })).isSameAs(walter);
+		assertThat(partTreeQuery.execute(new Object[] { Arrays.asList("Hank", "Walter", "Skyler") })).isSameAs(walter);
+
+		verify(mockSession, times(1)).prepare("SELECT * FROM person WHERE firstname IN ?;");
+		verify(mockPreparedStatement).bind(Arrays.asList("Hank", "Walter"));
+		verify(mockPreparedStatement).bind(Arrays.asList("Hank", "Walter", "Skyler"));
+	}
+
+	@Test
+	public void shouldConvertParametersOfPreparedQueryShape() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		when(mockCassandraOperations.selectOne(boundStatement, Person.class)).thenReturn(new Person("Walter", "White"));
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findByLastnameStartingWithAndFirstnameIn",
+				String.class, Collection.class);
+
+		partTreeQuery.execute(new Object[] { "Wh", Arrays.asList("Walter", "Skyler") });
+		partTreeQuery.execute(new Object[] { "Pink", Collections.singleton("Jesse") });
+
+		verify(mockSession, times(1)).prepare("SELECT * FROM person WHERE lastname LIKE ? AND firstname IN ?;");
+		verify(mockPreparedStatement).bind("Wh%", Arrays.asList("Walter", "Skyler"));
+		verify(mockPreparedStatement).bind("Pink%", Collections.singletonList("Jesse"));
+	}
+
+	@Test
+	public void shouldExecuteCountQueryServerSide() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+
+		when(mockCassandraOperations.query(boundStatement)).thenReturn(resultSet);
+		when(resultSet.one()).thenReturn(row);
+		when(row.getLong(0)).thenReturn(42L);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("countByLastname", String.class);
+
+		assertThat(partTreeQuery.execute(new Object[] { "White" })).isEqualTo(42L);
+		verify(mockSession).prepare("SELECT count(*) FROM person WHERE lastname=?;");
+		verify(mockPreparedStatement).bind("White");
+	}
+
+	@Test
+	public void shouldExecuteExistsQueryServerSide() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(mockCassandraOperations.query(boundStatement)).thenReturn(resultSet);
+		when(resultSet.one()).thenReturn(mock(Row.class), (Row) null);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("existsByLastname", String.class);
+
+		assertThat(partTreeQuery.execute(new Object[] { "White" })).isEqualTo(true);
+		assertThat(partTreeQuery.execute(new Object[] { "Pinkman" })).isEqualTo(false);
+		verify(mockSession).prepare("SELECT lastname FROM person WHERE lastname=? LIMIT 1;");
+	}
+
+	@Test
+	public void shouldExecuteRangeDeleteQueryServerSide() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("deleteByLastnameAndFirstnameGreaterThan",
+				String.class, String.class);
+
+		assertThat(partTreeQuery.execute(new Object[] { "White", "Skyler" })).isNull();
+		verify(mockSession).prepare("DELETE FROM person WHERE lastname=? AND firstname>?;");
+		verify(mockPreparedStatement).bind("White", "Skyler");
+		verify(mockCassandraOperations).query(boundStatement);
+	}
+
+	@Test
+	public void shouldDeleteEntityByEntityIfRequiredByTemplate() {
+
+		BoundStatement boundStatement = mockPreparedStatement();
+		Person walter = new Person("Walter", "White");
+		Person skyler = new Person("Skyler", "White");
+
+		when(mockCassandraOperations.isEntityDeleteRequired(Person.class)).thenReturn(true);
+		when(mockCassandraOperations.stream(boundStatement, Person.class))
+				.thenReturn(Arrays.asList(walter, skyler).iterator());
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("deleteByLastnameAndFirstnameGreaterThan",
+				String.class, String.class);
+
+		assertThat(partTreeQuery.execute(new Object[] { "White", "Hank" })).isNull();
+		verify(mockSession).prepare("SELECT * FROM person WHERE lastname=? AND firstname>?;");
+		verify(mockPreparedStatement).bind("White", "Hank");
+		verify(mockCassandraOperations).delete(walter);
+		verify(mockCassandraOperations).delete(skyler);
+		verify(mockCassandraOperations, never()).query(any(Statement.class));
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void shouldRejectDeleteQueryReturningEntities() {
+		createQueryForMethod("removeByLastname", String.class);
+	}
+
+	private BoundStatement mockPreparedStatement() {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockCassandraOperations.getSession()).thenReturn(mockSession);
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+
+		return boundStatement;
+	}
+
+	private static ResultSetFuture mockResultSetFuture(Exception failure) throws Exception {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSetFuture resultSetFuture = mock(ResultSetFuture.class);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+		when(resultSet.isFullyFetched()).thenReturn(true);
+		when(resultSetFuture.isDone()).thenReturn(true);
+
+		if (failure != null) {
+			when(resultSetFuture.get()).thenThrow(new ExecutionException(failure));
+		} else {
+			when(resultSetFuture.get()).thenReturn(resultSet);
+		}
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(resultSetFuture).addListener(any(Runnable.class), any(Executor.class));
+
+		return resultSetFuture;
+	}
+
+	private static ResultSetFuture mockCompletedFuture(Row... rows) {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		ResultSetFuture resultSetFuture = mock(ResultSetFuture.class);
+
+		when(resultSet.iterator()).thenReturn(Arrays.asList(rows).iterator());
+		when(resultSetFuture.getUninterruptibly()).thenReturn(resultSet);
+
+		return resultSetFuture;
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -171,11 +534,16 @@ public class PartTreeCassandraQueryUnitTests {
 	}
 
 	private PartTreeCassandraQuery createQueryForMethod(String methodName, Class<?>... paramTypes) {
+		return createQueryForMethod(Repo.class, methodName, paramTypes);
+	}
+
+	private PartTreeCassandraQuery createQueryForMethod(Class<?> repositoryInterface, String methodName,
+			Class<?>... paramTypes) {
 		try {
-			Method method = Repo.class.getMethod(methodName, paramTypes);
+			Method method = repositoryInterface.getMethod(methodName, paramTypes);
 			ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
-			CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, new DefaultRepositoryMetadata(Repo.class),
-					factory, mappingContext);
+			CassandraQueryMethod queryMethod = new CassandraQueryMethod(method,
+					new DefaultRepositoryMetadata(repositoryInterface), factory, mappingContext);
 
 			return new PartTreeCassandraQuery(queryMethod, mockCassandraOperations);
 		} catch (NoSuchMethodException e) {
@@ -207,10 +575,58 @@ public class PartTreeCassandraQueryUnitTests {
 
 		Person findByFirstnameIn(Collection<String> firstname);
 
+		Person findByLastnameStartingWithAndFirstnameIn(String lastname, Collection<String> firstname);
+
 		PersonProjection findPersonProjectedBy();
 
 		<T> T findDynamicallyProjectedBy(Class<T> type);
 
+		CompletableFuture<List<Person>> findAsyncByLastname(String lastname);
+
+		ListenableFuture<Person> findOneAsyncByFirstname(String firstname);
+
+		Slice<Person> findSliceByLastname(String lastname, Pageable pageable);
+
+		long countByLastname(String lastname);
+
+		boolean existsByLastname(String lastname);
+
+		void deleteByLastnameAndFirstnameGreaterThan(String lastname, String firstname);
+
+		Person removeByLastname(String lastname);
+	}
+
+	@SuppressWarnings("unused")
+	interface MeasurementRepo extends CassandraRepository<Measurement> {
+
+		List<Measurement> findBySensorIdAndTimestampBetween(String sensorId, Date from, Date to);
+
+		List<Measurement> findBySensorIdAndTimestampGreaterThan(String sensorId, Date from);
+
+		List<Measurement> findTop3BySensorIdAndTimestampBetween(String sensorId, Date from, Date to);
+	}
+
+	@SuppressWarnings("unused")
+	interface EventRepo extends CassandraRepository<Event> {
+
+		List<Event> findTop10ByTimestampBetween(Date from, Date to);
+	}
+
+	@Table
+	static class Measurement {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String sensorId;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.PARTITIONED) @TimeBucket("timestamp") long day;
+		@PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.CLUSTERED) Date timestamp;
+		double value;
+	}
+
+	@Table
+	static class Event {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) @TimeBucket("timestamp") long day;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.CLUSTERED) String type;
+		@PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.CLUSTERED) Date timestamp;
 	}
 
 	interface PersonProjection {
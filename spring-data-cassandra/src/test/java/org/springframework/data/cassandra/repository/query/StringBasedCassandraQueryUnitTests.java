@@ -22,16 +22,19 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
@@ -52,15 +55,20 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.Configuration;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 import com.datastax.driver.core.UserType.Field;
+import com.datastax.driver.core.exceptions.SyntaxError;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -247,6 +255,31 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(actual).isEqualTo("SELECT * FROM person WHERE lastname = 'Matthews';");
 	}
 
+	@Test
+	public void parsesExpressionOnceAndCreatesEvaluationContextOncePerInvocation() {
+
+		SpelExpressionParser parser = spy(new SpelExpressionParser());
+		ExtensionAwareEvaluationContextProvider evaluationContextProvider = spy(
+				new ExtensionAwareEvaluationContextProvider());
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, "findByExpressionParameterUsedTwice",
+				String.class);
+		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
+				converter.getMappingContext());
+		StringBasedCassandraQuery cassandraQuery = new StringBasedCassandraQuery(queryMethod, operations, parser,
+				evaluationContextProvider);
+
+		String matthews = cassandraQuery
+				.createQuery(new CassandraParametersParameterAccessor(queryMethod, "Matthews"));
+		String white = cassandraQuery.createQuery(new CassandraParametersParameterAccessor(queryMethod, "White"));
+
+		assertThat(matthews).isEqualTo("SELECT * FROM person WHERE lastname = 'Matthews' OR firstname = 'Matthews';");
+		assertThat(white).isEqualTo("SELECT * FROM person WHERE lastname = 'White' OR firstname = 'White';");
+		verify(parser, times(1)).parseExpression("#lastname");
+		verify(evaluationContextProvider, times(2)).getEvaluationContext(any(CassandraParameters.class),
+				any(Object[].class));
+	}
+
 	@Test // DATACASS-117
 	public void bindsConditionalExpressionParameterCorrectly() {
 
@@ -344,6 +377,95 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery).isEqualTo("SELECT * FROM person WHERE address={city:NULL,country:NULL};");
 	}
 
+	@Test
+	public void createsBoundStatementForPreparedQuery() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(session.prepare(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		List<Statement> statements = cassandraQuery.createStatements(accessor, null);
+
+		assertThat(statements).containsExactly(boundStatement);
+		verify(session).prepare("SELECT * FROM person WHERE lastname = ?;");
+		verify(preparedStatement).bind("Matthews");
+	}
+
+	@Test
+	public void fallsBackToLiteralsForCollectionParameters() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastNameIn", Collection.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), Arrays.asList("White", "Heisenberg"));
+
+		List<Statement> statements = cassandraQuery.createStatements(accessor, null);
+
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0)).isInstanceOf(SimpleStatement.class);
+		assertThat(statements.get(0).toString())
+				.isEqualTo("SELECT * FROM person WHERE lastname IN ('White','Heisenberg');");
+		verify(session, never()).prepare(anyString());
+	}
+
+	@Test
+	public void fallsBackToLiteralsForCollectionParametersInCollectionLiterals() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastNamesAndAge", Collection.class, int.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), Arrays.asList("White", "Heisenberg"), 42);
+
+		List<Statement> statements = cassandraQuery.createStatements(accessor, null);
+
+		assertThat(statements.get(0)).isInstanceOf(SimpleStatement.class);
+		assertThat(statements.get(0).toString())
+				.isEqualTo("SELECT * FROM person WHERE lastnames = ['White','Heisenberg'] AND age = 42;");
+		verify(session, never()).prepare(anyString());
+	}
+
+	@Test
+	public void bindsCollectionParametersOutsideOfLiterals() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		List<String> lastNames = Arrays.asList("White", "Heisenberg");
+
+		when(session.prepare(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastNameInMarker", Collection.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), lastNames);
+
+		List<Statement> statements = cassandraQuery.createStatements(accessor, null);
+
+		assertThat(statements).containsExactly(boundStatement);
+		verify(session).prepare("SELECT * FROM person WHERE lastname IN ?;");
+		verify(preparedStatement).bind(lastNames);
+	}
+
+	@Test
+	public void fallsBackToLiteralsIfQueryCannotBePrepared() {
+
+		when(session.prepare(anyString())).thenThrow(new SyntaxError(
+				new InetSocketAddress("localhost", 9042), "line 1:0 no viable alternative"));
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		cassandraQuery.createStatements(accessor, null);
+		List<Statement> statements = cassandraQuery.createStatements(accessor, null);
+
+		assertThat(statements.get(0).toString()).isEqualTo("SELECT * FROM person WHERE lastname = 'Matthews';");
+		verify(session, times(1)).prepare(anyString());
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
 		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
@@ -402,9 +524,15 @@ public class StringBasedCassandraQueryUnitTests {
 		@Query("SELECT * FROM person WHERE lastname IN (?0);")
 		Person findByLastNameIn(Collection<String> lastNames);
 
+		@Query("SELECT * FROM person WHERE lastname IN ?0;")
+		Person findByLastNameInMarker(Collection<String> lastNames);
+
 		@Query("SELECT * FROM person WHERE lastname = :#{#lastname};")
 		Person findByExpressionParameter(@Param("lastname") String lastname);
 
+		@Query("SELECT * FROM person WHERE lastname = :#{#lastname} OR firstname = :#{#lastname};")
+		Person findByExpressionParameterUsedTwice(@Param("lastname") String lastname);
+
 		@Query("SELECT * FROM person WHERE lastname = :#{#lastname == 'Matthews' ? 'Woohoo' : #lastname};")
 		Person findByConditionalExpressionParameter(@Param("lastname") String lastname);
 